@@ -0,0 +1,22 @@
+package com.example.nomodel._core.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 노드 간 L1 캐시 무효화 메시지
+ *
+ * @param origin    발행 노드 ID (자기 자신이 발행한 메시지는 무시)
+ * @param cacheName 대상 캐시 이름
+ * @param key       무효화할 키 (null이면 캐시 전체 무효화)
+ */
+public record CacheInvalidationMessage(
+        String origin,
+        String cacheName,
+        String key
+) {
+
+    @JsonIgnore
+    public boolean isClear() {
+        return key == null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.nomodel._core.cache;
+
+import java.util.Set;
+
+/**
+ * 조기 갱신용 캐시 재적재기
+ * 캐시를 채우는 서비스의 프록시 빈에서 {@code @CachePut} 메서드를 호출하여 다시 적재
+ * (트랜잭션 등 인터셉터를 거치고, 저장은 {@code @CachePut}이 처리)
+ */
+public interface CacheRefresher {
+
+    /**
+     * 재적재할 수 있는 캐시 이름
+     */
+    Set<String> cacheNames();
+
+    /**
+     * 키에 해당하는 항목을 다시 적재
+     *
+     * @return 재적재 여부 (키를 해석할 수 없으면 false)
+     */
+    boolean refresh(String cacheName, Object key);
+}
@@ -0,0 +1,37 @@
+package com.example.nomodel._core.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 2단계 캐시의 로컬(L1) 캐시 설정
+ * 캐시 이름별로 최대 항목 수와 TTL을 지정하며, 지정하지 않은 캐시는 defaults를 사용
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.cache.near")
+@Getter
+@Setter
+public class NearCacheProperties {
+
+    private String invalidationChannel = "cache:invalidation";  // 노드 간 L1 무효화 채널
+    private double earlyRefreshBeta = 1.0;  // L2 만료 전 확률적 조기 갱신 강도 (0이면 비활성)
+    private Spec defaults = new Spec();
+    private Map<String, Spec> caches = new HashMap<>();
+
+    public Spec specFor(String cacheName) {
+        return caches.getOrDefault(cacheName, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private long maximumSize = 1000;
+        private Duration ttl = Duration.ofMinutes(1);  // L2(Redis) TTL보다 짧게 유지
+    }
+}
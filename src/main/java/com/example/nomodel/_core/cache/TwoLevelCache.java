@@ -0,0 +1,391 @@
+package com.example.nomodel._core.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * 2단계 캐시 (L1: 노드 로컬 Caffeine, L2: Redis)
+ *
+ * - 조회: L1 → L2 순으로 확인, L2 적중 시 L1에 채움 (역직렬화는 L1 미스 시에만 발생)
+ * - 저장/무효화: L1과 L2에 함께 반영하고, 다른 노드의 L1 무효화 메시지를 발행
+ * - L1 키는 문자열로 정규화 (Redis 캐시 키 변환 규칙과 동일하게 toString 사용)
+ * - 로더 조회(get(key, valueLoader), {@code @Cacheable(sync = true)}): 노드 내 같은 키의 동시 미스는
+ *   한 요청만 로더를 실행하고 나머지는 같은 결과를 기다림 (single-flight)
+ * - 이 노드가 적재한 항목은 L2 만료 직전 확률적으로 백그라운드 재적재 (XFetch 방식 조기 갱신)
+ *   재적재는 로더(valueLoader)를 다시 실행하지 않고 refresher에 위임 - 로더는 이미 끝난 요청의 메서드 호출이라
+ *   다른 스레드에서 다시 실행하면 트랜잭션 등 프록시 인터셉터를 거치지 않음 (CacheRefresher 참고)
+ */
+public class TwoLevelCache implements Cache {
+
+    private static final String GETS_METRIC = "cache.level.gets";
+    private static final String LOADS_METRIC = "cache.loads";
+    private static final long MAX_TRACKED_LOADS = 10_000;
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache remoteCache;
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    // single-flight: 로딩 중인 키 -> 로딩 결과
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    // 조기 갱신: 이 노드가 적재한 항목의 L2 만료 시각과 로딩 소요 시간
+    private final com.github.benmanes.caffeine.cache.Cache<String, LoadStats> loadStats =
+            Caffeine.newBuilder().maximumSize(MAX_TRACKED_LOADS).build();
+    private final BiFunction<Object, Object, Duration> ttlResolver;
+    private final Predicate<Object> refresher;
+    private final Executor refreshExecutor;
+    private final double earlyRefreshBeta;
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter leaderLoads;
+    private final Counter coalescedLoads;
+    private final Counter earlyRefreshes;
+    private final Counter droppedRefreshes;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                         Cache remoteCache,
+                         BiConsumer<String, String> invalidationPublisher,
+                         MeterRegistry meterRegistry) {
+        this(name, localCache, remoteCache, invalidationPublisher, meterRegistry,
+                (key, value) -> null, key -> false, Runnable::run, 0.0);
+    }
+
+    /**
+     * @param ttlResolver      L2 항목 TTL 조회 (null 또는 0 이하이면 조기 갱신하지 않음)
+     * @param refresher        키를 다시 적재하여 put까지 처리 (처리할 수 없는 키면 false - 이후 조기 갱신하지 않음)
+     * @param refreshExecutor  조기 갱신을 실행할 executor (포화 시 대기하지 않고 거절하는 bounded executor)
+     * @param earlyRefreshBeta 조기 갱신 강도 (0이면 비활성, 클수록 일찍 갱신)
+     */
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                         Cache remoteCache,
+                         BiConsumer<String, String> invalidationPublisher,
+                         MeterRegistry meterRegistry,
+                         BiFunction<Object, Object, Duration> ttlResolver,
+                         Predicate<Object> refresher,
+                         Executor refreshExecutor,
+                         double earlyRefreshBeta) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.ttlResolver = ttlResolver;
+        this.refresher = refresher;
+        this.refreshExecutor = refreshExecutor;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+
+        this.l1Hits = getsCounter(meterRegistry, "l1", "hit");
+        this.l1Misses = getsCounter(meterRegistry, "l1", "miss");
+        this.l2Hits = getsCounter(meterRegistry, "l2", "hit");
+        this.l2Misses = getsCounter(meterRegistry, "l2", "miss");
+        this.leaderLoads = loadsCounter(meterRegistry, "leader");
+        this.coalescedLoads = loadsCounter(meterRegistry, "coalesced");
+        this.earlyRefreshes = loadsCounter(meterRegistry, "early_refresh");
+        this.droppedRefreshes = loadsCounter(meterRegistry, "early_refresh_dropped");
+
+        Gauge.builder("cache.level.hit.ratio", this, cache -> ratio(cache.l1Hits, cache.l1Misses))
+                .tag("cache", name).tag("level", "l1")
+                .register(meterRegistry);
+        Gauge.builder("cache.level.hit.ratio", this, cache -> ratio(cache.l2Hits, cache.l2Misses))
+                .tag("cache", name).tag("level", "l2")
+                .register(meterRegistry);
+        Gauge.builder("cache.level.size", localCache, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .tag("cache", name).tag("level", "l1")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        Object local = localCache.getIfPresent(localKey);
+        if (local != null) {
+            l1Hits.increment();
+            return new SimpleValueWrapper(local);
+        }
+        l1Misses.increment();
+
+        ValueWrapper remote = remoteCache.get(key);
+        if (remote == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        if (remote.get() != null) {
+            localCache.put(localKey, remote.get());
+        }
+        return remote;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * 로더 조회 (single-flight + 조기 갱신)
+     * 로더 결과가 null이면 저장하지 않고 대기 중인 요청에도 null을 반환
+     */
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            if (shouldRefreshEarly(localKey)) {
+                refreshAsync(key, localKey);
+            }
+            return (T) wrapper.get();
+        }
+        return (T) load(key, localKey, valueLoader);
+    }
+
+    @Nullable
+    private Object load(Object key, String localKey, Callable<?> valueLoader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlightLoads.putIfAbsent(localKey, flight);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return await(key, valueLoader, existing);
+        }
+
+        try {
+            // 직전 로딩이 끝나며 L1에 채워졌을 수 있으므로 한 번 더 확인
+            Object loaded = localCache.getIfPresent(localKey);
+            if (loaded == null) {
+                loaded = loadAndStore(key, localKey, valueLoader);
+            }
+            flight.complete(loaded);
+            return loaded;
+        } catch (Exception e) {
+            flight.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            inFlightLoads.remove(localKey, flight);
+        }
+    }
+
+    @Nullable
+    private Object loadAndStore(Object key, String localKey, Callable<?> valueLoader) throws Exception {
+        leaderLoads.increment();
+        long startNanos = System.nanoTime();
+        Object value = valueLoader.call();
+        long computeNanos = System.nanoTime() - startNanos;
+
+        if (value != null) {
+            put(key, value);
+            recordLoad(key, localKey, value, computeNanos);
+        }
+        return value;
+    }
+
+    @Nullable
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    /**
+     * XFetch: now - delta * beta * ln(rand) >= expiry 이면 갱신
+     * 로딩이 오래 걸리는 항목일수록, 만료가 가까울수록 갱신 확률이 높아짐
+     */
+    private boolean shouldRefreshEarly(String localKey) {
+        LoadStats stats = loadStats.getIfPresent(localKey);
+        if (stats == null || earlyRefreshBeta <= 0
+                || inFlightLoads.containsKey(localKey) || refreshingKeys.contains(localKey)) {
+            return false;
+        }
+        double random = ThreadLocalRandom.current().nextDouble(Double.MIN_VALUE, 1.0);
+        double gap = -stats.computeNanos() * earlyRefreshBeta * Math.log(random);
+        return System.nanoTime() + gap >= stats.expiresAtNanos();
+    }
+
+    /**
+     * refresher로 백그라운드 재적재 (저장은 refresher가 호출한 @CachePut 메서드가 put으로 처리)
+     * 재적재 중 만료된 키의 미스는 기다리지 않고 기존 single-flight 로딩으로 처리
+     */
+    private void refreshAsync(Object key, String localKey) {
+        try {
+            refreshExecutor.execute(() -> {
+                if (!refreshingKeys.add(localKey)) {
+                    return;
+                }
+                try {
+                    earlyRefreshes.increment();
+                    long startNanos = System.nanoTime();
+                    if (!refresher.test(key)) {
+                        // 재적재할 수 없는 키는 만료 후 로더 조회로 처리
+                        loadStats.invalidate(localKey);
+                        return;
+                    }
+                    Object refreshed = localCache.getIfPresent(localKey);
+                    if (refreshed != null) {
+                        recordLoad(key, localKey, refreshed, System.nanoTime() - startNanos);
+                    }
+                } catch (Exception e) {
+                    // 갱신 실패 시 기존 값은 만료 시까지 유지
+                } finally {
+                    refreshingKeys.remove(localKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // executor 포화 시 조기 갱신만 생략 (만료 후 single-flight 로딩으로 처리)
+            droppedRefreshes.increment();
+        }
+    }
+
+    private void recordLoad(Object key, String localKey, Object value, long computeNanos) {
+        Duration ttl = ttlResolver.apply(key, value);
+        if (ttl == null || ttl.isZero() || ttl.isNegative() || earlyRefreshBeta <= 0) {
+            return;
+        }
+        loadStats.put(localKey, new LoadStats(System.nanoTime() + ttl.toNanos(), computeNanos));
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        loadStats.invalidate(toLocalKey(key));
+        remoteCache.put(key, value);
+        if (value != null) {
+            localCache.put(toLocalKey(key), value);
+        } else {
+            localCache.invalidate(toLocalKey(key));
+        }
+        invalidationPublisher.accept(name, toLocalKey(key));
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        Object current = existing != null ? existing.get() : value;
+        if (current != null) {
+            localCache.put(toLocalKey(key), current);
+        }
+        if (existing == null) {
+            invalidationPublisher.accept(name, toLocalKey(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        loadStats.invalidate(toLocalKey(key));
+        remoteCache.evict(key);
+        localCache.invalidate(toLocalKey(key));
+        invalidationPublisher.accept(name, toLocalKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        loadStats.invalidate(toLocalKey(key));
+        boolean evicted = remoteCache.evictIfPresent(key);
+        localCache.invalidate(toLocalKey(key));
+        invalidationPublisher.accept(name, toLocalKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        loadStats.invalidateAll();
+        remoteCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.accept(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        loadStats.invalidateAll();
+        boolean invalidated = remoteCache.invalidate();
+        localCache.invalidateAll();
+        invalidationPublisher.accept(name, null);
+        return invalidated;
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신 시 L1만 무효화 (L2는 발행 노드가 이미 처리)
+     */
+    void evictLocal(@Nullable String localKey) {
+        if (localKey == null) {
+            localCache.invalidateAll();
+            loadStats.invalidateAll();
+        } else {
+            localCache.invalidate(localKey);
+            loadStats.invalidate(localKey);
+        }
+    }
+
+    private static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter getsCounter(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder(GETS_METRIC)
+                .tag("cache", name)
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter loadsCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder(LOADS_METRIC)
+                .tag("cache", name)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private static double ratio(Counter hits, Counter misses) {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0.0 : hits.count() / total;
+    }
+
+    private record LoadStats(long expiresAtNanos, long computeNanos) {
+    }
+}
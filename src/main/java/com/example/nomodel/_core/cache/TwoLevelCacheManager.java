@@ -0,0 +1,179 @@
+package com.example.nomodel._core.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+
+/**
+ * 2단계(Caffeine L1 + Redis L2) 캐시 매니저
+ *
+ * - 각 노드는 캐시별 로컬 L1을 보유하고, L2는 기존 Redis 캐시 매니저에 위임
+ * - 저장/무효화 시 Redis pub/sub으로 다른 노드에 L1 무효화 메시지 발행
+ * - 수신 측은 자기 노드가 발행한 메시지를 무시하고 L1만 무효화
+ * - 로더 조회의 조기 갱신은 L2(Redis) 캐시별 TTL을 기준으로 refreshExecutor에서 실행하고,
+ *   재적재는 캐시 이름을 담당하는 CacheRefresher에 위임 (없으면 조기 갱신하지 않음)
+ * - L1(Caffeine recordStats)/L2(Redis enableStatistics) 통계를 cache.gets 등 표준 캐시 메트릭으로 노출 (level 태그로 구분)
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    private final CacheManager remoteCacheManager;
+    private final NearCacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Executor refreshExecutor;
+    private final ObjectProvider<CacheRefresher> refreshers;  // 재적재기가 이 매니저의 캐시를 쓰는 서비스에 의존하므로 지연 조회
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                NearCacheProperties properties,
+                                StringRedisTemplate redisTemplate,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                Executor refreshExecutor,
+                                ObjectProvider<CacheRefresher> refreshers) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshers = refreshers;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return remoteCacheManager.getCacheNames().stream()
+                .map(this::createTwoLevelCache)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    @Nullable
+    protected Cache getMissingCache(String name) {
+        return createTwoLevelCache(name);
+    }
+
+    @Nullable
+    private TwoLevelCache createTwoLevelCache(String name) {
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+
+        NearCacheProperties.Spec spec = properties.specFor(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, name, Tags.of("level", "l1"));
+        if (remoteCache instanceof RedisCache redisCache) {
+            new RedisCacheMetrics(redisCache, Tags.of("level", "l2")).bindTo(meterRegistry);
+        }
+
+        log.info("2단계 캐시 생성: cache={}, l1MaxSize={}, l1Ttl={}", name, spec.getMaximumSize(), spec.getTtl());
+        return new TwoLevelCache(name, localCache, remoteCache, this::publishInvalidation, meterRegistry,
+                remoteTtlResolver(remoteCache), key -> refresh(name, key), refreshExecutor,
+                properties.getEarlyRefreshBeta());
+    }
+
+    /**
+     * 캐시 이름을 담당하는 재적재기로 키를 다시 적재
+     */
+    private boolean refresh(String cacheName, Object key) {
+        return refreshers.stream()
+                .filter(refresher -> refresher.cacheNames().contains(cacheName))
+                .findFirst()
+                .map(refresher -> refresher.refresh(cacheName, key))
+                .orElse(false);
+    }
+
+    /**
+     * L2 항목의 TTL 조회 함수 (Redis 캐시가 아니면 조기 갱신하지 않음)
+     */
+    private static BiFunction<Object, Object, Duration> remoteTtlResolver(Cache remoteCache) {
+        if (remoteCache instanceof RedisCache redisCache) {
+            return (key, value) -> redisCache.getCacheConfiguration().getTtlFunction().getTimeToLive(key, value);
+        }
+        return (key, value) -> null;
+    }
+
+    /**
+     * 다른 노드의 L1 무효화 메시지 발행
+     * 발행 실패 시에도 로컬/Redis 캐시 처리는 유지 (다른 노드는 L1 TTL 만료로 수렴)
+     */
+    private void publishInvalidation(String cacheName, @Nullable String key) {
+        try {
+            String payload = objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, cacheName, key));
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(), payload);
+        } catch (Exception e) {
+            log.warn("L1 캐시 무효화 메시지 발행 실패: cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지 처리
+     */
+    @Override
+    public void onMessage(Message message, @Nullable byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+
+            if (nodeId.equals(invalidation.origin())) {
+                return;
+            }
+
+            Cache cache = getCache(invalidation.cacheName());
+            if (cache == null) {
+                return;
+            }
+
+            TwoLevelCache twoLevelCache = unwrap(cache);
+            if (twoLevelCache != null) {
+                twoLevelCache.evictLocal(invalidation.key());
+                log.debug("원격 L1 캐시 무효화 수신: cache={}, key={}",
+                        invalidation.cacheName(), invalidation.isClear() ? "ALL" : invalidation.key());
+            }
+        } catch (Exception e) {
+            log.warn("L1 캐시 무효화 메시지 처리 실패", e);
+        }
+    }
+
+    @Nullable
+    private TwoLevelCache unwrap(Cache cache) {
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            return twoLevelCache;
+        }
+        if (cache instanceof TransactionAwareCacheDecorator decorator
+                && decorator.getTargetCache() instanceof TwoLevelCache twoLevelCache) {
+            return twoLevelCache;
+        }
+        return null;
+    }
+}
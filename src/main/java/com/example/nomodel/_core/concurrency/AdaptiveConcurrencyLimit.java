@@ -0,0 +1,121 @@
+package com.example.nomodel._core.concurrency;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 응답 시간 기반 AIMD 동시 호출 제한
+ * 설정된 최대 동시 호출 수를 상한으로 두고, 관측한 응답 시간에 따라 실제 허용 수를 조절
+ *
+ * - 감소(곱): 호출이 실패하거나 latencyThreshold보다 오래 걸리면 limit *= backoffRatio (minLimit 미만으로는 내려가지 않음)
+ *   직전 감소 이후에 시작된 호출의 결과로만 감소 (직전 감소 시점에 이미 진행 중이던 호출은 같은 과부하 신호이므로
+ *   느린 호출 N개가 몰려 끝나도 backoffRatio^N이 아니라 한 번만 줄임)
+ * - 증가(합): 슬롯이 가득 찬 상태에서 빠르게 성공하면 limit += 1 / limit (limit회 성공마다 약 1씩 증가)
+ * - 서비스가 느려지면 대기 호출이 서비스로 몰리지 않고 슬롯 대기에서 acquireTimeout 후 실패
+ */
+final class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final LongSupplier clock;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition released = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private boolean decreased;
+    private long lastDecreaseAt;
+
+    AdaptiveConcurrencyLimit(int minLimit, int maxLimit, Duration latencyThreshold, double backoffRatio,
+                             LongSupplier clock) {
+        this.maxLimit = Math.max(1, maxLimit);
+        this.minLimit = Math.max(1, Math.min(minLimit, this.maxLimit));
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.clock = clock;
+        this.limit = this.maxLimit;
+    }
+
+    /**
+     * 현재 limit 안에서 슬롯 획득 (timeout 동안 대기)
+     */
+    boolean tryAcquire(Duration timeout) throws InterruptedException {
+        long remaining = timeout.toNanos();
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= currentLimit()) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 슬롯 반납 + 결과 반영
+     *
+     * @param latencyNanos 호출 소요 시간
+     * @param failed       서비스 측 실패(타임아웃, 5xx 등) 여부
+     */
+    void release(long latencyNanos, boolean failed) {
+        lock.lock();
+        try {
+            if (failed || latencyNanos > latencyThresholdNanos) {
+                long now = clock.getAsLong();
+                long startedAt = now - latencyNanos;
+                if (!decreased || startedAt - lastDecreaseAt >= 0) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    decreased = true;
+                    lastDecreaseAt = now;
+                }
+            } else if (inFlight >= currentLimit()) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            inFlight--;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 결과를 반영하지 않고 슬롯만 반납 (서비스 상태와 무관한 실패)
+     */
+    void releaseIgnored() {
+        lock.lock();
+        try {
+            inFlight--;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int currentLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
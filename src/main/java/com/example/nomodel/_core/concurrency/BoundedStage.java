@@ -0,0 +1,94 @@
+package com.example.nomodel._core.concurrency;
+
+import com.example.nomodel._core.exception.ApplicationException;
+import com.example.nomodel._core.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파이프라인 단계 (동시 처리 수 + 대기열 크기가 정해진 벌크헤드)
+ * 잡마다 가상 스레드가 있으므로 단계 간 핸드오프 스레드 없이 호출 스레드가 단계를 차례로 통과
+ *
+ * - 처리 중 parallelism개 + 대기 queueCapacity개까지만 들어올 수 있음
+ * - 대기열이 가득 차면 admissionTimeout 동안 막히고(앞 단계로 역압 전달), 넘기면 EXTERNAL_SERVICE_BUSY
+ * - 단계별 대기/처리 시간과 대기/처리 중 수를 pipeline.stage.* 메트릭으로 노출
+ */
+@Slf4j
+public class BoundedStage {
+
+    private static final String QUEUED_METRIC = "pipeline.stage.queued";
+    private static final String RUNNING_METRIC = "pipeline.stage.running";
+    private static final String WAIT_METRIC = "pipeline.stage.wait";
+    private static final String PROCESS_METRIC = "pipeline.stage.process";
+    private static final String REJECTED_METRIC = "pipeline.stage.rejected";
+
+    private final String pipeline;
+    private final String name;
+    private final int parallelism;
+    private final int capacity;
+    private final Duration admissionTimeout;
+    private final Semaphore admission;  // 처리 중 + 대기
+    private final Semaphore workers;    // 처리 중
+    private final Timer waitTimer;
+    private final Timer processTimer;
+    private final MeterRegistry meterRegistry;
+
+    public BoundedStage(String pipeline, String name, int parallelism, int queueCapacity,
+                        Duration admissionTimeout, MeterRegistry meterRegistry) {
+        this.pipeline = pipeline;
+        this.name = name;
+        this.parallelism = Math.max(1, parallelism);
+        this.capacity = this.parallelism + Math.max(0, queueCapacity);
+        this.admissionTimeout = admissionTimeout;
+        this.admission = new Semaphore(capacity, true);
+        this.workers = new Semaphore(this.parallelism, true);
+        this.meterRegistry = meterRegistry;
+
+        Tags tags = Tags.of("pipeline", pipeline, "stage", name);
+        this.waitTimer = meterRegistry.timer(WAIT_METRIC, tags);
+        this.processTimer = meterRegistry.timer(PROCESS_METRIC, tags);
+        meterRegistry.gauge(QUEUED_METRIC, tags, this, BoundedStage::queued);
+        meterRegistry.gauge(RUNNING_METRIC, tags, this, BoundedStage::running);
+    }
+
+    /**
+     * 단계에 들어가 작업 실행 (자리가 날 때까지 대기)
+     *
+     * @throws ApplicationException admissionTimeout 안에 대기열에 들어가지 못한 경우 (EXTERNAL_SERVICE_BUSY)
+     */
+    public <T> T execute(Callable<T> work) throws Exception {
+        long start = System.nanoTime();
+        if (!admission.tryAcquire(admissionTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            meterRegistry.counter(REJECTED_METRIC, "pipeline", pipeline, "stage", name).increment();
+            log.warn("Pipeline stage full: {}.{} ({} running, {} queued) for {}",
+                    pipeline, name, running(), queued(), admissionTimeout);
+            throw new ApplicationException(ErrorCode.EXTERNAL_SERVICE_BUSY);
+        }
+        try {
+            workers.acquire();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            try {
+                return processTimer.recordCallable(work);
+            } finally {
+                workers.release();
+            }
+        } finally {
+            admission.release();
+        }
+    }
+
+    public int running() {
+        return parallelism - workers.availablePermits();
+    }
+
+    public int queued() {
+        return Math.max(0, capacity - admission.availablePermits() - running());
+    }
+}
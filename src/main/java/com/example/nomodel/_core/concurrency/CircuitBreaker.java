@@ -0,0 +1,138 @@
+package com.example.nomodel._core.concurrency;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 서비스별 서킷 브레이커 (최근 N회 호출의 실패율 기준)
+ *
+ * - CLOSED: 최근 windowSize회 중 실패 비율이 임계치를 넘으면 OPEN (최소 minimumCalls회 이상 기록된 경우만)
+ * - OPEN: openDuration 동안 호출하지 않고 바로 거절
+ * - HALF_OPEN: halfOpenCalls회만 시험 호출을 허용, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ */
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+
+    private final boolean[] window;  // true = 실패 (링 버퍼)
+    private int windowIndex;
+    private int windowCount;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+
+    CircuitBreaker(ExternalCallProperties.Breaker settings, LongSupplier clock) {
+        this.window = new boolean[Math.max(1, settings.getWindowSize())];
+        this.minimumCalls = Math.max(1, Math.min(settings.getMinimumCalls(), window.length));
+        this.failureRateThreshold = settings.getFailureRateThreshold();
+        this.openNanos = settings.getOpenDuration().toNanos();
+        this.halfOpenCalls = Math.max(1, settings.getHalfOpenCalls());
+        this.clock = clock;
+    }
+
+    /**
+     * 호출 허용 여부 - 허용한 경우 결과를 onSuccess/onFailure/onIgnored 중 하나로 반드시 보고해야 함
+     */
+    synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenInFlight = 0;
+            halfOpenSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight--;
+            if (++halfOpenSucceeded >= halfOpenCalls) {
+                close();
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= minimumCalls && (double) failures / windowCount >= failureRateThreshold) {
+                open();
+            }
+        }
+        // OPEN 상태에서 늦게 끝난 호출은 무시
+    }
+
+    /**
+     * 서비스 상태와 무관한 결과 (클라이언트 오류, 슬롯 대기 실패 등) - 기록하지 않고 시험 호출 자리만 반납
+     */
+    synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    /**
+     * OPEN 상태가 풀리기까지 남은 시간 (OPEN이 아니면 0)
+     */
+    synchronized Duration remainingOpen() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        long remaining = openNanos - (clock.getAsLong() - openedAt);
+        return Duration.ofNanos(Math.max(0, remaining));
+    }
+
+    private void record(boolean failed) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                failures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            failures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowIndex = 0;
+        windowCount = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.nomodel._core.concurrency;
+
+import com.example.nomodel._core.exception.ApplicationException;
+import com.example.nomodel._core.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 외부 서비스별 호출 보호 (서킷 브레이커 + 응답 시간 기반 동시 호출 제한)
+ * 블로킹 호출을 가상 스레드에서 실행하므로 스레드 풀 크기 대신 서비스별 슬롯 수로 부하를 제한
+ *
+ * - 서킷이 열려 있으면 호출하지 않고 바로 EXTERNAL_SERVICE_UNAVAILABLE로 실패 (잡은 재시도 횟수를 쓰지 않고 대기열로 복귀)
+ * - 슬롯 수는 응답 시간에 따라 AIMD로 조절, acquireTimeout 안에 얻지 못하면 EXTERNAL_SERVICE_BUSY로 실패
+ * - 4xx 응답(408, 429 제외)과 애플리케이션 예외는 서비스 장애로 보지 않음 (WebClient/RestTemplate 모두)
+ */
+@Slf4j
+@Component
+public class ExternalCallLimiter {
+
+    private static final String WAIT_METRIC = "external.call.wait";
+    private static final String IN_FLIGHT_METRIC = "external.call.in_flight";
+    private static final String LIMIT_METRIC = "external.call.limit";
+    private static final String REJECTED_METRIC = "external.call.rejected";
+    private static final String SHORT_CIRCUITED_METRIC = "external.call.short_circuited";
+    private static final String CIRCUIT_STATE_METRIC = "external.call.circuit.state";
+    private static final String LATENCY_METRIC = "external.call.latency";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration acquireTimeout;
+    private final boolean breakerEnabled;
+    private final LongSupplier clock;
+    private final Map<ExternalProvider, Guard> guards = new EnumMap<>(ExternalProvider.class);
+
+    @Autowired
+    public ExternalCallLimiter(ExternalCallProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    ExternalCallLimiter(ExternalCallProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.meterRegistry = meterRegistry;
+        this.acquireTimeout = properties.getAcquireTimeout();
+        this.breakerEnabled = properties.getCircuitBreaker().isEnabled();
+        this.clock = clock;
+        for (ExternalProvider provider : ExternalProvider.values()) {
+            Duration latencyThreshold = properties.latencyThresholdFor(provider);
+            Guard guard = new Guard(
+                    new AdaptiveConcurrencyLimit(properties.getMinConcurrent(), properties.maxConcurrentFor(provider),
+                            latencyThreshold, properties.getBackoffRatio(), clock),
+                    new CircuitBreaker(properties.getCircuitBreaker(), clock),
+                    latencyThreshold.toNanos());
+            guards.put(provider, guard);
+
+            Tags tags = Tags.of("provider", provider.name());
+            meterRegistry.gauge(IN_FLIGHT_METRIC, tags, guard.limit, AdaptiveConcurrencyLimit::inFlight);
+            meterRegistry.gauge(LIMIT_METRIC, tags, guard.limit, AdaptiveConcurrencyLimit::currentLimit);
+            meterRegistry.gauge(CIRCUIT_STATE_METRIC, tags, guard.breaker, b -> b.state().ordinal());
+        }
+    }
+
+    /**
+     * 서킷 확인 + 슬롯 획득 후 외부 호출 실행
+     *
+     * @throws ApplicationException 서킷이 열린 경우 (EXTERNAL_SERVICE_UNAVAILABLE),
+     *                              대기 시간 안에 슬롯을 얻지 못한 경우 (EXTERNAL_SERVICE_BUSY)
+     */
+    public <T> T call(ExternalProvider provider, Supplier<T> call) {
+        Guard guard = guards.get(provider);
+        if (breakerEnabled && !guard.breaker.tryAcquirePermission()) {
+            meterRegistry.counter(SHORT_CIRCUITED_METRIC, "provider", provider.name()).increment();
+            Duration remaining = guard.breaker.remainingOpen();
+            log.debug("External call short-circuited: provider={} (open for another {}ms)",
+                    provider, remaining.toMillis());
+            throw new ApplicationException(ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE, remaining);
+        }
+        try {
+            acquire(provider, guard.limit);
+        } catch (ApplicationException e) {
+            guard.breaker.onIgnored();
+            throw e;
+        }
+
+        long start = clock.getAsLong();
+        Outcome outcome = Outcome.FAILURE;
+        try {
+            T result = call.get();
+            outcome = Outcome.SUCCESS;
+            return result;
+        } catch (RuntimeException e) {
+            outcome = isProviderFailure(e) ? Outcome.FAILURE : Outcome.IGNORED;
+            throw e;
+        } finally {
+            record(provider, guard, outcome, clock.getAsLong() - start);
+        }
+    }
+
+    public void run(ExternalProvider provider, Runnable call) {
+        call(provider, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    CircuitBreaker.State circuitState(ExternalProvider provider) {
+        return guards.get(provider).breaker.state();
+    }
+
+    int currentLimit(ExternalProvider provider) {
+        return guards.get(provider).limit.currentLimit();
+    }
+
+    private void acquire(ExternalProvider provider, AdaptiveConcurrencyLimit limit) {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = limit.tryAcquire(acquireTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApplicationException(ErrorCode.EXTERNAL_SERVICE_BUSY);
+        }
+        meterRegistry.timer(WAIT_METRIC, "provider", provider.name())
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            meterRegistry.counter(REJECTED_METRIC, "provider", provider.name()).increment();
+            log.warn("External call rejected: provider={} has {} calls in flight for {}",
+                    provider, limit.currentLimit(), acquireTimeout);
+            throw new ApplicationException(ErrorCode.EXTERNAL_SERVICE_BUSY);
+        }
+    }
+
+    private void record(ExternalProvider provider, Guard guard, Outcome outcome, long latencyNanos) {
+        boolean slow = latencyNanos > guard.latencyThresholdNanos;
+        switch (outcome) {
+            case SUCCESS -> {
+                // 느린 성공도 서비스 과부하 신호이므로 실패로 기록
+                if (slow) {
+                    guard.breaker.onFailure();
+                } else {
+                    guard.breaker.onSuccess();
+                }
+                guard.limit.release(latencyNanos, false);
+            }
+            case FAILURE -> {
+                guard.breaker.onFailure();
+                guard.limit.release(latencyNanos, true);
+            }
+            case IGNORED -> {
+                guard.breaker.onIgnored();
+                guard.limit.releaseIgnored();
+            }
+        }
+        meterRegistry.timer(LATENCY_METRIC, "provider", provider.name(), "outcome", outcome.tag(slow))
+                .record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 서비스 장애로 볼 예외인지 판단 - 요청 자체가 잘못된 경우(4xx)나 내부 처리 예외는 서킷/limit에 반영하지 않음
+     */
+    static boolean isProviderFailure(Throwable e) {
+        if (e instanceof ApplicationException) {
+            return false;
+        }
+        if (e instanceof WebClientResponseException response) {
+            return isProviderFailureStatus(response.getStatusCode().value());
+        }
+        if (e instanceof RestClientResponseException response) {
+            return isProviderFailureStatus(response.getStatusCode().value());
+        }
+        return true;
+    }
+
+    private static boolean isProviderFailureStatus(int statusCode) {
+        HttpStatus status = HttpStatus.resolve(statusCode);
+        return status == null || !status.is4xxClientError()
+                || status == HttpStatus.TOO_MANY_REQUESTS || status == HttpStatus.REQUEST_TIMEOUT;
+    }
+
+    private enum Outcome {
+        SUCCESS, FAILURE, IGNORED;
+
+        private String tag(boolean slow) {
+            return this == SUCCESS && slow ? "slow" : name().toLowerCase();
+        }
+    }
+
+    private record Guard(AdaptiveConcurrencyLimit limit, CircuitBreaker breaker, long latencyThresholdNanos) {
+    }
+}
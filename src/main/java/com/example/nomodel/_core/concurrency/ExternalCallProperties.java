@@ -0,0 +1,56 @@
+package com.example.nomodel._core.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 외부 서비스별 동시 호출 제한 / 서킷 브레이커 설정
+ * 지정하지 않은 서비스는 defaultMaxConcurrent, defaultLatencyThreshold를 사용
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.external-call")
+@Getter
+@Setter
+public class ExternalCallProperties {
+
+    private int defaultMaxConcurrent = 16;
+    private Map<ExternalProvider, Integer> maxConcurrent = new EnumMap<>(ExternalProvider.class);
+    private Duration acquireTimeout = Duration.ofSeconds(60);  // 슬롯 대기 최대 시간, 넘기면 실패 처리
+
+    // 응답 시간 기반 동시 호출 수 조절 (maxConcurrent가 상한)
+    private int minConcurrent = 1;
+    private double backoffRatio = 0.9;                          // 느린 호출/실패마다 limit에 곱하는 비율
+    private Duration defaultLatencyThreshold = Duration.ofSeconds(30);
+    private Map<ExternalProvider, Duration> latencyThreshold = new EnumMap<>(ExternalProvider.class);
+
+    private Breaker circuitBreaker = new Breaker();
+
+    public int maxConcurrentFor(ExternalProvider provider) {
+        return Math.max(1, maxConcurrent.getOrDefault(provider, defaultMaxConcurrent));
+    }
+
+    /**
+     * 이 시간보다 오래 걸린 호출은 느린 호출로 보고 limit을 줄이고 서킷 브레이커에 실패로 기록
+     */
+    public Duration latencyThresholdFor(ExternalProvider provider) {
+        return latencyThreshold.getOrDefault(provider, defaultLatencyThreshold);
+    }
+
+    @Getter
+    @Setter
+    public static class Breaker {
+
+        private boolean enabled = true;
+        private int windowSize = 20;                         // 실패율을 계산할 최근 호출 수
+        private int minimumCalls = 10;                       // 이보다 적게 기록되면 열지 않음
+        private double failureRateThreshold = 0.5;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 2;                       // 반열림 상태에서 허용할 시험 호출 수
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.nomodel._core.concurrency;
+
+/**
+ * 동시 호출 수를 제한하는 외부 서비스
+ */
+public enum ExternalProvider {
+    STABLE_DIFFUSION,
+    REMOVE_BG,
+    FIREBASE_STORAGE,
+    PORTONE
+}
@@ -0,0 +1,85 @@
+package com.example.nomodel._core.concurrency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 기반 노드 간 배타 락 (TTL이 있는 lease)
+ *
+ * - 획득: SET NX PX, 값은 인스턴스별 토큰
+ * - 갱신/해제: 토큰이 일치할 때만 PEXPIRE/DEL (Lua로 원자 실행)
+ *   TTL이 지나 다른 노드가 가져간 락을 늦게 끝난 이전 소유자가 지우지 않도록 함
+ * - 오래 걸리는 작업은 단위 작업마다 renew()로 TTL을 연장하고, 실패하면(락을 잃으면) 작업을 멈춰야 함
+ */
+@Slf4j
+public class RedisLeaseLock {
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String key;
+    private final Duration ttl;
+    private final String token = UUID.randomUUID().toString();
+
+    public RedisLeaseLock(RedisTemplate<String, String> redisTemplate, String key, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 락 획득 시도 (대기하지 않음, Redis 오류 시 false)
+     */
+    public boolean tryAcquire() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, ttl));
+        } catch (Exception e) {
+            log.warn("락 획득 실패: key={}", key, e);
+            return false;
+        }
+    }
+
+    /**
+     * 보유 중인 락의 TTL 연장
+     *
+     * @return 여전히 이 인스턴스가 락을 보유하고 있으면 true
+     */
+    public boolean renew() {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key), token, String.valueOf(ttl.toMillis()));
+            return renewed != null && renewed > 0;
+        } catch (Exception e) {
+            log.warn("락 갱신 실패: key={}", key, e);
+            return false;
+        }
+    }
+
+    /**
+     * 이 인스턴스가 보유한 경우에만 해제
+     */
+    public void release() {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        } catch (Exception e) {
+            log.warn("락 해제 실패 (TTL 만료로 해제됨): key={}", key, e);
+        }
+    }
+
+    /**
+     * 어느 노드든 락을 보유하고 있는지 여부
+     */
+    public boolean isLocked() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+}
@@ -1,34 +1,39 @@
 package com.example.nomodel._core.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 처리 설정
- * 조회수 증가 등 비동기 작업을 위한 스레드 풀 구성
+ * 조회수 증가 등 비동기 작업을 위한 실행기 구성
  */
 @Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    /**
+     * 기본 비동기 실행기 - 작업마다 가상 스레드 사용
+     * 외부 API/스토리지 대기처럼 블로킹 I/O가 대부분이므로 스레드 풀 크기 대신 동시 실행 수만 제한
+     * (외부 서비스별 제한은 ExternalCallLimiter)
+     *
+     * - 동시 실행 수를 넘으면 제출한 스레드가 대기 (작업을 버리지 않음)
+     * - 종료 이후 제출된 작업은 TaskRejectedException으로 호출자에게 전달
+     */
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("Async-Job-");
-        executor.setRejectedExecutionHandler((r, executor1) -> {
-            log.error("Async task rejected: {}", r.toString());
-        });
-        executor.initialize();
+    public Executor taskExecutor(@Value("${app.async.concurrency-limit:200}") int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Async-Job-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskTerminationTimeout(30_000);  // 종료 시 실행 중인 작업 완료 대기
         return executor;
     }
 
@@ -47,13 +52,30 @@ public class AsyncConfig {
         executor.setThreadNamePrefix("ViewCount-");
         executor.setKeepAliveSeconds(60);
 
-        // 큐가 가득 찼을 때 호출자 스레드에서 실행 (차단 방지)
-        executor.setRejectedExecutionHandler((r, executor1) -> {
-            // 로그만 남기고 버림 (조회수는 정확하지 않아도 됨)
-            System.err.println("View count task rejected: " + r.toString());
-        });
+        // 큐가 가득 찼을 때 호출자 스레드에서 실행 (작업이 Redis 누적뿐이라 짧고, 조회수 유실 방지)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
 
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 캐시 조기 갱신 전용 스레드 풀
+     * 조기 갱신은 만료 전 기존 값이 남아 있어 생략해도 되는 작업이므로 대기시키지 않음
+     *
+     * - 작은 큐가 가득 차면 AbortPolicy로 즉시 거절 (TwoLevelCache가 거절된 갱신을 버림)
+     * - 요청 스레드가 갱신 때문에 막히거나 다른 비동기 작업의 동시 실행 수를 차지하지 않도록 분리
+     */
+    @Bean(name = "cacheRefreshExecutor")
+    public Executor cacheRefreshExecutor(@Value("${app.cache.refresh.pool-size:4}") int poolSize,
+                                         @Value("${app.cache.refresh.queue-capacity:32}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("CacheRefresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
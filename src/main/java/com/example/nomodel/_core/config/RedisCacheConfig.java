@@ -7,14 +7,25 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.springframework.cache.CacheManager;
+import com.example.nomodel._core.cache.CacheRefresher;
+import com.example.nomodel._core.cache.NearCacheProperties;
+import com.example.nomodel._core.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -22,21 +33,60 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Redis 캐시 설정
- * 모델 상세 조회 및 검색 결과 캐싱을 위한 Redis Cache Manager 구성
+ * 모델 상세 조회 및 검색 결과 캐싱을 위한 2단계(Caffeine L1 + Redis L2) Cache Manager 구성
  */
 @Configuration
 @EnableCaching
 public class RedisCacheConfig {
 
+    private static final int CLEAR_SCAN_BATCH_SIZE = 500;
+
     /**
-     * 메인 캐시 매니저 - 다양한 TTL 설정을 가진 캐시들 관리
+     * 메인 캐시 매니저 - 노드 로컬 L1 앞단에 Redis L2를 두는 2단계 캐시
+     * L1 크기/TTL은 app.cache.near.* 설정, L2 TTL은 아래 Redis 캐시별 설정을 따름
      */
     @Bean
     @Primary
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             NearCacheProperties nearCacheProperties,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             ObjectMapper objectMapper,
+                                             MeterRegistry meterRegistry,
+                                             @Qualifier("cacheRefreshExecutor") Executor refreshExecutor,
+                                             ObjectProvider<CacheRefresher> cacheRefreshers) {
+        RedisCacheManager redisCacheManager = createRedisCacheManager(redisConnectionFactory);
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                redisCacheManager, nearCacheProperties, stringRedisTemplate, objectMapper, meterRegistry, refreshExecutor,
+                cacheRefreshers);
+        cacheManager.setTransactionAware(true);  // 커밋 이후 L1/L2 반영
+        return cacheManager;
+    }
+
+    /**
+     * 다른 노드의 L1 캐시 무효화 메시지 구독
+     * 다른 pub/sub 채널(잡 상태 등)도 이 컨테이너에 리스너를 추가하여 구독 연결을 공유
+     * test 프로필은 Redis가 Mock이므로 구독하지 않음
+     */
+    @Bean
+    @Profile("!test")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                           TwoLevelCacheManager cacheManager,
+                                                                           NearCacheProperties nearCacheProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(nearCacheProperties.getInvalidationChannel()));
+        return container;
+    }
+
+    /**
+     * L2 Redis 캐시 매니저 - 다양한 TTL 설정을 가진 캐시들 관리
+     */
+    private RedisCacheManager createRedisCacheManager(RedisConnectionFactory redisConnectionFactory) {
         // JSON 직렬화를 위한 ObjectMapper 구성
         ObjectMapper objectMapper = createCacheObjectMapper();
 
@@ -55,15 +105,25 @@ public class RedisCacheConfig {
         cacheConfigurations.put("modelSearch", defaultConfig
                 .entryTtl(Duration.ofHours(2)));  // 2시간 캐싱 (이벤트로 무효화)
 
+        // 관리자 모델 검색 결과 캐시 (modelSearch와 동일 정책)
+        cacheConfigurations.put("adminModels", defaultConfig
+                .entryTtl(Duration.ofHours(2)));
+
         // 모델 상세 캐시 (이벤트 기반 무효화 사용)
         cacheConfigurations.put("modelDetail", defaultConfig
                 .entryTtl(Duration.ofHours(1)));  // 1시간 캐싱 (이벤트로 무효화)
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        // 캐시 전체 삭제(clear) 시 KEYS 대신 SCAN으로 나눠 조회 후 배치 삭제 (Redis 블로킹 방지)
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                redisConnectionFactory, BatchStrategies.scan(CLEAR_SCAN_BATCH_SIZE));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
-                .transactionAware()
+                .enableStatistics()  // L2 cache.gets{result=hit|miss} 메트릭 노출
                 .build();
+        redisCacheManager.initializeCaches();
+        return redisCacheManager;
     }
 
 
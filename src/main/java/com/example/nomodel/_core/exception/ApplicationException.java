@@ -2,6 +2,7 @@ package com.example.nomodel._core.exception;
 
 import lombok.Getter;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Getter
@@ -9,10 +10,16 @@ public class ApplicationException extends RuntimeException {
 
     private final ErrorCode errorCode;
     private final LocalDateTime timestamp;
+    private final Duration retryAfter; // 다시 시도해도 되는 시점 안내 (Retry-After 헤더), 없으면 null
 
     public ApplicationException(ErrorCode errorCode){
+        this(errorCode, null);
+    }
+
+    public ApplicationException(ErrorCode errorCode, Duration retryAfter){
         super(errorCode.getMessage());
         this.errorCode = errorCode;
         this.timestamp = LocalDateTime.now();
+        this.retryAfter = retryAfter;
     }
 }
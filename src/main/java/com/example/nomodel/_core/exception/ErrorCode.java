@@ -86,6 +86,14 @@ public enum ErrorCode {
     
     // ai model 관련 에러
     AI_MODEL_NOT_FOUND("AM001", HttpStatus.NOT_FOUND, "AI Model not found"),
+    INVALID_SEARCH_CURSOR("AM002", HttpStatus.BAD_REQUEST, "Invalid search cursor"),
+
+    // 외부 서비스 관련 에러
+    EXTERNAL_SERVICE_BUSY("ESB001", HttpStatus.SERVICE_UNAVAILABLE, "External service is busy, please retry later"),
+    EXTERNAL_SERVICE_UNAVAILABLE("ESU001", HttpStatus.SERVICE_UNAVAILABLE, "External service is temporarily unavailable, please retry later"),
+    EXTERNAL_SERVICE_REJECTED("ESR001", HttpStatus.BAD_REQUEST, "External service rejected the request"),
+    GENERATION_QUEUE_FULL("GQF001", HttpStatus.TOO_MANY_REQUESTS, "Too many pending jobs, please retry later"),
+    GENERATION_JOB_UNSUPPORTED("GJU001", HttpStatus.SERVICE_UNAVAILABLE, "This generation job type is not available on the server"),
     ;
 
     private final String errorCode;
@@ -2,6 +2,7 @@ package com.example.nomodel._core.exception;
 
 import com.example.nomodel._core.utils.ApiUtils;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -33,7 +34,13 @@ public class GlobalControllerAdvice {
             e.getTimestamp()
         );
 
-        return ResponseEntity.status(e.getErrorCode().getStatus()).body(ApiUtils.error(errorResponse));
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(e.getErrorCode().getStatus());
+        if (e.getRetryAfter() != null) {
+            // 초 단위로 올림 (0초면 바로 재시도해 부하가 몰리므로 최소 1초)
+            long seconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        }
+        return response.body(ApiUtils.error(errorResponse));
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
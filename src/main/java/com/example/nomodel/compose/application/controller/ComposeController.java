@@ -62,6 +62,8 @@ public class ComposeController {
             GenerationJob job = GenerationJob.createComposeJob(userId, request.productFileId().longValue());
             job.setComposeParams(request.customPrompt(), GenerationMode.SUBJECT_SCENE);
             job.setModelId(request.modelFileId().longValue());
+            // 요청 스레드에서 바로 실행하므로 RUNNING으로 저장 (PENDING이면 큐 워커가 가져가 중복 실행됨)
+            job.markRunning();
             job = generationJobService.getRepo().save(job);
 
             String jobId = job.getId().toString();
@@ -71,10 +73,6 @@ public class ComposeController {
             String modelFileUrl = fileService.getMeta(request.modelFileId().longValue()).getFileUrl();
             
             try {
-                // 동기 이미지 합성 실행
-                job.markRunning();
-                generationJobService.getRepo().save(job);
-                
                 // 제품 이미지와 모델 이미지 로드
                 byte[] productImage = fileService.loadAsBytes(request.productFileId().longValue());
                 byte[] modelImage = fileService.loadAsBytes(request.modelFileId().longValue());
@@ -2,6 +2,7 @@ import os
 import sys
 import json
 import base64
+import struct
 from google import genai
 from google.genai import types
 from PIL import Image
@@ -29,78 +30,156 @@ def load_api_key():
     
     raise ValueError("GOOGLE_API_KEY not found in environment variables or .env file")
 
+DEFAULT_PROMPT = "모델이 이 제품을 자연스럽게 광고하는 사진으로 바꿔줘"
+
+
+def generate_composite(client, product_image, model_image, custom_prompt):
+    """Gemini API로 합성 이미지 생성 (PIL Image 반환, 실패 시 예외)"""
+    # 프롬프트 설정 (커스텀 프롬프트가 없으면 기본 프롬프트 사용)
+    if not custom_prompt or custom_prompt.strip() == "":
+        text_input = DEFAULT_PROMPT
+    else:
+        text_input = custom_prompt
+
+    # Gemini API 호출
+    response = client.models.generate_content(
+        model="gemini-2.5-flash-image-preview",
+        contents=[product_image, model_image, text_input],
+    )
+
+    # 응답 확인
+    if not response.candidates:
+        raise RuntimeError("No candidates returned from API")
+
+    if not response.candidates[0].content.parts:
+        raise RuntimeError("No content parts in API response")
+
+    # 이미지 추출
+    image_parts = [
+        part.inline_data.data
+        for part in response.candidates[0].content.parts
+        if part.inline_data
+    ]
+
+    if not image_parts:
+        raise RuntimeError("No image data found in API response")
+
+    return Image.open(BytesIO(image_parts[0]))
+
+
 def compose_images(product_image_path, model_image_path, custom_prompt, output_path):
-    """이미지 합성 함수"""
+    """이미지 합성 함수 (파일 경로 기반, 단발 실행용)"""
     try:
         # API 키 로드 및 환경변수 설정
-        api_key = load_api_key()
-        
+        load_api_key()
+
         # 클라이언트 생성 (환경변수 설정 후에 생성)
         client = genai.Client()
-        
+
         # 이미지 로드
         product_image = Image.open(product_image_path)
         model_image = Image.open(model_image_path)
-        
-        # 프롬프트 설정 (커스텀 프롬프트가 없으면 기본 프롬프트 사용)
-        if not custom_prompt or custom_prompt.strip() == "":
-            text_input = "모델이 이 제품을 자연스럽게 광고하는 사진으로 바꿔줘"
-        else:
-            text_input = custom_prompt
-        
-        # Gemini API 호출
-        response = client.models.generate_content(
-            model="gemini-2.5-flash-image-preview",
-            contents=[product_image, model_image, text_input],
-        )
-        
-        # 응답 확인
-        if not response.candidates:
-            return {
-                "success": False,
-                "error": "No candidates returned from API"
-            }
-        
-        if not response.candidates[0].content.parts:
-            return {
-                "success": False,
-                "error": "No content parts in API response"
-            }
-        
-        # 이미지 추출
-        image_parts = [
-            part.inline_data.data
-            for part in response.candidates[0].content.parts
-            if part.inline_data
-        ]
-        
-        if image_parts:
-            # 결과 이미지 저장
-            image = Image.open(BytesIO(image_parts[0]))
-            image.save(output_path)
-            return {
-                "success": True,
-                "output_path": output_path,
-                "message": "Image composition completed successfully"
-            }
-        else:
-            return {
-                "success": False,
-                "error": "No image data found in API response"
-            }
-            
+
+        # 결과 이미지 저장
+        image = generate_composite(client, product_image, model_image, custom_prompt)
+        image.save(output_path)
+        return {
+            "success": True,
+            "output_path": output_path,
+            "message": "Image composition completed successfully"
+        }
+
     except Exception as e:
         return {
             "success": False,
             "error": str(e)
         }
 
+
+# ---------------------------------------------------------------------------
+# 상주 워커 모드 (--worker)
+# 인터프리터 기동/모듈 import/클라이언트 생성을 한 번만 하고 stdin/stdout으로 요청을 반복 처리
+#
+# 요청:  [op:u8] (op=COMPOSE이면 이어서 [len:u32][product] [len:u32][model] [len:u32][prompt utf-8])
+# 응답:  [status:u8][len:u32][payload]  (OK면 PNG 바이트, ERROR면 utf-8 메시지)
+# 정수는 모두 big-endian, 기동 완료 시 OK 응답(payload "READY")을 한 번 보냄
+# ---------------------------------------------------------------------------
+OP_PING = 0
+OP_COMPOSE = 1
+STATUS_OK = 0
+STATUS_ERROR = 1
+MAX_FRAME_SIZE = 64 * 1024 * 1024
+
+
+def read_exact(stream, size):
+    buf = bytearray()
+    while len(buf) < size:
+        chunk = stream.read(size - len(buf))
+        if not chunk:
+            raise EOFError("stdin closed")
+        buf.extend(chunk)
+    return bytes(buf)
+
+
+def read_frame(stream):
+    (size,) = struct.unpack(">I", read_exact(stream, 4))
+    if size > MAX_FRAME_SIZE:
+        raise ValueError(f"Frame too large: {size}")
+    return read_exact(stream, size)
+
+
+def write_response(stream, status, payload):
+    stream.write(struct.pack(">BI", status, len(payload)))
+    stream.write(payload)
+    stream.flush()
+
+
+def run_worker():
+    stdin = sys.stdin.buffer
+    stdout = sys.stdout.buffer
+    # 라이브러리의 print 출력이 프로토콜 스트림에 섞이지 않도록 stdout을 stderr로 돌림
+    sys.stdout = sys.stderr
+
+    load_api_key()
+    client = genai.Client()
+    write_response(stdout, STATUS_OK, b"READY")
+
+    while True:
+        try:
+            op = read_exact(stdin, 1)[0]
+        except EOFError:
+            return
+
+        if op == OP_PING:
+            write_response(stdout, STATUS_OK, b"")
+            continue
+        if op != OP_COMPOSE:
+            # 프레임 경계를 알 수 없으므로 종료 (Java 쪽에서 워커를 다시 띄움)
+            write_response(stdout, STATUS_ERROR, f"Unknown op: {op}".encode("utf-8"))
+            return
+
+        product = read_frame(stdin)
+        model = read_frame(stdin)
+        prompt = read_frame(stdin).decode("utf-8")
+        try:
+            image = generate_composite(client, Image.open(BytesIO(product)), Image.open(BytesIO(model)), prompt)
+            out = BytesIO()
+            image.save(out, format="PNG")
+            write_response(stdout, STATUS_OK, out.getvalue())
+        except Exception as e:
+            write_response(stdout, STATUS_ERROR, str(e).encode("utf-8"))
+
+
 def main():
     """메인 함수 - 커맨드라인 인자를 처리"""
+    if len(sys.argv) == 2 and sys.argv[1] == "--worker":
+        run_worker()
+        return
+
     if len(sys.argv) != 5:
         print(json.dumps({
             "success": False,
-            "error": "Usage: python UseGeminiApi.py <product_image_path> <model_image_path> <custom_prompt> <output_path>"
+            "error": "Usage: python UseGeminiApi.py <product_image_path> <model_image_path> <custom_prompt> <output_path> | --worker"
         }))
         sys.exit(1)
     
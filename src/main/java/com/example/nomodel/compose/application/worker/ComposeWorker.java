@@ -0,0 +1,152 @@
+package com.example.nomodel.compose.application.worker;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 상주 Python 합성 워커 프로세스 1개 (UseGeminiApi.py --worker)
+ * stdin/stdout으로 길이 접두 바이너리 프레임을 주고받으며, stderr는 별도 스레드가 계속 읽어 로그로 남김
+ * (stderr 버퍼가 가득 차 프로세스가 멈추는 일이 없음)
+ *
+ * 요청:  [op:u8] (COMPOSE이면 이어서 [len:u32][product] [len:u32][model] [len:u32][prompt utf-8])
+ * 응답:  [status:u8][len:u32][payload]  (OK면 PNG 바이트, ERROR면 utf-8 메시지)
+ *
+ * 한 번에 한 요청만 처리하므로 풀에서 빌려 쓴 스레드만 접근
+ */
+@Slf4j
+final class ComposeWorker implements AutoCloseable {
+
+    static final int OP_PING = 0;
+    static final int OP_COMPOSE = 1;
+    static final int STATUS_OK = 0;
+    static final int STATUS_ERROR = 1;
+    static final int MAX_FRAME_SIZE = 64 * 1024 * 1024;
+
+    private final int id;
+    private final Process process;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private int handledRequests;
+
+    private ComposeWorker(int id, Process process) {
+        this.id = id;
+        this.process = process;
+        this.in = new DataInputStream(new BufferedInputStream(process.getInputStream()));
+        this.out = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+        Thread.ofVirtual().name("compose-worker-" + id + "-stderr").start(this::drainStderr);
+    }
+
+    /**
+     * 프로세스 시작 (기동 완료 응답은 awaitReady로 확인)
+     */
+    static ComposeWorker start(int id, String pythonCommand, String scriptPath) throws IOException {
+        ProcessBuilder builder = new ProcessBuilder(pythonCommand, "-u", scriptPath, "--worker");
+        builder.environment().put("PYTHONUNBUFFERED", "1");
+        return new ComposeWorker(id, builder.start());
+    }
+
+    /**
+     * 인터프리터 기동/모듈 import/클라이언트 생성 완료 대기
+     */
+    void awaitReady() throws IOException, CompositionException {
+        readResponse(in);
+    }
+
+    byte[] compose(byte[] productImage, byte[] modelImage, String prompt) throws IOException, CompositionException {
+        writeComposeRequest(out, productImage, modelImage, prompt);
+        handledRequests++;
+        return readResponse(in);
+    }
+
+    void ping() throws IOException, CompositionException {
+        out.writeByte(OP_PING);
+        out.flush();
+        readResponse(in);
+    }
+
+    int id() {
+        return id;
+    }
+
+    int handledRequests() {
+        return handledRequests;
+    }
+
+    boolean isAlive() {
+        return process.isAlive();
+    }
+
+    /**
+     * 프로세스 종료 - 블로킹 중인 읽기는 스트림이 닫히면서 IOException으로 깨어남
+     */
+    @Override
+    public void close() {
+        process.destroyForcibly();
+    }
+
+    static void writeComposeRequest(DataOutputStream out, byte[] productImage, byte[] modelImage, String prompt)
+            throws IOException {
+        out.writeByte(OP_COMPOSE);
+        writeFrame(out, productImage);
+        writeFrame(out, modelImage);
+        writeFrame(out, (prompt != null ? prompt : "").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    /**
+     * 응답 프레임 읽기
+     *
+     * @return OK 응답의 payload
+     * @throws CompositionException 워커가 ERROR 응답을 보낸 경우 (워커는 정상, 요청만 실패)
+     * @throws IOException 프로토콜/프로세스 오류 (워커를 폐기해야 함)
+     */
+    static byte[] readResponse(DataInputStream in) throws IOException, CompositionException {
+        int status = in.readUnsignedByte();
+        int length = in.readInt();
+        if (length < 0 || length > MAX_FRAME_SIZE) {
+            throw new IOException("Invalid compose worker frame length: " + length);
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        return switch (status) {
+            case STATUS_OK -> payload;
+            case STATUS_ERROR -> throw new CompositionException(new String(payload, StandardCharsets.UTF_8));
+            default -> throw new IOException("Unknown compose worker status: " + status);
+        };
+    }
+
+    private static void writeFrame(DataOutputStream out, byte[] data) throws IOException {
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+    private void drainStderr() {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                log.info("[compose-worker-{}] {}", id, line);
+            }
+        } catch (IOException ignore) {
+            // 프로세스 종료
+        }
+    }
+
+    /**
+     * 합성 자체가 실패한 경우 (Gemini 응답 오류 등) - 워커는 계속 사용 가능
+     */
+    static final class CompositionException extends Exception {
+
+        CompositionException(String message) {
+            super(message);
+        }
+    }
+}
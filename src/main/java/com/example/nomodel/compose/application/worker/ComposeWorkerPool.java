@@ -0,0 +1,216 @@
+package com.example.nomodel.compose.application.worker;
+
+import com.example.nomodel._core.exception.ApplicationException;
+import com.example.nomodel._core.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상주 Python 합성 워커 풀
+ * 요청마다 인터프리터를 띄우지 않고, 기동/모듈 import를 마친 워커 프로세스를 재사용
+ *
+ * - 슬롯 수(poolSize)만큼만 워커가 존재하며, 슬롯을 얻은 요청이 쉬는 워커를 빌리거나 없으면 새로 띄움
+ * - 요청 시간 초과/프로토콜 오류 시 워커를 강제 종료하고 다음 요청에서 새로 띄움
+ * - maxRequestsPerWorker건 처리한 워커는 반납하지 않고 종료 (장기 실행 누수 대비)
+ * - 쉬고 있는 워커는 주기적으로 ping 하여 죽은 프로세스를 미리 걸러냄
+ */
+@Slf4j
+@Component
+public class ComposeWorkerPool {
+
+    private final ComposeWorkerProperties properties;
+    private final String scriptPath;
+    private final MeterRegistry meterRegistry;
+
+    private final Semaphore slots;
+    private final BlockingQueue<ComposeWorker> idle = new LinkedBlockingQueue<>();
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("compose-worker-watchdog").daemon(true).factory());
+    private final AtomicInteger workerIds = new AtomicInteger();
+
+    private volatile String pythonCommand; // 기동에 성공한 인터프리터 (이후 재사용)
+    private volatile boolean shuttingDown = false;
+
+    public ComposeWorkerPool(ComposeWorkerProperties properties,
+                             MeterRegistry meterRegistry,
+                             @Value("${python.script.path:/app/compose/application/service/UseGeminiApi.py}") String scriptPath) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.scriptPath = scriptPath;
+        this.slots = new Semaphore(Math.max(1, properties.getPoolSize()), true);
+        meterRegistry.gauge("compose.worker.idle", idle, BlockingQueue::size);
+    }
+
+    /**
+     * 워커 하나를 빌려 합성 실행
+     *
+     * @return 합성 결과 PNG 바이트
+     */
+    public byte[] compose(byte[] productImage, byte[] modelImage, String prompt) throws Exception {
+        if (!slots.tryAcquire(properties.getAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new ApplicationException(ErrorCode.EXTERNAL_SERVICE_BUSY);
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        ComposeWorker worker = null;
+        boolean reusable = false;
+        try {
+            worker = borrow();
+            ComposeWorker current = worker;
+            byte[] result = withDeadline(current, properties.getRequestTimeout(),
+                    () -> current.compose(productImage, modelImage, prompt));
+            reusable = true;
+            outcome = "success";
+            return result;
+        } catch (ComposeWorker.CompositionException e) {
+            reusable = true; // 합성만 실패, 워커는 정상
+            outcome = "failed";
+            throw e;
+        } finally {
+            giveBack(worker, reusable);
+            slots.release();
+            sample.stop(meterRegistry.timer("compose.worker.request", "outcome", outcome));
+        }
+    }
+
+    /**
+     * 쉬고 있는 워커 상태 확인 - 응답 없는 워커는 종료
+     * 확인 중인 워커도 슬롯을 차지하므로 요청이 그 사이 워커를 추가로 띄우지 않음 (사용 중인 워커는 건드리지 않음)
+     */
+    @Scheduled(fixedDelayString = "${app.compose.worker.health-check-interval-ms:30000}")
+    public void checkIdleWorkers() {
+        int count = idle.size();
+        for (int i = 0; i < count && slots.tryAcquire(); i++) {
+            ComposeWorker worker = idle.poll();
+            if (worker == null) {
+                slots.release();
+                return;
+            }
+            boolean healthy = false;
+            try {
+                withDeadline(worker, properties.getHealthCheckTimeout(), () -> {
+                    worker.ping();
+                    return null;
+                });
+                healthy = true;
+            } catch (Exception e) {
+                log.warn("[COMPOSE] Worker #{} failed health check: {}", worker.id(), e.getMessage());
+            } finally {
+                giveBack(worker, healthy);
+                slots.release();
+            }
+        }
+    }
+
+    private ComposeWorker borrow() throws Exception {
+        ComposeWorker worker;
+        while ((worker = idle.poll()) != null) {
+            if (worker.isAlive()) {
+                return worker;
+            }
+            discard(worker);
+        }
+        return startWorker();
+    }
+
+    private void giveBack(ComposeWorker worker, boolean reusable) {
+        if (worker == null) {
+            return;
+        }
+        if (!reusable || shuttingDown || !worker.isAlive()
+                || worker.handledRequests() >= properties.getMaxRequestsPerWorker()) {
+            discard(worker);
+            return;
+        }
+        idle.offer(worker);
+    }
+
+    private void discard(ComposeWorker worker) {
+        worker.close();
+        log.info("[COMPOSE] Worker #{} retired after {} requests", worker.id(), worker.handledRequests());
+    }
+
+    /**
+     * 워커 기동 - 처음에는 설정된 인터프리터를 순서대로 시도하고, 성공한 인터프리터를 이후에 재사용
+     * 실행 파일이 없거나 준비 신호 전에 실패하면(의존성 누락 등) 다음 인터프리터로 넘어감
+     */
+    private ComposeWorker startWorker() throws Exception {
+        List<String> candidates = pythonCommand != null ? List.of(pythonCommand) : properties.getPythonCommands();
+        Exception lastFailure = null;
+        for (String command : candidates) {
+            ComposeWorker worker;
+            try {
+                worker = ComposeWorker.start(workerIds.incrementAndGet(), command, scriptPath);
+            } catch (IOException e) {
+                log.warn("[COMPOSE] Python command '{}' not available: {}", command, e.getMessage());
+                lastFailure = e;
+                continue;
+            }
+            try {
+                withDeadline(worker, properties.getStartupTimeout(), () -> {
+                    worker.awaitReady();
+                    return null;
+                });
+            } catch (Exception e) {
+                worker.close();
+                log.warn("[COMPOSE] Worker failed to start with '{}': {}", command, e.getMessage());
+                lastFailure = e;
+                continue;
+            }
+            pythonCommand = command;
+            meterRegistry.counter("compose.worker.started").increment();
+            log.info("[COMPOSE] Worker #{} started ({})", worker.id(), command);
+            return worker;
+        }
+        throw new IllegalStateException("No usable Python command for compose worker", lastFailure);
+    }
+
+    /**
+     * 제한 시간 안에 끝나지 않으면 워커 프로세스를 종료해 블로킹된 읽기를 깨움
+     */
+    private <T> T withDeadline(ComposeWorker worker, Duration timeout, WorkerCall<T> call) throws Exception {
+        ScheduledFuture<?> kill = watchdog.schedule(worker::close, timeout.toMillis(), TimeUnit.MILLISECONDS);
+        try {
+            return call.run();
+        } catch (IOException e) {
+            if (kill.isDone()) {
+                throw new IOException("Compose worker #" + worker.id() + " timed out after " + timeout, e);
+            }
+            throw e;
+        } finally {
+            kill.cancel(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        List<ComposeWorker> remaining = new ArrayList<>();
+        idle.drainTo(remaining);
+        remaining.forEach(ComposeWorker::close);
+        watchdog.shutdownNow();
+    }
+
+    @FunctionalInterface
+    private interface WorkerCall<T> {
+        T run() throws Exception;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.nomodel.compose.application.worker;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이미지 합성용 상주 Python 워커 풀 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.compose.worker")
+@Getter
+@Setter
+public class ComposeWorkerProperties {
+
+    private int poolSize = 4;                                  // 최대 워커 프로세스 수 (= 동시 합성 수)
+    private int maxRequestsPerWorker = 200;                    // 처리 후 워커를 새로 띄움 (메모리 누수 대비)
+    private Duration acquireTimeout = Duration.ofSeconds(60);  // 빈 워커 대기 최대 시간
+    private Duration startupTimeout = Duration.ofSeconds(60);  // 인터프리터 기동 + 모듈 import 최대 시간
+    private Duration requestTimeout = Duration.ofMinutes(5);   // 합성 1건 최대 시간, 넘기면 워커 강제 종료
+    private Duration healthCheckTimeout = Duration.ofSeconds(5);
+    private List<String> pythonCommands = new ArrayList<>(List.of("/opt/genai-env/bin/python", "python3", "python"));
+}
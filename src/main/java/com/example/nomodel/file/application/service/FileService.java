@@ -2,22 +2,33 @@ package com.example.nomodel.file.application.service;
 
 import com.example.nomodel._core.exception.ApplicationException;
 import com.example.nomodel._core.exception.ErrorCode;
+import com.example.nomodel.file.application.support.ContentHash;
 import com.example.nomodel.file.application.support.FilePathStrategy;
 import com.example.nomodel.file.domain.model.File;
 import com.example.nomodel.file.domain.model.FileType;
 import com.example.nomodel.file.domain.model.RelationType;
 import com.example.nomodel.file.domain.repository.FileJpaRepository;
 import com.example.nomodel.file.domain.service.ImgService;
+import com.example.nomodel.file.infrastructure.cache.LocalFileCache;
+import com.example.nomodel.model.command.domain.model.ModelIndexChangeType;
+import com.example.nomodel.model.command.domain.service.ModelIndexOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,6 +38,8 @@ public class FileService {
 
     private final FileJpaRepository fileJpaRepository;
     private final ImgService imgService; // ← Firebase 어댑터
+    private final LocalFileCache localFileCache;
+    private final ModelIndexOutboxService modelIndexOutboxService;
 
     /**
      * 여러 모델의 이미지 URL을 일괄 조회 (N+1 쿼리 방지)
@@ -45,27 +58,51 @@ public class FileService {
                 ));
     }
 
+    /**
+     * 여러 모델의 대표 이미지 URL 일괄 조회 (모델별 가장 먼저 등록된 이미지)
+     * 검색 문서에 함께 저장해 목록 조회 시 파일 테이블을 조회하지 않도록 함
+     */
+    public Map<Long, String> getPrimaryImageUrlMap(List<Long> modelIds) {
+        Map<Long, String> primaryImageUrls = new HashMap<>();
+        getImageUrlsMap(modelIds).forEach((modelId, urls) -> {
+            if (!urls.isEmpty()) {
+                primaryImageUrls.put(modelId, urls.get(0));
+            }
+        });
+        return primaryImageUrls;
+    }
+
     @Transactional
     public Long saveFile(MultipartFile multipartFile,
                          RelationType relationType,
                          Long relationId,
                          FileType fileType) {
 
+        String contentHash = hashOf(multipartFile);
+        String contentType = multipartFile.getContentType();
+
+        // 같은 내용이 이미 올라가 있으면 업로드 없이 기존 객체 재사용
+        Optional<File> existing = findByContentHash(contentHash);
+        if (existing.isPresent()) {
+            return saveReference(existing.get(), relationType, relationId, fileType, contentType);
+        }
+
         String objectName = FilePathStrategy.buildObjectName(
                 relationType, relationId, fileType, multipartFile.getOriginalFilename());
 
         // Firebase 업로드 → 공개 URL 반환
         String publicUrl = imgService.uploadImage(multipartFile, objectName);
 
-        File fileEntity = File.createFileWithContentType(
+        File fileEntity = File.createContentAddressedFile(
                 relationType,
                 relationId,
                 publicUrl,           // URL 저장
                 objectName,          // fileName엔 "객체 키" 저장
                 fileType,
-                multipartFile.getContentType()
+                contentType,
+                contentHash
         );
-        File saved = fileJpaRepository.save(fileEntity);
+        File saved = saveRelationFile(fileEntity);
         return saved.getId();
     }
 
@@ -76,37 +113,101 @@ public class FileService {
                           Long relationId,
                           FileType fileType) {
 
+        String contentHash = ContentHash.sha256Hex(data);
+
+        // 같은 내용이 이미 올라가 있으면 업로드 없이 기존 객체 재사용 (예: 더미 배경 제거의 원본 복사)
+        Optional<File> existing = findByContentHash(contentHash);
+        if (existing.isPresent()) {
+            return saveReference(existing.get(), relationType, relationId, fileType, contentType);
+        }
+
         String objectName = FilePathStrategy.buildObjectName(
                 relationType, relationId, fileType, contentType);
 
         String publicUrl = imgService.uploadBytes(data, contentType, objectName);
+        // 방금 만든 결과는 곧바로 다음 단계(합성 등)에서 다시 읽히는 경우가 많으므로 로컬 캐시에 적재
+        localFileCache.put(contentHash, data);
 
-        File fileEntity = File.createFileWithContentType(
+        File fileEntity = File.createContentAddressedFile(
                 relationType,
                 relationId,
                 publicUrl,
                 objectName,
                 fileType,
-                contentType
+                contentType,
+                contentHash
         );
-        File saved = fileJpaRepository.save(fileEntity);
+        File saved = saveRelationFile(fileEntity);
+        return saved.getId();
+    }
+
+    /**
+     * 스트림 업로드 후 파일 메타 저장 (생성 이미지처럼 큰 결과를 byte[]로 만들지 않고 올릴 때 사용)
+     * 업로드하면서 해시를 계산해 기록하므로 이후 같은 내용의 저장은 중복 제거됨
+     */
+    @Transactional
+    public Long saveStream(InputStream content,
+                           String contentType,
+                           RelationType relationType,
+                           Long relationId,
+                           FileType fileType) {
+
+        String objectName = FilePathStrategy.buildObjectName(
+                relationType, relationId, fileType, contentType);
+
+        MessageDigest digest = ContentHash.newDigest();
+        String publicUrl = imgService.uploadStream(new DigestInputStream(content, digest), contentType, objectName);
+
+        File fileEntity = File.createContentAddressedFile(
+                relationType,
+                relationId,
+                publicUrl,
+                objectName,
+                fileType,
+                contentType,
+                HexFormat.of().formatHex(digest.digest())
+        );
+        File saved = saveRelationFile(fileEntity);
         return saved.getId();
     }
 
+    /**
+     * 기존 파일과 같은 스토리지 객체를 가리키는 새 파일 레코드 저장 (다운로드/업로드 없음)
+     */
+    @Transactional
+    public Long saveSharedCopy(Long sourceFileId,
+                               RelationType relationType,
+                               Long relationId,
+                               FileType fileType) {
+        File source = fileJpaRepository.findById(sourceFileId)
+                .orElseThrow(() -> new IllegalArgumentException("File not found: " + sourceFileId));
+        return saveReference(source, relationType, relationId, fileType, source.getContentType());
+    }
+
     /**
      * 과거 레코드 호환을 위해:
      * 1) file_name(=객체 키)로 다운로드 시도
      * 2) 실패 시 file_url에서 객체명을 추출해 재시도
      * 3) 성공하면 file_name을 추출한 객체명으로 교정 저장(자동 복구)
+     *
+     * 다운로드 결과는 로컬 디스크 캐시(내용 해시, 없으면 객체 키 기준)에 보관해 같은 파일의 반복 다운로드를 피함
      */
     @Transactional // ← 교정 저장을 위해 readOnly 제거
     public byte[] loadAsBytes(Long fileId) {
         File file = fileJpaRepository.findById(fileId)
                 .orElseThrow(() -> new IllegalArgumentException("File not found: " + fileId));
 
+        String cacheKey = file.getContentHash() != null ? file.getContentHash() : file.getFileName();
+        Optional<byte[]> cached = localFileCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         // 1) 최신 규약: file_name을 '객체 키'로 사용
         try {
-            return imgService.download(file.getFileName());
+            byte[] bytes = imgService.download(file.getFileName());
+            localFileCache.put(cacheKey, bytes);
+            return bytes;
         } catch (ApplicationException ignore) {
             // FALLBACK 진행
         }
@@ -118,6 +219,7 @@ public class FileService {
             // 3) 성공하면 앞으로는 확실히 찾도록 자동 교정
             file.updateFileName(keyFromUrl);
             fileJpaRepository.save(file);
+            localFileCache.put(file.getContentHash() != null ? file.getContentHash() : keyFromUrl, bytes);
             return bytes;
         }
 
@@ -130,6 +232,51 @@ public class FileService {
                 .orElseThrow(() -> new IllegalArgumentException("File not found: " + fileId));
     }
 
+    private Optional<File> findByContentHash(String contentHash) {
+        return contentHash != null ? fileJpaRepository.findFirstByContentHashOrderByIdAsc(contentHash) : Optional.empty();
+    }
+
+    /**
+     * 기존 스토리지 객체를 가리키는 파일 레코드 저장 (관계/용도는 새로, 객체 키/URL은 공유)
+     */
+    private Long saveReference(File original, RelationType relationType, Long relationId,
+                               FileType fileType, String contentType) {
+        log.debug("Dedup: reusing object {} (hash={})", original.getFileName(), original.getContentHash());
+        File fileEntity = File.createContentAddressedFile(
+                relationType,
+                relationId,
+                original.getFileUrl(),
+                original.getFileName(),
+                fileType,
+                contentType != null ? contentType : original.getContentType(),
+                original.getContentHash()
+        );
+        return saveRelationFile(fileEntity).getId();
+    }
+
+    /**
+     * 파일 메타 저장 - 모델 이미지면 검색 문서의 대표 이미지 갱신을 위해 색인 변경을 함께 기록
+     */
+    private File saveRelationFile(File fileEntity) {
+        File saved = fileJpaRepository.save(fileEntity);
+        if (saved.getRelationType() == RelationType.MODEL
+                && saved.getContentType() != null && saved.getContentType().startsWith("image/")) {
+            modelIndexOutboxService.record(saved.getRelationId(), ModelIndexChangeType.MODEL);
+        }
+        return saved;
+    }
+
+    private static String hashOf(MultipartFile multipartFile) {
+        if (multipartFile == null || multipartFile.isEmpty()) {
+            return null; // 검증은 업로드 단계에서 처리
+        }
+        try (InputStream in = multipartFile.getInputStream()) {
+            return ContentHash.sha256Hex(in);
+        } catch (IOException e) {
+            return null; // 해시 없이 일반 업로드
+        }
+    }
+
     /**
      * file_url 형식:
      *   https://firebasestorage.googleapis.com/v0/b/{bucket}/o/{URL-ENCODED_OBJECT_NAME}?alt=media
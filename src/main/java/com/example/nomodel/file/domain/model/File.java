@@ -9,7 +9,7 @@ import lombok.*;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "file_tb")
+@Table(name = "file_tb", indexes = @Index(name = "ix_file_content_hash", columnList = "content_hash"))
 public class File extends BaseTimeEntity {
 
     @Id
@@ -40,9 +40,13 @@ public class File extends BaseTimeEntity {
     @Column(name = "is_primary", nullable = false)
     private boolean isPrimary = false; // 대표 이미지 여부
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // 내용 SHA-256 (같은 내용이면 스토리지 객체 공유)
+
     @Builder
     private File(RelationType relationType, Long relationId, String fileUrl, 
-                String fileName, FileType fileType, String contentType, Boolean isPrimary) {
+                String fileName, FileType fileType, String contentType, Boolean isPrimary,
+                String contentHash) {
         this.relationType = relationType;
         this.relationId = relationId;
         this.fileUrl = fileUrl;
@@ -50,6 +54,7 @@ public class File extends BaseTimeEntity {
         this.fileType = fileType;
         this.contentType = contentType;
         this.isPrimary = isPrimary != null ? isPrimary : false;
+        this.contentHash = contentHash;
     }
 
     public static File createFile(RelationType relationType, Long relationId, 
@@ -76,6 +81,20 @@ public class File extends BaseTimeEntity {
                 .build();
     }
 
+    public static File createContentAddressedFile(RelationType relationType, Long relationId,
+                                                  String fileUrl, String fileName, FileType fileType,
+                                                  String contentType, String contentHash) {
+        return File.builder()
+                .relationType(relationType)
+                .relationId(relationId)
+                .fileUrl(fileUrl)
+                .fileName(fileName)
+                .fileType(fileType)
+                .contentType(contentType)
+                .contentHash(contentHash)
+                .build();
+    }
+
     public void updateUrl(String newFileUrl) {
         this.fileUrl = newFileUrl;
     }
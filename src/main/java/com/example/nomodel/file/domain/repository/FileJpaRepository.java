@@ -67,6 +67,11 @@ public interface FileJpaRepository extends JpaRepository<File, Long> {
      */
     Optional<File> findByFileUrl(String fileUrl);
 
+    /**
+     * 같은 내용(SHA-256)으로 이미 업로드된 파일 조회 (스토리지 객체 재사용)
+     */
+    Optional<File> findFirstByContentHashOrderByIdAsc(String contentHash);
+
     /**
      * 파일명으로 파일 검색 (부분 일치)
      */
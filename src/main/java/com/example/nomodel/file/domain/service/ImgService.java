@@ -2,6 +2,8 @@ package com.example.nomodel.file.domain.service;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+
 public interface ImgService {
     
     /**
@@ -30,5 +32,16 @@ public interface ImgService {
 
     // ▼ 신규: 바이트 업로드/다운로드 지원
     String uploadBytes(byte[] data, String contentType, String fileName);
+
+    /**
+     * 스트림을 그대로 업로드합니다. (전체 내용을 메모리에 올리지 않음)
+     *
+     * @param content 업로드할 내용 (호출자가 닫음)
+     * @param contentType MIME 타입
+     * @param fileName 저장할 객체 키
+     * @return 업로드된 이미지의 공개 URL
+     */
+    String uploadStream(InputStream content, String contentType, String fileName);
+
     byte[] download(String fileName);
 }
\ No newline at end of file
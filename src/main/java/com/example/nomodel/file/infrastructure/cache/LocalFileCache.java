@@ -0,0 +1,190 @@
+package com.example.nomodel.file.infrastructure.cache;
+
+import com.example.nomodel.file.application.support.ContentHash;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 스토리지 객체의 노드 로컬 디스크 캐시 (크기 제한 LRU)
+ * 객체 키/내용 해시는 한 번 쓰면 바뀌지 않으므로 무효화 없이 용량 초과 시 가장 오래 안 쓴 파일만 삭제
+ *
+ * - 파일명: 캐시 키의 SHA-256 (키에 경로 문자가 있어도 안전)
+ * - 쓰기: 임시 파일에 기록 후 원자적 이동 (읽는 쪽이 쓰다 만 파일을 보지 않음)
+ * - 읽기: 메모리 매핑 후 복사 (페이지 캐시를 그대로 사용)
+ * - 재시작 시 디렉터리를 스캔해 수정 시각 순으로 LRU 순서 복원
+ */
+@Slf4j
+@Component
+public class LocalFileCache {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final LocalFileCacheProperties properties;
+    private final Counter hits;
+    private final Counter misses;
+    private final AtomicLong currentBytes = new AtomicLong();
+
+    /** 파일명 → 크기 (접근 순서 = LRU 순서) */
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(256, 0.75f, true);
+
+    private Path directory;
+
+    public LocalFileCache(LocalFileCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.hits = meterRegistry.counter("file.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("file.cache.requests", "result", "miss");
+        meterRegistry.gauge("file.cache.size", currentBytes, AtomicLong::get);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        directory = Paths.get(properties.getDirectory());
+        try {
+            Files.createDirectories(directory);
+            List<Path> existing;
+            try (Stream<Path> files = Files.list(directory)) {
+                existing = files.filter(Files::isRegularFile).toList();
+            }
+            existing.stream()
+                    .filter(path -> path.getFileName().toString().endsWith(TEMP_SUFFIX))
+                    .forEach(LocalFileCache::deleteQuietly);
+            existing.stream()
+                    .filter(path -> !path.getFileName().toString().endsWith(TEMP_SUFFIX))
+                    .sorted(Comparator.comparing(LocalFileCache::lastModified))
+                    .forEach(path -> {
+                        try {
+                            register(path.getFileName().toString(), Files.size(path));
+                        } catch (IOException e) {
+                            deleteQuietly(path);
+                        }
+                    });
+            log.info("[FILE-CACHE] {} entries ({} bytes) restored from {}", index.size(), currentBytes.get(), directory);
+        } catch (IOException e) {
+            log.warn("[FILE-CACHE] Disabled - cannot use cache directory {}: {}", directory, e.getMessage());
+            directory = null;
+        }
+    }
+
+    public Optional<byte[]> get(String key) {
+        if (directory == null || key == null) {
+            return Optional.empty();
+        }
+        String name = fileName(key);
+        synchronized (index) {
+            if (index.get(name) == null) { // get()으로 LRU 순서 갱신
+                misses.increment();
+                return Optional.empty();
+            }
+        }
+        try (FileChannel channel = FileChannel.open(directory.resolve(name), StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            byte[] data = new byte[mapped.remaining()];
+            mapped.get(data);
+            hits.increment();
+            return Optional.of(data);
+        } catch (NoSuchFileException e) {
+            forget(name);
+        } catch (IOException e) {
+            log.warn("[FILE-CACHE] Read failed for {}: {}", name, e.getMessage());
+            forget(name);
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(String key, byte[] data) {
+        if (directory == null || key == null || data == null || data.length > properties.getMaxSize().toBytes()) {
+            return;
+        }
+        String name = fileName(key);
+        synchronized (index) {
+            if (index.containsKey(name)) {
+                return;
+            }
+        }
+        Path temp = directory.resolve(name + "." + UUID.randomUUID() + TEMP_SUFFIX);
+        try {
+            Files.write(temp, data);
+            Files.move(temp, directory.resolve(name), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            register(name, data.length);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            log.warn("[FILE-CACHE] Write failed for {}: {}", name, e.getMessage());
+        }
+    }
+
+    private void register(String name, long size) {
+        synchronized (index) {
+            Long previous = index.put(name, size);
+            currentBytes.addAndGet(size - (previous != null ? previous : 0));
+            evictIfNeeded();
+        }
+    }
+
+    private void evictIfNeeded() {
+        long maxBytes = properties.getMaxSize().toBytes();
+        Iterator<Map.Entry<String, Long>> eldest = index.entrySet().iterator();
+        while (currentBytes.get() > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            eldest.remove();
+            currentBytes.addAndGet(-entry.getValue());
+            // 읽는 중인 파일이어도 열린 채널은 삭제 후에도 유효
+            deleteQuietly(directory.resolve(entry.getKey()));
+        }
+    }
+
+    private void forget(String name) {
+        synchronized (index) {
+            Long size = index.remove(name);
+            if (size != null) {
+                currentBytes.addAndGet(-size);
+            }
+        }
+    }
+
+    private static String fileName(String key) {
+        return ContentHash.sha256Hex(key);
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("[FILE-CACHE] Failed to delete {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.nomodel.file.infrastructure.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 스토리지 다운로드 결과를 보관하는 노드 로컬 디스크 캐시 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.file-cache")
+@Getter
+@Setter
+public class LocalFileCacheProperties {
+
+    private boolean enabled = true;
+    private String directory = System.getProperty("java.io.tmpdir") + "/nomodel-file-cache";
+    private DataSize maxSize = DataSize.ofGigabytes(1);  // 넘으면 가장 오래 안 쓴 파일부터 삭제
+}
@@ -1,19 +1,26 @@
 package com.example.nomodel.file.infrastructure.service;
 
+import com.example.nomodel._core.concurrency.ExternalCallLimiter;
+import com.example.nomodel._core.concurrency.ExternalProvider;
 import com.example.nomodel._core.exception.ApplicationException;
 import com.example.nomodel._core.exception.ErrorCode;
 import com.example.nomodel.file.domain.service.ImgService;
 import com.google.cloud.storage.*;
 import com.google.firebase.cloud.StorageClient;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.util.UUID;
 
 @Service
+@RequiredArgsConstructor
 public class FirebaseImgServiceImpl implements ImgService {
 
+    private final ExternalCallLimiter externalCallLimiter;
+
     @Value("${firebase.storage.bucket}")
     private String firebaseStorageBucket;
 
@@ -29,10 +36,15 @@ public class FirebaseImgServiceImpl implements ImgService {
 
         try {
             Bucket bucket = StorageClient.getInstance().bucket(firebaseStorageBucket);
-            Blob blob = bucket.create(fileName, file.getInputStream(), file.getContentType());
+            InputStream content = file.getInputStream();
+            Blob blob = externalCallLimiter.call(ExternalProvider.FIREBASE_STORAGE,
+                    () -> bucket.create(fileName, content, file.getContentType()));
             return publicUrlFrom(blob);
 
         } catch (Exception e) {
+            if (e instanceof ApplicationException) {
+                throw e;
+            }
             throw new ApplicationException(ErrorCode.FILE_UPLOAD_FAILED);
         }
     }
@@ -44,9 +56,12 @@ public class FirebaseImgServiceImpl implements ImgService {
 
         try {
             Bucket bucket = StorageClient.getInstance().bucket(firebaseStorageBucket);
-            Blob blob = bucket.get(fileName);
+            boolean deleted = externalCallLimiter.call(ExternalProvider.FIREBASE_STORAGE, () -> {
+                Blob blob = bucket.get(fileName);
+                return blob != null && blob.delete();
+            });
 
-            if (blob == null || !blob.delete()) {
+            if (!deleted) {
                 throw new ApplicationException(ErrorCode.FILE_NOT_FOUND);
             }
         } catch (Exception e) {
@@ -63,7 +78,7 @@ public class FirebaseImgServiceImpl implements ImgService {
 
         try {
             Bucket bucket = StorageClient.getInstance().bucket(firebaseStorageBucket);
-            Blob blob = bucket.get(fileName);
+            Blob blob = externalCallLimiter.call(ExternalProvider.FIREBASE_STORAGE, () -> bucket.get(fileName));
 
             if (blob == null) {
                 throw new ApplicationException(ErrorCode.FILE_NOT_FOUND);
@@ -130,9 +145,26 @@ public class FirebaseImgServiceImpl implements ImgService {
         validateStorageBucket();
         try {
             Bucket bucket = StorageClient.getInstance().bucket(firebaseStorageBucket);
-            Blob blob = bucket.create(fileName, data, contentType);
+            Blob blob = externalCallLimiter.call(ExternalProvider.FIREBASE_STORAGE,
+                    () -> bucket.create(fileName, data, contentType));
+            return publicUrlFrom(blob);
+        } catch (Exception e) {
+            if (e instanceof ApplicationException) throw e;
+            throw new ApplicationException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    // 스트림 업로드 (객체키 그대로 사용, 청크 단위로 전송되어 전체 내용을 메모리에 올리지 않음)
+    @Override
+    public String uploadStream(InputStream content, String contentType, String fileName) {
+        validateStorageBucket();
+        try {
+            Bucket bucket = StorageClient.getInstance().bucket(firebaseStorageBucket);
+            Blob blob = externalCallLimiter.call(ExternalProvider.FIREBASE_STORAGE,
+                    () -> bucket.create(fileName, content, contentType));
             return publicUrlFrom(blob);
         } catch (Exception e) {
+            if (e instanceof ApplicationException) throw e;
             throw new ApplicationException(ErrorCode.FILE_UPLOAD_FAILED);
         }
     }
@@ -143,9 +175,12 @@ public class FirebaseImgServiceImpl implements ImgService {
         validateStorageBucket();
         try {
             Bucket bucket = StorageClient.getInstance().bucket(firebaseStorageBucket);
-            Blob blob = bucket.get(fileName);
-            if (blob == null) throw new ApplicationException(ErrorCode.FILE_NOT_FOUND);
-            return blob.getContent();
+            byte[] content = externalCallLimiter.call(ExternalProvider.FIREBASE_STORAGE, () -> {
+                Blob blob = bucket.get(fileName);
+                return blob != null ? blob.getContent() : null;
+            });
+            if (content == null) throw new ApplicationException(ErrorCode.FILE_NOT_FOUND);
+            return content;
         } catch (Exception e) {
             if (e instanceof ApplicationException) throw e;
             throw new ApplicationException(ErrorCode.FILE_NOT_FOUND);
@@ -10,7 +10,7 @@ import lombok.NoArgsConstructor;
  * Stable Diffusion API 요청 DTO
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class StableDiffusionRequest {
@@ -0,0 +1,107 @@
+package com.example.nomodel.generate.application.service;
+
+import com.example.nomodel.file.application.support.ContentHash;
+import com.example.nomodel.generate.application.dto.StableDiffusionRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 시드가 고정된 생성 요청의 결과 캐시 (요청 파라미터 → 결과 파일 ID)
+ * 같은 프롬프트/파라미터/시드면 Stable Diffusion 결과가 같으므로 GPU를 다시 쓰지 않고 기존 결과 파일을 재사용
+ *
+ * - 키: 보정된 프롬프트, 네거티브 프롬프트, 크기, 스텝, CFG, 샘플러, 시드의 정규화 문자열 SHA-256
+ * - 랜덤 시드(-1) 요청은 결과가 매번 달라야 하므로 대상이 아님
+ * - 기본 비활성 (app.stable-diffusion.result-cache.enabled), 요청 옵션 bypassCache=true로 개별 우회
+ */
+@Slf4j
+@Component
+public class GenerationResultCache {
+
+    private static final String KEY_PREFIX = "sd_result:";
+    private static final String METRIC = "stable.diffusion.result.cache";
+    private static final long RANDOM_SEED = -1;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration ttl;
+
+    public GenerationResultCache(RedisTemplate<String, String> redisTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.stable-diffusion.result-cache.enabled:false}") boolean enabled,
+                                 @Value("${app.stable-diffusion.result-cache.ttl:30d}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 캐시 사용 가능 여부 (활성화 + 고정 시드 + 우회하지 않은 요청)
+     */
+    public boolean isCacheable(StableDiffusionRequest request, boolean bypass) {
+        return enabled && !bypass && request.getSeed() != RANDOM_SEED;
+    }
+
+    public Optional<Long> find(StableDiffusionRequest request) {
+        try {
+            String value = redisTemplate.opsForValue().get(key(request));
+            if (value != null) {
+                meterRegistry.counter(METRIC, "result", "hit").increment();
+                return Optional.of(Long.valueOf(value));
+            }
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("Generation result cache lookup failed: {}", e.getMessage());
+        }
+        meterRegistry.counter(METRIC, "result", "miss").increment();
+        return Optional.empty();
+    }
+
+    public void store(StableDiffusionRequest request, Long fileId) {
+        try {
+            redisTemplate.opsForValue().set(key(request), String.valueOf(fileId), ttl);
+        } catch (DataAccessException e) {
+            log.warn("Generation result cache store failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시된 결과 파일을 더 이상 쓸 수 없을 때 제거
+     */
+    public void evict(StableDiffusionRequest request) {
+        try {
+            redisTemplate.delete(key(request));
+        } catch (DataAccessException e) {
+            log.warn("Generation result cache evict failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 결과에 영향을 주는 파라미터만으로 만든 정규화 키
+     * (프롬프트 공백 차이, 7과 7.0 같은 표기 차이는 같은 키)
+     */
+    static String key(StableDiffusionRequest request) {
+        String canonical = String.join("\u0000",
+                normalize(request.getPrompt()),
+                normalize(request.getNegativePrompt()),
+                String.valueOf(request.getWidth()),
+                String.valueOf(request.getHeight()),
+                String.valueOf(request.getSteps()),
+                BigDecimal.valueOf(request.getCfgScale()).stripTrailingZeros().toPlainString(),
+                normalize(request.getSamplerIndex()),
+                String.valueOf(request.getSeed()));
+        return KEY_PREFIX + ContentHash.sha256Hex(canonical);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ");
+    }
+}
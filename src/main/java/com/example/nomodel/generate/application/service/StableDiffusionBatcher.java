@@ -0,0 +1,235 @@
+package com.example.nomodel.generate.application.service;
+
+import com.example.nomodel.generate.application.dto.StableDiffusionRequest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stable Diffusion txt2img 마이크로 배치
+ * 짧은 윈도우 동안 들어온 동일 설정의 요청을 batch_size = N인 한 번의 호출로 묶고, 결과 이미지를 요청별로 나눠 줌
+ *
+ * - 묶는 기준: 프롬프트/네거티브 프롬프트/크기/스텝/CFG/샘플러가 모두 같은 요청 (WebUI API는 호출당 프롬프트 1개만 지원)
+ * - 같은 설정의 호출이 진행 중이거나 대기 중인 배치가 있을 때만 윈도우를 염 (같은 요청이 겹치는 경우만 묶임)
+ *   겹치는 요청이 없으면 윈도우를 기다리지 않고 바로 호출하여 대부분의 단건 요청에 지연을 더하지 않음
+ * - 시드가 고정된 요청은 배치 시 시드가 달라지므로 묶지 않고 바로 호출
+ * - 윈도우가 끝나거나 maxBatchSize에 도달하면 즉시 전송
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "GEN_PROVIDER", havingValue = "stable-diffusion")
+public class StableDiffusionBatcher {
+
+    private static final long RANDOM_SEED = -1;
+
+    private final StableDiffusionClient client;
+    private final boolean enabled;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final DistributionSummary batchSizeSummary;
+
+    private final Map<BatchKey, PendingBatch> pending = new ConcurrentHashMap<>();
+    private final Map<BatchKey, Integer> inFlight = new ConcurrentHashMap<>();  // 설정별 진행 중인 txt2img 호출 수
+    private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("sd-batch-flush").daemon(true).factory());
+
+    public StableDiffusionBatcher(StableDiffusionClient client,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.stable-diffusion.batch.enabled:true}") boolean enabled,
+                                  @Value("${app.stable-diffusion.batch.window-ms:200}") long windowMs,
+                                  @Value("${app.stable-diffusion.batch.max-size:4}") int maxBatchSize) {
+        this.client = client;
+        this.enabled = enabled;
+        this.window = Duration.ofMillis(windowMs);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.batchSizeSummary = DistributionSummary.builder("stable.diffusion.batch.size")
+                .description("txt2img 호출 1회에 묶인 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미지 1장 생성 (호환되는 요청과 묶여서 전송될 수 있음)
+     *
+     * @return 디코딩된 이미지 임시 파일 (호출자가 사용 후 삭제)
+     */
+    public Path generate(StableDiffusionRequest request) throws Exception {
+        if (!enabled || maxBatchSize == 1 || request.getSeed() != RANDOM_SEED) {
+            batchSizeSummary.record(1);
+            return selectImages(client.txt2img(request), 1).get(0);
+        }
+
+        BatchKey key = BatchKey.of(request);
+        if (tryStartAlone(key)) {
+            try {
+                batchSizeSummary.record(1);
+                return selectImages(client.txt2img(request), 1).get(0);
+            } finally {
+                finishCall(key);
+            }
+        }
+
+        CompletableFuture<Path> result = new CompletableFuture<>();
+        PendingBatch full = enqueue(key, request, result);
+        if (full != null) {
+            Thread.ofVirtual().name("sd-batch").start(() -> send(full));
+        }
+
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 같은 설정의 진행 중인 호출과 대기 중인 배치가 모두 없으면 단건 호출로 시작 (윈도우 대기 없음)
+     */
+    private boolean tryStartAlone(BatchKey key) {
+        boolean[] alone = new boolean[1];
+        inFlight.compute(key, (k, calls) -> {
+            if (calls == null && !pending.containsKey(k)) {
+                alone[0] = true;
+                return 1;
+            }
+            return calls;
+        });
+        return alone[0];
+    }
+
+    private void startCall(BatchKey key) {
+        inFlight.merge(key, 1, Integer::sum);
+    }
+
+    private void finishCall(BatchKey key) {
+        inFlight.computeIfPresent(key, (k, calls) -> calls <= 1 ? null : calls - 1);
+    }
+
+    /**
+     * 대기 중인 배치에 요청 추가
+     *
+     * @return 이번 추가로 가득 찬 배치 (바로 전송해야 함), 아니면 null
+     */
+    private PendingBatch enqueue(BatchKey key, StableDiffusionRequest request, CompletableFuture<Path> result) {
+        PendingBatch[] filled = new PendingBatch[1];
+        pending.compute(key, (k, batch) -> {
+            if (batch == null) {
+                batch = new PendingBatch(k, request);
+                PendingBatch scheduled = batch;
+                flushScheduler.schedule(() -> flush(k, scheduled), window.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            batch.waiters.add(result);
+            if (batch.waiters.size() >= maxBatchSize) {
+                filled[0] = batch;
+                return null; // 다음 요청은 새 배치로
+            }
+            return batch;
+        });
+        return filled[0];
+    }
+
+    /**
+     * 윈도우 종료 - 아직 전송되지 않은 배치만 전송
+     */
+    private void flush(BatchKey key, PendingBatch batch) {
+        if (pending.remove(key, batch)) {
+            Thread.ofVirtual().name("sd-batch").start(() -> send(batch));
+        }
+    }
+
+    private void send(PendingBatch batch) {
+        List<CompletableFuture<Path>> waiters = batch.waiters;
+        int size = waiters.size();
+        batchSizeSummary.record(size);
+        startCall(batch.key);
+        try {
+            StableDiffusionRequest request = batch.template.toBuilder()
+                    .batchSize(size)
+                    .nIter(1)
+                    .build();
+            List<Path> images = selectImages(client.txt2img(request), size);
+            for (int i = 0; i < size; i++) {
+                waiters.get(i).complete(images.get(i));
+            }
+            if (size > 1) {
+                log.info("Stable Diffusion batch completed: {} requests in one txt2img call", size);
+            }
+        } catch (Exception e) {
+            waiters.forEach(waiter -> waiter.completeExceptionally(e));
+        } finally {
+            finishCall(batch.key);
+        }
+    }
+
+    /**
+     * 응답에서 요청 수만큼의 개별 이미지 선택
+     * 배치 크기가 2 이상이면 WebUI 설정에 따라 그리드 이미지가 맨 앞에 붙으므로 마지막 N장을 사용 (나머지 파일은 삭제)
+     */
+    static List<Path> selectImages(List<Path> images, int expected) {
+        if (images == null || images.size() < expected) {
+            if (images != null) {
+                images.forEach(StableDiffusionClient::deleteQuietly);
+            }
+            throw new IllegalStateException("No images returned from Stable Diffusion API");
+        }
+        int skipped = images.size() - expected;
+        images.subList(0, skipped).forEach(StableDiffusionClient::deleteQuietly);
+        return new ArrayList<>(images.subList(skipped, images.size()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushScheduler.shutdown();
+        // 남은 배치는 바로 전송 (대기 중인 호출자가 무한정 기다리지 않도록)
+        pending.keySet().forEach(key -> {
+            PendingBatch batch = pending.remove(key);
+            if (batch != null) {
+                send(batch);
+            }
+        });
+    }
+
+    /**
+     * 배치로 묶을 수 있는 요청 설정
+     */
+    record BatchKey(String prompt, String negativePrompt, int width, int height, int steps,
+                    double cfgScale, String sampler, boolean restoreFaces, boolean tiling) {
+
+        static BatchKey of(StableDiffusionRequest request) {
+            return new BatchKey(request.getPrompt(), request.getNegativePrompt(),
+                    request.getWidth(), request.getHeight(), request.getSteps(),
+                    request.getCfgScale(), request.getSamplerIndex(),
+                    request.isRestoreFaces(), request.isTiling());
+        }
+    }
+
+    private static final class PendingBatch {
+
+        private final BatchKey key;
+        private final StableDiffusionRequest template;
+        private final List<CompletableFuture<Path>> waiters = new ArrayList<>();
+
+        private PendingBatch(BatchKey key, StableDiffusionRequest template) {
+            this.key = key;
+            this.template = template;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.nomodel.generate.application.service;
+
+import com.example.nomodel._core.concurrency.ExternalCallLimiter;
+import com.example.nomodel._core.concurrency.ExternalProvider;
+import com.example.nomodel._core.exception.ApplicationException;
+import com.example.nomodel.generate.application.dto.StableDiffusionRequest;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Stable Diffusion WebUI API 클라이언트 (/sdapi/v1/txt2img)
+ * 한 번의 호출이 GPU 1회 패스이므로 서버 보호를 위해 동시 호출 수를 ExternalCallLimiter로 제한
+ *
+ * 응답은 메모리에 모으지 않고 스트리밍으로 처리:
+ * 응답 바디 → JSON 토큰 단위 파싱 → images 배열의 Base64 문자열을 청크 단위로 디코딩 → 이미지별 임시 파일
+ * (JSON 전체, Base64 문자열, 디코딩된 byte[] 어느 것도 힙에 통째로 올라가지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "GEN_PROVIDER", havingValue = "stable-diffusion")
+public class StableDiffusionClient {
+
+    private static final int STREAM_DEMAND = 16; // 응답 스트림에서 미리 당겨 올 버퍼 수
+
+    private final WebClient webClient = WebClient.create();
+
+    private final ExternalCallLimiter externalCallLimiter;
+    private final JsonFactory jsonFactory;
+    private final String apiUrl;
+    private final long timeoutSec;
+    private final int retryMax;
+    private final Timer readTimer;
+    private final DistributionSummary imageBytes;
+
+    public StableDiffusionClient(ExternalCallLimiter externalCallLimiter,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${STABLE_DIFFUSION_API_URL:http://220.127.239.150:7860}") String apiUrl,
+                                 @Value("${GEN_TIMEOUT_SEC:120}") long timeoutSec,
+                                 @Value("${GEN_RETRY_MAX:1}") int retryMax) {
+        this.externalCallLimiter = externalCallLimiter;
+        this.jsonFactory = objectMapper.getFactory();
+        this.apiUrl = apiUrl;
+        this.timeoutSec = timeoutSec;
+        this.retryMax = retryMax;
+        this.readTimer = Timer.builder("stable.diffusion.response.read")
+                .description("txt2img 응답 수신 + Base64 디코딩 시간")
+                .register(meterRegistry);
+        this.imageBytes = DistributionSummary.builder("stable.diffusion.image.bytes")
+                .description("디코딩된 생성 이미지 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * txt2img 호출 - batch_size만큼의 이미지를 디코딩된 임시 파일로 반환
+     * 반환된 파일은 호출자가 사용 후 삭제해야 함
+     */
+    public List<Path> txt2img(StableDiffusionRequest request) {
+        log.info("Sending request to Stable Diffusion API: {}/sdapi/v1/txt2img (batch_size={})",
+                apiUrl, request.getBatchSize());
+
+        // 시도마다 서킷/슬롯을 다시 확인 (서비스가 느려졌는데 재시도가 슬롯을 계속 붙잡지 않도록)
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return externalCallLimiter.call(ExternalProvider.STABLE_DIFFUSION,
+                        () -> readTimer.record(() -> requestImages(request)));
+            } catch (ApplicationException | WebClientResponseException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                // 타임아웃은 서버 과부하 신호이므로 재시도로 부하를 더하지 않음
+                if (attempt >= retryMax || isTimeout(e)) {
+                    throw e;
+                }
+                log.warn("Stable Diffusion API call failed, retrying ({}/{}): {}", attempt + 1, retryMax, e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Path> requestImages(StableDiffusionRequest request) {
+        Flux<DataBuffer> body = webClient.post()
+                .uri(apiUrl + "/sdapi/v1/txt2img")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(status -> !status.is2xxSuccessful(), clientResponse ->
+                    clientResponse.bodyToMono(String.class)
+                        .flatMap(errorBody -> {
+                            log.error("Stable Diffusion API error: {}", errorBody);
+                            return Mono.error(new RuntimeException("Stable Diffusion API error: " + errorBody));
+                        }))
+                .bodyToFlux(DataBuffer.class)
+                // 생성이 끝나야 첫 바이트가 오므로 첫 버퍼까지의 대기 = 생성 시간
+                .timeout(Duration.ofSeconds(timeoutSec));
+
+        try (InputStream json = DataBufferUtils.subscriberInputStream(body, STREAM_DEMAND)) {
+            List<Path> images = decodeImages(jsonFactory, json);
+            images.forEach(this::recordSize);
+            return images;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 응답 JSON의 images 배열을 이미지별 임시 파일로 디코딩 (나머지 필드는 읽지 않고 건너뜀)
+     */
+    static List<Path> decodeImages(JsonFactory jsonFactory, InputStream json) throws IOException {
+        List<Path> images = new ArrayList<>();
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Unexpected Stable Diffusion response");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("images".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.VALUE_STRING) {
+                        images.add(decodeToTempFile(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            images.forEach(StableDiffusionClient::deleteQuietly);
+            throw e;
+        }
+        return images;
+    }
+
+    private static Path decodeToTempFile(JsonParser parser) throws IOException {
+        Path file = Files.createTempFile("sd-image-", ".png");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            parser.readBinaryValue(out);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+        return file;
+    }
+
+    private void recordSize(Path image) {
+        try {
+            imageBytes.record(Files.size(image));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp image {}: {}", file, e.getMessage());
+        }
+    }
+}
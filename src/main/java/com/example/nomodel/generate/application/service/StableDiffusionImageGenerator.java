@@ -5,7 +5,6 @@ import com.example.nomodel.file.domain.model.FileType;
 import com.example.nomodel.file.domain.model.RelationType;
 import com.example.nomodel.generationjob.domain.model.GenerationMode;
 import com.example.nomodel.generate.application.dto.StableDiffusionRequest;
-import com.example.nomodel.generate.application.dto.StableDiffusionResponse;
 import com.example.nomodel.model.command.domain.event.ModelCreatedEvent;
 import com.example.nomodel.model.command.domain.model.AIModel;
 import com.example.nomodel.model.command.domain.model.ModelMetadata;
@@ -13,22 +12,21 @@ import com.example.nomodel.model.command.domain.model.SamplerType;
 import com.example.nomodel.model.command.domain.repository.AIModelJpaRepository;
 import com.example.nomodel.model.command.domain.service.ModelStatisticsService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-import reactor.core.publisher.Mono;
 
-import java.time.Duration;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
-import java.util.Base64;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -37,25 +35,15 @@ import java.util.UUID;
 @ConditionalOnProperty(name = "GEN_PROVIDER", havingValue = "stable-diffusion")
 public class StableDiffusionImageGenerator {
 
-    private final WebClient webClient = WebClient.builder()
-            .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024)) // 10MB
-            .build();
-    
     private final ObjectMapper objectMapper;
     private final FileService fileService;
     private final AIModelJpaRepository aiModelRepository;
     private final ModelStatisticsService modelStatisticsService;
 
     private final ApplicationEventPublisher eventPublisher;
-
-    @Value("${STABLE_DIFFUSION_API_URL:http://220.127.239.150:7860}")
-    private String apiUrl;
-
-    @Value("${GEN_TIMEOUT_SEC:120}")
-    private long timeoutSec;
-
-    @Value("${GEN_RETRY_MAX:1}")
-    private int retryMax;
+    private final StableDiffusionBatcher batcher;
+    private final MeterRegistry meterRegistry;
+    private final GenerationResultCache resultCache;
 
     /**
      * Stable Diffusion API를 사용하여 이미지 생성 후 Firebase에 저장
@@ -73,48 +61,20 @@ public class StableDiffusionImageGenerator {
             // API 요청 데이터 구성
             StableDiffusionRequest request = buildRequest(mode, prompt, opts);
             
-            log.info("Sending request to Stable Diffusion API: {}/sdapi/v1/txt2img", apiUrl);
-
-            // WebClient를 사용하여 API 호출
-            StableDiffusionResponse response = webClient.post()
-                    .uri(apiUrl + "/sdapi/v1/txt2img")
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                    .bodyValue(request)
-                    .retrieve()
-                    .onStatus(status -> !status.is2xxSuccessful(), clientResponse -> 
-                        clientResponse.bodyToMono(String.class)
-                            .flatMap(errorBody -> {
-                                log.error("Stable Diffusion API error: {}", errorBody);
-                                return Mono.error(new RuntimeException("Stable Diffusion API error: " + errorBody));
-                            }))
-                    .bodyToMono(StableDiffusionResponse.class)
-                    .timeout(Duration.ofSeconds(timeoutSec))
-                    .retry(retryMax)
-                    .block();
+            // 시드가 고정된 같은 요청의 결과가 있으면 GPU 생성 없이 재사용
+            boolean cacheable = resultCache.isCacheable(request, isBypassCache(opts));
+            if (cacheable) {
+                Optional<Long> reused = reuseCachedResult(request, mode, opts);
+                if (reused.isPresent()) {
+                    return reused.get();
+                }
+            }
 
-            // 응답 검증 및 이미지 데이터 추출
-            if (response == null || response.getImages() == null || response.getImages().isEmpty()) {
-                throw new RuntimeException("No images returned from Stable Diffusion API");
+            Long fileId = generateAndSave(request, mode, opts);
+            if (cacheable) {
+                resultCache.store(request, fileId);
             }
 
-            // Base64 디코딩하여 바이트 배열 변환
-            String base64Image = response.getImages().get(0);
-            byte[] imageBytes = Base64.getDecoder().decode(base64Image);
-            
-            log.info("Image generation completed. Size: {} bytes", imageBytes.length);
-            
-            // 1. AI 모델 정보를 ai_model_tb에 저장
-            AIModel savedModel = saveAIModelToDatabase(request, mode, opts);
-            
-            // 2. Firebase에 저장 (생성된 모델 ID를 relation_id로 사용)
-            Long fileId = fileService.saveBytes(
-                imageBytes, 
-                "image/png", 
-                RelationType.MODEL, 
-                savedModel.getId(), 
-                FileType.PREVIEW
-            );
-            
             log.info("✅ Image generation and save completed successfully. FileId: {}", fileId);
             return fileId;
 
@@ -127,6 +87,66 @@ public class StableDiffusionImageGenerator {
         }
     }
 
+    /**
+     * Stable Diffusion으로 생성 후 모델/파일 저장
+     */
+    private Long generateAndSave(StableDiffusionRequest request, GenerationMode mode, Map<String, Object> opts) throws Exception {
+        // 같은 설정의 동시 요청은 한 번의 txt2img 호출(batch_size = N)로 묶여 전송됨
+        // 결과는 스트리밍 디코딩된 임시 파일로 받아 그대로 스트림 업로드 (byte[] 복사본을 만들지 않음)
+        Path image = batcher.generate(request);
+        Long fileId;
+        try {
+            log.info("Image generation completed. Size: {} bytes", Files.size(image));
+
+            // 1. AI 모델 정보를 ai_model_tb에 저장
+            AIModel savedModel = saveAIModelToDatabase(request, mode, opts);
+
+            // 2. Firebase에 저장 (생성된 모델 ID를 relation_id로 사용)
+            Timer.Sample upload = Timer.start(meterRegistry);
+            try (InputStream content = Files.newInputStream(image)) {
+                fileId = fileService.saveStream(
+                    content,
+                    "image/png",
+                    RelationType.MODEL,
+                    savedModel.getId(),
+                    FileType.PREVIEW
+                );
+            } finally {
+                upload.stop(meterRegistry.timer("stable.diffusion.image.upload"));
+            }
+        } finally {
+            StableDiffusionClient.deleteQuietly(image);
+        }
+        return fileId;
+    }
+
+    /**
+     * 캐시된 결과 파일을 새 모델의 미리보기로 재사용 (스토리지 객체 공유)
+     * 결과 파일이 사라졌으면 캐시를 비우고 새로 생성하도록 빈 값 반환
+     */
+    private Optional<Long> reuseCachedResult(StableDiffusionRequest request, GenerationMode mode, Map<String, Object> opts) {
+        Optional<Long> cachedFileId = resultCache.find(request);
+        if (cachedFileId.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            fileService.getMeta(cachedFileId.get());
+        } catch (IllegalArgumentException e) {
+            log.warn("Cached generation result file {} no longer exists, regenerating", cachedFileId.get());
+            resultCache.evict(request);
+            return Optional.empty();
+        }
+
+        AIModel savedModel = saveAIModelToDatabase(request, mode, opts);
+        Long fileId = fileService.saveSharedCopy(cachedFileId.get(), RelationType.MODEL, savedModel.getId(), FileType.PREVIEW);
+        log.info("✅ Reused cached generation result. SourceFileId: {}, FileId: {}", cachedFileId.get(), fileId);
+        return Optional.of(fileId);
+    }
+
+    private boolean isBypassCache(Map<String, Object> opts) {
+        return Boolean.TRUE.equals(opts.get("bypassCache"));
+    }
+
     /**
      * Job 형태로 이미지 생성 결과 반환
      * @param mode 생성 모드
@@ -190,6 +210,7 @@ public class StableDiffusionImageGenerator {
         String negativePrompt = (String) opts.getOrDefault("negative_prompt", 
             "(worst quality:2),(low quality:2),(normal quality:2),lowres,watermark");
         String samplingMethod = (String) opts.getOrDefault("sampling_method", "Euler a");
+        long seed = ((Number) opts.getOrDefault("seed", -1L)).longValue(); // -1이면 랜덤
 
         // 모드에 따른 프롬프트 보정
         String enhancedPrompt = buildPrompt(mode, prompt);
@@ -206,7 +227,7 @@ public class StableDiffusionImageGenerator {
                 .tiling(false)
                 .nIter(1)
                 .batchSize(1)
-                .seed(-1)
+                .seed(seed)
                 .subseed(-1)
                 .subseedStrength(0)
                 .seedResizeFromH(-1)
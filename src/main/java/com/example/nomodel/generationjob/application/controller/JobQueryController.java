@@ -1,12 +1,19 @@
 package com.example.nomodel.generationjob.application.controller;
 
+import com.example.nomodel.generationjob.application.dto.JobStatusUpdate;
+import com.example.nomodel.generationjob.application.notify.JobStatusNotifier;
 import com.example.nomodel.generationjob.application.service.GenerationJobService;
 import com.example.nomodel.generationjob.application.dto.JobViewResponse;
+import com.example.nomodel.generationjob.application.worker.GenerationJobProperties;
+import com.example.nomodel.generationjob.domain.model.JobStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.UUID;
 
 @Slf4j
@@ -17,6 +24,8 @@ public class JobQueryController {
 
     private final GenerationJobService jobs;
     private final com.example.nomodel.file.domain.repository.FileJpaRepository fileRepo;
+    private final JobStatusNotifier statusNotifier;
+    private final GenerationJobProperties properties;
 
     @GetMapping("/{jobId}")
     public ResponseEntity<?> view(@PathVariable UUID jobId) {
@@ -30,4 +39,45 @@ public class JobQueryController {
 
         return ResponseEntity.ok(JobViewResponse.from(job, resultUrl, inputUrl));
     }
+
+    /**
+     * 잡 상태 스트림 (SSE, 이벤트명 "status")
+     * 연결 시 현재 상태를 한 번 보내고, 이후 상태가 바뀔 때만 push - SUCCEEDED/FAILED를 보내면 스트림 종료
+     * (폴링과 달리 상태 변경이 없는 동안에는 DB를 조회하지 않음, compose 잡도 같은 잡 ID로 구독 가능)
+     */
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable UUID jobId) {
+        SseEmitter emitter = new SseEmitter(properties.getStatusStreamTimeout().toMillis());
+        // 조회 전에 구독해야 조회와 구독 사이의 상태 변경을 놓치지 않음
+        Runnable unsubscribe = statusNotifier.subscribe(jobId, update -> send(emitter, update));
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+
+        try {
+            send(emitter, JobStatusUpdate.from(jobs.view(jobId)));
+        } catch (RuntimeException e) {
+            unsubscribe.run();
+            throw e;
+        }
+        return emitter;
+    }
+
+    private void send(SseEmitter emitter, JobStatusUpdate update) {
+        JobStatusUpdate payload = update;
+        if (update.status() == JobStatus.SUCCEEDED && update.resultFileId() != null) {
+            payload = update.withResultFileUrl(fileRepo.findById(update.resultFileId())
+                    .map(f -> f.getFileUrl()).orElse(null));
+        }
+        try {
+            emitter.send(SseEmitter.event().name("status").data(payload));
+            if (update.isFinal()) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 또는 이미 완료된 스트림
+            log.debug("[JOB] Status stream closed for job {}: {}", update.jobId(), e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
 }
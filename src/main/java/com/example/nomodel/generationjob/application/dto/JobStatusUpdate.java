@@ -0,0 +1,35 @@
+package com.example.nomodel.generationjob.application.dto;
+
+import com.example.nomodel.generationjob.application.service.GenerationJobStatusChangedEvent;
+import com.example.nomodel.generationjob.domain.model.GenerationJob;
+import com.example.nomodel.generationjob.domain.model.JobStatus;
+
+import java.util.UUID;
+
+/**
+ * 잡 상태 스트림(SSE)으로 보내는 상태 변경 알림
+ */
+public record JobStatusUpdate(
+        UUID jobId,
+        JobStatus status,
+        Long resultFileId,
+        String resultFileUrl,
+        String errorMessage
+) {
+    public static JobStatusUpdate from(GenerationJob job) {
+        return new JobStatusUpdate(job.getId(), job.getStatus(), job.getResultFileId(), null, job.getErrorMessage());
+    }
+
+    public static JobStatusUpdate from(GenerationJobStatusChangedEvent event) {
+        return new JobStatusUpdate(event.jobId(), event.status(), event.resultFileId(), null, event.errorMessage());
+    }
+
+    public JobStatusUpdate withResultFileUrl(String url) {
+        return new JobStatusUpdate(jobId, status, resultFileId, url, errorMessage);
+    }
+
+    /** 더 이상 상태가 바뀌지 않음 (스트림 종료) */
+    public boolean isFinal() {
+        return status == JobStatus.SUCCEEDED || status == JobStatus.FAILED;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.nomodel.generationjob.application.notify;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 다른 노드의 잡 상태 변경 메시지 구독
+ * 캐시 무효화 구독과 같은 리스너 컨테이너에 등록 (Redis 구독 연결/스레드를 추가로 만들지 않음)
+ * test 프로필은 Redis가 Mock이므로 구독하지 않음 (같은 노드 구독자에게는 바로 전달됨)
+ */
+@Configuration
+@Profile("!test")
+@RequiredArgsConstructor
+public class JobStatusChannelConfig {
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final JobStatusNotifier jobStatusNotifier;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(jobStatusNotifier, new ChannelTopic(JobStatusNotifier.CHANNEL));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.nomodel.generationjob.application.notify;
+
+import com.example.nomodel.generationjob.application.dto.JobStatusUpdate;
+import com.example.nomodel.generationjob.application.service.GenerationJobStatusChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 잡 상태 변경 알림 허브
+ * 상태 변경이 커밋되면 이 노드의 구독자에게 바로 전달하고, Redis pub/sub으로 다른 노드에도 전달
+ * (잡을 실행한 노드와 클라이언트가 연결된 노드가 달라도 수신)
+ *
+ * 구독자는 잡 ID별로 관리하며, 구독자가 없는 잡의 알림은 그냥 버림
+ */
+@Slf4j
+@Component
+public class JobStatusNotifier implements MessageListener {
+
+    public static final String CHANNEL = "generation-job:status";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<UUID, Set<Consumer<JobStatusUpdate>>> subscribers = new ConcurrentHashMap<>();
+
+    public JobStatusNotifier(RedisTemplate<String, String> redisTemplate,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        meterRegistry.gauge("generation.job.status.subscribed_jobs", subscribers, Map::size);
+    }
+
+    /**
+     * 잡 상태 구독
+     *
+     * @return 구독 해제 함수
+     */
+    public Runnable subscribe(UUID jobId, Consumer<JobStatusUpdate> listener) {
+        subscribers.compute(jobId, (id, listeners) -> {
+            Set<Consumer<JobStatusUpdate>> set = listeners != null ? listeners : ConcurrentHashMap.newKeySet();
+            set.add(listener);
+            return set;
+        });
+        return () -> subscribers.computeIfPresent(jobId, (id, listeners) -> {
+            listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    /**
+     * 상태 변경 커밋 후 전달 (트랜잭션 밖에서 발행된 경우 즉시 전달)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatusChanged(GenerationJobStatusChangedEvent event) {
+        JobStatusUpdate update = JobStatusUpdate.from(event);
+        deliver(update);
+        publishToOtherNodes(update);
+    }
+
+    /**
+     * 다른 노드에서 발행한 상태 변경 수신
+     */
+    @Override
+    public void onMessage(Message message, @Nullable byte[] pattern) {
+        try {
+            StatusMessage received = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), StatusMessage.class);
+            if (!nodeId.equals(received.origin())) {
+                deliver(received.update());
+            }
+        } catch (Exception e) {
+            log.warn("[JOB] Failed to handle status message", e);
+        }
+    }
+
+    private void deliver(JobStatusUpdate update) {
+        Set<Consumer<JobStatusUpdate>> listeners = subscribers.get(update.jobId());
+        if (listeners == null) {
+            return;
+        }
+        for (Consumer<JobStatusUpdate> listener : listeners) {
+            try {
+                listener.accept(update);
+            } catch (Exception e) {
+                log.debug("[JOB] Status listener failed for job {}: {}", update.jobId(), e.getMessage());
+            }
+        }
+    }
+
+    private void publishToOtherNodes(JobStatusUpdate update) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(new StatusMessage(nodeId, update)));
+        } catch (Exception e) {
+            // 다른 노드의 구독자는 스트림 종료 후 재연결 시 DB 조회로 최종 상태를 받음
+            log.warn("[JOB] Failed to publish status for job {}: {}", update.jobId(), e.getMessage());
+        }
+    }
+
+    record StatusMessage(String origin, JobStatusUpdate update) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.nomodel.generationjob.application.service;
+
+import com.example.nomodel.generationjob.domain.model.JobType;
+
+import java.util.UUID;
+
+/**
+ * 잡 등록 이벤트 - 커밋 후 워커가 폴링 주기를 기다리지 않고 바로 가져가도록 알림
+ */
+public record GenerationJobEnqueuedEvent(UUID jobId, JobType type) {
+}
@@ -0,0 +1,21 @@
+package com.example.nomodel.generationjob.application.service;
+
+import com.example.nomodel.generationjob.domain.model.GenerationJob;
+import com.example.nomodel.generationjob.domain.model.JobType;
+
+/**
+ * 생성 잡 종류별 실행기
+ * 워커가 큐에서 가져온 잡을 트랜잭션 밖에서 실행 (외부 생성기 대기 중 DB 커넥션을 점유하지 않음)
+ */
+public interface GenerationJobHandler {
+
+    JobType type();
+
+    /**
+     * 잡 실행
+     *
+     * @return 결과 파일 ID
+     * @throws Exception 실패 시 재시도 횟수가 남아 있으면 백오프 후 다시 실행됨
+     */
+    Long handle(GenerationJob job) throws Exception;
+}
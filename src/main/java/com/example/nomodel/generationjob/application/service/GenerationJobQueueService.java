@@ -0,0 +1,191 @@
+package com.example.nomodel.generationjob.application.service;
+
+import com.example.nomodel.generationjob.application.worker.GenerationJobProperties;
+import com.example.nomodel.generationjob.domain.model.GenerationJob;
+import com.example.nomodel.generationjob.domain.model.JobStatus;
+import com.example.nomodel.generationjob.domain.model.JobType;
+import com.example.nomodel.generationjob.domain.repository.GenerationJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 생성 잡 큐 (generation_job 테이블 기반)
+ * 대기 잡 가져오기, 완료/실패 보고, 임대 만료 잡 회수를 각각 짧은 트랜잭션으로 처리
+ *
+ * - 가져간 잡은 RUNNING + 임대 만료 시각을 기록하고 바로 커밋 (실행 중에는 트랜잭션/커넥션을 잡지 않음)
+ * - 실행 중인 잡은 워커가 주기적으로 임대를 연장 (핸들러 실행 시간과 무관하게 살아 있는 워커의 잡은 회수되지 않음)
+ * - 완료/실패 보고는 retryCount를 펜싱 토큰으로 사용 (임대 만료 후 다시 실행된 잡의 늦은 보고는 무시)
+ * - 상태가 바뀔 때마다 GenerationJobStatusChangedEvent 발행 (커밋 후 상태 구독자에게 전달)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GenerationJobQueueService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final GenerationJobRepository repo;
+    private final GenerationJobProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 실행 가능한 잡을 최대 limit개 가져와 RUNNING으로 전환
+     */
+    @Transactional
+    public List<GenerationJob> claim(JobType type, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<GenerationJob> jobs = repo.findClaimable(type.name(), now, limit);
+        LocalDateTime leaseExpiresAt = now.plus(properties.getVisibilityTimeout());
+        jobs.forEach(job -> {
+            job.claim(leaseExpiresAt);
+            publishStatus(job);
+        });
+        return jobs;
+    }
+
+    /**
+     * 실행 중인 잡들의 임대 연장 (워커 하트비트)
+     *
+     * @param attempts 잡 ID별 가져갈 당시의 retryCount
+     * @return 연장된 잡 수
+     */
+    @Transactional
+    public int renewLeases(Map<UUID, Integer> attempts) {
+        LocalDateTime leaseExpiresAt = LocalDateTime.now().plus(properties.getVisibilityTimeout());
+        int renewed = 0;
+        for (Map.Entry<UUID, Integer> entry : attempts.entrySet()) {
+            if (repo.renewLease(entry.getKey(), entry.getValue(), JobStatus.RUNNING, leaseExpiresAt) > 0) {
+                renewed++;
+            } else {
+                log.warn("[JOB] Lease lost for id={} (attempt={}), its report will be ignored",
+                        entry.getKey(), entry.getValue());
+            }
+        }
+        return renewed;
+    }
+
+    /**
+     * 성공 보고
+     *
+     * @param attempt 가져갈 당시의 retryCount
+     */
+    @Transactional
+    public void complete(UUID jobId, int attempt, Long resultFileId) {
+        repo.findByIdForUpdate(jobId)
+                .filter(job -> isCurrentAttempt(job, attempt))
+                .ifPresent(job -> {
+                    job.succeed(resultFileId);
+                    publishStatus(job);
+                    log.info("[JOB] OK {} id={} -> SUCCEEDED (resultFileId={})", job.getType(), jobId, resultFileId);
+                });
+    }
+
+    /**
+     * 실패 보고 - 재시도 횟수가 남아 있으면 백오프 후 다시 대기열로 되돌림
+     *
+     * @return 재시도 예약 여부
+     */
+    @Transactional
+    public boolean failOrRetry(UUID jobId, int attempt, String errorMessage) {
+        return repo.findByIdForUpdate(jobId)
+                .filter(job -> isCurrentAttempt(job, attempt))
+                .map(job -> scheduleRetryOrFail(job, errorMessage))
+                .orElse(false);
+    }
+
+    /**
+     * 외부 서비스 사용 불가(서킷 열림/슬롯 부족) 보고 - 재시도 횟수를 쓰지 않고 지연 후 다시 대기열로 되돌림
+     * 잡 자체의 문제가 아니므로 서비스가 회복될 때까지 PENDING으로 대기
+     */
+    @Transactional
+    public void defer(UUID jobId, int attempt, String reason) {
+        repo.findByIdForUpdate(jobId)
+                .filter(job -> isCurrentAttempt(job, attempt))
+                .ifPresent(job -> {
+                    Duration delay = backoffDelay(0, properties.getRetryBackoff(), properties.getMaxRetryBackoff());
+                    job.deferUntil(LocalDateTime.now().plus(delay), truncate(reason));
+                    publishStatus(job);
+                    log.warn("[JOB] DEFER {} id={} in {}ms (retryCount={}) : {}",
+                            job.getType(), jobId, delay.toMillis(), job.getRetryCount(), reason);
+                });
+    }
+
+    /**
+     * 임대가 만료된 잡 회수 (실패와 동일하게 재시도/실패 처리)
+     *
+     * @return 회수한 잡 수
+     */
+    @Transactional
+    public int reclaimExpiredLeases(int limit) {
+        List<GenerationJob> expired = repo.findExpiredLeases(LocalDateTime.now(), limit);
+        expired.forEach(job -> {
+            log.warn("[JOB] LEASE EXPIRED {} id={} (retryCount={})", job.getType(), job.getId(), job.getRetryCount());
+            scheduleRetryOrFail(job, "Job lease expired before completion");
+        });
+        return expired.size();
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending(JobType type) {
+        return repo.countByTypeAndStatus(type, JobStatus.PENDING);
+    }
+
+    private boolean scheduleRetryOrFail(GenerationJob job, String errorMessage) {
+        String message = truncate(errorMessage);
+        if (job.getRetryCount() >= properties.getMaxRetries()) {
+            job.fail(message);
+            publishStatus(job);
+            log.error("[JOB] FAIL {} id={} -> FAILED : {}", job.getType(), job.getId(), message);
+            return false;
+        }
+        Duration delay = backoffDelay(job.getRetryCount(), properties.getRetryBackoff(), properties.getMaxRetryBackoff());
+        job.retryAt(LocalDateTime.now().plus(delay), message);
+        publishStatus(job);
+        log.warn("[JOB] RETRY {} id={} in {}ms (retryCount={}) : {}",
+                job.getType(), job.getId(), delay.toMillis(), job.getRetryCount(), message);
+        return true;
+    }
+
+    private void publishStatus(GenerationJob job) {
+        eventPublisher.publishEvent(GenerationJobStatusChangedEvent.of(job));
+    }
+
+    private static boolean isCurrentAttempt(GenerationJob job, int attempt) {
+        if (job.getStatus() == JobStatus.RUNNING && job.getRetryCount() == attempt) {
+            return true;
+        }
+        log.warn("[JOB] Ignoring stale report for id={} (status={}, retryCount={}, attempt={})",
+                job.getId(), job.getStatus(), job.getRetryCount(), attempt);
+        return false;
+    }
+
+    /**
+     * 지수 백오프 + 지터 (base * 2^retryCount를 max로 제한한 뒤, 절반은 고정 + 절반은 무작위)
+     */
+    static Duration backoffDelay(int retryCount, Duration base, Duration max) {
+        long exponential = base.toMillis() << Math.min(retryCount, 20);
+        long capped = Math.min(exponential, max.toMillis());
+        long half = capped / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.nomodel.generationjob.application.service;
+
+import com.example.nomodel.generationjob.domain.model.GenerationJob;
+import com.example.nomodel.generationjob.domain.model.JobStatus;
+
+import java.util.UUID;
+
+/**
+ * 잡 상태 변경 이벤트 - 커밋 후 상태 구독자(SSE)에게 전달됨
+ */
+public record GenerationJobStatusChangedEvent(UUID jobId, JobStatus status, Long resultFileId, String errorMessage) {
+
+    public static GenerationJobStatusChangedEvent of(GenerationJob job) {
+        return new GenerationJobStatusChangedEvent(job.getId(), job.getStatus(), job.getResultFileId(), job.getErrorMessage());
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.nomodel.generationjob.application.service.handler;
+
+import com.example.nomodel.file.application.service.FileService;
+import com.example.nomodel.file.domain.model.RelationType;
+import com.example.nomodel.generate.application.service.StableDiffusionImageGenerator;
+import com.example.nomodel.generationjob.application.service.GenerationJobHandler;
+import com.example.nomodel.generationjob.domain.model.GenerationJob;
+import com.example.nomodel.generationjob.domain.model.JobType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * compose(배경/인물+배경 생성) 잡 실행기
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "GEN_PROVIDER", havingValue = "stable-diffusion")  // 생성기 빈과 동일 조건
+public class ComposeJobHandler implements GenerationJobHandler {
+
+    private final FileService fileService;
+    private final StableDiffusionImageGenerator imageGenerator; // replicate/dummy 중 활성 빈
+
+    @Override
+    public JobType type() {
+        return JobType.COMPOSE;
+    }
+
+    @Override
+    public Long handle(GenerationJob job) throws Exception {
+        // (1) 누끼 PNG 로드 (합성 단계에서 사용 예정, 미사용이어도 검증 겸 로드)
+        fileService.loadAsBytes(job.getInputFileId());
+
+        // (2) 배경/인물+배경 생성 - 결과는 입력 파일과 연결된 AD 파일로 저장
+        Map<String, Object> opts = new HashMap<>();
+        opts.put("aspect_ratio", "9:16");
+        opts.put("relationId", job.getInputFileId());
+        opts.put("relationType", RelationType.AD.name());
+
+        return imageGenerator.generate(job.getMode(), job.getPrompt(), opts);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.nomodel.generationjob.application.service.handler;
+
+import com.example.nomodel.compose.application.service.ImageCompositor;
+import com.example.nomodel.file.application.service.FileService;
+import com.example.nomodel.file.domain.model.FileType;
+import com.example.nomodel.file.domain.model.RelationType;
+import com.example.nomodel.generationjob.application.service.GenerationJobHandler;
+import com.example.nomodel.generationjob.domain.model.GenerationJob;
+import com.example.nomodel.generationjob.domain.model.JobType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 합성(제품 + 모델 이미지) 잡 실행기
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageCompositionJobHandler implements GenerationJobHandler {
+
+    private final FileService fileService;
+    private final ImageCompositor imageCompositor;
+
+    @Override
+    public JobType type() {
+        return JobType.IMAGE_COMPOSITION;
+    }
+
+    @Override
+    public Long handle(GenerationJob job) throws Exception {
+        // 모델 파일 ID는 Job의 modelId에 저장
+        Long modelFileId = job.getModelId();
+        if (modelFileId == null) {
+            throw new IllegalStateException("Model file ID is not set for job: " + job.getId());
+        }
+
+        byte[] productImage = fileService.loadAsBytes(job.getInputFileId());
+        byte[] modelImage = fileService.loadAsBytes(modelFileId);
+        log.info("Retrieved images - Product: {} bytes, Model: {} bytes", productImage.length, modelImage.length);
+
+        byte[] compositeResult = imageCompositor.composite(productImage, modelImage, job.getPrompt());
+        log.info("Image composition completed - Result: {} bytes", compositeResult.length);
+
+        // 합성 결과를 Firebase에 저장
+        return fileService.saveBytes(
+                compositeResult,
+                "image/png",
+                RelationType.AD,      // 광고 관련 타입
+                job.getInputFileId(), // 관련 ID (제품 파일)
+                FileType.RESULT
+        );
+    }
+}
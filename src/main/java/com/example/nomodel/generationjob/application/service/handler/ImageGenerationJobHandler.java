@@ -0,0 +1,54 @@
+package com.example.nomodel.generationjob.application.service.handler;
+
+import com.example.nomodel.file.domain.model.RelationType;
+import com.example.nomodel.generate.application.service.StableDiffusionImageGenerator;
+import com.example.nomodel.generationjob.application.service.GenerationJobHandler;
+import com.example.nomodel.generationjob.domain.model.GenerationJob;
+import com.example.nomodel.generationjob.domain.model.JobType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 이미지 생성(프롬프트 → 이미지) 잡 실행기
+ * 등록 시 저장한 추가 옵션(parameters JSON)에 기본값을 채워 생성기를 호출
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "GEN_PROVIDER", havingValue = "stable-diffusion")  // 생성기 빈과 동일 조건
+public class ImageGenerationJobHandler implements GenerationJobHandler {
+
+    private static final TypeReference<Map<String, Object>> OPTIONS_TYPE = new TypeReference<>() {
+    };
+
+    private final StableDiffusionImageGenerator imageGenerator;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public JobType type() {
+        return JobType.IMAGE_GENERATION;
+    }
+
+    @Override
+    public Long handle(GenerationJob job) throws Exception {
+        Map<String, Object> opts = new HashMap<>();
+        if (job.getParameters() != null && !job.getParameters().isBlank()) {
+            opts.putAll(objectMapper.readValue(job.getParameters(), OPTIONS_TYPE));
+        }
+
+        // 기본값 설정
+        opts.putIfAbsent("width", 512);
+        opts.putIfAbsent("height", 512);
+        opts.putIfAbsent("steps", 25);
+        opts.putIfAbsent("cfg_scale", 7.0);
+        opts.putIfAbsent("relationId", 0L);
+        opts.putIfAbsent("relationType", RelationType.MODEL.name());
+
+        return imageGenerator.generate(job.getMode(), job.getPrompt(), opts);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.nomodel.generationjob.application.worker;
+
+import com.example.nomodel.generationjob.domain.model.JobType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 생성 잡 큐/워커 설정
+ * 잡 종류별 동시 실행 수를 지정하며, 지정하지 않은 종류는 defaultConcurrency를 사용
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.generation-job")
+@Getter
+@Setter
+public class GenerationJobProperties {
+
+    private boolean workerEnabled = true;
+    private int defaultConcurrency = 2;
+    private Map<JobType, Integer> concurrency = new EnumMap<>(JobType.class);
+    private Duration visibilityTimeout = Duration.ofMinutes(5);  // 임대 연장 없이 이 시간이 지나면 회수 (연장 주기보다 충분히 길게)
+    private int maxRetries = 2;
+    private Duration retryBackoff = Duration.ofSeconds(10);     // 첫 재시도 지연, 이후 2배씩 증가
+    private Duration maxRetryBackoff = Duration.ofMinutes(5);
+    private Duration statusStreamTimeout = Duration.ofMinutes(10); // 상태 스트림(SSE) 최대 연결 시간
+
+    public int concurrencyFor(JobType type) {
+        return Math.max(1, concurrency.getOrDefault(type, defaultConcurrency));
+    }
+}
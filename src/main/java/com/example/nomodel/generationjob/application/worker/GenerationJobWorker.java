@@ -0,0 +1,311 @@
+package com.example.nomodel.generationjob.application.worker;
+
+import com.example.nomodel._core.exception.ApplicationException;
+import com.example.nomodel._core.exception.ErrorCode;
+import com.example.nomodel.generationjob.application.service.GenerationJobEnqueuedEvent;
+import com.example.nomodel.generationjob.application.service.GenerationJobHandler;
+import com.example.nomodel.generationjob.application.service.GenerationJobQueueService;
+import com.example.nomodel.generationjob.domain.model.GenerationJob;
+import com.example.nomodel.generationjob.domain.model.JobType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 생성 잡 워커
+ * 잡 종류별 레인(슬롯 수 = 동시 실행 수)을 두고, 빈 슬롯 수만큼만 큐에서 잡을 가져와 가상 스레드에서 실행
+ *
+ * - 가져오기: 폴링 주기마다 + 잡 등록 커밋 직후 (등록 → 실행 지연 최소화)
+ * - 빈 슬롯만큼만 가져오므로 노드가 처리할 수 없는 잡을 붙잡고 있지 않음 (나머지는 다른 노드가 가져감)
+ * - 실행 중인 잡은 주기적으로 임대를 연장하고, 노드가 죽어 연장이 끊기면 임대 만료 후 회수 작업이 재시도로 되돌림
+ * - 외부 서비스 서킷이 열려 있으면 재시도 횟수를 쓰지 않고 PENDING으로 되돌려 회복 후 다시 실행
+ */
+@Slf4j
+@Component
+public class GenerationJobWorker {
+
+    private static final int RECLAIM_BATCH_SIZE = 100;
+    private static final String QUEUE_DEPTH_METRIC = "generation.job.queue.depth";
+    private static final String RUNNING_METRIC = "generation.job.running";
+    private static final String QUEUE_WAIT_METRIC = "generation.job.queue.wait";
+    private static final String EXECUTION_METRIC = "generation.job.execution";
+    private static final String LEASE_EXPIRED_METRIC = "generation.job.lease.expired";
+
+    private final GenerationJobQueueService queue;
+    private final GenerationJobProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<JobType, Lane> lanes = new EnumMap<>(JobType.class);
+    private final Map<UUID, Integer> runningAttempts = new ConcurrentHashMap<>();
+
+    private volatile boolean shuttingDown = false;
+
+    public GenerationJobWorker(GenerationJobQueueService queue,
+                               GenerationJobProperties properties,
+                               MeterRegistry meterRegistry,
+                               List<GenerationJobHandler> handlers) {
+        this.queue = queue;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        for (GenerationJobHandler handler : handlers) {
+            if (lanes.containsKey(handler.type())) {
+                throw new IllegalStateException("Duplicate generation job handler for " + handler.type());
+            }
+            Lane lane = new Lane(handler, properties.concurrencyFor(handler.type()));
+            lanes.put(handler.type(), lane);
+
+            Tags tags = Tags.of("type", handler.type().name());
+            meterRegistry.gauge(QUEUE_DEPTH_METRIC, tags, lane.pendingCount, AtomicLong::get);
+            meterRegistry.gauge(RUNNING_METRIC, tags, lane, Lane::running);
+        }
+        log.info("[JOB] Worker lanes: {}", lanes.values().stream()
+                .map(lane -> lane.type() + "=" + lane.concurrency)
+                .toList());
+    }
+
+    /**
+     * 주기적으로 모든 레인의 빈 슬롯을 채움
+     */
+    @Scheduled(fixedDelayString = "${app.generation-job.poll-interval-ms:1000}")
+    public void poll() {
+        if (!properties.isWorkerEnabled()) {
+            return;
+        }
+        lanes.keySet().forEach(this::dispatch);
+    }
+
+    /**
+     * 잡 등록 커밋 직후 해당 레인을 바로 채움 (가상 스레드에서 실행하여 요청 스레드는 기다리지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobEnqueued(GenerationJobEnqueuedEvent event) {
+        if (properties.isWorkerEnabled() && !shuttingDown) {
+            Thread.ofVirtual().name("job-dispatch").start(() -> dispatch(event.type()));
+        }
+    }
+
+    /**
+     * 이 노드에서 실행 중인 잡의 임대 연장 (하트비트)
+     * 외부 서비스 대기/재시도로 핸들러가 visibility-timeout보다 오래 걸려도 다른 워커가 다시 실행하지 않음
+     */
+    @Scheduled(fixedDelayString = "${app.generation-job.lease-renew-interval-ms:60000}")
+    public void renewLeases() {
+        if (runningAttempts.isEmpty()) {
+            return;
+        }
+        try {
+            queue.renewLeases(Map.copyOf(runningAttempts));
+        } catch (Exception e) {
+            log.warn("[JOB] Failed to renew leases of {} running jobs", runningAttempts.size(), e);
+        }
+    }
+
+    /**
+     * 임대가 만료된 잡을 재시도/실패로 회수
+     */
+    @Scheduled(fixedDelayString = "${app.generation-job.reclaim-interval-ms:30000}")
+    public void reclaimExpiredLeases() {
+        if (!properties.isWorkerEnabled()) {
+            return;
+        }
+        try {
+            int reclaimed = queue.reclaimExpiredLeases(RECLAIM_BATCH_SIZE);
+            if (reclaimed > 0) {
+                meterRegistry.counter(LEASE_EXPIRED_METRIC).increment(reclaimed);
+            }
+        } catch (Exception e) {
+            log.warn("[JOB] Failed to reclaim expired leases", e);
+        }
+    }
+
+    /**
+     * 큐 깊이 게이지 갱신 (스크랩마다 DB를 조회하지 않도록 주기적으로만 집계)
+     */
+    @Scheduled(fixedDelayString = "${app.generation-job.metrics-interval-ms:15000}")
+    public void refreshQueueDepth() {
+        lanes.forEach((type, lane) -> {
+            try {
+                lane.pendingCount.set(queue.countPending(type));
+            } catch (Exception e) {
+                log.debug("[JOB] Failed to count pending jobs: type={}", type, e);
+            }
+        });
+    }
+
+    void dispatch(JobType type) {
+        Lane lane = lanes.get(type);
+        if (lane == null || shuttingDown) {
+            return;
+        }
+        int permits = lane.acquireFreeSlots();
+        if (permits == 0) {
+            return;
+        }
+
+        List<GenerationJob> claimed;
+        try {
+            claimed = queue.claim(type, permits);
+        } catch (Exception e) {
+            lane.slots.release(permits);
+            log.warn("[JOB] Failed to claim jobs: type={}", type, e);
+            return;
+        }
+        lane.slots.release(permits - claimed.size());
+
+        for (GenerationJob job : claimed) {
+            recordQueueWait(job);
+            try {
+                lane.executor.execute(() -> execute(lane, job));
+            } catch (RejectedExecutionException e) {
+                // 종료 중 - 임대 만료 후 회수되어 재시도됨
+                lane.slots.release();
+                log.warn("[JOB] Worker shutting down, job {} will be reclaimed after lease expiry", job.getId());
+            }
+        }
+    }
+
+    private void execute(Lane lane, GenerationJob job) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
+        runningAttempts.put(job.getId(), job.getRetryCount());
+        try {
+            log.info("[JOB] RUN {} id={} (retryCount={})", job.getType(), job.getId(), job.getRetryCount());
+            Long resultFileId = lane.handler.handle(job);
+            if (resultFileId == null) {
+                throw new IllegalStateException("Handler returned no result file for job " + job.getId());
+            }
+            queue.complete(job.getId(), job.getRetryCount(), resultFileId);
+            outcome = "succeeded";
+        } catch (Exception e) {
+            ApplicationException unavailable = findProviderUnavailable(e);
+            if (unavailable != null) {
+                log.warn("[JOB] {} id={} deferred: {}", job.getType(), job.getId(), unavailable.getMessage());
+                outcome = reportDeferred(job, unavailable) ? "deferred" : "failed";
+                return;
+            }
+            log.error("[JOB] {} id={} failed: {}", job.getType(), job.getId(), e.getMessage(), e);
+            outcome = reportFailure(job, e) ? "retried" : "failed";
+        } finally {
+            runningAttempts.remove(job.getId());
+            sample.stop(meterRegistry.timer(EXECUTION_METRIC, "type", job.getType().name(), "outcome", outcome));
+            lane.slots.release();
+        }
+    }
+
+    private boolean reportFailure(GenerationJob job, Exception cause) {
+        try {
+            return queue.failOrRetry(job.getId(), job.getRetryCount(), cause.getMessage());
+        } catch (Exception e) {
+            // 보고 실패 시 임대 만료 후 회수됨
+            log.error("[JOB] Failed to record failure for id={}", job.getId(), e);
+            return false;
+        }
+    }
+
+    private boolean reportDeferred(GenerationJob job, ApplicationException cause) {
+        try {
+            queue.defer(job.getId(), job.getRetryCount(), cause.getMessage());
+            return true;
+        } catch (Exception e) {
+            log.error("[JOB] Failed to defer id={}", job.getId(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 외부 서비스 사용 불가(서킷 열림/슬롯 부족)로 실패했는지 확인 - 핸들러가 감싼 예외도 원인까지 따라가며 확인
+     */
+    static ApplicationException findProviderUnavailable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApplicationException ae
+                    && (ae.getErrorCode() == ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE
+                    || ae.getErrorCode() == ErrorCode.EXTERNAL_SERVICE_BUSY)) {
+                return ae;
+            }
+        }
+        return null;
+    }
+
+    private void recordQueueWait(GenerationJob job) {
+        LocalDateTime readyAt = job.getAvailableAt() != null ? job.getAvailableAt() : job.getCreatedAt();
+        Duration wait = Duration.between(readyAt, LocalDateTime.now());
+        meterRegistry.timer(QUEUE_WAIT_METRIC, "type", job.getType().name())
+                .record(wait.isNegative() ? Duration.ZERO : wait);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        lanes.values().forEach(lane -> lane.executor.shutdown());
+        for (Lane lane : lanes.values()) {
+            try {
+                if (!lane.executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                    log.warn("[JOB] {} jobs still running at shutdown; they will be retried after lease expiry",
+                            lane.type());
+                    lane.executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                lane.executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * 잡 종류별 실행 레인 - 잡마다 가상 스레드를 쓰므로 동시 실행 수는 세마포어 슬롯으로만 제한
+     * (외부 서비스 대기는 스레드를 점유하지 않으므로 슬롯을 수백 개로 늘려도 됨, 서비스별 제한은 ExternalCallLimiter)
+     */
+    private static final class Lane {
+
+        private final GenerationJobHandler handler;
+        private final int concurrency;
+        private final Semaphore slots;
+        private final ExecutorService executor;
+        private final AtomicLong pendingCount = new AtomicLong();
+
+        private Lane(GenerationJobHandler handler, int concurrency) {
+            this.handler = handler;
+            this.concurrency = concurrency;
+            this.slots = new Semaphore(concurrency);
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                    .name("job-" + handler.type().name().toLowerCase().replace('_', '-') + "-", 0)
+                    .factory());
+        }
+
+        private JobType type() {
+            return handler.type();
+        }
+
+        private int acquireFreeSlots() {
+            int acquired = 0;
+            while (slots.tryAcquire()) {
+                acquired++;
+            }
+            return acquired;
+        }
+
+        private double running() {
+            return concurrency - slots.availablePermits();
+        }
+    }
+}
@@ -13,7 +13,8 @@ import lombok.*;
         name = "generation_job",
         indexes = {
                 @Index(name = "ix_job_owner", columnList = "ownerId"),
-                @Index(name = "ix_job_status_createdAt", columnList = "status, createdAt")
+                @Index(name = "ix_job_status_createdAt", columnList = "status, createdAt"),
+                @Index(name = "ix_job_claim", columnList = "status, type, availableAt")
         }
 )
 @Getter
@@ -36,8 +37,7 @@ public class GenerationJob {
     @Column(nullable = false, length = 20)
     private JobType type;
 
-    /** 입력 파일 (원본/누끼 등 파이프라인 입력) */
-    @Column(nullable = false)
+    /** 입력 파일 (원본/누끼 등 파이프라인 입력, 이미지 생성은 없음) */
     private Long inputFileId;
 
     /** 합성 시 사용할 모델 아이디(선택) */
@@ -64,6 +64,12 @@ public class GenerationJob {
     @Column(nullable = false)
     private int retryCount;
 
+    /** 워커가 가져갈 수 있는 시각 (재시도 시 백오프만큼 뒤로 미룸) */
+    private LocalDateTime availableAt;
+
+    /** 실행 임대 만료 시각 (만료될 때까지 완료되지 않으면 다른 워커가 재시도) */
+    private LocalDateTime leaseExpiresAt;
+
     /** 생성/수정 시각 */
     @Column(nullable = false)
     private LocalDateTime createdAt;
@@ -86,6 +92,7 @@ public class GenerationJob {
     void prePersist() {
         createdAt = updatedAt = LocalDateTime.now();
         if (status == null) status = JobStatus.PENDING;
+        if (availableAt == null) availableAt = createdAt;
     }
 
     @PreUpdate
@@ -99,14 +106,39 @@ public class GenerationJob {
         status = JobStatus.RUNNING;
     }
 
+    /** 워커가 큐에서 가져감 - 임대 만료 전까지 다른 워커는 가져가지 않음 */
+    public void claim(LocalDateTime leaseExpiresAt) {
+        status = JobStatus.RUNNING;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
     public void succeed(Long resultFileId) {
         status = JobStatus.SUCCEEDED;
         this.resultFileId = resultFileId;
+        this.leaseExpiresAt = null;
     }
 
     public void fail(String msg) {
         status = JobStatus.FAILED;
         this.errorMessage = msg;
+        this.leaseExpiresAt = null;
+    }
+
+    /** 실패한 잡을 availableAt 이후 다시 실행하도록 큐에 되돌림 */
+    public void retryAt(LocalDateTime availableAt, String msg) {
+        status = JobStatus.PENDING;
+        this.retryCount++;
+        this.availableAt = availableAt;
+        this.errorMessage = msg;
+        this.leaseExpiresAt = null;
+    }
+
+    /** 외부 서비스를 쓸 수 없어 실행하지 못한 잡을 재시도 횟수 차감 없이 큐에 되돌림 */
+    public void deferUntil(LocalDateTime availableAt, String msg) {
+        status = JobStatus.PENDING;
+        this.availableAt = availableAt;
+        this.errorMessage = msg;
+        this.leaseExpiresAt = null;
     }
 
     /* ====================== 합성 파라미터 세팅 ====================== */
@@ -130,6 +162,28 @@ public class GenerationJob {
                 .build();
     }
 
+    /** 이미지 생성 잡 생성 (입력 파일 없음) */
+    public static GenerationJob createImageGenerationJob(Long ownerId) {
+        return GenerationJob.builder()
+                .ownerId(ownerId)
+                .type(JobType.IMAGE_GENERATION)
+                .status(JobStatus.PENDING)
+                .retryCount(0)
+                .build();
+    }
+
+    /** 제품 + 모델 이미지 합성 잡 생성 */
+    public static GenerationJob createImageCompositionJob(Long ownerId, Long productFileId, Long modelFileId) {
+        return GenerationJob.builder()
+                .ownerId(ownerId)
+                .type(JobType.IMAGE_COMPOSITION)
+                .inputFileId(productFileId)
+                .modelId(modelFileId)
+                .status(JobStatus.PENDING)
+                .retryCount(0)
+                .build();
+    }
+
     /** 누끼 잡 생성(필요 시 사용) */
     public static GenerationJob createRemoveBgJob(Long ownerId, Long inputFileId) {
         return GenerationJob.builder()
@@ -1,3 +1,3 @@
 package com.example.nomodel.generationjob.domain.model;
 
-public enum JobType { REMOVE_BG, COMPOSE }
+public enum JobType { REMOVE_BG, COMPOSE, IMAGE_GENERATION, IMAGE_COMPOSITION }
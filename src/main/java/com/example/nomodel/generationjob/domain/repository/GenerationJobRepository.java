@@ -1,7 +1,65 @@
 package com.example.nomodel.generationjob.domain.repository;
 
 import com.example.nomodel.generationjob.domain.model.GenerationJob;
+import com.example.nomodel.generationjob.domain.model.JobStatus;
+import com.example.nomodel.generationjob.domain.model.JobType;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface GenerationJobRepository extends JpaRepository<GenerationJob, UUID> {}
+public interface GenerationJobRepository extends JpaRepository<GenerationJob, UUID> {
+
+    /**
+     * 실행 가능한 대기 잡을 잠금과 함께 조회
+     * SKIP LOCKED로 다른 워커가 잠근 행은 건너뛰므로 여러 노드가 같은 잡을 중복으로 가져가지 않음
+     */
+    @Query(value = """
+            SELECT * FROM generation_job
+            WHERE status = 'PENDING' AND type = :type AND available_at <= :now
+            ORDER BY available_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<GenerationJob> findClaimable(@Param("type") String type,
+                                      @Param("now") LocalDateTime now,
+                                      @Param("limit") int limit);
+
+    /**
+     * 임대가 만료된 실행 중 잡 조회 (워커 장애/재시작으로 완료 보고가 없는 잡)
+     */
+    @Query(value = """
+            SELECT * FROM generation_job
+            WHERE status = 'RUNNING' AND lease_expires_at < :now
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<GenerationJob> findExpiredLeases(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 실행 중인 잡의 임대 연장 (같은 시도일 때만 - 이미 회수되어 다시 실행된 잡은 연장하지 않음)
+     *
+     * @return 연장된 행 수 (0이면 임대를 잃음)
+     */
+    @Modifying
+    @Query("""
+            UPDATE GenerationJob j SET j.leaseExpiresAt = :leaseExpiresAt
+            WHERE j.id = :id AND j.status = :status AND j.retryCount = :attempt
+            """)
+    int renewLease(@Param("id") UUID id,
+                   @Param("attempt") int attempt,
+                   @Param("status") JobStatus status,
+                   @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM GenerationJob j WHERE j.id = :id")
+    Optional<GenerationJob> findByIdForUpdate(@Param("id") UUID id);
+
+    long countByTypeAndStatus(JobType type, JobStatus status);
+}
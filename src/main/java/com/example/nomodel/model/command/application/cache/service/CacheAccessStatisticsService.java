@@ -0,0 +1,85 @@
+package com.example.nomodel.model.command.application.cache.service;
+
+import com.example.nomodel.model.command.application.cache.support.HeavyHitters;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 캐시 워밍 대상 선정을 위한 접근 통계 서비스
+ * 실제 트래픽에서 자주 요청되는 검색 조건과 모델 상세를 슬라이딩 윈도우 Top-K로 집계
+ *
+ * - 노드 로컬 집계 (재시작 시 초기화되며, 통계가 없으면 워밍은 기본 목록만 대상으로 함)
+ * - 검색 키워드는 캐시 키와 같은 규칙(trim, 소문자, 공백 정규화)으로 묶어서 집계
+ */
+@Service
+public class CacheAccessStatisticsService {
+
+    private final HeavyHitters<SearchFilter> searchFilters;
+    private final HeavyHitters<Long> modelDetails;
+
+    public CacheAccessStatisticsService(@Value("${app.cache.warming.tracked-keys:1024}") int trackedKeys,
+                                        @Value("${app.cache.warming.window-minutes:60}") long windowMinutes) {
+        Duration window = Duration.ofMinutes(windowMinutes);
+        this.searchFilters = new HeavyHitters<>(trackedKeys, window);
+        this.modelDetails = new HeavyHitters<>(trackedKeys, window);
+    }
+
+    /**
+     * 검색 요청 기록 (페이지와 무관하게 검색 조건 + 페이지 크기 단위로 집계)
+     */
+    public void recordSearch(String cacheName, String keyword, Boolean isFree, int size) {
+        searchFilters.record(new SearchFilter(cacheName, normalize(keyword), isFree, size));
+    }
+
+    /**
+     * 모델 상세 조회 기록
+     */
+    public void recordModelDetail(Long modelId) {
+        if (modelId != null) {
+            modelDetails.record(modelId);
+        }
+    }
+
+    /**
+     * 최근 검색 중 coverage 비율을 덮는 상위 검색 조건 (최대 maxK개)
+     */
+    public List<HeavyHitters.Entry<SearchFilter>> topSearchFilters(double coverage, int maxK) {
+        return searchFilters.topCovering(coverage, maxK);
+    }
+
+    /**
+     * 최근 상세 조회 중 coverage 비율을 덮는 상위 모델 (최대 maxK개)
+     */
+    public List<HeavyHitters.Entry<Long>> topModelDetails(double coverage, int maxK) {
+        return modelDetails.topCovering(coverage, maxK);
+    }
+
+    public long totalSearches() {
+        return searchFilters.totalCount();
+    }
+
+    public long totalModelDetails() {
+        return modelDetails.totalCount();
+    }
+
+    private static String normalize(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return null;
+        }
+        return keyword.trim().toLowerCase().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 집계 단위 검색 조건
+     *
+     * @param cacheName 검색 캐시 이름 (modelSearch, adminModels)
+     * @param keyword   정규화된 키워드 (null이면 기본 목록)
+     * @param isFree    가격 조건 (null이면 전체)
+     * @param size      요청한 페이지 크기 (캐시 키에 포함되므로 같은 크기로 워밍해야 적중)
+     */
+    public record SearchFilter(String cacheName, String keyword, Boolean isFree, int size) {
+    }
+}
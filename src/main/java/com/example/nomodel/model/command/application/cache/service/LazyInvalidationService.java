@@ -2,21 +2,30 @@ package com.example.nomodel.model.command.application.cache.service;
 
 import com.example.nomodel.model.command.application.dto.response.cache.BatchStatisticsResponse;
 import com.example.nomodel.model.command.application.dto.response.cache.LazyInvalidationStatusResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * 지연 무효화 서비스
  * 검색 캐시에 대한 배치 무효화로 DB 부하 분산
+ *
+ * - dirty 캐시 목록은 단일 Redis 해시(필드: 캐시 이름, 값: 마킹 시각)로 관리하여 KEYS 스캔 없이 조회
+ * - 배치 실행 시 해시를 처리용 키로 RENAME 해 떼어낸 뒤 처리하므로, 처리 중 들어온 마킹은 다음 배치로 넘어감
+ * - 처리 도중 중단되면 처리용 키가 남아 다음 배치에서 먼저 처리
  */
 @Slf4j
 @Service
@@ -25,40 +34,38 @@ public class LazyInvalidationService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final ModelCacheEvictionService cacheEvictionService;
+    private final MeterRegistry meterRegistry;
 
     // Redis 키 상수
-    private static final String DIRTY_SEARCH_PREFIX = "cache:dirty:search:"; // 검색 캐시 마킹
+    private static final String DIRTY_SEARCH_KEY = "cache:dirty:search"; // 검색 캐시 마킹 (캐시 이름 -> 마킹 시각)
+    private static final String DIRTY_SEARCH_PROCESSING_KEY = "cache:dirty:search:processing";
     private static final String BATCH_STATS_KEY = "cache:batch_stats";
+    private static final Duration DIRTY_MARK_TTL = Duration.ofHours(1);
+
+    private static final String RUN_METRIC = "cache.lazy_invalidation.run";
+    private static final String EVICTED_METRIC = "cache.lazy_invalidation.evicted";
 
     /**
      * 검색 캐시를 지연 무효화 대상으로 마킹
      */
     public void markSearchCacheDirty(String cacheName) {
-        String key = DIRTY_SEARCH_PREFIX + cacheName;
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
 
-        redisTemplate.opsForHash().put(key, "ALL", timestamp);
-        redisTemplate.expire(key, 1, TimeUnit.HOURS); // 1시간 후 자동 삭제
+        redisTemplate.opsForHash().put(DIRTY_SEARCH_KEY, cacheName, timestamp);
+        redisTemplate.expire(DIRTY_SEARCH_KEY, DIRTY_MARK_TTL); // 1시간 동안 마킹이 없으면 자동 삭제
 
-        log.debug("검색 캐시 dirty 마킹: cache={}, key=ALL", cacheName);
+        log.debug("검색 캐시 dirty 마킹: cache={}", cacheName);
     }
 
     public List<String> getDirtyCacheNames() {
-        Set<String> dirtyKeys = redisTemplate.keys(DIRTY_SEARCH_PREFIX + "*");
-        if (dirtyKeys == null || dirtyKeys.isEmpty()) {
-            return List.of();
-        }
-        return dirtyKeys.stream()
-                .map(key -> key.substring(DIRTY_SEARCH_PREFIX.length()))
-                .sorted()
-                .toList();
+        Set<String> cacheNames = new TreeSet<>();
+        cacheNames.addAll(hashFields(DIRTY_SEARCH_KEY));
+        cacheNames.addAll(hashFields(DIRTY_SEARCH_PROCESSING_KEY));
+        return List.copyOf(cacheNames);
     }
 
     public void clearAllMarks() {
-        Set<String> dirtyKeys = redisTemplate.keys(DIRTY_SEARCH_PREFIX + "*");
-        if (dirtyKeys != null && !dirtyKeys.isEmpty()) {
-            redisTemplate.delete(dirtyKeys);
-        }
+        redisTemplate.delete(List.of(DIRTY_SEARCH_KEY, DIRTY_SEARCH_PROCESSING_KEY));
     }
 
     /**
@@ -66,42 +73,59 @@ public class LazyInvalidationService {
      * 피크 시간을 피해 DB 부하 분산
      */
     public void processDirtySearchCaches() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        int processedCount = 0;
+
         try {
-            Set<String> dirtyKeys = redisTemplate.keys(DIRTY_SEARCH_PREFIX + "*");
+            // 1. 이전 배치가 중단되어 남은 처리용 키가 있으면 그대로 사용, 없으면 현재 마킹을 떼어냄
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(DIRTY_SEARCH_PROCESSING_KEY))) {
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(DIRTY_SEARCH_KEY))) {
+                    outcome = "empty";
+                    return;
+                }
+                // 다른 노드가 먼저 떼어낸 경우 해당 노드가 처리
+                if (!Boolean.TRUE.equals(redisTemplate.renameIfAbsent(DIRTY_SEARCH_KEY, DIRTY_SEARCH_PROCESSING_KEY))) {
+                    outcome = "skipped";
+                    return;
+                }
+            }
 
-            if (dirtyKeys.isEmpty()) {
+            List<String> cacheNames = hashFields(DIRTY_SEARCH_PROCESSING_KEY).stream().sorted().toList();
+            if (cacheNames.isEmpty()) {
+                redisTemplate.delete(DIRTY_SEARCH_PROCESSING_KEY);
+                outcome = "empty";
                 return;
             }
 
-            log.info("검색 캐시 배치 무효화 시작: dirty_count={}", dirtyKeys.size());
-
-            int processedCount = 0;
-            for (String dirtyKey : dirtyKeys) {
-                String cacheName = dirtyKey.substring(DIRTY_SEARCH_PREFIX.length());
+            log.info("검색 캐시 배치 무효화 시작: dirty_count={}", cacheNames.size());
 
-                // 해당 캐시의 모든 dirty 항목 조회
-                Set<Object> dirtyItems = redisTemplate.opsForHash().keys(dirtyKey);
+            // 2. 캐시별 전체 삭제 (Redis 캐시 삭제는 SCAN 기반 배치로 수행됨)
+            cacheEvictionService.evictCaches(cacheNames);
+            processedCount = cacheNames.size();
 
-                if (dirtyItems.isEmpty()) {
-                    redisTemplate.delete(dirtyKey);
-                    continue;
-                }
-
-                cacheEvictionService.evictCache(cacheName);
-
-                redisTemplate.delete(dirtyKey);
-                processedCount++;
-
-                log.debug("검색 캐시 배치 무효화 처리: cache={}, dirty_items={}", cacheName, dirtyItems.size());
-            }
+            // 3. 처리 완료 후 처리용 키 삭제
+            redisTemplate.delete(DIRTY_SEARCH_PROCESSING_KEY);
 
             recordBatchStats("search_cache", processedCount);
+            meterRegistry.counter(EVICTED_METRIC).increment(processedCount);
 
-            log.info("검색 캐시 배치 무효화 완료: processed={}", processedCount);
+            log.info("검색 캐시 배치 무효화 완료: processed={}, caches={}", processedCount, cacheNames);
 
         } catch (Exception e) {
+            outcome = "error";
             log.error("검색 캐시 배치 무효화 실패", e);
+        } finally {
+            sample.stop(meterRegistry.timer(RUN_METRIC, "outcome", outcome));
+        }
+    }
+
+    private Set<String> hashFields(String key) {
+        Set<Object> fields = redisTemplate.opsForHash().keys(key);
+        if (fields == null || fields.isEmpty()) {
+            return Set.of();
         }
+        return fields.stream().map(String::valueOf).collect(Collectors.toSet());
     }
 
     /**
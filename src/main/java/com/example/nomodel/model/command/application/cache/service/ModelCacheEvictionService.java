@@ -4,7 +4,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
@@ -23,12 +22,10 @@ public class ModelCacheEvictionService {
     private final CacheManager cacheManager;
 
     /**
-     * 모델 삭제 시 캐시 무효화
+     * 모델 삭제 시 상세 캐시 무효화
+     * 검색 캐시는 SmartCacheEvictionService에서 태그 인덱스로 포함 페이지만 무효화
      */
-    @Caching(evict = {
-            @CacheEvict(value = "modelDetail", key = "#modelId"),
-            @CacheEvict(value = "modelSearch", allEntries = true)
-    })
+    @CacheEvict(value = "modelDetail", key = "#modelId")
     public void evictOnModelDelete(Long modelId) {
         log.info("모델 삭제로 인한 캐시 무효화: modelId={}", modelId);
     }
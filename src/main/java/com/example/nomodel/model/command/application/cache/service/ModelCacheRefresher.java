@@ -0,0 +1,67 @@
+package com.example.nomodel.model.command.application.cache.service;
+
+import com.example.nomodel._core.cache.CacheRefresher;
+import com.example.nomodel.model.command.application.dto.response.cache.ModelSearchCacheKey;
+import com.example.nomodel.model.query.service.CachedModelSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 모델 상세/검색 캐시의 조기 갱신 재적재기
+ * 캐시 워밍과 같은 경로(프록시 빈의 @CachePut 메서드, 모델 상세 캐시 갱신)로 다시 적재하여 트랜잭션/태그 기록을 그대로 적용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ModelCacheRefresher implements CacheRefresher {
+
+    private static final String MODEL_DETAIL = "modelDetail";
+    private static final String MODEL_SEARCH = "modelSearch";
+    private static final String ADMIN_MODELS = "adminModels";
+
+    private final CachedModelSearchService cachedSearchService;
+    private final ModelCacheService modelCacheService;
+
+    @Override
+    public Set<String> cacheNames() {
+        return Set.of(MODEL_DETAIL, MODEL_SEARCH, ADMIN_MODELS);
+    }
+
+    @Override
+    public boolean refresh(String cacheName, Object key) {
+        if (MODEL_DETAIL.equals(cacheName)) {
+            Long modelId = toModelId(key);
+            if (modelId == null) {
+                return false;
+            }
+            modelCacheService.updateModelDetailCache(modelId);
+            return true;
+        }
+
+        ModelSearchCacheKey.Params params = ModelSearchCacheKey.parse(String.valueOf(key));
+        if (params == null) {
+            log.debug("조기 갱신할 수 없는 검색 캐시 키: cache={}, key={}", cacheName, key);
+            return false;
+        }
+        if (ADMIN_MODELS.equals(cacheName)) {
+            cachedSearchService.refreshAdminModels(params.keyword(), params.isFree(), params.page(), params.size());
+        } else {
+            cachedSearchService.refreshSearch(params.keyword(), params.isFree(), params.page(), params.size());
+        }
+        return true;
+    }
+
+    private static Long toModelId(Object key) {
+        if (key instanceof Long modelId) {
+            return modelId;
+        }
+        try {
+            return Long.valueOf(String.valueOf(key));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
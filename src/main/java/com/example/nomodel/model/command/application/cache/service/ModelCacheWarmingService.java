@@ -1,33 +1,82 @@
 package com.example.nomodel.model.command.application.cache.service;
 
+import com.example.nomodel.model.command.application.cache.service.CacheAccessStatisticsService.SearchFilter;
+import com.example.nomodel.model.command.application.cache.support.HeavyHitters;
 import com.example.nomodel.model.query.service.CachedModelSearchService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.IntStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 모델 검색 캐시 워밍 서비스
- * 자주 조회되는 데이터를 미리 캐시에 로드
+ * 실제 트래픽 통계(CacheAccessStatisticsService)의 상위 검색 조건과 모델 상세를 미리 캐시에 로드
+ *
+ * - 캐시를 비우지 않고 새 결과로 덮어씀 (워밍 중에도 기존 캐시로 응답 가능)
+ * - 제한된 동시성으로 병렬 실행하여 DB/ES 부하를 일정하게 유지
+ * - 워밍 개수는 고정하지 않고 윈도우 전체 요청 중 target-coverage 비율을 덮는 만큼만 선정 (top-k는 상한)
+ * - 검색 조건은 실제 요청된 페이지 크기로 워밍 (크기가 캐시 키에 포함되므로 다른 크기로 채우면 적중하지 않음)
+ * - 통계가 없는 경우(기동 직후) 키워드 없는 기본 목록만 워밍
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ModelCacheWarmingService {
 
-    private final CachedModelSearchService cachedSearchService;
-    private final CacheManager cacheManager;
-    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int DEFAULT_PAGE_SIZE = 10;  // 검색 API 기본 페이지 크기 (통계가 없을 때의 기본 목록 워밍용)
     private static final int MAX_WARM_PAGES = 2; // 첫 2페이지만 워밍
+    private static final String DURATION_METRIC = "cache.warming.duration";
+    private static final String ENTRIES_METRIC = "cache.warming.entries";
+    private static final String COVERAGE_METRIC = "cache.warming.coverage";
+
+    private final CachedModelSearchService cachedSearchService;
+    private final ModelCacheService modelCacheService;
+    private final CacheAccessStatisticsService accessStatistics;
+    private final MeterRegistry meterRegistry;
+    private final int searchTopK;
+    private final int detailTopK;
+    private final double targetCoverage;
+    private final int concurrency;
+
+    private final AtomicBoolean warming = new AtomicBoolean(false);
+    // 최근 워밍이 덮은 트래픽 비율 (0~1, double 비트로 저장)
+    private final Map<String, AtomicLong> coverage = new ConcurrentHashMap<>();
+
+    public ModelCacheWarmingService(CachedModelSearchService cachedSearchService,
+                                    ModelCacheService modelCacheService,
+                                    CacheAccessStatisticsService accessStatistics,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.cache.warming.search-top-k:20}") int searchTopK,
+                                    @Value("${app.cache.warming.detail-top-k:100}") int detailTopK,
+                                    @Value("${app.cache.warming.target-coverage:0.8}") double targetCoverage,
+                                    @Value("${app.cache.warming.concurrency:4}") int concurrency) {
+        this.cachedSearchService = cachedSearchService;
+        this.modelCacheService = modelCacheService;
+        this.accessStatistics = accessStatistics;
+        this.meterRegistry = meterRegistry;
+        this.searchTopK = searchTopK;
+        this.detailTopK = detailTopK;
+        this.targetCoverage = targetCoverage;
+        this.concurrency = Math.max(1, concurrency);
+    }
 
     /**
      * 애플리케이션 시작 시 캐시 워밍
@@ -36,85 +85,136 @@ public class ModelCacheWarmingService {
     @EventListener(ApplicationReadyEvent.class)
     @Async
     public void warmUpCachesOnStartup() {
-        log.info("애플리케이션 시작 - 캐시 초기화 및 워밍 시작");
-
-        try {
-            clearCaches();
-
-            CompletableFuture<Void> generalSearch = warmUpGeneralSearch();
-
-            CompletableFuture.allOf(
-                    generalSearch
-            ).join();
-
-            log.info("캐시 초기화 및 워밍 완료");
-        } catch (Exception e) {
-            log.error("캐시 초기화/워밍 중 오류 발생", e);
-        }
+        log.info("애플리케이션 시작 - 캐시 워밍 시작");
+        warmUp("startup");
     }
 
     /**
      * 매일 새벽 4시에 캐시 재워밍
-     * 캐시 정리 후 자주 사용되는 데이터 재로드
+     * 최근 트래픽 기준 상위 항목을 새 데이터로 덮어씀
      */
     @Scheduled(cron = "0 0 4 * * ?")
     @Async
     public void scheduledCacheWarming() {
         log.info("스케줄된 캐시 워밍 시작");
-        warmUpCachesOnStartup();
+        warmUp("scheduled");
     }
 
-    private void clearCaches() {
+    /**
+     * 상위 검색 조건/모델 상세 워밍 (동시에 하나의 워밍만 실행)
+     */
+    public void warmUp(String trigger) {
+        if (!warming.compareAndSet(false, true)) {
+            log.info("이미 캐시 워밍이 진행 중이므로 건너뜀: trigger={}", trigger);
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency,
+                Thread.ofPlatform().name("cache-warming-", 0).daemon(true).factory());
         try {
-            var modelSearchCache = cacheManager.getCache("modelSearch");
-            if (modelSearchCache != null) {
-                modelSearchCache.clear();
+            List<HeavyHitters.Entry<SearchFilter>> topFilters = accessStatistics.topSearchFilters(targetCoverage, searchTopK);
+            List<HeavyHitters.Entry<Long>> topModels = accessStatistics.topModelDetails(targetCoverage, detailTopK);
+
+            List<Future<Boolean>> searchTasks = submitSearchWarming(executor, topFilters);
+            List<Future<Boolean>> detailTasks = submitDetailWarming(executor, topModels);
+
+            int searchWarmed = await(searchTasks, "modelSearch");
+            int detailWarmed = await(detailTasks, "modelDetail");
+
+            recordCoverage("search", sumCounts(topFilters), accessStatistics.totalSearches());
+            recordCoverage("detail", sumCounts(topModels), accessStatistics.totalModelDetails());
+
+            log.info("캐시 워밍 완료: trigger={}, searchPages={}/{}, modelDetails={}/{}",
+                    trigger, searchWarmed, searchTasks.size(), detailWarmed, detailTasks.size());
+        } catch (Exception e) {
+            log.error("캐시 워밍 중 오류 발생: trigger={}", trigger, e);
+        } finally {
+            executor.shutdownNow();
+            sample.stop(meterRegistry.timer(DURATION_METRIC, "trigger", trigger));
+            warming.set(false);
+        }
+    }
+
+    private List<Future<Boolean>> submitSearchWarming(ExecutorService executor,
+                                                      List<HeavyHitters.Entry<SearchFilter>> topFilters) {
+        // 통계 상위 조건 + 키워드 없는 기본 목록 (기동 직후에도 첫 화면은 워밍)
+        Set<SearchFilter> filters = new LinkedHashSet<>();
+        topFilters.forEach(entry -> filters.add(entry.key()));
+        for (Boolean isFree : new Boolean[]{null, true, false}) {
+            filters.add(new SearchFilter("modelSearch", null, isFree, DEFAULT_PAGE_SIZE));
+        }
+
+        List<Future<Boolean>> tasks = new ArrayList<>();
+        for (SearchFilter filter : filters) {
+            for (int page = 0; page < MAX_WARM_PAGES; page++) {
+                int warmPage = page;
+                tasks.add(executor.submit(() -> warmSearchPage(filter, warmPage)));
             }
-            var adminModelsCache = cacheManager.getCache("adminModels");
-            if (adminModelsCache != null) {
-                adminModelsCache.clear();
+        }
+        return tasks;
+    }
+
+    private List<Future<Boolean>> submitDetailWarming(ExecutorService executor,
+                                                      List<HeavyHitters.Entry<Long>> topModels) {
+        List<Future<Boolean>> tasks = new ArrayList<>();
+        topModels.forEach(entry -> tasks.add(executor.submit(() -> warmModelDetail(entry.key()))));
+        return tasks;
+    }
+
+    private boolean warmSearchPage(SearchFilter filter, int page) {
+        try {
+            if ("adminModels".equals(filter.cacheName())) {
+                cachedSearchService.refreshAdminModels(filter.keyword(), filter.isFree(), page, filter.size());
+            } else {
+                cachedSearchService.refreshSearch(filter.keyword(), filter.isFree(), page, filter.size());
             }
-            log.info("검색 캐시 초기화 완료");
+            log.debug("검색 캐시 워밍: filter={}, page={}", filter, page);
+            return true;
         } catch (Exception e) {
-            log.warn("검색 캐시 초기화 실패", e);
+            log.warn("검색 캐시 워밍 실패: filter={}, page={}", filter, page, e);
+            return false;
         }
     }
 
-    /**
-     * 일반 검색 캐시 워밍 (자주 검색되는 키워드)
-     */
-    @Async
-    public CompletableFuture<Void> warmUpGeneralSearch() {
-        log.debug("일반 검색 캐시 워밍 시작");
-
-        // 자주 검색되는 키워드 리스트 (실제로는 통계 기반으로 동적 생성 가능)
-        List<String> popularKeywords = Arrays.asList(
-                null,  // 전체 검색
-                "AI",
-                "이미지",
-                "텍스트",
-                "생성"
-        );
-
-        // 무료/유료 필터 조합
-        List<Boolean> freeFilters = Arrays.asList(null, true, false);
-
-        popularKeywords.forEach(keyword -> {
-            freeFilters.forEach(isFree -> {
-                IntStream.range(0, MAX_WARM_PAGES).forEach(page -> {
-                    try {
-                        cachedSearchService.search(keyword, isFree, page, DEFAULT_PAGE_SIZE);
-                        log.debug("일반 검색 캐시 워밍: keyword={}, isFree={}, page={}",
-                                keyword, isFree, page);
-                    } catch (Exception e) {
-                        log.warn("일반 검색 캐시 워밍 실패: keyword={}, isFree={}, page={}",
-                                keyword, isFree, page, e);
-                    }
-                });
-            });
-        });
-
-        return CompletableFuture.completedFuture(null);
+    private boolean warmModelDetail(Long modelId) {
+        try {
+            modelCacheService.updateModelDetailCache(modelId);
+            return true;
+        } catch (Exception e) {
+            // 삭제된 모델 등은 건너뜀
+            log.debug("모델 상세 캐시 워밍 실패: modelId={}", modelId, e);
+            return false;
+        }
     }
 
+    private int await(List<Future<Boolean>> tasks, String cacheName) throws InterruptedException {
+        int succeeded = 0;
+        for (Future<Boolean> task : tasks) {
+            try {
+                if (Boolean.TRUE.equals(task.get())) {
+                    succeeded++;
+                }
+            } catch (ExecutionException e) {
+                log.warn("캐시 워밍 작업 실패: cache={}", cacheName, e.getCause());
+            }
+        }
+        meterRegistry.counter(ENTRIES_METRIC, "cache", cacheName, "result", "success").increment(succeeded);
+        meterRegistry.counter(ENTRIES_METRIC, "cache", cacheName, "result", "failure").increment(tasks.size() - succeeded);
+        return succeeded;
+    }
+
+    private void recordCoverage(String type, long coveredCount, long totalCount) {
+        double ratio = totalCount == 0 ? 0.0 : (double) coveredCount / totalCount;
+        coverage.computeIfAbsent(type, key -> {
+            AtomicLong holder = new AtomicLong();
+            meterRegistry.gauge(COVERAGE_METRIC, Tags.of("type", key),
+                    holder, value -> Double.longBitsToDouble(value.get()));
+            return holder;
+        }).set(Double.doubleToLongBits(ratio));
+    }
+
+    private static <K> long sumCounts(List<HeavyHitters.Entry<K>> entries) {
+        return entries.stream().mapToLong(HeavyHitters.Entry::count).sum();
+    }
 }
@@ -0,0 +1,94 @@
+package com.example.nomodel.model.command.application.cache.service;
+
+import com.example.nomodel.model.command.application.cache.support.FrequencySketch;
+import com.example.nomodel.model.command.application.dto.response.cache.ModelSearchCacheKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 검색 캐시 입장(admission) 정책 서비스
+ * 키워드 검색은 최근 조회 빈도가 임계값 이상인 인기 검색 조건만 캐시에 저장
+ *
+ * - 키워드 없는 기본 검색: 항상 캐싱
+ * - 키워드 검색: 정규화된 (키워드 + 필터) 빈도가 threshold 이상일 때만 캐싱
+ * - 한 번만 검색되는 롱테일 키워드가 Redis 캐시를 오염시키지 않도록 차단
+ */
+@Slf4j
+@Service
+public class SearchCacheAdmissionService {
+
+    private static final int MAX_CACHEABLE_PAGE = 2;
+    private static final int MAX_CACHEABLE_SIZE = 20;
+    private static final String ADMISSION_METRIC = "model.search.cache.admission";
+
+    private final MeterRegistry meterRegistry;
+    private final CacheAccessStatisticsService accessStatistics;
+    private final FrequencySketch frequencySketch;
+    private final int admissionThreshold;
+
+    public SearchCacheAdmissionService(MeterRegistry meterRegistry,
+                                       CacheAccessStatisticsService accessStatistics,
+                                       @Value("${app.cache.search-admission.threshold:3}") int admissionThreshold,
+                                       @Value("${app.cache.search-admission.expected-keywords:4096}") int expectedKeywords) {
+        this.meterRegistry = meterRegistry;
+        this.accessStatistics = accessStatistics;
+        this.admissionThreshold = admissionThreshold;
+        this.frequencySketch = new FrequencySketch(expectedKeywords);
+    }
+
+    /**
+     * 검색 결과 캐싱 여부 판단
+     * {@code @Cacheable(condition)}에서 호출되며, 호출마다 검색 조건의 빈도를 1 증가시킨다.
+     * 모든 검색 요청이 거쳐가므로 캐시 워밍용 접근 통계도 함께 기록한다. (캐싱하지 않는 페이지 크기는 워밍 대상이 아니므로 제외)
+     */
+    public boolean shouldCache(String cacheName, String keyword, Boolean isFree, int page, int size) {
+        if (size <= MAX_CACHEABLE_SIZE) {
+            accessStatistics.recordSearch(cacheName, keyword, isFree, size);
+        }
+
+        if (page > MAX_CACHEABLE_PAGE || size > MAX_CACHEABLE_SIZE) {
+            recordDecision(cacheName, "out_of_range");
+            return false;
+        }
+
+        if (keyword == null || keyword.trim().isEmpty()) {
+            recordDecision(cacheName, "default");
+            return true;
+        }
+
+        String filterKey = cacheName + ":" + ModelSearchCacheKey.generateFilterKey(keyword, isFree);
+        int frequency = frequencySketch.increment(filterKey);
+        boolean admitted = frequency >= admissionThreshold;
+
+        recordDecision(cacheName, admitted ? "admitted" : "rejected");
+        log.trace("검색 캐시 admission 판단: key={}, frequency={}, admitted={}", filterKey, frequency, admitted);
+        return admitted;
+    }
+
+    /**
+     * 이미 입장 판단이 끝난 검색 조건이 캐시에 저장되는지 확인 (빈도를 증가시키지 않음)
+     * 캐시 미스 처리 중 결과 페이지를 태그 인덱스에 기록할지 결정할 때 사용
+     */
+    public boolean isAdmitted(String cacheName, String keyword, Boolean isFree, int page, int size) {
+        if (page > MAX_CACHEABLE_PAGE || size > MAX_CACHEABLE_SIZE) {
+            return false;
+        }
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return true;
+        }
+        return estimateFrequency(cacheName, keyword, isFree) >= admissionThreshold;
+    }
+
+    /**
+     * 검색 조건의 현재 추정 빈도 조회 (디버깅용)
+     */
+    public int estimateFrequency(String cacheName, String keyword, Boolean isFree) {
+        return frequencySketch.frequency(cacheName + ":" + ModelSearchCacheKey.generateFilterKey(keyword, isFree));
+    }
+
+    private void recordDecision(String cacheName, String decision) {
+        meterRegistry.counter(ADMISSION_METRIC, "cache", cacheName, "decision", decision).increment();
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.nomodel.model.command.application.cache.service;
+
+import com.example.nomodel.model.command.application.dto.response.cache.ModelSearchCacheKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 캐시 태그 인덱스 서비스
+ * 캐시된 검색 페이지가 어떤 모델/검색 조건을 포함하는지 기록해 두고, 모델 변경 시 영향받는 페이지만 무효화
+ *
+ * - 모델 태그: cache:tags:{cache}:model:{modelId} → 해당 모델이 포함된 페이지 키
+ * - 조건 태그: cache:tags:{cache}:filter:{filterKey} → 같은 검색 조건의 모든 페이지 키
+ * - 조건 목록: cache:tags:{cache}:filters → 현재 캐시된 검색 조건 키
+ * - 태그 TTL은 검색 캐시(L2) TTL과 동일하게 유지하여 만료된 페이지의 태그가 남지 않도록 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchCacheTagService {
+
+    private static final String TAG_PREFIX = "cache:tags:";
+    private static final Duration TAG_TTL = Duration.ofHours(2);  // RedisCacheConfig의 검색 캐시 TTL과 동일
+    private static final String DEFAULT_KEYWORD = "ALL";
+    private static final String EVICTED_METRIC = "cache.search.tag.evicted";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 캐시에 저장되는 검색 페이지의 태그 기록
+     * 파이프라인으로 한 번에 전송하며, 실패해도 검색 응답에는 영향을 주지 않음
+     */
+    public void recordPage(String cacheName, String cacheKey, Collection<Long> modelIds) {
+        String filterKey = ModelSearchCacheKey.filterKeyOf(cacheKey);
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (Long modelId : modelIds) {
+                        String modelTag = modelTagKey(cacheName, modelId);
+                        ops.opsForSet().add(modelTag, cacheKey);
+                        ops.expire(modelTag, TAG_TTL);
+                    }
+                    String filterTag = filterTagKey(cacheName, filterKey);
+                    ops.opsForSet().add(filterTag, cacheKey);
+                    ops.expire(filterTag, TAG_TTL);
+                    ops.opsForSet().add(filterRegistryKey(cacheName), filterKey);
+                    ops.expire(filterRegistryKey(cacheName), TAG_TTL);
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("검색 캐시 태그 기록 실패: cache={}, key={}", cacheName, cacheKey, e);
+        }
+    }
+
+    /**
+     * 모델이 포함된 페이지만 무효화
+     * 페이지 내 모델 정보(가격, 평점 등)만 바뀌고 검색 결과 구성은 그대로인 경우 사용
+     */
+    public int evictPagesContaining(String cacheName, Long modelId) {
+        String modelTag = modelTagKey(cacheName, modelId);
+        Set<String> cacheKeys = members(modelTag);
+        redisTemplate.delete(modelTag);
+        return evictKeys(cacheName, cacheKeys, "model");
+    }
+
+    /**
+     * 모델이 포함된 페이지의 검색 조건 전체(모든 페이지)를 무효화
+     * 모델이 결과에서 빠지거나 순서가 바뀌어 뒤쪽 페이지가 밀리는 경우 사용
+     */
+    public int evictFiltersContaining(String cacheName, Long modelId) {
+        String modelTag = modelTagKey(cacheName, modelId);
+        Set<String> filterKeys = new HashSet<>();
+        members(modelTag).forEach(cacheKey -> filterKeys.add(ModelSearchCacheKey.filterKeyOf(cacheKey)));
+        redisTemplate.delete(modelTag);
+        return evictFilters(cacheName, filterKeys, "model_filter");
+    }
+
+    /**
+     * 모델이 새로 포함될 수 있는 검색 조건의 모든 페이지를 무효화
+     * - 키워드 없는 기본 목록: 가격 조건이 맞으면 항상 포함 (최신순이므로 모든 페이지가 밀림)
+     * - 키워드 검색: 키워드 토큰 중 하나라도 모델 이름/프롬프트/태그에 포함되거나,
+     *   검색 쿼리의 fuzziness AUTO와 같은 편집 거리 안의 단어가 있으면 대상
+     * - 검색 엔진 분석기(형태소/동의어 등)와 완전히 같지는 않으므로, 분석 결과로만 매칭되는 조건은 TTL까지 남을 수 있음
+     *
+     * @param searchableText 모델 이름, 프롬프트, 태그를 이어 붙인 검색 대상 텍스트
+     * @param isFree         모델의 무료 여부 (null이면 가격 조건과 무관하게 대상)
+     */
+    public int evictFiltersMatching(String cacheName, String searchableText, Boolean isFree) {
+        String text = searchableText == null ? "" : searchableText.toLowerCase(Locale.ROOT);
+        List<String> words = words(text);
+        Set<String> matched = new HashSet<>();
+        for (String filterKey : members(filterRegistryKey(cacheName))) {
+            if (matchesFilter(filterKey, text, words, isFree)) {
+                matched.add(filterKey);
+            }
+        }
+        return evictFilters(cacheName, matched, "filter_match");
+    }
+
+    /**
+     * 검색 조건 키(키워드_가격조건)가 모델과 매칭되는지 판단
+     * 검색 엔진의 분석 결과와 완전히 같지는 않으므로 포함 관계 기반의 넓은 매칭을 사용
+     */
+    static boolean matchesFilter(String filterKey, String lowerCaseText, Boolean isFree) {
+        return matchesFilter(filterKey, lowerCaseText, words(lowerCaseText), isFree);
+    }
+
+    private static boolean matchesFilter(String filterKey, String lowerCaseText, List<String> words, Boolean isFree) {
+        int separator = filterKey.lastIndexOf('_');
+        if (separator < 0) {
+            return true;
+        }
+        String keyword = filterKey.substring(0, separator);
+        String priceCondition = filterKey.substring(separator + 1);
+
+        if (isFree != null && !"ANY".equals(priceCondition)
+                && !priceCondition.equals(isFree ? "FREE" : "PAID")) {
+            return false;
+        }
+        if (DEFAULT_KEYWORD.equals(keyword)) {
+            return true;
+        }
+        return Arrays.stream(keyword.split("-"))
+                .filter(token -> !token.isBlank())
+                .anyMatch(token -> lowerCaseText.contains(token) || fuzzyMatches(token, words));
+    }
+
+    /**
+     * fuzziness AUTO 규칙의 편집 거리 매칭 (1~2자: 일치만, 3~5자: 1, 6자 이상: 2)
+     */
+    static boolean fuzzyMatches(String token, List<String> words) {
+        int maxEdits = token.length() <= 2 ? 0 : token.length() <= 5 ? 1 : 2;
+        if (maxEdits == 0) {
+            return false;
+        }
+        for (String word : words) {
+            if (Math.abs(word.length() - token.length()) <= maxEdits && editDistance(token, word, maxEdits) <= maxEdits) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 편집 거리 (maxEdits를 넘는 것이 확실하면 maxEdits + 1을 반환하고 중단)
+     */
+    private static int editDistance(String a, String b, int maxEdits) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static List<String> words(String lowerCaseText) {
+        return Arrays.stream(lowerCaseText.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isBlank())
+                .distinct()
+                .toList();
+    }
+
+    private int evictFilters(String cacheName, Set<String> filterKeys, String reason) {
+        if (filterKeys.isEmpty()) {
+            return 0;
+        }
+        Set<String> cacheKeys = new HashSet<>();
+        List<String> filterTags = filterKeys.stream().map(filterKey -> filterTagKey(cacheName, filterKey)).toList();
+        filterTags.forEach(filterTag -> cacheKeys.addAll(members(filterTag)));
+
+        redisTemplate.delete(filterTags);
+        redisTemplate.opsForSet().remove(filterRegistryKey(cacheName), filterKeys.toArray());
+        return evictKeys(cacheName, cacheKeys, reason);
+    }
+
+    private int evictKeys(String cacheName, Set<String> cacheKeys, String reason) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || cacheKeys.isEmpty()) {
+            return 0;
+        }
+        cacheKeys.forEach(cache::evict);
+        meterRegistry.counter(EVICTED_METRIC, "cache", cacheName, "reason", reason).increment(cacheKeys.size());
+        log.debug("검색 캐시 선택적 무효화: cache={}, reason={}, pages={}", cacheName, reason, cacheKeys.size());
+        return cacheKeys.size();
+    }
+
+    private Set<String> members(String key) {
+        Set<String> members = redisTemplate.opsForSet().members(key);
+        return members != null ? members : Set.of();
+    }
+
+    private static String modelTagKey(String cacheName, Long modelId) {
+        return TAG_PREFIX + cacheName + ":model:" + modelId;
+    }
+
+    private static String filterTagKey(String cacheName, String filterKey) {
+        return TAG_PREFIX + cacheName + ":filter:" + filterKey;
+    }
+
+    private static String filterRegistryKey(String cacheName) {
+        return TAG_PREFIX + cacheName + ":filters";
+    }
+}
@@ -1,12 +1,16 @@
 package com.example.nomodel.model.command.application.cache.service;
 
 import com.example.nomodel.model.command.application.dto.response.cache.SmartCacheStatusResponse;
-import com.example.nomodel.model.command.domain.event.ModelCreatedEvent;
 import com.example.nomodel.model.command.domain.event.ModelDeletedEvent;
+import com.example.nomodel.model.command.domain.event.ModelIndexedEvent;
 import com.example.nomodel.model.command.domain.event.ModelUpdateEvent;
+import com.example.nomodel.model.command.domain.model.AIModel;
+import com.example.nomodel.model.command.domain.model.document.AIModelDocument;
+import com.example.nomodel.model.command.domain.repository.AIModelJpaRepository;
 import com.example.nomodel.review.application.event.ReviewEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.transaction.event.TransactionPhase;
@@ -18,6 +22,13 @@ import java.util.List;
 /**
  * 스마트 캐시 무효화 서비스
  * 선택적 업데이트와 지연 무효화를 통한 효율적인 캐시 관리
+ *
+ * 모델 상세 캐시는 커밋 직후 갱신하고, 검색 페이지 캐시는 아웃박스 릴레이가 색인에 반영한 뒤(ModelIndexedEvent) 무효화
+ * (커밋 직후 무효화하면 릴레이 반영 전 검색이 이전 색인 결과로 캐시를 다시 채워 TTL까지 남음)
+ *
+ * 검색 캐시는 SearchCacheTagService의 태그 인덱스로 영향받는 페이지만 무효화
+ * - 모델이 지금 포함된 페이지: 태그 인덱스의 모델 소속 페이지(의 검색 조건)
+ * - 모델이 새로 포함될 수 있는 페이지(생성/공개 전환, 유료→무료, 이름/프롬프트 변경): 모델과 매칭되는 검색 조건의 페이지 (조건 전체 스캔)
  */
 @Slf4j
 @Service
@@ -27,28 +38,14 @@ public class SmartCacheEvictionService {
     private final ModelCacheEvictionService cacheEvictionService;
     private final ModelCacheService modelCacheService;
     private final LazyInvalidationService lazyInvalidationService;
+    private final SearchCacheTagService tagService;
+    private final AIModelJpaRepository modelRepository;
 
-    /**
-     * 모델 생성 시 캐시 처리
-     * 즉시 검색 캐시에 추가 (성능 중요)
-     */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onModelCreated(ModelCreatedEvent event) {
-        log.info("모델 생성 이벤트 처리: modelId={}, isPublic={}",
-                event.getModelId(), event.isPublic());
-
-        if (event.isPublic()) {
-            cacheEvictionService.evictCache("modelSearch");
-
-            if ("ADMIN".equalsIgnoreCase(event.getOwnType())) {
-                lazyInvalidationService.markSearchCacheDirty("adminModels");
-            }
-        }
-    }
+    private static final String MODEL_SEARCH = "modelSearch";
+    private static final String ADMIN_MODELS = "adminModels";
 
     /**
-     * 모델 업데이트 시 선택적 캐시 처리
+     * 모델 업데이트 시 모델 상세 캐시 갱신
      */
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -56,39 +53,22 @@ public class SmartCacheEvictionService {
         log.info("모델 업데이트 이벤트: modelId={}, type={}",
                 event.getModelId(), event.getUpdateType());
 
-        switch (event.getUpdateType()) {
-            case "PRICE":
-                handlePriceUpdate(event);
-                break;
-            case "VISIBILITY":
-                handleVisibilityUpdate(event);
-                break;
-            case "BASIC_INFO":
-                handleBasicInfoUpdate(event);
-                break;
-            case "FILES":
-                handleFilesUpdate(event);
-                break;
-            default:
-                // 기본: 모델 상세만 캐시 갱신
-                modelCacheService.updateModelDetailCache(event.getModelId());
-        }
+        modelCacheService.updateModelDetailCache(event.getModelId());
     }
 
     /**
-     * 모델 삭제 시 즉시 무효화 (필수)
+     * 모델 삭제 시 모델 상세 캐시 즉시 무효화
      */
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onModelDeleted(ModelDeletedEvent event) {
         log.info("모델 삭제 이벤트: modelId={}", event.getModelId());
 
-        // 삭제는 즉시 처리 (잘못된 데이터 노출 방지)
         cacheEvictionService.evictOnModelDelete(event.getModelId());
     }
 
     /**
-     * 리뷰 변경 시 선택적 캐시 갱신
+     * 리뷰 변경 시 모델 상세 캐시 갱신 (리뷰 정보 포함)
      */
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -96,67 +76,63 @@ public class SmartCacheEvictionService {
         log.info("리뷰 변경 이벤트: modelId={}, action={}",
                 event.getModelId(), event.getAction());
 
-        // 모델 상세는 즉시 갱신 (리뷰 정보 포함)
         modelCacheService.updateModelDetailCache(event.getModelId());
-
-        // 평점 변화는 검색 결과 순서에 영향을 주므로 검색 캐시 지연 무효화
-        lazyInvalidationService.markSearchCacheDirty("modelSearch");
-        lazyInvalidationService.markSearchCacheDirty("adminModels");
     }
 
     /**
-     * 가격 변경 처리 - 중요도 높음
+     * 색인 반영 후 검색 페이지 캐시 무효화 (릴레이 스레드에서 동기 실행)
+     * - MODEL: 모델이 포함된 검색 조건과 변경 후 모델과 매칭되는 검색 조건 (다른 조건의 결과에 새로 들어갈 수 있으므로 항상 둘 다)
+     * - DELETE: 모델이 포함된 검색 조건
+     * - REVIEW: 평점은 정렬 기준이 아니므로 모델이 포함된 페이지만
+     * - COUNTERS: 조회수/사용 횟수는 목록에서 TTL만큼의 지연을 허용하므로 무효화하지 않음
      */
-    private void handlePriceUpdate(ModelUpdateEvent event) {
-        // 모델 상세 즉시 갱신
-        modelCacheService.updateModelDetailCache(event.getModelId());
-
-        // 가격 정보는 즉시 반영되도록 검색 캐시 무효화
-        cacheEvictionService.evictCache("modelSearch");
-        cacheEvictionService.evictCache("adminModels");
-
-        // 배치가 캐시를 다시 채우도록 지연 무효화 마킹
-        lazyInvalidationService.markSearchCacheDirty("modelSearch");
-        lazyInvalidationService.markSearchCacheDirty("adminModels");
+    @EventListener
+    public void onModelIndexed(ModelIndexedEvent event) {
+        event.getChanges().forEach((modelId, changeType) -> {
+            switch (changeType) {
+                case MODEL -> {
+                    evictSearchFiltersContaining(modelId);
+                    evictSearchPagesMatching(modelId);
+                }
+                case DELETE -> evictSearchFiltersContaining(modelId);
+                case REVIEW -> {
+                    tagService.evictPagesContaining(MODEL_SEARCH, modelId);
+                    tagService.evictPagesContaining(ADMIN_MODELS, modelId);
+                }
+            }
+        });
     }
 
     /**
-     * 공개 상태 변경 - 즉시 처리 필요
+     * 모델이 새로 포함될 수 있는 검색 조건의 페이지 무효화 (캐시된 검색 조건 전체를 매칭 검사)
+     * 조회할 수 없거나 비공개면 나타날 페이지가 없으므로 생략
      */
-    private void handleVisibilityUpdate(ModelUpdateEvent event) {
-        Boolean newVisibility = (Boolean) event.getNewValue();
-
-        // 모델 상세 즉시 갱신
-        modelCacheService.updateModelDetailCache(event.getModelId());
-
-        if (Boolean.TRUE.equals(newVisibility)) {
-            // 공개로 변경 - 검색 결과에 나타나야 함
-            lazyInvalidationService.markSearchCacheDirty("modelSearch");
-            lazyInvalidationService.markSearchCacheDirty("adminModels");
-        } else {
-            // 비공개로 변경 - 즉시 제거
-            cacheEvictionService.evictAllSearchCaches();
+    private void evictSearchPagesMatching(Long modelId) {
+        AIModel model = modelRepository.findById(modelId).orElse(null);
+        if (model == null || !model.isPublic()) {
+            return;
         }
-    }
 
-    /**
-     * 기본 정보 변경 - 점진적 갱신
-     */
-    private void handleBasicInfoUpdate(ModelUpdateEvent event) {
-        // 모델 상세 즉시 갱신
-        modelCacheService.updateModelDetailCache(event.getModelId());
+        // 검색 쿼리가 매칭하는 필드(이름/프롬프트/태그)를 모두 포함
+        String searchableText = model.getModelName() + " "
+                + (model.getModelMetadata() != null ? model.getModelMetadata().getPrompt() : "") + " "
+                + String.join(" ", AIModelDocument.extractTags(model));
+        Boolean isFree = !model.isPaidModel();
 
-        // 검색 관련은 지연 처리
-        lazyInvalidationService.markSearchCacheDirty("modelSearch");
-        lazyInvalidationService.markSearchCacheDirty("adminModels");
+        int evicted = tagService.evictFiltersMatching(MODEL_SEARCH, searchableText, isFree);
+        if (model.isAdminModel()) {
+            evicted += tagService.evictFiltersMatching(ADMIN_MODELS, searchableText, isFree);
+        }
+        log.debug("매칭 검색 캐시 무효화: modelId={}, evictedPages={}", modelId, evicted);
     }
 
     /**
-     * 파일 변경 - 모델 상세만 영향
+     * 모델이 포함된 페이지의 검색 조건(모든 페이지) 무효화 (태그 인덱스 조회)
      */
-    private void handleFilesUpdate(ModelUpdateEvent event) {
-        // 파일 정보는 모델 상세에만 포함
-        modelCacheService.updateModelDetailCache(event.getModelId());
+    private void evictSearchFiltersContaining(Long modelId) {
+        int evicted = tagService.evictFiltersContaining(MODEL_SEARCH, modelId)
+                + tagService.evictFiltersContaining(ADMIN_MODELS, modelId);
+        log.debug("모델 포함 검색 캐시 무효화: modelId={}, evictedPages={}", modelId, evicted);
     }
 
     /**
@@ -0,0 +1,93 @@
+package com.example.nomodel.model.command.application.cache.support;
+
+/**
+ * 검색 키 빈도 추정을 위한 Count-Min Sketch (TinyLFU 방식)
+ * 키 자체를 저장하지 않고 고정 크기 카운터 테이블로 조회 빈도를 근사
+ *
+ * - 4개 해시 행 중 최솟값을 빈도로 사용 (과대 추정만 발생, 과소 추정 없음)
+ * - 카운터는 15에서 포화
+ * - 누적 증가가 sampleSize에 도달하면 모든 카운터를 절반으로 줄여 오래된 인기도를 감쇠
+ */
+public class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int SAMPLE_FACTOR = 10;
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+
+    private final int[][] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * @param expectedKeys 윈도우 내 예상 고유 키 수 (2의 거듭제곱으로 올림)
+     */
+    public FrequencySketch(int expectedKeys) {
+        int width = 1 << (32 - Integer.numberOfLeadingZeros(Math.max(16, expectedKeys) - 1));
+        this.table = new int[DEPTH][width];
+        this.mask = width - 1;
+        this.sampleSize = width * SAMPLE_FACTOR;
+    }
+
+    /**
+     * 키의 빈도를 1 증가시키고 증가 후 추정 빈도를 반환
+     */
+    public synchronized int increment(String key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        int estimate = Integer.MAX_VALUE;
+
+        for (int row = 0; row < DEPTH; row++) {
+            int index = indexOf(hash, row);
+            if (table[row][index] < MAX_COUNT) {
+                table[row][index]++;
+                added = true;
+            }
+            estimate = Math.min(estimate, table[row][index]);
+        }
+
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+        return estimate;
+    }
+
+    /**
+     * 키의 추정 빈도 조회 (증가 없음)
+     */
+    public synchronized int frequency(String key) {
+        int hash = spread(key.hashCode());
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, table[row][indexOf(hash, row)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * 모든 카운터를 절반으로 감쇠 (aging)
+     */
+    private void reset() {
+        for (int[] row : table) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>>= 1;
+            }
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(int hash, int row) {
+        long x = (hash + SEEDS[row]) * SEEDS[row];
+        x += x >>> 32;
+        return (int) x & mask;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.nomodel.model.command.application.cache.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 슬라이딩 윈도우 Top-K 빈도 집계 (Space-Saving 알고리즘)
+ * 고정된 수의 카운터만 유지하면서 가장 자주 등장한 키를 근사적으로 추적
+ *
+ * - 카운터가 가득 차면 최소 카운터를 새 키로 교체 (교체된 키는 최소값 + 1에서 시작, 과대 추정만 발생)
+ * - 현재/직전 두 윈도우를 유지하고, 순위는 두 윈도우 합으로 계산 (최근 1~2 윈도우의 트래픽 반영)
+ * - 현재 윈도우는 Stream-Summary(같은 빈도의 키를 묶은 버킷의 정렬 리스트)로 유지하여
+ *   기록/최소 카운터 교체를 카운터 수와 무관하게 O(1)로 처리 (요청 경로에서 호출되므로 락 구간을 짧게 유지)
+ */
+public class HeavyHitters<K> {
+
+    private final int capacity;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    private StreamSummary<K> current = new StreamSummary<>();
+    private Map<K, Long> previous = new HashMap<>();
+    private long currentTotal;
+    private long previousTotal;
+    private long windowStart;
+
+    /**
+     * @param capacity 윈도우당 유지할 최대 키 수 (조회할 Top-K보다 충분히 크게)
+     * @param window   윈도우 길이
+     */
+    public HeavyHitters(int capacity, Duration window) {
+        this(capacity, window, System::nanoTime);
+    }
+
+    HeavyHitters(int capacity, Duration window, LongSupplier nanoClock) {
+        this.capacity = Math.max(1, capacity);
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+        this.windowStart = nanoClock.getAsLong();
+    }
+
+    /**
+     * 키의 등장 횟수 1 증가
+     */
+    public synchronized void record(K key) {
+        rotateIfExpired();
+        currentTotal++;
+
+        if (current.contains(key) || current.size() < capacity) {
+            current.increment(key);
+        } else {
+            // 가득 찬 경우 최소 카운터를 교체
+            current.replaceMin(key);
+        }
+    }
+
+    /**
+     * 최근 두 윈도우 기준 상위 k개 키 (빈도 내림차순)
+     */
+    public synchronized List<Entry<K>> topK(int k) {
+        rotateIfExpired();
+        return merged().entrySet().stream()
+                .sorted(Map.Entry.<K, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(Math.max(0, k))
+                .map(entry -> new Entry<>(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * 최근 두 윈도우 전체 기록 중 coverage 비율을 덮는 최소 상위 키 (빈도 내림차순, 최대 maxK개)
+     * 트래픽이 소수 키에 몰리면 적게, 넓게 퍼지면 많이 반환
+     *
+     * @param coverage 덮을 기록 비율 (0~1)
+     * @param maxK     반환할 최대 키 수
+     */
+    public synchronized List<Entry<K>> topCovering(double coverage, int maxK) {
+        rotateIfExpired();
+        long target = (long) Math.ceil((currentTotal + previousTotal) * Math.min(1.0, Math.max(0.0, coverage)));
+        List<Entry<K>> result = new ArrayList<>();
+        long covered = 0;
+        for (Entry<K> entry : topK(maxK)) {
+            if (covered >= target) {
+                break;
+            }
+            result.add(entry);
+            covered += entry.count();
+        }
+        return result;
+    }
+
+    /**
+     * 최근 두 윈도우의 전체 기록 횟수 (Top-K 커버리지 계산용)
+     */
+    public synchronized long totalCount() {
+        rotateIfExpired();
+        return currentTotal + previousTotal;
+    }
+
+    private Map<K, Long> merged() {
+        Map<K, Long> merged = new HashMap<>(previous);
+        current.forEach((key, count) -> merged.merge(key, count, Long::sum));
+        return merged;
+    }
+
+    private void rotateIfExpired() {
+        long now = nanoClock.getAsLong();
+        long elapsed = now - windowStart;
+        if (elapsed < windowNanos) {
+            return;
+        }
+        // 두 윈도우 이상 지났으면 직전 윈도우도 버림
+        if (elapsed >= windowNanos * 2) {
+            previous = new HashMap<>();
+            previousTotal = 0;
+        } else {
+            previous = current.toMap();
+            previousTotal = currentTotal;
+        }
+        current = new StreamSummary<>();
+        currentTotal = 0;
+        windowStart = now;
+    }
+
+    public record Entry<K>(K key, long count) {
+    }
+
+    /**
+     * 빈도 오름차순 버킷의 이중 연결 리스트
+     * 증가는 키를 바로 다음 버킷(count + 1)으로 옮기고, 최소 카운터는 첫 버킷에서 꺼냄
+     */
+    private static final class StreamSummary<K> {
+
+        private final Map<K, Bucket<K>> buckets = new HashMap<>();
+        private Bucket<K> min;
+
+        boolean contains(K key) {
+            return buckets.containsKey(key);
+        }
+
+        int size() {
+            return buckets.size();
+        }
+
+        void increment(K key) {
+            Bucket<K> bucket = buckets.get(key);
+            if (bucket != null) {
+                moveUp(key, bucket, bucket.count + 1);
+                return;
+            }
+            if (min == null || min.count != 1) {
+                Bucket<K> first = new Bucket<>(1);
+                first.next = min;
+                if (min != null) {
+                    min.prev = first;
+                }
+                min = first;
+            }
+            min.keys.add(key);
+            buckets.put(key, min);
+        }
+
+        /**
+         * 최소 버킷에서 가장 오래 머문 키를 제거하고 새 키를 최소값 + 1로 추가
+         */
+        void replaceMin(K key) {
+            Bucket<K> bucket = min;
+            Iterator<K> oldest = bucket.keys.iterator();
+            buckets.remove(oldest.next());
+            oldest.remove();
+            moveUp(key, bucket, bucket.count + 1);
+        }
+
+        void forEach(BiConsumer<K, Long> action) {
+            for (Bucket<K> bucket = min; bucket != null; bucket = bucket.next) {
+                for (K key : bucket.keys) {
+                    action.accept(key, bucket.count);
+                }
+            }
+        }
+
+        Map<K, Long> toMap() {
+            Map<K, Long> map = new HashMap<>(buckets.size() * 2);
+            forEach(map::put);
+            return map;
+        }
+
+        private void moveUp(K key, Bucket<K> from, long count) {
+            Bucket<K> target = from.next;
+            if (target == null || target.count != count) {
+                target = new Bucket<>(count);
+                target.prev = from;
+                target.next = from.next;
+                if (from.next != null) {
+                    from.next.prev = target;
+                }
+                from.next = target;
+            }
+            target.keys.add(key);
+            buckets.put(key, target);
+
+            from.keys.remove(key);
+            if (from.keys.isEmpty()) {
+                unlink(from);
+            }
+        }
+
+        private void unlink(Bucket<K> bucket) {
+            if (bucket.prev != null) {
+                bucket.prev.next = bucket.next;
+            } else {
+                min = bucket.next;
+            }
+            if (bucket.next != null) {
+                bucket.next.prev = bucket.prev;
+            }
+        }
+    }
+
+    private static final class Bucket<K> {
+
+        private final long count;
+        private final Set<K> keys = new LinkedHashSet<>();
+        private Bucket<K> prev;
+        private Bucket<K> next;
+
+        private Bucket(long count) {
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.nomodel.model.command.application.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이징 응답 DTO (무한 스크롤용)
+ * 전체 개수는 상한까지만 계산하므로 totalExact가 false면 totalElements는 "최소 이만큼"을 의미
+ */
+public record CursorPageResponse<T>(
+        List<T> content,           // 현재 페이지 데이터
+        int size,                  // 요청한 페이지 크기
+        String nextCursor,         // 다음 페이지 요청에 전달할 커서 (마지막 페이지면 null)
+        boolean hasNext,           // 다음 페이지 존재 여부
+        long totalElements,        // 전체 데이터 수 (상한까지)
+        boolean totalExact         // totalElements가 정확한 값인지 여부
+) {
+
+    /**
+     * 내용만 변환하고 커서/개수 정보는 유지
+     */
+    public <R> CursorPageResponse<R> map(Function<List<T>, List<R>> mapper) {
+        return new CursorPageResponse<>(mapper.apply(content), size, nextCursor, hasNext, totalElements, totalExact);
+    }
+}
@@ -13,6 +13,7 @@ import java.util.List;
 /**
  * AI 모델 검색 응답 DTO
  * AIModelDocument + File 정보를 조합한 응답
+ * 목록 API는 AIModelSummaryResponse를 사용하며, 이 클래스는 기존 Redis 캐시 항목 역직렬화를 위해 유지
  */
 @Data
 @Builder
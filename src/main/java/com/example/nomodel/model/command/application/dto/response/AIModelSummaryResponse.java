@@ -0,0 +1,70 @@
+package com.example.nomodel.model.command.application.dto.response;
+
+import com.example.nomodel.model.command.domain.model.document.AIModelDocument;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * AI 모델 목록 응답 DTO (검색/관리자 모델 목록)
+ * 목록 카드에 필요한 필드만 담으며, 대표 이미지는 검색 문서에 저장된 primaryImageUrl을 그대로 사용 (파일 조회 없음)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AIModelSummaryResponse {
+
+    /**
+     * 목록 조회 시 Elasticsearch에서 가져올 _source 필드 (prompt, suggest 제외)
+     */
+    public static final List<String> SOURCE_FIELDS = List.of(
+            "modelId", "modelName", "tags", "ownType", "ownerId", "ownerName", "price", "isPublic",
+            "usageCount", "viewCount", "rating", "reviewCount", "createdAt", "primaryImageUrl");
+
+    private String id;
+    private Long modelId;
+    private String modelName;
+    private String[] tags;
+    private String ownType;
+    private Long ownerId;
+    private String ownerName;
+    private BigDecimal price;
+    private Boolean isPublic;
+    private Long usageCount;
+    private Long viewCount;
+    private Double rating;
+    private Long reviewCount;
+    private LocalDateTime createdAt;
+
+    private String primaryImageUrl;
+    // 기존 응답 형식 호환용 (대표 이미지 1장만 포함)
+    private List<String> imageUrls;
+
+    public static AIModelSummaryResponse from(AIModelDocument document) {
+        String primaryImageUrl = document.getPrimaryImageUrl();
+        return AIModelSummaryResponse.builder()
+                .id(document.getId())
+                .modelId(document.getModelId())
+                .modelName(document.getModelName())
+                .tags(document.getTags())
+                .ownType(document.getOwnType())
+                .ownerId(document.getOwnerId())
+                .ownerName(document.getOwnerName())
+                .price(document.getPrice())
+                .isPublic(document.getIsPublic())
+                .usageCount(document.getUsageCount())
+                .viewCount(document.getViewCount())
+                .rating(document.getRating())
+                .reviewCount(document.getReviewCount())
+                .createdAt(document.getCreatedAt())
+                .primaryImageUrl(primaryImageUrl)
+                .imageUrls(primaryImageUrl != null ? List.of(primaryImageUrl) : List.of())
+                .build();
+    }
+}
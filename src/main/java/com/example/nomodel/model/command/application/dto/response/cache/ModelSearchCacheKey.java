@@ -37,6 +37,58 @@ public class ModelSearchCacheKey {
         return joiner.toString();
     }
 
+    /**
+     * 페이지 정보를 제외한 검색 조건 키 생성
+     * 키워드 인기도 집계 시 같은 검색어의 여러 페이지를 하나로 묶기 위해 사용
+     */
+    public static String generateFilterKey(String keyword, Boolean isFree) {
+        String key = generate(keyword, isFree, 0, 0);
+        return key.substring(0, key.length() - "_0_0".length());
+    }
+
+    /**
+     * 캐시 키에서 페이지 정보를 제외한 검색 조건 키 추출 (generate 결과의 마지막 page/size 제거)
+     */
+    public static String filterKeyOf(String cacheKey) {
+        int sizeSeparator = cacheKey.lastIndexOf('_');
+        int pageSeparator = sizeSeparator > 0 ? cacheKey.lastIndexOf('_', sizeSeparator - 1) : -1;
+        return pageSeparator > 0 ? cacheKey.substring(0, pageSeparator) : cacheKey;
+    }
+
+    /**
+     * generate 결과를 검색 파라미터로 복원 (조기 갱신 시 같은 키로 다시 검색하기 위해 사용)
+     * 키워드는 정규화된 형태(소문자, 공백 → '-')로 복원되며, 같은 키를 만드는 검색어는 같은 결과로 간주
+     *
+     * @return 복원한 파라미터 (generate 형식이 아니면 null)
+     */
+    public static Params parse(String cacheKey) {
+        int sizeSeparator = cacheKey.lastIndexOf('_');
+        int pageSeparator = sizeSeparator > 0 ? cacheKey.lastIndexOf('_', sizeSeparator - 1) : -1;
+        int priceSeparator = pageSeparator > 0 ? cacheKey.lastIndexOf('_', pageSeparator - 1) : -1;
+        if (priceSeparator <= 0) {
+            return null;
+        }
+
+        String keyword = cacheKey.substring(0, priceSeparator);
+        String price = cacheKey.substring(priceSeparator + 1, pageSeparator);
+        if (!price.equals("ANY") && !price.equals("FREE") && !price.equals("PAID")) {
+            return null;
+        }
+        Boolean isFree = price.equals("ANY") ? null : price.equals("FREE");
+        try {
+            return new Params(
+                    "ALL".equals(keyword) ? null : keyword.replace('-', ' '),
+                    isFree,
+                    Integer.parseInt(cacheKey.substring(pageSeparator + 1, sizeSeparator)),
+                    Integer.parseInt(cacheKey.substring(sizeSeparator + 1)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public record Params(String keyword, Boolean isFree, int page, int size) {
+    }
+
     /**
      * 태그 기반 캐시 키 생성
      */
@@ -5,7 +5,9 @@ import com.example.nomodel._core.exception.ErrorCode;
 import com.example.nomodel.model.command.application.dto.request.ModelUpdateRequest;
 import com.example.nomodel.model.command.domain.event.ModelUpdateEvent;
 import com.example.nomodel.model.command.domain.model.AIModel;
+import com.example.nomodel.model.command.domain.model.ModelIndexChangeType;
 import com.example.nomodel.model.command.domain.repository.AIModelJpaRepository;
+import com.example.nomodel.model.command.domain.service.ModelIndexOutboxService;
 import lombok.RequiredArgsConstructor;
 import com.example.nomodel.model.command.domain.event.ModelUpdateEventPublisher;
 import org.springframework.stereotype.Service;
@@ -19,6 +21,7 @@ public class MyModelCommandService {
 
     private final AIModelJpaRepository aiModelRepository;
     private final ModelUpdateEventPublisher eventPublisher;
+    private final ModelIndexOutboxService indexOutbox;
 
     @Transactional
     public ModelUpdateEvent updateModel(Long memberId, ModelUpdateRequest request) {
@@ -30,6 +33,7 @@ public class MyModelCommandService {
             case ModelUpdateRequest.VisibilityUpdate visibilityUpdate -> handleVisibilityUpdate(model, visibilityUpdate);
         };
 
+        indexOutbox.record(model.getId(), ModelIndexChangeType.MODEL);
         eventPublisher.publishAfterCommit(event);
         return event;
     }
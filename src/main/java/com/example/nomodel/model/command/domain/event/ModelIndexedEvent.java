@@ -0,0 +1,18 @@
+package com.example.nomodel.model.command.domain.event;
+
+import com.example.nomodel.model.command.domain.model.ModelIndexChangeType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 검색 색인 반영 완료 이벤트
+ * 아웃박스 릴레이가 Elasticsearch에 반영한 모델별 변경 종류 (실패한 모델 제외)
+ * 검색 페이지 캐시는 이 시점 이후에 무효화해야 새 색인 기준으로 다시 채워짐
+ */
+@Getter
+@RequiredArgsConstructor
+public class ModelIndexedEvent {
+    private final Map<Long, ModelIndexChangeType> changes;
+}
@@ -0,0 +1,20 @@
+package com.example.nomodel.model.command.domain.model;
+
+/**
+ * 아직 DB에 반영되지 않은 모델 통계 증가분
+ *
+ * @param viewCount  조회수 증가분
+ * @param usageCount 사용 횟수 증가분
+ */
+public record ModelCounterDelta(long viewCount, long usageCount) {
+
+    public static final ModelCounterDelta EMPTY = new ModelCounterDelta(0L, 0L);
+
+    public ModelCounterDelta plus(ModelCounterDelta other) {
+        return new ModelCounterDelta(viewCount + other.viewCount, usageCount + other.usageCount);
+    }
+
+    public boolean isEmpty() {
+        return viewCount == 0L && usageCount == 0L;
+    }
+}
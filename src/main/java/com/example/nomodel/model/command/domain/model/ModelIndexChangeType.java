@@ -0,0 +1,32 @@
+package com.example.nomodel.model.command.domain.model;
+
+/**
+ * 검색 색인에 반영할 모델 변경 종류
+ */
+public enum ModelIndexChangeType {
+    MODEL,      // 모델 정보 변경 (전체 문서 재색인)
+    COUNTERS,   // 조회수/사용 횟수만 변경 (숫자 필드 부분 갱신, 검색 페이지 캐시는 TTL까지 유지)
+    REVIEW,     // 리뷰로 평점/리뷰 수 변경 (숫자 필드 부분 갱신 + 모델이 포함된 검색 페이지 무효화)
+    DELETE;     // 모델 삭제
+
+    /**
+     * 같은 모델의 이전 변경(this)과 이후 변경(later)을 하나로 합침
+     * 마지막 변경이 삭제면 삭제, 그 외에는 더 넓은 범위의 변경을 유지
+     */
+    public ModelIndexChangeType merge(ModelIndexChangeType later) {
+        if (later == DELETE) {
+            return DELETE;
+        }
+        if (this.isPartial() && later.isPartial()) {
+            return this == REVIEW || later == REVIEW ? REVIEW : COUNTERS;
+        }
+        return MODEL;
+    }
+
+    /**
+     * 숫자 필드만 부분 갱신하면 되는 변경인지 여부
+     */
+    public boolean isPartial() {
+        return this == COUNTERS || this == REVIEW;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.nomodel.model.command.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 아웃박스
+ * 모델/통계/리뷰를 변경하는 트랜잭션 안에서 함께 기록하고, 릴레이가 id 순으로 읽어 Elasticsearch에 반영한 뒤 삭제
+ * (남아 있는 행 = 아직 색인에 반영되지 않은 변경)
+ * 반영에 실패한 행은 attempts를 늘리고 지수 백오프 후 재시도하며, 최대 횟수를 넘기면 dead-letter로 표시해 릴레이 대상에서 제외
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "model_index_outbox")
+public class ModelIndexOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "model_id", nullable = false)
+    private Long modelId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private ModelIndexChangeType changeType;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "dead_lettered_at")
+    private LocalDateTime deadLetteredAt;
+
+    private ModelIndexOutbox(Long modelId, ModelIndexChangeType changeType) {
+        this.modelId = modelId;
+        this.changeType = changeType;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static ModelIndexOutbox of(Long modelId, ModelIndexChangeType changeType) {
+        return new ModelIndexOutbox(modelId, changeType);
+    }
+
+    /**
+     * 반영 실패 기록
+     * 재시도 간격은 baseBackoff * 2^(attempts-1) (maxBackoff 상한), maxAttempts에 도달하면 dead-letter
+     */
+    public void recordFailure(LocalDateTime now, Duration baseBackoff, Duration maxBackoff, int maxAttempts) {
+        this.attempts++;
+        if (this.attempts >= maxAttempts) {
+            this.deadLetteredAt = now;
+            this.nextAttemptAt = null;
+            return;
+        }
+        long multiplier = 1L << Math.min(this.attempts - 1, 20);
+        Duration backoff = baseBackoff.multipliedBy(multiplier);
+        this.nextAttemptAt = now.plus(backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff);
+    }
+
+    public boolean isDeadLettered() {
+        return deadLetteredAt != null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.nomodel.model.command.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통계 증가분 flush 기록
+ * Redis 스냅샷마다 부여한 flush_id를 증가분 UPDATE와 같은 트랜잭션에서 저장하여,
+ * 커밋 후 스냅샷 삭제 전에 장애가 나 같은 스냅샷을 다시 반영하더라도 중복 가산되지 않도록 함
+ * (기록은 ModelStatisticsCounterRepository가 JDBC로 직접 처리하며, 일정 시간이 지나면 삭제)
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "model_statistics_flush",
+        indexes = @Index(name = "idx_model_statistics_flush_applied_at", columnList = "applied_at"))
+public class ModelStatisticsFlush {
+
+    @Id
+    @Column(name = "flush_id", length = 36)
+    private String flushId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
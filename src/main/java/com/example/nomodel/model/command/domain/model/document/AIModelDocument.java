@@ -112,12 +112,17 @@ public class AIModelDocument {
     @Field(type = FieldType.Date, format = {}, pattern = "uuuu-MM-dd'T'HH:mm:ss.SSSSSS")
     private LocalDateTime updatedAt;
 
+    /**
+     * 대표 이미지 URL (목록 응답용, 검색/정렬에는 사용하지 않음)
+     */
+    private String primaryImageUrl;
+
     @Builder
     private AIModelDocument(Long modelId, String modelName, java.util.List<String> suggest, String prompt,
                            String[] tags, String ownType, Long ownerId, String ownerName,
                            BigDecimal price, Boolean isPublic,
                            Long usageCount, Long viewCount, Double rating, Long reviewCount,
-                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+                           LocalDateTime createdAt, LocalDateTime updatedAt, String primaryImageUrl) {
         this.modelId = modelId;
         this.modelName = modelName;
         this.suggest = suggest != null ? suggest : buildSuggestions(modelName); // 자동완성용 (다중 입력 방식)
@@ -134,6 +139,7 @@ public class AIModelDocument {
         this.reviewCount = reviewCount != null ? reviewCount : 0L;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.primaryImageUrl = primaryImageUrl;
     }
 
     /**
@@ -149,6 +155,17 @@ public class AIModelDocument {
     public static AIModelDocument from(AIModel aiModel, String ownerName, 
                                      Long usageCount, Long viewCount, 
                                      Double rating, Long reviewCount) {
+        return from(aiModel, ownerName, usageCount, viewCount, rating, reviewCount, null);
+    }
+
+    /**
+     * 대표 이미지 URL까지 포함한 AIModelDocument 생성
+     *
+     * @param primaryImageUrl 대표 이미지 URL (이미지가 없으면 null)
+     */
+    public static AIModelDocument from(AIModel aiModel, String ownerName,
+                                     Long usageCount, Long viewCount,
+                                     Double rating, Long reviewCount, String primaryImageUrl) {
 
         AIModelDocument aiModelDocument = AIModelDocument.builder()
                 .modelId(aiModel.getId())
@@ -167,6 +184,7 @@ public class AIModelDocument {
                 .reviewCount(reviewCount != null ? reviewCount : 0L)
                 .createdAt(aiModel.getCreatedAt())
                 .updatedAt(aiModel.getUpdatedAt())
+                .primaryImageUrl(primaryImageUrl)
                 .build();
 
         aiModelDocument.id = String.valueOf(aiModel.getId());
@@ -191,6 +209,13 @@ public class AIModelDocument {
         this.reviewCount = reviewCount;
     }
 
+    /**
+     * 대표 이미지 변경
+     */
+    public void updatePrimaryImageUrl(String primaryImageUrl) {
+        this.primaryImageUrl = primaryImageUrl;
+    }
+
     /**
      * 공개 상태 변경
      */
@@ -215,7 +240,10 @@ public class AIModelDocument {
         return "";
     }
 
-    private static String[] extractTags(AIModel aiModel) {
+    /**
+     * 검색 색인의 태그 (검색 캐시 무효화의 매칭 텍스트에도 사용)
+     */
+    public static String[] extractTags(AIModel aiModel) {
         // ModelMetadata의 sampler 정보를 태그로 활용
         if (aiModel.getModelMetadata() != null && aiModel.getModelMetadata().getSamplerIndex() != null) {
             return new String[]{"AI", "IMAGE_GENERATION", aiModel.getModelMetadata().getSamplerIndex().name()};
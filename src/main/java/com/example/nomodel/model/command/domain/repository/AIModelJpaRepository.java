@@ -12,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -131,6 +132,35 @@ public interface AIModelJpaRepository extends JpaRepository<AIModel, Long> {
         """)
     List<ModelWithStatisticsProjection> findAllModelsWithStatisticsAndOwner();
 
+    /**
+     * 모델 ID 기준 keyset 페이징으로 모델과 통계, 소유자 정보 조회 (전체 재색인 스트리밍용)
+     * OFFSET 없이 마지막으로 읽은 ID 이후만 조회하므로 뒤 페이지도 일정한 비용
+     */
+    @Query("""
+        SELECT m as model, s as statistics, mem.username as ownerName
+        FROM AIModel m
+        LEFT JOIN ModelStatistics s ON s.model.id = m.id
+        LEFT JOIN Member mem ON mem.id = m.ownerId
+        WHERE m.id > :lastModelId
+        ORDER BY m.id ASC
+        """)
+    List<ModelWithStatisticsProjection> findModelsWithStatisticsAndOwnerAfter(
+            @Param("lastModelId") Long lastModelId,
+            Pageable pageable);
+
+    /**
+     * 지정한 모델들과 통계, 소유자 정보 조회 (아웃박스 릴레이 재색인용)
+     */
+    @Query("""
+        SELECT m as model, s as statistics, mem.username as ownerName
+        FROM AIModel m
+        LEFT JOIN ModelStatistics s ON s.model.id = m.id
+        LEFT JOIN Member mem ON mem.id = m.ownerId
+        WHERE m.id IN :modelIds
+        """)
+    List<ModelWithStatisticsProjection> findModelsWithStatisticsAndOwnerByIdIn(
+            @Param("modelIds") Collection<Long> modelIds);
+
 
     @Query("""
         SELECT m as model, s as statistics, mem.username as ownerName,
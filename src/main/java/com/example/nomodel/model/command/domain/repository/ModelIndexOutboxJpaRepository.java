@@ -0,0 +1,40 @@
+package com.example.nomodel.model.command.domain.repository;
+
+import com.example.nomodel.model.command.domain.model.ModelIndexOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ModelIndexOutboxJpaRepository extends JpaRepository<ModelIndexOutbox, Long> {
+
+    /**
+     * 지금 반영할 수 있는 변경을 오래된 순으로 조회 (PK 순서 = 기록 순서)
+     * 백오프 중인 행과 dead-letter 행은 제외하여 실패가 반복되는 모델이 배치 앞자리를 차지하지 않도록 함
+     */
+    @Query("SELECT o FROM ModelIndexOutbox o " +
+           "WHERE o.deadLetteredAt IS NULL AND (o.nextAttemptAt IS NULL OR o.nextAttemptAt <= :now) " +
+           "ORDER BY o.id ASC")
+    List<ModelIndexOutbox> findRelayable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 아직 반영되지 않은 가장 오래된 변경 (색인 지연 측정용, dead-letter 제외)
+     */
+    Optional<ModelIndexOutbox> findFirstByDeadLetteredAtIsNullOrderByIdAsc();
+
+    /**
+     * 가장 최근에 기록된 변경 (재구축 시 별칭 전환 시점의 위치 기록용)
+     */
+    Optional<ModelIndexOutbox> findFirstByOrderByIdDesc();
+
+    /**
+     * 지정한 id 이하의 미반영 변경 존재 여부 (별칭 전환 후 아웃박스 소진 확인용, dead-letter 제외)
+     */
+    boolean existsByIdLessThanEqualAndDeadLetteredAtIsNull(Long id);
+}
@@ -0,0 +1,109 @@
+package com.example.nomodel.model.command.domain.repository;
+
+import com.example.nomodel.model.command.domain.model.ModelCounterDelta;
+import com.example.nomodel.model.command.domain.model.ModelIndexChangeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모델 통계 카운터 일괄 반영 저장소
+ * 엔티티 조회 없이 증분 UPDATE를 JDBC 배치로 한 번에 전송 (행 잠금 시간 최소화)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ModelStatisticsCounterRepository {
+
+    private static final String INCREMENT_COUNTERS_SQL = """
+            UPDATE model_statistics_tb
+            SET view_count = view_count + ?, usage_count = usage_count + ?, updated_at = ?
+            WHERE model_id = ?
+            """;
+
+    private static final String APPEND_OUTBOX_SQL = """
+            INSERT INTO model_index_outbox (model_id, change_type, created_at)
+            VALUES (?, ?, ?)
+            """;
+
+    private static final String RECORD_FLUSH_SQL = """
+            INSERT INTO model_statistics_flush (flush_id, applied_at)
+            VALUES (?, ?)
+            """;
+
+    private static final String DELETE_FLUSHES_SQL = """
+            DELETE FROM model_statistics_flush
+            WHERE applied_at < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 스냅샷 증가분을 한 번만 반영
+     * flush_id 기록과 증가분 UPDATE를 같은 트랜잭션에서 처리하므로, 이미 기록된 flush_id면 반영하지 않음
+     *
+     * @param flushId 스냅샷 식별자
+     * @param deltas  모델 ID별 증가분
+     * @return 실제 갱신된 행 수 (이미 반영된 스냅샷이면 0)
+     */
+    @Transactional
+    public int applyDeltasOnce(String flushId, Map<Long, ModelCounterDelta> deltas) {
+        try {
+            jdbcTemplate.update(RECORD_FLUSH_SQL, flushId, Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            log.info("이미 반영된 통계 스냅샷 건너뜀: flushId={}", flushId);
+            return 0;
+        }
+        return applyDeltas(deltas);
+    }
+
+    /**
+     * 보관 기간이 지난 flush 기록 삭제
+     *
+     * @return 삭제된 기록 수
+     */
+    @Transactional
+    public int deleteFlushesAppliedBefore(LocalDateTime threshold) {
+        return jdbcTemplate.update(DELETE_FLUSHES_SQL, Timestamp.valueOf(threshold));
+    }
+
+    /**
+     * 모델별 증가분을 배치 UPDATE로 반영
+     * 같은 트랜잭션에서 검색 색인 아웃박스에도 모델별 COUNTERS 변경을 기록
+     *
+     * @param deltas 모델 ID별 증가분
+     * @return 실제 갱신된 행 수 (통계 행이 없는 모델은 제외)
+     */
+    @Transactional
+    public int applyDeltas(Map<Long, ModelCounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((modelId, delta) ->
+                batchArgs.add(new Object[]{delta.viewCount(), delta.usageCount(), now, modelId}));
+
+        int updated = 0;
+        for (int count : jdbcTemplate.batchUpdate(INCREMENT_COUNTERS_SQL, batchArgs)) {
+            // 드라이버가 개별 건수를 알 수 없는 경우(SUCCESS_NO_INFO = -2)는 1건으로 간주
+            updated += count < 0 ? 1 : count;
+        }
+
+        List<Object[]> outboxArgs = new ArrayList<>(deltas.size());
+        deltas.keySet().forEach(modelId ->
+                outboxArgs.add(new Object[]{modelId, ModelIndexChangeType.COUNTERS.name(), now}));
+        jdbcTemplate.batchUpdate(APPEND_OUTBOX_SQL, outboxArgs);
+        return updated;
+    }
+}
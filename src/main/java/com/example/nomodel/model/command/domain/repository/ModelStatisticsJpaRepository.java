@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,12 @@ public interface ModelStatisticsJpaRepository extends JpaRepository<ModelStatist
      */
     boolean existsByModelId(Long modelId);
 
+    /**
+     * 여러 모델의 통계 일괄 조회 (검색 색인 카운터 부분 갱신용)
+     */
+    @Query("SELECT ms FROM ModelStatistics ms WHERE ms.model.id IN :modelIds")
+    List<ModelStatistics> findAllByModelIdIn(@Param("modelIds") Collection<Long> modelIds);
+
     /**
      * 모델별 사용 수 상위 N개 조회
      */
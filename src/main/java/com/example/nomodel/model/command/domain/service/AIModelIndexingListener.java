@@ -2,51 +2,41 @@ package com.example.nomodel.model.command.domain.service;
 
 import com.example.nomodel.model.command.domain.event.ModelCreatedEvent;
 import com.example.nomodel.model.command.domain.event.ModelDeletedEvent;
-import com.example.nomodel.model.command.domain.event.ModelUpdateEvent;
-import com.example.nomodel.model.command.domain.repository.AIModelJpaRepository;
-import com.example.nomodel.model.command.infrastructure.service.ElasticsearchIndexService;
+import com.example.nomodel.model.command.domain.model.ModelIndexChangeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.stereotype.Service;
 
+/**
+ * 모델 생성/삭제 이벤트를 검색 색인 아웃박스에 기록
+ * 커밋 직전(BEFORE_COMMIT)에 같은 트랜잭션으로 기록하고, 실제 색인은 ModelIndexOutboxRelay가 수행
+ * 트랜잭션 밖에서 발행된 이벤트는 바로 별도 트랜잭션으로 기록 (fallbackExecution)
+ * 모델 수정은 수정하는 서비스에서 직접 기록
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AIModelIndexingListener {
 
-    private final ElasticsearchIndexService indexService;
-    private final AIModelJpaRepository aiModelRepository;
+    private final ModelIndexOutboxService indexOutbox;
 
     /**
-     * 모델 생성 시 색인
+     * 모델 생성 시 색인 예약
      */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void onModelCreated(ModelCreatedEvent event) {
         log.info("ModelCreatedEvent 수신 - modelId={}", event.getModelId());
-        aiModelRepository.findById(event.getModelId()).ifPresent(indexService::indexModel);
+        indexOutbox.record(event.getModelId(), ModelIndexChangeType.MODEL);
     }
 
     /**
-     * 모델 수정 시 재색인
+     * 모델 삭제 시 인덱스 제거 예약
      */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onModelUpdated(ModelUpdateEvent event) {
-        log.info("ModelUpdateEvent 수신 - modelId={}", event.getModelId());
-        aiModelRepository.findById(event.getModelId()).ifPresent(indexService::indexModel);
-    }
-
-    /**
-     * 모델 삭제 시 인덱스 제거
-     */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void onModelDeleted(ModelDeletedEvent event) {
         log.info("ModelDeletedEvent 수신 - modelId={}", event.getModelId());
-        indexService.deleteModelIndex(event.getModelId());
+        indexOutbox.record(event.getModelId(), ModelIndexChangeType.DELETE);
     }
 }
@@ -0,0 +1,27 @@
+package com.example.nomodel.model.command.domain.service;
+
+import com.example.nomodel.model.command.domain.model.ModelIndexChangeType;
+import com.example.nomodel.model.command.domain.model.ModelIndexOutbox;
+import com.example.nomodel.model.command.domain.repository.ModelIndexOutboxJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 검색 색인 아웃박스 기록
+ * 호출한 쪽의 트랜잭션에 참여하므로 변경 내용과 아웃박스 행이 함께 커밋/롤백됨
+ */
+@Service
+@RequiredArgsConstructor
+public class ModelIndexOutboxService {
+
+    private final ModelIndexOutboxJpaRepository outboxRepository;
+
+    @Transactional
+    public void record(Long modelId, ModelIndexChangeType changeType) {
+        if (modelId == null) {
+            return;
+        }
+        outboxRepository.save(ModelIndexOutbox.of(modelId, changeType));
+    }
+}
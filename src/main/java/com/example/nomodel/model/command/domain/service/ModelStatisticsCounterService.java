@@ -0,0 +1,282 @@
+package com.example.nomodel.model.command.domain.service;
+
+import com.example.nomodel._core.concurrency.RedisLeaseLock;
+import com.example.nomodel.model.command.domain.model.ModelCounterDelta;
+import com.example.nomodel.model.command.domain.repository.ModelStatisticsCounterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 모델 조회수/사용 횟수 write-behind 서비스
+ *
+ * - 요청 경로에서는 Redis 해시(HINCRBY)에 증가분만 누적하고 DB 행을 잠그지 않음
+ * - 주기적으로 누적분을 스냅샷(RENAME)으로 떼어내 모델별로 합산 후 배치 UPDATE로 반영
+ * - 반영 중 장애가 나면 스냅샷 키가 남아 다음 주기에 다시 반영
+ *   스냅샷마다 flush ID를 두고 DB 반영과 같은 트랜잭션에서 기록하므로, 커밋 후 스냅샷 삭제 전에 장애가 나도 중복 가산되지 않음
+ * - Redis 장애 시에는 노드 로컬 LongAdder 버퍼에 누적하고 동일한 주기로 반영
+ */
+@Slf4j
+@Service
+public class ModelStatisticsCounterService {
+
+    private static final String DELTA_KEY = "model:stats:delta";
+    private static final String FLUSHING_KEY = "model:stats:delta:flushing";
+    private static final String FLUSH_ID_KEY = "model:stats:delta:flushing:id";
+    private static final String FLUSH_LOCK_KEY = "model:stats:delta:lock";
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofMinutes(1);
+    private static final Duration FLUSH_RECORD_RETENTION = Duration.ofDays(1);
+    private static final Duration FLUSH_RECORD_PRUNE_INTERVAL = Duration.ofHours(1);
+
+    private static final String VIEW = "view";
+    private static final String USAGE = "usage";
+    private static final String FIELD_SEPARATOR = ":";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ModelStatisticsCounterRepository counterRepository;
+    private final RedisLeaseLock flushLock;
+    private volatile LocalDateTime nextPruneAt = LocalDateTime.MIN;
+
+    // Redis 장애 시 사용하는 노드 로컬 버퍼 (field -> 증가분)
+    private final Map<String, LongAdder> localDeltas = new ConcurrentHashMap<>();
+
+    private final Timer flushTimer;
+    private final Counter flushedRows;
+    private final Counter fallbackIncrements;
+
+    public ModelStatisticsCounterService(RedisTemplate<String, String> redisTemplate,
+                                         ModelStatisticsCounterRepository counterRepository,
+                                         MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.counterRepository = counterRepository;
+        this.flushLock = new RedisLeaseLock(redisTemplate, FLUSH_LOCK_KEY, FLUSH_LOCK_TTL);
+        this.flushTimer = Timer.builder("model.statistics.flush.duration").register(meterRegistry);
+        this.flushedRows = Counter.builder("model.statistics.flush.rows").register(meterRegistry);
+        this.fallbackIncrements = Counter.builder("model.statistics.buffer.fallback").register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가 (DB 반영은 다음 flush 주기)
+     */
+    public void incrementViewCount(Long modelId) {
+        increment(field(modelId, VIEW));
+    }
+
+    /**
+     * 사용 횟수 1 증가 (DB 반영은 다음 flush 주기)
+     */
+    public void incrementUsageCount(Long modelId) {
+        increment(field(modelId, USAGE));
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증가분 조회
+     * 상세 조회 시 DB 값에 더해 사용자에게 보이는 수치가 flush 주기만큼 늦어지지 않도록 보정
+     */
+    public ModelCounterDelta getPendingDelta(Long modelId) {
+        ModelCounterDelta local = new ModelCounterDelta(
+                localValue(field(modelId, VIEW)), localValue(field(modelId, USAGE)));
+        try {
+            List<Object> values = redisTemplate.opsForHash()
+                    .multiGet(DELTA_KEY, List.of(field(modelId, VIEW), field(modelId, USAGE)));
+            return local.plus(new ModelCounterDelta(parseLong(values.get(0)), parseLong(values.get(1))));
+        } catch (Exception e) {
+            log.debug("미반영 통계 증가분 조회 실패: modelId={}", modelId, e);
+            return local;
+        }
+    }
+
+    /**
+     * 누적된 증가분을 DB에 반영
+     * 여러 노드가 동시에 실행해도 Redis 락으로 한 노드만 Redis 누적분을 처리
+     */
+    @Scheduled(fixedDelayString = "${app.statistics.write-behind.flush-interval-ms:10000}")
+    public void flush() {
+        flushTimer.record(() -> {
+            flushLocalDeltas();
+            flushRedisDeltas();
+        });
+    }
+
+    /**
+     * 종료 시 남은 증가분 반영
+     * 로컬 버퍼는 프로세스와 함께 사라지므로 반드시 DB에 반영하고, Redis 누적분은 가능하면 함께 반영
+     */
+    @PreDestroy
+    public void drainOnShutdown() {
+        log.info("종료 전 통계 증가분 반영 시작");
+        flush();
+    }
+
+    private void increment(String field) {
+        try {
+            redisTemplate.opsForHash().increment(DELTA_KEY, field, 1L);
+        } catch (Exception e) {
+            localDeltas.computeIfAbsent(field, key -> new LongAdder()).increment();
+            fallbackIncrements.increment();
+            log.warn("Redis 통계 누적 실패, 로컬 버퍼 사용: field={}", field, e);
+        }
+    }
+
+    private void flushLocalDeltas() {
+        Map<String, Long> snapshot = new HashMap<>();
+        localDeltas.forEach((field, adder) -> {
+            long value = adder.sumThenReset();
+            if (value != 0L) {
+                snapshot.put(field, value);
+            }
+        });
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        try {
+            applyDeltas(aggregate(snapshot));
+        } catch (Exception e) {
+            // 반영 실패분은 버퍼에 되돌려 다음 주기에 재시도
+            snapshot.forEach((field, value) -> localDeltas.computeIfAbsent(field, key -> new LongAdder()).add(value));
+            log.error("로컬 통계 증가분 반영 실패: fields={}", snapshot.size(), e);
+        }
+    }
+
+    private void flushRedisDeltas() {
+        if (!flushLock.tryAcquire()) {
+            return;
+        }
+
+        try {
+            // 1. 이전 flush가 중단되어 남은 스냅샷이 있으면 먼저 반영 (이미 커밋된 스냅샷이면 flush ID로 건너뜀)
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(FLUSHING_KEY))) {
+                applyFlushingSnapshot();
+                if (!flushLock.renew()) {
+                    return;
+                }
+            }
+
+            // 2. 누적 해시를 스냅샷으로 전환 (RENAME은 원자적이므로 이후 증가분은 새 해시에 누적)
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(DELTA_KEY))) {
+                redisTemplate.rename(DELTA_KEY, FLUSHING_KEY);
+                applyFlushingSnapshot();
+            }
+            pruneFlushRecords();
+        } catch (Exception e) {
+            log.error("Redis 통계 증가분 반영 실패 (다음 주기에 재시도)", e);
+        } finally {
+            flushLock.release();
+        }
+    }
+
+    /**
+     * 스냅샷 반영 후 스냅샷과 flush ID를 한 번에 삭제 (DEL 여러 키는 원자적이므로 ID만 남아 다음 스냅샷에 재사용되지 않음)
+     */
+    private void applyFlushingSnapshot() {
+        String flushId = flushIdOfSnapshot();
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(FLUSHING_KEY);
+        Map<String, Long> snapshot = new HashMap<>();
+        entries.forEach((field, value) -> snapshot.put(String.valueOf(field), parseLong(value)));
+
+        Map<Long, ModelCounterDelta> deltas = aggregate(snapshot);
+        if (!deltas.isEmpty()) {
+            int updated = counterRepository.applyDeltasOnce(flushId, deltas);
+            flushedRows.increment(updated);
+            log.debug("통계 스냅샷 반영 완료: flushId={}, models={}, updatedRows={}", flushId, deltas.size(), updated);
+        }
+        redisTemplate.delete(List.of(FLUSHING_KEY, FLUSH_ID_KEY));
+    }
+
+    /**
+     * 현재 스냅샷의 flush ID (중단된 스냅샷이면 이전에 부여한 ID를 그대로 사용)
+     */
+    private String flushIdOfSnapshot() {
+        String flushId = redisTemplate.opsForValue().get(FLUSH_ID_KEY);
+        if (flushId != null) {
+            return flushId;
+        }
+        flushId = UUID.randomUUID().toString();
+        redisTemplate.opsForValue().set(FLUSH_ID_KEY, flushId);
+        return flushId;
+    }
+
+    /**
+     * 보관 기간이 지난 flush 기록 정리 (스냅샷은 다음 주기에 바로 재시도되므로 하루면 충분)
+     */
+    private void pruneFlushRecords() {
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(nextPruneAt)) {
+            return;
+        }
+        nextPruneAt = now.plus(FLUSH_RECORD_PRUNE_INTERVAL);
+        int deleted = counterRepository.deleteFlushesAppliedBefore(now.minus(FLUSH_RECORD_RETENTION));
+        log.debug("오래된 통계 flush 기록 삭제: {}", deleted);
+    }
+
+    private void applyDeltas(Map<Long, ModelCounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        int updated = counterRepository.applyDeltas(deltas);
+        flushedRows.increment(updated);
+        log.debug("통계 증가분 반영 완료: models={}, updatedRows={}", deltas.size(), updated);
+    }
+
+    /**
+     * "{modelId}:{view|usage}" 필드별 값을 모델 단위로 합산
+     */
+    static Map<Long, ModelCounterDelta> aggregate(Map<String, Long> fieldValues) {
+        Map<Long, ModelCounterDelta> deltas = new HashMap<>();
+        fieldValues.forEach((field, value) -> {
+            int separator = field.lastIndexOf(FIELD_SEPARATOR);
+            if (separator < 0 || value == null || value == 0L) {
+                return;
+            }
+            Long modelId;
+            try {
+                modelId = Long.valueOf(field.substring(0, separator));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 통계 필드 무시: field={}", field);
+                return;
+            }
+            String counter = field.substring(separator + 1);
+            if (VIEW.equals(counter)) {
+                deltas.merge(modelId, new ModelCounterDelta(value, 0L), ModelCounterDelta::plus);
+            } else if (USAGE.equals(counter)) {
+                deltas.merge(modelId, new ModelCounterDelta(0L, value), ModelCounterDelta::plus);
+            }
+        });
+        return deltas;
+    }
+
+    private long localValue(String field) {
+        LongAdder adder = localDeltas.get(field);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    private static String field(Long modelId, String counter) {
+        return modelId + FIELD_SEPARATOR + counter;
+    }
+
+    private static long parseLong(Object value) {
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value.toString());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.example.nomodel._core.exception.ApplicationException;
 import com.example.nomodel._core.exception.ErrorCode;
 import com.example.nomodel.model.command.application.dto.response.AIModelDynamicStats;
 import com.example.nomodel.model.command.domain.model.AIModel;
+import com.example.nomodel.model.command.domain.model.ModelCounterDelta;
 import com.example.nomodel.model.command.domain.model.ModelStatistics;
 import com.example.nomodel.model.command.domain.repository.ModelStatisticsJpaRepository;
 import com.example.nomodel.review.domain.model.ReviewStatus;
@@ -18,6 +19,7 @@ public class ModelStatisticsService {
 
     private final ModelStatisticsJpaRepository modelStatisticsRepository;
     private final ReviewRepository modelReviewRepository;
+    private final ModelStatisticsCounterService counterService;
 
     @Transactional(readOnly = true)
     public AIModelDynamicStats getDynamicStats(Long modelId, Long memberId) {
@@ -32,12 +34,15 @@ public class ModelStatisticsService {
                 modelId, ReviewStatus.ACTIVE
         );
 
-        // 3. 조립
+        // 3. 아직 DB에 반영되지 않은 조회수/사용 횟수 증가분
+        ModelCounterDelta pending = counterService.getPendingDelta(modelId);
+
+        // 4. 조립
         return AIModelDynamicStats.builder()
                 .avgRating(avgRating != null ? avgRating : 0.0)
                 .reviewCount(reviewCount)
-                .usageCount(stats != null ? stats.getUsageCount() : 0L)
-                .viewCount(stats != null ? stats.getViewCount() : 0L)
+                .usageCount((stats != null ? stats.getUsageCount() : 0L) + pending.usageCount())
+                .viewCount((stats != null ? stats.getViewCount() : 0L) + pending.viewCount())
                 .build();
     }
 
@@ -2,12 +2,10 @@ package com.example.nomodel.model.command.domain.service;
 
 import com.example.nomodel._core.exception.ApplicationException;
 import com.example.nomodel._core.exception.ErrorCode;
-import com.example.nomodel.model.command.domain.model.ModelStatistics;
 import com.example.nomodel.model.command.domain.repository.ModelStatisticsJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -15,23 +13,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class ModelUsageCountService {
 
     private final ModelStatisticsJpaRepository statisticsRepository;
+    private final ModelStatisticsCounterService counterService;
 
     /**
      * 모델 사용 횟수 증가
+     * 통계 행을 잠그지 않고 증가분만 누적하며, DB 반영은 write-behind로 일괄 처리
      * @param modelId 모델 ID
      */
-    @Transactional
     public void incrementUsageCount(Long modelId) {
-        ModelStatistics statistics = getModelStatistics(modelId);
-        statistics.incrementUsageCount();
-        statisticsRepository.save(statistics);
+        if (!statisticsRepository.existsByModelId(modelId)) {
+            throw new ApplicationException(ErrorCode.MODEL_NOT_FOUND);
+        }
+        counterService.incrementUsageCount(modelId);
 
-        log.debug("모델 사용 횟수 증가 완료: modelId={}, newCount={}",
-                 modelId, statistics.getUsageCount());
-    }
-
-    private ModelStatistics getModelStatistics(Long modelId) {
-        return statisticsRepository.findByModelId(modelId)
-                .orElseThrow(() -> new ApplicationException(ErrorCode.MODEL_NOT_FOUND));
+        log.debug("모델 사용 횟수 증가분 누적: modelId={}", modelId);
     }
 }
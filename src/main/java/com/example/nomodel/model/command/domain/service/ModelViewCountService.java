@@ -1,18 +1,14 @@
 package com.example.nomodel.model.command.domain.service;
 
-import com.example.nomodel._core.exception.ApplicationException;
-import com.example.nomodel._core.exception.ErrorCode;
-import com.example.nomodel.model.command.domain.model.ModelStatistics;
-import com.example.nomodel.model.command.domain.repository.ModelStatisticsJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 모델 조회수 관리 서비스
  * 캐시와 독립적으로 조회수 증가 처리
+ * 증가분은 {@link ModelStatisticsCounterService}에 누적되고 주기적으로 DB에 일괄 반영됨
  */
 @Slf4j
 @Service
@@ -20,7 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ModelViewCountService {
 
     private final ViewCountThrottleService throttleService;
-    private final ModelStatisticsJpaRepository statisticsRepository;
+    private final ModelStatisticsCounterService counterService;
 
     /**
      * 비동기 조회수 증가 처리 (중복 방지 체크 포함)
@@ -30,7 +26,6 @@ public class ModelViewCountService {
      * @param memberId 회원 ID (중복 방지용)
      */
     @Async("viewCountExecutor")
-    @Transactional
     public void processViewCountAsync(Long modelId, Long memberId) {
         // 1. 중복 조회 체크
         if (!throttleService.canIncrementViewCount(modelId, memberId)) {
@@ -38,30 +33,8 @@ public class ModelViewCountService {
             return;
         }
 
-        // 2. 조회수 증가
-        incrementViewCount(modelId);
+        // 2. 조회수 증가분 누적 (DB 반영은 write-behind)
+        counterService.incrementViewCount(modelId);
+        log.debug("모델 조회수 증가분 누적: modelId={}", modelId);
     }
-
-    /**
-     * 조회수 직접 증가 (내부 사용)
-     * 중복 체크 없이 단순 증가
-     * processViewCountAsync의 트랜잭션 컨텍스트 내에서 실행됨
-     */
-    private void incrementViewCount(Long modelId) {
-        ModelStatistics statistics = getModelStatistics(modelId);
-        statistics.incrementViewCount();
-        statisticsRepository.save(statistics);
-
-        log.debug("모델 조회수 증가 완료: modelId={}, newCount={}",
-                 modelId, statistics.getViewCount());
-    }
-
-    /**
-     * ModelStatistics 조회
-     * Model 생성 시 자동으로 ModelStatistics가 생성되므로 단순 조회만 수행
-     */
-    private ModelStatistics getModelStatistics(Long modelId) {
-        return statisticsRepository.findByModelId(modelId)
-                .orElseThrow(() -> new ApplicationException(ErrorCode.MODEL_NOT_FOUND));
-    }
-}
\ No newline at end of file
+}
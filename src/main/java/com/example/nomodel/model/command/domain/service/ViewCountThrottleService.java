@@ -1,66 +1,188 @@
 package com.example.nomodel.model.command.domain.service;
 
-import lombok.RequiredArgsConstructor;
+import com.example.nomodel.model.command.domain.service.support.RotatingBloomFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 조회수 증가 중복 방지 서비스
  * Redis를 활용하여 동일한 클라이언트의 중복 조회수 증가를 방지
+ *
+ * - 확인과 기록을 SET NX EX 한 번으로 처리 (동시 요청 중 하나만 통과)
+ * - 노드 로컬 Bloom filter에 최근 통과/차단된 조합을 기록해 반복 조회는 Redis 호출 없이 차단
+ *   (필터 보존 기간은 중복 방지 시간 이하로 유지, 오탐 시 조회수 1건이 누락될 수 있음)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ViewCountThrottleService {
 
-    private final RedisTemplate<String, String> redisTemplate;
-    
     // 중복 방지 시간 (5분)
     private static final Duration THROTTLE_DURATION = Duration.ofMinutes(5);
-    
+
     // Redis 키 접두사
     private static final String THROTTLE_KEY_PREFIX = "view_throttle:";
-    
+
+    private static final String THROTTLE_METRIC = "model.view.throttle";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RotatingBloomFilter localFilter;
+
+    public ViewCountThrottleService(RedisTemplate<String, String> redisTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.view-throttle.local-filter.enabled:true}") boolean localFilterEnabled,
+                                    @Value("${app.view-throttle.local-filter.expected-insertions:100000}") int expectedInsertions,
+                                    @Value("${app.view-throttle.local-filter.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        // 두 세대를 유지하므로 윈도우를 절반으로 잡아 보존 기간이 중복 방지 시간을 넘지 않도록 함
+        this.localFilter = localFilterEnabled
+                ? new RotatingBloomFilter(expectedInsertions, falsePositiveRate, THROTTLE_DURATION.dividedBy(2))
+                : null;
+    }
+
     /**
      * 조회수 증가 가능 여부 확인
-     * 
+     *
      * @param modelId 모델 ID
      * @param memberId 회원 ID
      * @return 조회수 증가 가능 여부
      */
     public boolean canIncrementViewCount(Long modelId, Long memberId) {
         String throttleKey = generateThrottleKey(modelId, memberId);
-        
+
+        if (isRecentlySeenLocally(throttleKey)) {
+            log.debug("조회수 증가 중복 방지 (로컬 필터): modelId={}, memberId={}", modelId, memberId);
+            return false;
+        }
+
         try {
-            // 이미 존재하면 중복 요청
-            if (redisTemplate.hasKey(throttleKey)) {
-                log.debug("조회수 증가 중복 방지: modelId={}, memberId={}", modelId, memberId);
-                return false;
-            }
-            
-            // 키 생성 및 TTL 설정 (5분간 중복 방지)
-            redisTemplate.opsForValue().set(throttleKey, "1", THROTTLE_DURATION);
-            log.debug("조회수 증가 허용: modelId={}, memberId={}, TTL={}분", 
-                     modelId, memberId, THROTTLE_DURATION.toMinutes());
-            return true;
-            
+            // 키가 없을 때만 생성 + TTL 설정 (5분간 중복 방지)
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(throttleKey, "1", THROTTLE_DURATION);
+            rememberLocally(throttleKey);
+
+            boolean allowed = !Boolean.FALSE.equals(acquired);
+            recordResult(allowed ? "allowed" : "throttled", 1);
+            log.debug("조회수 증가 {}: modelId={}, memberId={}", allowed ? "허용" : "중복 방지", modelId, memberId);
+            return allowed;
+
         } catch (Exception e) {
             // Redis 오류 시 조회수 증가 허용 (가용성 우선)
-            log.warn("Redis 조회수 중복 방지 오류 (조회수 증가 허용): modelId={}, error={}", 
+            rememberLocally(throttleKey);
+            recordResult("error", 1);
+            log.warn("Redis 조회수 중복 방지 오류 (조회수 증가 허용): modelId={}, error={}",
                     modelId, e.getMessage());
             return true;
         }
     }
-    
-    
+
+    /**
+     * 여러 (모델, 회원) 조합의 조회수 증가 가능 여부를 한 번에 확인
+     * 로컬 필터를 통과한 조합만 파이프라인 SET NX EX로 Redis에 한 번의 왕복으로 전송
+     *
+     * @param views 확인할 조회 목록
+     * @return 조회별 증가 가능 여부 (입력 순서 유지, 중복 조회는 첫 번째만 허용)
+     */
+    public Map<ViewKey, Boolean> canIncrementViewCounts(Collection<ViewKey> views) {
+        Map<ViewKey, Boolean> results = new LinkedHashMap<>();
+        List<ViewKey> pending = new ArrayList<>();
+
+        for (ViewKey view : views) {
+            if (results.containsKey(view)) {
+                continue;
+            }
+            if (isRecentlySeenLocally(generateThrottleKey(view.modelId(), view.memberId()))) {
+                results.put(view, false);
+            } else {
+                results.put(view, true);
+                pending.add(view);
+            }
+        }
+
+        if (pending.isEmpty()) {
+            return results;
+        }
+
+        try {
+            List<Object> replies = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (ViewKey view : pending) {
+                        ops.opsForValue().setIfAbsent(
+                                generateThrottleKey(view.modelId(), view.memberId()), "1", THROTTLE_DURATION);
+                    }
+                    return null;
+                }
+            });
+
+            int throttled = 0;
+            for (int i = 0; i < pending.size(); i++) {
+                ViewKey view = pending.get(i);
+                rememberLocally(generateThrottleKey(view.modelId(), view.memberId()));
+                if (i < replies.size() && Boolean.FALSE.equals(replies.get(i))) {
+                    results.put(view, false);
+                    throttled++;
+                }
+            }
+            recordResult("allowed", pending.size() - throttled);
+            recordResult("throttled", throttled);
+
+        } catch (Exception e) {
+            // Redis 오류 시 로컬 필터를 통과한 조회는 모두 허용 (가용성 우선)
+            pending.forEach(view -> rememberLocally(generateThrottleKey(view.modelId(), view.memberId())));
+            recordResult("error", pending.size());
+            log.warn("Redis 조회수 중복 방지 일괄 처리 오류 (조회수 증가 허용): count={}, error={}",
+                    pending.size(), e.getMessage());
+        }
+
+        return results;
+    }
+
+    private boolean isRecentlySeenLocally(String throttleKey) {
+        if (localFilter != null && localFilter.mightContain(throttleKey)) {
+            recordResult("local_throttled", 1);
+            return true;
+        }
+        return false;
+    }
+
+    private void rememberLocally(String throttleKey) {
+        if (localFilter != null) {
+            localFilter.put(throttleKey);
+        }
+    }
+
+    private void recordResult(String result, int amount) {
+        if (amount > 0) {
+            meterRegistry.counter(THROTTLE_METRIC, "result", result).increment(amount);
+        }
+    }
+
     /**
      * 중복 방지용 Redis 키 생성
      */
     private String generateThrottleKey(Long modelId, Long memberId) {
         return THROTTLE_KEY_PREFIX + modelId + ":" + memberId;
     }
-    
-}
\ No newline at end of file
+
+    /**
+     * 일괄 확인용 조회 식별자
+     */
+    public record ViewKey(Long modelId, Long memberId) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.nomodel.model.command.domain.service.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 윈도우 단위로 교체되는 Bloom filter
+ * 현재/직전 두 세대를 유지하며, 윈도우가 지나면 직전 세대를 버리고 새 세대를 시작
+ *
+ * - mightContain이 false면 최근 두 윈도우 안에 put된 적이 없음이 확실
+ * - true는 오탐(false positive) 가능성이 있음 (expectedInsertions 기준 fpp 이하)
+ * - 키가 보존되는 기간은 windowDuration ~ 2 * windowDuration
+ */
+public class RotatingBloomFilter {
+
+    private final int numBits;
+    private final int numHashes;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+    private volatile long windowStart;
+
+    public RotatingBloomFilter(int expectedInsertions, double falsePositiveRate, Duration windowDuration) {
+        this(expectedInsertions, falsePositiveRate, windowDuration, System::nanoTime);
+    }
+
+    RotatingBloomFilter(int expectedInsertions, double falsePositiveRate,
+                        Duration windowDuration, LongSupplier nanoClock) {
+        int n = Math.max(1, expectedInsertions);
+        double p = Math.min(Math.max(falsePositiveRate, 1e-6), 0.5);
+        long bits = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        this.numBits = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / n * Math.log(2)));
+        this.windowNanos = windowDuration.toNanos();
+        this.nanoClock = nanoClock;
+        this.current = new Generation(numBits);
+        this.previous = new Generation(numBits);
+        this.windowStart = nanoClock.getAsLong();
+    }
+
+    public boolean mightContain(String key) {
+        rotateIfExpired();
+        long hash = hash64(key);
+        return current.mightContain(hash, numHashes) || previous.mightContain(hash, numHashes);
+    }
+
+    public void put(String key) {
+        rotateIfExpired();
+        current.put(hash64(key), numHashes);
+    }
+
+    private void rotateIfExpired() {
+        long now = nanoClock.getAsLong();
+        if (now - windowStart < windowNanos) {
+            return;
+        }
+        synchronized (this) {
+            long elapsed = now - windowStart;
+            if (elapsed < windowNanos) {
+                return;
+            }
+            // 두 윈도우 이상 지났으면 직전 세대도 만료된 것으로 간주
+            previous = elapsed >= windowNanos * 2 ? new Generation(numBits) : current;
+            current = new Generation(numBits);
+            windowStart = now;
+        }
+    }
+
+    /**
+     * FNV-1a 64비트 해시 후 비트 혼합 (String.hashCode의 32비트 충돌을 피하기 위함)
+     */
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final class Generation {
+
+        private final AtomicLongArray words;
+        private final int numBits;
+
+        private Generation(int numBits) {
+            this.numBits = numBits;
+            this.words = new AtomicLongArray((numBits + 63) >>> 6);
+        }
+
+        // double hashing: index_i = h1 + i * h2
+        private void put(long hash, int numHashes) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            for (int i = 0; i < numHashes; i++) {
+                int index = Math.floorMod(h1 + i * h2, numBits);
+                long mask = 1L << index;
+                int word = index >>> 6;
+                long old;
+                do {
+                    old = words.get(word);
+                    if ((old & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(word, old, old | mask));
+            }
+        }
+
+        private boolean mightContain(long hash, int numHashes) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            for (int i = 0; i < numHashes; i++) {
+                int index = Math.floorMod(h1 + i * h2, numBits);
+                if ((words.get(index >>> 6) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.nomodel.model.command.infrastructure.batch;
 
+import com.example.nomodel.file.application.service.FileService;
 import com.example.nomodel.model.command.domain.model.document.AIModelDocument;
 import com.example.nomodel.model.command.domain.model.AIModel;
 import com.example.nomodel.model.command.domain.model.ModelStatistics;
@@ -28,6 +29,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -43,6 +46,7 @@ public class AIModelIndexBatchJob {
     private final PlatformTransactionManager transactionManager;
     private final AIModelJpaRepository aiModelRepository;
     private final ElasticsearchOperations elasticsearchOperations;
+    private final FileService fileService;
 
     private static final int CHUNK_SIZE = 200;
     private static final ReviewStatus REVIEW_STATUS = ReviewStatus.ACTIVE;
@@ -136,6 +140,12 @@ public class AIModelIndexBatchJob {
             if (items.isEmpty()) {
                 return;
             }
+            // 청크 단위로 대표 이미지 URL을 한 번에 조회해 채움
+            List<Long> modelIds = new ArrayList<>();
+            items.forEach(document -> modelIds.add(document.getModelId()));
+            Map<Long, String> primaryImageUrls = fileService.getPrimaryImageUrlMap(modelIds);
+            items.forEach(document -> document.updatePrimaryImageUrl(primaryImageUrls.get(document.getModelId())));
+
             elasticsearchOperations.save(items);
         };
     }
@@ -1,36 +1,71 @@
 package com.example.nomodel.model.command.infrastructure.service;
 
+import com.example.nomodel._core.concurrency.RedisLeaseLock;
+import com.example.nomodel.file.application.service.FileService;
 import com.example.nomodel.member.domain.model.Email;
 import com.example.nomodel.member.domain.model.Member;
 import com.example.nomodel.member.domain.repository.MemberJpaRepository;
 import com.example.nomodel.model.command.application.dto.ModelWithStatisticsProjection;
 import com.example.nomodel.model.command.domain.model.document.AIModelDocument;
 import com.example.nomodel.model.command.domain.model.AIModel;
+import com.example.nomodel.model.command.domain.model.ModelIndexOutbox;
 import com.example.nomodel.model.command.domain.model.ModelStatistics;
 import com.example.nomodel.model.command.domain.repository.AIModelJpaRepository;
 import com.example.nomodel.model.command.domain.repository.AIModelSearchRepository;
+import com.example.nomodel.model.command.domain.repository.ModelIndexOutboxJpaRepository;
 import com.example.nomodel.model.command.domain.repository.ModelStatisticsJpaRepository;
 import com.example.nomodel.review.domain.repository.ReviewRepository;
 import com.example.nomodel.review.domain.model.ReviewStatus;
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.indices.GetAliasResponse;
+import co.elastic.clients.elasticsearch.indices.GetIndexResponse;
+import com.example.nomodel.model.command.application.dto.ModelIndexProjection;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.BulkFailureException;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
 import org.springframework.data.elasticsearch.core.IndexOperations;
 import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.HashMap;
 
 /**
  * Elasticsearch 인덱스 관리 서비스
  * 인덱스 생성, 삭제, 설정 적용 등을 담당
+ * ai-models는 버전 인덱스(ai-models-v{n})를 가리키는 별칭으로 운영
  */
 @Slf4j
 @Service
@@ -44,6 +79,37 @@ public class ElasticsearchIndexService {
     private final ModelStatisticsJpaRepository modelStatisticsRepository;
     private final MemberJpaRepository memberRepository;
     private final ReviewRepository reviewRepository;
+    private final ElasticsearchClient elasticsearchClient;
+    private final FileService fileService;
+    private final ModelIndexOutboxJpaRepository outboxRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final String INDEX_ALIAS = "ai-models";  // 검색/색인은 항상 별칭 사용
+    private static final String VERSIONED_INDEX_PREFIX = "ai-models-v";
+    private static final long CATCH_UP_MARGIN_SECONDS = 5;
+
+    // 재구축 중 표시 (모든 노드의 아웃박스 릴레이가 확인하고 멈춤), 페이지마다 TTL 연장
+    private static final String REBUILD_LOCK_KEY = "model:index:rebuild:lock";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(5);
+    // 릴레이 락 TTL보다 길게 기다려, 중단된 노드가 남긴 락도 만료된 뒤 진행
+    private static final Duration RELAY_IDLE_TIMEOUT = Duration.ofSeconds(90);
+    private static final Duration OUTBOX_DRAIN_TIMEOUT = Duration.ofMinutes(2);
+    private static final long POLL_INTERVAL_MS = 200;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    @Value("${app.elasticsearch.reindex.batch-size:500}")
+    private int reindexBatchSize;
+
+    @Value("${app.elasticsearch.reindex.max-in-flight:2}")
+    private int reindexMaxInFlight;
+
+    @Value("${app.elasticsearch.outbox.enabled:true}")
+    private boolean outboxEnabled;
 
     public void indexModel(AIModel aiModel) {
         try {
@@ -53,8 +119,10 @@ public class ElasticsearchIndexService {
             Double rating = getAverageRating(aiModel);
             Long reviewCount = getReviewCount(aiModel);
 
+            String primaryImageUrl = fileService.getPrimaryImageUrlMap(List.of(aiModel.getId())).get(aiModel.getId());
+
             AIModelDocument document = AIModelDocument.from(
-                aiModel, ownerName, usageCount, viewCount, rating, reviewCount);
+                aiModel, ownerName, usageCount, viewCount, rating, reviewCount, primaryImageUrl);
             aiModelSearchRepository.save(document);
             log.info("Elasticsearch에 모델 색인 완료: modelId={}", aiModel.getId());
         } catch (Exception e) {
@@ -72,36 +140,147 @@ public class ElasticsearchIndexService {
     }
 
     /**
-     * ai-models 인덱스를 재생성 (settings + mappings 분리)
+     * 지정한 모델들을 DB에서 다시 읽어 별칭(현재 인덱스)에 bulk 색인 (아웃박스 릴레이용)
+     * DB에 없는 모델은 삭제된 것으로 보고 인덱스에서도 제거
+     *
+     * @return 색인에 실패한 모델 ID (다음 주기에 재시도)
      */
-    public void recreateAIModelsIndex() {
+    public Set<Long> reindexModels(Collection<Long> modelIds) {
+        if (modelIds.isEmpty()) {
+            return Set.of();
+        }
+        List<ModelWithStatisticsProjection> projections =
+                aiModelJpaRepository.findModelsWithStatisticsAndOwnerByIdIn(modelIds);
+
+        Set<Long> failed = new HashSet<>();
+        Set<Long> missing = new HashSet<>(modelIds);
+        projections.forEach(p -> missing.remove(p.getModel().getId()));
+        failed.addAll(deleteModels(missing));
+
+        List<IndexQuery> queries = toIndexQueries(projections);
+        // 문서 변환에 실패한 모델은 toIndexQueries에서 제외되므로 실패로 간주
+        Set<Long> converted = queries.stream().map(q -> Long.valueOf(q.getId())).collect(Collectors.toSet());
+        projections.stream()
+                .map(p -> p.getModel().getId())
+                .filter(id -> !converted.contains(id))
+                .forEach(failed::add);
+        if (queries.isEmpty()) {
+            return failed;
+        }
+
         try {
-            IndexOperations indexOps = elasticsearchTemplate.indexOps(AIModelDocument.class);
-            
-            // 기존 인덱스 삭제
-            if (indexOps.exists()) {
-                log.info("기존 ai-models 인덱스 삭제 중...");
-                indexOps.delete();
-            }
+            elasticsearchTemplate.bulkIndex(queries, IndexCoordinates.of(INDEX_ALIAS));
+        } catch (BulkFailureException e) {
+            e.getFailedDocuments().keySet().forEach(id -> failed.add(Long.valueOf(id)));
+            log.error("아웃박스 bulk 색인 부분 실패: failed={}/{}", e.getFailedDocuments().size(), queries.size());
+        } catch (Exception e) {
+            failed.addAll(converted);
+            log.error("아웃박스 bulk 색인 실패: size={}, error={}", queries.size(), e.getMessage());
+        }
+        return failed;
+    }
 
-            // 1. settings로 인덱스 생성
-            log.info("새로운 ai-models 인덱스 생성 중...");
-            Document settings = loadSettings();
-            indexOps.create(settings);
-            
-            // 2. mappings 적용
-            log.info("인덱스 매핑 적용 중...");
-            Document mappings = loadMappings();
-            indexOps.putMapping(mappings);
-            
-            log.info("ai-models 인덱스가 성공적으로 재생성되었습니다.");
-            
+    /**
+     * 지정한 모델들의 조회수/사용 횟수/평점/리뷰 수만 bulk 부분 갱신 (아웃박스 릴레이용)
+     * 전체 문서를 다시 만들지 않으므로 modelName/prompt 재분석과 suggest 재생성이 일어나지 않고,
+     * 값이 그대로면 Elasticsearch가 noop으로 처리해 세그먼트도 늘지 않음
+     * 부분 갱신에 실패한 모델(문서 없음 등)은 전체 재색인으로 한 번 더 시도
+     *
+     * @return 반영에 실패한 모델 ID (다음 주기에 재시도)
+     */
+    public Set<Long> updateCounters(Collection<Long> modelIds) {
+        if (modelIds.isEmpty()) {
+            return Set.of();
+        }
+        List<Long> ids = List.copyOf(modelIds);
+        Map<Long, ModelStatistics> statisticsMap = modelStatisticsRepository.findAllByModelIdIn(ids).stream()
+                .collect(Collectors.toMap(ms -> ms.getModel().getId(), ms -> ms, (a, b) -> a));
+        Map<Long, ReviewStats> reviewStatsMap = buildReviewStatsMap(ids);
+
+        List<UpdateQuery> queries = new ArrayList<>(ids.size());
+        for (Long modelId : ids) {
+            ModelStatistics stats = statisticsMap.get(modelId);
+            ReviewStats reviewStats = reviewStatsMap.getOrDefault(modelId, ReviewStats.EMPTY);
+
+            Document counters = Document.create();
+            counters.put("usageCount", stats != null ? stats.getUsageCount() : 0L);
+            counters.put("viewCount", stats != null ? stats.getViewCount() : 0L);
+            counters.put("rating", reviewStats.averageRating());
+            counters.put("reviewCount", reviewStats.reviewCount());
+            queries.add(UpdateQuery.builder(modelId.toString())
+                    .withDocument(counters)
+                    .withRetryOnConflict(3)
+                    .build());
+        }
+
+        Set<Long> retry = new HashSet<>();
+        try {
+            elasticsearchTemplate.bulkUpdate(queries, IndexCoordinates.of(INDEX_ALIAS));
+        } catch (BulkFailureException e) {
+            e.getFailedDocuments().keySet().forEach(id -> retry.add(Long.valueOf(id)));
+            log.warn("카운터 부분 갱신 일부 실패, 전체 재색인으로 재시도: failed={}/{}",
+                    e.getFailedDocuments().size(), queries.size());
+        } catch (Exception e) {
+            log.error("카운터 부분 갱신 실패: size={}, error={}", queries.size(), e.getMessage());
+            return new HashSet<>(ids);
+        }
+        return reindexModels(retry);
+    }
+
+    /**
+     * 지정한 모델들의 문서를 인덱스에서 제거
+     *
+     * @return 삭제에 실패한 모델 ID
+     */
+    public Set<Long> deleteModels(Collection<Long> modelIds) {
+        if (modelIds.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            aiModelSearchRepository.deleteAllById(modelIds.stream().map(String::valueOf).toList());
+            return Set.of();
         } catch (Exception e) {
-            log.error("ai-models 인덱스 재생성 중 오류 발생", e);
-            throw new RuntimeException("인덱스 재생성 실패", e);
+            log.error("모델 인덱스 일괄 삭제 실패: size={}, error={}", modelIds.size(), e.getMessage());
+            return new HashSet<>(modelIds);
         }
     }
 
+    /**
+     * 새 버전 인덱스 생성 (settings + mappings 분리)
+     * 대량 적재 속도를 위해 refresh 비활성화, replica 0으로 생성하고 적재 후 원래 설정으로 복구
+     */
+    private void createVersionedIndex(String indexName) {
+        IndexOperations indexOps = elasticsearchTemplate.indexOps(IndexCoordinates.of(indexName));
+
+        // 1. settings로 인덱스 생성 (bulk 적재용 설정 덮어쓰기)
+        log.info("새로운 인덱스 생성 중: {}", indexName);
+        Document settings = loadSettings();
+        settings.put("number_of_replicas", 0);
+        settings.put("refresh_interval", "-1");
+        indexOps.create(settings);
+
+        // 2. mappings 적용
+        log.info("인덱스 매핑 적용 중: {}", indexName);
+        Document mappings = loadMappings();
+        indexOps.putMapping(mappings);
+    }
+
+    /**
+     * bulk 적재가 끝난 인덱스에 운영 설정(replica, refresh_interval) 복구 후 refresh
+     */
+    private void restoreServingSettings(String indexName) throws IOException {
+        Document settings = loadSettings();
+        String replicas = String.valueOf(settings.getOrDefault("number_of_replicas", 1));
+        String refreshInterval = String.valueOf(settings.getOrDefault("refresh_interval", "1s"));
+
+        elasticsearchClient.indices().putSettings(p -> p
+                .index(indexName)
+                .settings(st -> st
+                        .numberOfReplicas(replicas)
+                        .refreshInterval(t -> t.time(refreshInterval))));
+        elasticsearchClient.indices().refresh(r -> r.index(indexName));
+    }
+
     /**
      * 인덱스 설정 파일 로드
      */
@@ -137,82 +316,384 @@ public class ElasticsearchIndexService {
     }
 
     /**
-     * MySQL에서 Elasticsearch로 모든 AI 모델 데이터 동기화
-     * 하이브리드 최적화: JOIN 쿼리 + 일괄 리뷰 통계 조회 (2번 쿼리)
+     * MySQL에서 Elasticsearch로 모든 AI 모델 데이터 동기화 (blue/green 재구축)
+     *
+     * 1. 재구축 표시 후 진행 중인 아웃박스 릴레이 배치가 끝나기를 대기 (이후 변경은 아웃박스에 쌓임)
+     * 2. 새 버전 인덱스(ai-models-v{n})를 bulk 적재용 설정으로 생성
+     * 3. 스트리밍 bulk 색인 후 운영 설정 복구 (실패 문서가 하나라도 있으면 새 인덱스를 버리고 중단)
+     * 4. ai-models 별칭을 새 인덱스로 원자적 전환
+     * 5. 재구축 표시 해제 → 릴레이가 쌓인 변경을 별칭(새 인덱스)에 반영할 때까지 대기 후 이전 인덱스 삭제
+     *
+     * 검색/색인은 항상 ai-models 별칭을 사용하므로 재구축 중에도 기존 인덱스로 서비스가 유지된다.
+     * 재구축 중 릴레이를 멈추므로 삭제/평점/카운터 변경이 이전 인덱스에만 반영되고 사라지지 않는다.
      */
     public long syncAllModelsToElasticsearch() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 인덱스 재구축이 진행 중입니다.");
+        }
+        RedisLeaseLock rebuildLock = new RedisLeaseLock(redisTemplate, REBUILD_LOCK_KEY, REBUILD_LOCK_TTL);
+        if (!rebuildLock.tryAcquire()) {
+            rebuilding.set(false);
+            throw new IllegalStateException("다른 노드에서 인덱스 재구축이 진행 중입니다.");
+        }
+
+        String newIndex = null;
+        boolean lockReleased = false;
         try {
-            log.info("MySQL → Elasticsearch 전체 AI 모델 동기화 시작 (하이브리드 최적화)");
-            
-            // 1. JOIN 쿼리로 모델+통계+소유자 한 번에 조회 (1번 쿼리)
-            List<ModelWithStatisticsProjection> projections =
-                    aiModelJpaRepository.findAllModelsWithStatisticsAndOwner();
-            
-            log.info("MySQL에서 {} 개의 AI 모델 조회됨 (JOIN 쿼리)", projections.size());
-            
-            if (projections.isEmpty()) {
-                log.info("동기화할 모델이 없습니다.");
-                return 0;
+            log.info("MySQL → Elasticsearch 전체 AI 모델 동기화 시작 (blue/green 재구축)");
+            long startedAt = System.currentTimeMillis();
+            LocalDateTime rebuildStartedAt = LocalDateTime.now();
+
+            // 1. 아웃박스 릴레이 정지 확인
+            if (outboxEnabled) {
+                awaitRelayIdle();
             }
-            
-            // 2. 모든 모델 ID 수집
-            List<Long> modelIds = projections.stream()
-                    .map(p -> p.getModel().getId())
-                    .toList();
-            
-            // 3. 리뷰 통계만 별도로 일괄 조회 (1번 쿼리)
-            Map<Long, Double> ratingMap = buildRatingMap(modelIds);
-            Map<Long, Long> reviewCountMap = buildReviewCountMap(modelIds);
-            
-            log.info("하이브리드 최적화 완료 - 총 2번 쿼리로 모든 데이터 조회");
-            
-            // 4. Elasticsearch 인덱스 초기화
-            aiModelSearchRepository.deleteAll();
-            log.info("기존 Elasticsearch 데이터 삭제 완료");
-            
-            // 5. 각 모델을 Elasticsearch에 색인
-            long indexedCount = 0;
-            for (ModelWithStatisticsProjection projection : projections) {
-                try {
-                    AIModel model = projection.getModel();
-                    Long modelId = model.getId();
-                    
-                    // JOIN으로 가져온 데이터 사용
-                    String ownerName = projection.getOwnerName() != null ? 
-                            projection.getOwnerName() : 
-                            (model.getOwnType() != null ? model.getOwnType().name() : "ADMIN");
-                    
-                    ModelStatistics stats = projection.getStatistics();
-                    Long usageCount = stats != null ? stats.getUsageCount() : 0L;
-                    Long viewCount = stats != null ? stats.getViewCount() : 0L;
-                    
-                    // 리뷰 통계는 별도 조회한 것 사용
-                    Double rating = ratingMap.getOrDefault(modelId, 0.0);
-                    Long reviewCount = reviewCountMap.getOrDefault(modelId, 0L);
-                    
-                    AIModelDocument document = AIModelDocument.from(
-                        model, ownerName, usageCount, viewCount, rating, reviewCount);
-                    aiModelSearchRepository.save(document);
-                    indexedCount++;
-                    
-                    if (indexedCount % 50 == 0) {
-                        log.info("진행 상황: {}/{} 모델 색인 완료", indexedCount, projections.size());
-                    }
-                } catch (Exception e) {
-                    log.error("모델 색인 실패: modelId={}, error={}", 
-                            projection.getModel().getId(), e.getMessage());
-                }
+
+            Set<String> previousIndices = findAliasTargets();
+            boolean legacyIndexExists = previousIndices.isEmpty()
+                    && elasticsearchClient.indices().exists(e -> e.index(INDEX_ALIAS)).value();
+
+            // 2. 새 버전 인덱스 생성
+            newIndex = VERSIONED_INDEX_PREFIX + nextIndexVersion();
+            createVersionedIndex(newIndex);
+
+            // 3. 페이지 단위 조회 + bulk 색인 후 운영 설정 복구
+            long indexedCount = streamAllModelsToIndex(IndexCoordinates.of(newIndex), rebuildLock);
+            restoreServingSettings(newIndex);
+
+            // 4. 별칭 원자적 전환
+            swapAlias(newIndex, previousIndices, legacyIndexExists);
+
+            // 5. 재구축 중 쌓인 변경을 새 인덱스에 반영한 뒤 이전 인덱스 정리
+            if (outboxEnabled) {
+                Long lastOutboxId = outboxRepository.findFirstByOrderByIdDesc().map(ModelIndexOutbox::getId).orElse(null);
+                rebuildLock.release();
+                lockReleased = true;
+                awaitOutboxDrained(lastOutboxId);
+            } else {
+                // 아웃박스를 쓰지 않는 환경: 재구축 중 변경된 모델을 updatedAt 기준으로 재색인
+                long caughtUp = catchUpModelsUpdatedAfter(rebuildStartedAt.minusSeconds(CATCH_UP_MARGIN_SECONDS));
+                log.info("재구축 중 변경된 모델 catch-up: {} 개", caughtUp);
             }
-            
-            log.info("MySQL → Elasticsearch 동기화 완료: {} 개 모델 색인됨 (하이브리드 최적화)", indexedCount);
+            previousIndices.forEach(this::deleteIndexQuietly);
+
+            log.info("MySQL → Elasticsearch 동기화 완료: index={}, {} 개 모델 색인됨 ({}ms)",
+                    newIndex, indexedCount, System.currentTimeMillis() - startedAt);
             return indexedCount;
-            
+
         } catch (Exception e) {
             log.error("AI 모델 동기화 중 오류 발생", e);
+            if (newIndex != null && !newIndex.equals(currentIndexNameQuietly())) {
+                deleteIndexQuietly(newIndex);
+            }
             throw new RuntimeException("동기화 실패", e);
+        } finally {
+            if (!lockReleased) {
+                rebuildLock.release();
+            }
+            rebuilding.set(false);
         }
     }
-    
+
+    /**
+     * 인덱스 재구축 진행 여부 (모든 노드 기준)
+     * 아웃박스 릴레이는 재구축 중 반영을 멈추고, 변경은 아웃박스에 남겨 두었다가 별칭 전환 후 새 인덱스에 반영
+     */
+    public boolean isRebuilding() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(REBUILD_LOCK_KEY));
+        } catch (Exception e) {
+            log.warn("재구축 상태 확인 실패", e);
+            return false;
+        }
+    }
+
+    /**
+     * 재구축 표시 이후 진행 중인 릴레이 배치가 끝날 때까지 대기
+     * 릴레이는 락을 잡은 뒤 재구축 여부를 확인하므로, 락이 비면 더 이상 이전 인덱스에 쓰지 않음
+     */
+    private void awaitRelayIdle() throws InterruptedException {
+        long deadline = System.nanoTime() + RELAY_IDLE_TIMEOUT.toNanos();
+        while (Boolean.TRUE.equals(redisTemplate.hasKey(ModelIndexOutboxRelay.LOCK_KEY))) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("아웃박스 릴레이가 멈추지 않아 재구축을 중단합니다.");
+            }
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+    }
+
+    /**
+     * 별칭 전환 시점까지 기록된 아웃박스 변경이 모두 반영될 때까지 대기 (제한 시간을 넘기면 릴레이에 맡기고 진행)
+     */
+    private void awaitOutboxDrained(Long lastOutboxId) throws InterruptedException {
+        if (lastOutboxId == null) {
+            return;
+        }
+        long deadline = System.nanoTime() + OUTBOX_DRAIN_TIMEOUT.toNanos();
+        while (outboxRepository.existsByIdLessThanEqualAndDeadLetteredAtIsNull(lastOutboxId)) {
+            if (System.nanoTime() > deadline) {
+                log.warn("재구축 중 쌓인 아웃박스 변경이 {} 안에 반영되지 않음 (릴레이가 이어서 반영): lastOutboxId={}",
+                        OUTBOX_DRAIN_TIMEOUT, lastOutboxId);
+                return;
+            }
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+        log.info("재구축 중 쌓인 아웃박스 변경 반영 완료: lastOutboxId={}", lastOutboxId);
+    }
+
+    /**
+     * ai-models 별칭이 가리키는 인덱스 목록 조회 (별칭이 없으면 빈 목록)
+     */
+    private Set<String> findAliasTargets() throws IOException {
+        try {
+            GetAliasResponse response = elasticsearchClient.indices().getAlias(g -> g.name(INDEX_ALIAS));
+            return response.result().keySet();
+        } catch (ElasticsearchException e) {
+            if (e.status() == 404) {
+                return Set.of();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 다음 인덱스 버전 계산 (ai-models-v{n} 중 최대 n + 1)
+     */
+    private int nextIndexVersion() throws IOException {
+        GetIndexResponse response = elasticsearchClient.indices().get(g -> g.index(VERSIONED_INDEX_PREFIX + "*"));
+        return response.result().keySet().stream()
+                .map(name -> name.substring(VERSIONED_INDEX_PREFIX.length()))
+                .filter(version -> version.matches("\\d+"))
+                .mapToInt(Integer::parseInt)
+                .max()
+                .orElse(0) + 1;
+    }
+
+    /**
+     * 별칭을 새 인덱스로 원자적 전환
+     * 별칭 도입 이전의 단일 ai-models 인덱스가 있으면 같은 요청에서 삭제 (remove_index)
+     */
+    private void swapAlias(String newIndex, Set<String> previousIndices, boolean legacyIndexExists) throws IOException {
+        elasticsearchClient.indices().updateAliases(u -> {
+            u.actions(a -> a.add(add -> add.index(newIndex).alias(INDEX_ALIAS).isWriteIndex(true)));
+            previousIndices.forEach(old -> u.actions(a -> a.remove(r -> r.index(old).alias(INDEX_ALIAS))));
+            if (legacyIndexExists) {
+                u.actions(a -> a.removeIndex(r -> r.index(INDEX_ALIAS)));
+            }
+            return u;
+        });
+        log.info("별칭 전환 완료: {} -> {} (이전: {}{})", INDEX_ALIAS, newIndex, previousIndices,
+                legacyIndexExists ? ", 기존 단일 인덱스 삭제" : "");
+    }
+
+    /**
+     * 재구축 시작 이후 변경된 모델을 별칭(현재 인덱스)에 재색인
+     */
+    private long catchUpModelsUpdatedAfter(LocalDateTime fromDateTime) {
+        IndexCoordinates alias = IndexCoordinates.of(INDEX_ALIAS);
+        long count = 0;
+        int page = 0;
+        Page<ModelIndexProjection> projections;
+        do {
+            projections = aiModelJpaRepository.findModelIndexesUpdatedAfter(
+                    fromDateTime, ReviewStatus.ACTIVE, PageRequest.of(page++, reindexBatchSize));
+
+            Map<Long, String> primaryImageUrls = primaryImageUrlMap(projections.getContent().stream()
+                    .map(projection -> projection.getModel().getId())
+                    .toList());
+            List<IndexQuery> queries = projections.getContent().stream()
+                    .map(projection -> {
+                        ModelStatistics stats = projection.getStatistics();
+                        AIModelDocument document = AIModelDocument.from(
+                                projection.getModel(),
+                                projection.getOwnerName(),
+                                stats != null ? stats.getUsageCount() : 0L,
+                                stats != null ? stats.getViewCount() : 0L,
+                                projection.getAverageRating(),
+                                projection.getReviewCount(),
+                                primaryImageUrls.get(projection.getModel().getId()));
+                        return new IndexQueryBuilder().withId(document.getId()).withObject(document).build();
+                    })
+                    .toList();
+            if (!queries.isEmpty()) {
+                elasticsearchTemplate.bulkIndex(queries, alias);
+                count += queries.size();
+            }
+        } while (projections.hasNext());
+        return count;
+    }
+
+    private String currentIndexNameQuietly() {
+        try {
+            return findAliasTargets().stream().findFirst().orElse(null);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private void deleteIndexQuietly(String indexName) {
+        try {
+            elasticsearchTemplate.indexOps(IndexCoordinates.of(indexName)).delete();
+            log.info("인덱스 삭제 완료: {}", indexName);
+        } catch (Exception e) {
+            log.warn("인덱스 삭제 실패: {}", indexName, e);
+        }
+    }
+
+    /**
+     * 모든 모델을 keyset 페이징으로 읽어 지정한 인덱스에 bulk 색인
+     * - 페이지마다 짧은 읽기 전용 트랜잭션에서 조회/문서 변환 후 영속성 컨텍스트를 비움
+     *   (OSIV로 요청 스레드에 묶인 EntityManager를 쓰더라도 엔티티가 카탈로그 크기만큼 누적되지 않음)
+     * - 진행 중 bulk 요청이 maxInFlight에 도달하면 다음 페이지 조회를 대기 (backpressure)
+     * - 페이지마다 재구축 락을 연장하고, 문서 변환/색인 실패가 하나라도 있으면 예외 (별칭을 전환하지 않음)
+     *
+     * @return 색인에 성공한 문서 수
+     */
+    private long streamAllModelsToIndex(IndexCoordinates index, RedisLeaseLock rebuildLock) throws InterruptedException {
+        int maxInFlight = Math.max(1, reindexMaxInFlight);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        ExecutorService bulkExecutor = Executors.newFixedThreadPool(
+                maxInFlight, Thread.ofPlatform().name("es-bulk-", 0).daemon(true).factory());
+
+        AtomicLong indexedCount = new AtomicLong();
+        AtomicLong failedCount = new AtomicLong();
+        long lastModelId = 0L;
+        int batchCount = 0;
+
+        try {
+            while (true) {
+                long after = lastModelId;
+                IndexPage page = readOnlyTransaction().execute(status -> readIndexPage(after));
+                entityManager.clear();
+                if (page == null || page.size() == 0) {
+                    break;
+                }
+                lastModelId = page.lastModelId();
+                if (!rebuildLock.renew()) {
+                    throw new IllegalStateException("재구축 락을 잃어 재구축을 중단합니다.");
+                }
+
+                List<IndexQuery> queries = page.queries();
+                failedCount.addAndGet(page.size() - queries.size());  // 문서 변환 실패
+                batchCount++;
+
+                inFlight.acquire();
+                bulkExecutor.execute(() -> {
+                    try {
+                        bulkIndex(queries, index, indexedCount, failedCount);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+
+                if (batchCount % 10 == 0) {
+                    log.info("진행 상황: {} 배치 전송, {} 모델 색인 완료", batchCount, indexedCount.get());
+                }
+                if (page.size() < reindexBatchSize) {
+                    break;
+                }
+            }
+
+            // 진행 중인 bulk 요청 모두 완료 대기
+            inFlight.acquire(maxInFlight);
+            inFlight.release(maxInFlight);
+        } finally {
+            bulkExecutor.shutdown();
+        }
+
+        if (failedCount.get() > 0) {
+            throw new IllegalStateException(String.format(
+                    "색인 실패 문서가 있어 별칭을 전환하지 않습니다: failed=%d, indexed=%d",
+                    failedCount.get(), indexedCount.get()));
+        }
+        return indexedCount.get();
+    }
+
+    /**
+     * modelId가 after보다 큰 다음 페이지를 읽어 색인 요청으로 변환 (트랜잭션 안에서 호출)
+     */
+    private IndexPage readIndexPage(long after) {
+        List<ModelWithStatisticsProjection> batch = aiModelJpaRepository.findModelsWithStatisticsAndOwnerAfter(
+                after, PageRequest.of(0, reindexBatchSize));
+        if (batch.isEmpty()) {
+            return new IndexPage(0, after, List.of());
+        }
+        return new IndexPage(batch.size(), batch.get(batch.size() - 1).getModel().getId(), toIndexQueries(batch));
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    /**
+     * 재구축 한 페이지 분량의 색인 요청 (엔티티를 참조하지 않음)
+     */
+    private record IndexPage(int size, long lastModelId, List<IndexQuery> queries) {
+    }
+
+    /**
+     * 한 페이지 분량의 문서를 bulk 색인 (부분 실패는 실패 문서 수만큼 집계)
+     */
+    private void bulkIndex(List<IndexQuery> queries, IndexCoordinates index,
+                           AtomicLong indexedCount, AtomicLong failedCount) {
+        try {
+            elasticsearchTemplate.bulkIndex(queries, index);
+            indexedCount.addAndGet(queries.size());
+        } catch (BulkFailureException e) {
+            int failed = e.getFailedDocuments().size();
+            failedCount.addAndGet(failed);
+            indexedCount.addAndGet(queries.size() - failed);
+            log.error("bulk 색인 부분 실패: failed={}/{}", failed, queries.size());
+        } catch (Exception e) {
+            failedCount.addAndGet(queries.size());
+            log.error("bulk 색인 실패: size={}, error={}", queries.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 조회한 페이지를 색인 요청으로 변환 (리뷰 통계는 페이지당 한 번만 조회)
+     */
+    private List<IndexQuery> toIndexQueries(List<ModelWithStatisticsProjection> batch) {
+        List<Long> modelIds = batch.stream()
+                .map(p -> p.getModel().getId())
+                .toList();
+        Map<Long, ReviewStats> reviewStatsMap = buildReviewStatsMap(modelIds);
+        Map<Long, String> primaryImageUrls = primaryImageUrlMap(modelIds);
+
+        List<IndexQuery> queries = new ArrayList<>(batch.size());
+        for (ModelWithStatisticsProjection projection : batch) {
+            try {
+                AIModel model = projection.getModel();
+                Long modelId = model.getId();
+
+                // JOIN으로 가져온 데이터 사용
+                String ownerName = projection.getOwnerName() != null ?
+                        projection.getOwnerName() :
+                        (model.getOwnType() != null ? model.getOwnType().name() : "ADMIN");
+
+                ModelStatistics stats = projection.getStatistics();
+                Long usageCount = stats != null ? stats.getUsageCount() : 0L;
+                Long viewCount = stats != null ? stats.getViewCount() : 0L;
+
+                ReviewStats reviewStats = reviewStatsMap.getOrDefault(modelId, ReviewStats.EMPTY);
+
+                AIModelDocument document = AIModelDocument.from(
+                        model, ownerName, usageCount, viewCount, reviewStats.averageRating(), reviewStats.reviewCount(),
+                        primaryImageUrls.get(modelId));
+                queries.add(new IndexQueryBuilder()
+                        .withId(document.getId())
+                        .withObject(document)
+                        .build());
+            } catch (Exception e) {
+                log.error("모델 문서 변환 실패: modelId={}, error={}",
+                        projection.getModel().getId(), e.getMessage());
+            }
+        }
+        return queries;
+    }
+
     /**
      * 소유자 이름 맵 생성 (일괄 최적화)
      */
@@ -246,35 +727,36 @@ public class ElasticsearchIndexService {
     }
     
     /**
-     * 평점 맵 생성 (일괄 최적화)
+     * 리뷰 통계 맵 생성 (평점 + 리뷰 수를 한 번의 쿼리로 조회)
      */
-    private Map<Long, Double> buildRatingMap(List<Long> modelIds) {
-        List<Object[]> ratingResults = reviewRepository.getReviewStatisticsByModelIds(modelIds, ReviewStatus.ACTIVE);
-        
-        Map<Long, Double> ratingMap = new HashMap<>();
-        for (Object[] result : ratingResults) {
+    private Map<Long, ReviewStats> buildReviewStatsMap(List<Long> modelIds) {
+        List<Object[]> results = reviewRepository.getReviewStatisticsByModelIds(modelIds, ReviewStatus.ACTIVE);
+
+        Map<Long, ReviewStats> reviewStatsMap = new HashMap<>();
+        for (Object[] result : results) {
             Long modelId = (Long) result[0];
+            Long reviewCount = (Long) result[1];
             Double avgRating = (Double) result[2];
-            ratingMap.put(modelId, avgRating != null ? avgRating : 0.0);
+            reviewStatsMap.put(modelId, new ReviewStats(
+                    reviewCount != null ? reviewCount : 0L,
+                    avgRating != null ? avgRating : 0.0));
         }
-        
-        return ratingMap;
+
+        return reviewStatsMap;
     }
-    
+
     /**
-     * 리뷰 개수 맵 생성 (일괄 최적화)
+     * 배치 단위로 모델별 대표 이미지 URL 조회
      */
-    private Map<Long, Long> buildReviewCountMap(List<Long> modelIds) {
-        List<Object[]> reviewResults = reviewRepository.getReviewStatisticsByModelIds(modelIds, ReviewStatus.ACTIVE);
-        
-        Map<Long, Long> reviewCountMap = new HashMap<>();
-        for (Object[] result : reviewResults) {
-            Long modelId = (Long) result[0];
-            Long reviewCount = (Long) result[1];
-            reviewCountMap.put(modelId, reviewCount != null ? reviewCount : 0L);
-        }
-        
-        return reviewCountMap;
+    private Map<Long, String> primaryImageUrlMap(List<Long> modelIds) {
+        return modelIds.isEmpty() ? Map.of() : fileService.getPrimaryImageUrlMap(modelIds);
+    }
+
+    /**
+     * 모델별 리뷰 집계 값
+     */
+    private record ReviewStats(Long reviewCount, Double averageRating) {
+        private static final ReviewStats EMPTY = new ReviewStats(0L, 0.0);
     }
 
     /**
@@ -352,7 +834,8 @@ public class ElasticsearchIndexService {
             return Map.of(
                 "indexExists", indexExists,
                 "totalDocuments", totalDocuments,
-                "indexName", "ai-models"
+                "indexName", INDEX_ALIAS,
+                "backingIndices", findAliasTargets()
             );
         } catch (Exception e) {
             log.error("인덱스 통계 조회 실패", e);
@@ -0,0 +1,224 @@
+package com.example.nomodel.model.command.infrastructure.service;
+
+import com.example.nomodel._core.concurrency.RedisLeaseLock;
+import com.example.nomodel.model.command.domain.event.ModelIndexedEvent;
+import com.example.nomodel.model.command.domain.model.ModelIndexChangeType;
+import com.example.nomodel.model.command.domain.model.ModelIndexOutbox;
+import com.example.nomodel.model.command.domain.repository.ModelIndexOutboxJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검색 색인 아웃박스 릴레이
+ * model_index_outbox를 오래된 순으로 읽어 모델별로 합친 뒤 Elasticsearch에 bulk 반영하고, 반영된 행을 삭제
+ *
+ * - 같은 모델의 변경이 여러 번 쌓여 있어도 한 번만 색인 (마지막 변경이 삭제면 삭제)
+ * - 카운터만 바뀐 모델은 전체 문서 대신 숫자 필드만 부분 갱신
+ * - 반영이 끝난 모델은 ModelIndexedEvent로 알려 검색 페이지 캐시를 무효화 (커밋 직후가 아니라 색인 반영 후에
+ *   무효화해야 그 사이 검색이 이전 색인 결과로 캐시를 다시 채우지 않음)
+ * - 진행 위치는 아웃박스 자체 (남은 행 = 미반영 변경): AUTO_INCREMENT id는 커밋 순서와 다를 수 있어
+ *   "마지막 id 이후" 방식은 늦게 커밋된 행을 건너뛸 수 있으므로 반영한 행을 지우는 방식을 사용
+ * - 실패한 모델의 행은 남겨 두고 지수 백오프 후 재시도, max-attempts를 넘기면 dead-letter로 표시
+ *   (백오프 중인 행은 배치 조회에서 제외되므로 실패가 반복되는 모델이 뒤따르는 변경을 막지 않음)
+ * - 여러 노드 중 Redis 락을 얻은 한 노드만 실행 (같은 모델을 두 노드가 역순으로 색인하지 않도록)
+ *   배치마다 락을 연장하고, 연장에 실패하면(락을 잃으면) 즉시 중단
+ * - 인덱스 재구축 중에는 반영하지 않음 (변경은 아웃박스에 남았다가 별칭 전환 후 새 인덱스에 반영)
+ *   재구축 여부는 락을 잡은 뒤 확인하므로, 재구축 쪽은 릴레이 락이 비기를 기다리면 이전 인덱스 쓰기가 끝났음을 알 수 있음
+ */
+@Slf4j
+@Component
+public class ModelIndexOutboxRelay {
+
+    static final String LOCK_KEY = "model:index:outbox:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+
+    private final ModelIndexOutboxJpaRepository outboxRepository;
+    private final ElasticsearchIndexService indexService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RedisLeaseLock lock;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+
+    private final Timer batchTimer;
+    private final Counter relayedRows;
+    private final Counter coalescedRows;
+    private final Counter failedModels;
+    private final Counter deadLetteredRows;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public ModelIndexOutboxRelay(ModelIndexOutboxJpaRepository outboxRepository,
+                                 ElasticsearchIndexService indexService,
+                                 RedisTemplate<String, String> redisTemplate,
+                                 ApplicationEventPublisher eventPublisher,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.elasticsearch.outbox.enabled:true}") boolean enabled,
+                                 @Value("${app.elasticsearch.outbox.batch-size:500}") int batchSize,
+                                 @Value("${app.elasticsearch.outbox.max-attempts:10}") int maxAttempts,
+                                 @Value("${app.elasticsearch.outbox.retry-backoff:1s}") Duration retryBackoff,
+                                 @Value("${app.elasticsearch.outbox.max-retry-backoff:5m}") Duration maxRetryBackoff) {
+        this.outboxRepository = outboxRepository;
+        this.indexService = indexService;
+        this.eventPublisher = eventPublisher;
+        this.lock = new RedisLeaseLock(redisTemplate, LOCK_KEY, LOCK_TTL);
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.batchTimer = Timer.builder("model.index.outbox.batch").register(meterRegistry);
+        this.relayedRows = Counter.builder("model.index.outbox.relayed").register(meterRegistry);
+        this.coalescedRows = Counter.builder("model.index.outbox.coalesced").register(meterRegistry);
+        this.failedModels = Counter.builder("model.index.outbox.failed").register(meterRegistry);
+        this.deadLetteredRows = Counter.builder("model.index.outbox.dead_lettered").register(meterRegistry);
+        meterRegistry.gauge("model.index.outbox.lag.seconds", lagSeconds, AtomicLong::get);
+    }
+
+    /**
+     * 쌓인 변경을 모두 반영할 때까지 배치 단위로 반복
+     */
+    @Scheduled(fixedDelayString = "${app.elasticsearch.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        if (!enabled || !lock.tryAcquire()) {
+            return;
+        }
+        try {
+            boolean more;
+            do {
+                if (indexService.isRebuilding()) {
+                    log.debug("인덱스 재구축 중, 아웃박스 반영 보류");
+                    break;
+                }
+                long start = System.nanoTime();
+                more = relayBatch();  // 배치가 가득 찼으면 바로 다음 배치
+                batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (more && !lock.renew()) {
+                    log.warn("아웃박스 릴레이 락 연장 실패, 남은 변경은 다음 주기에 반영");
+                    break;
+                }
+            } while (more);
+            updateLag();
+        } catch (Exception e) {
+            log.error("아웃박스 색인 반영 실패 (다음 주기에 재시도)", e);
+        } finally {
+            lock.release();
+        }
+    }
+
+    /**
+     * 지금 반영할 수 있는 가장 오래된 batchSize개 변경을 반영
+     * 실패한 행은 재시도 시각을 미루므로 다음 배치 조회에서 다시 나오지 않음
+     *
+     * @return 바로 다음 배치를 이어서 처리할지 여부
+     */
+    private boolean relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ModelIndexOutbox> changes = outboxRepository.findRelayable(now, PageRequest.of(0, batchSize));
+        if (changes.isEmpty()) {
+            return false;
+        }
+
+        Map<Long, ModelIndexChangeType> coalesced = coalesce(changes);
+        Set<Long> failed = apply(coalesced);
+
+        List<Long> done = new ArrayList<>(changes.size());
+        List<ModelIndexOutbox> retries = new ArrayList<>();
+        for (ModelIndexOutbox change : changes) {
+            if (failed.contains(change.getModelId())) {
+                change.recordFailure(now, retryBackoff, maxRetryBackoff, maxAttempts);
+                retries.add(change);
+            } else {
+                done.add(change.getId());
+            }
+        }
+        outboxRepository.deleteAllByIdInBatch(done);
+        scheduleRetries(retries);
+        publishIndexed(coalesced, failed);
+
+        relayedRows.increment(done.size());
+        coalescedRows.increment(changes.size() - coalesced.size());
+        failedModels.increment(failed.size());
+        log.debug("아웃박스 반영: rows={}, models={}, failed={}", changes.size(), coalesced.size(), failed.size());
+        return changes.size() == batchSize;
+    }
+
+    private void publishIndexed(Map<Long, ModelIndexChangeType> coalesced, Set<Long> failed) {
+        Map<Long, ModelIndexChangeType> indexed = new LinkedHashMap<>(coalesced);
+        indexed.keySet().removeAll(failed);
+        if (indexed.isEmpty()) {
+            return;
+        }
+        try {
+            eventPublisher.publishEvent(new ModelIndexedEvent(indexed));
+        } catch (Exception e) {
+            log.warn("색인 반영 이벤트 처리 실패 (검색 캐시는 TTL 만료로 갱신): models={}", indexed.size(), e);
+        }
+    }
+
+    private void scheduleRetries(List<ModelIndexOutbox> retries) {
+        if (retries.isEmpty()) {
+            return;
+        }
+        outboxRepository.saveAll(retries);
+        List<ModelIndexOutbox> deadLettered = retries.stream().filter(ModelIndexOutbox::isDeadLettered).toList();
+        if (!deadLettered.isEmpty()) {
+            deadLetteredRows.increment(deadLettered.size());
+            log.error("아웃박스 재시도 한도 초과로 dead-letter 처리: modelIds={}",
+                    deadLettered.stream().map(ModelIndexOutbox::getModelId).distinct().toList());
+        }
+    }
+
+    private Set<Long> apply(Map<Long, ModelIndexChangeType> changes) {
+        List<Long> reindexes = new ArrayList<>();
+        List<Long> counterUpdates = new ArrayList<>();
+        List<Long> deletes = new ArrayList<>();
+        changes.forEach((modelId, type) -> (switch (type) {
+            case MODEL -> reindexes;
+            case COUNTERS, REVIEW -> counterUpdates;
+            case DELETE -> deletes;
+        }).add(modelId));
+
+        Set<Long> failed = new HashSet<>(indexService.reindexModels(reindexes));
+        failed.addAll(indexService.updateCounters(counterUpdates));
+        failed.addAll(indexService.deleteModels(deletes));
+        return failed;
+    }
+
+    /**
+     * 모델별로 변경을 합침 (기록 순서대로 merge)
+     */
+    static Map<Long, ModelIndexChangeType> coalesce(List<ModelIndexOutbox> changes) {
+        Map<Long, ModelIndexChangeType> coalesced = new LinkedHashMap<>();
+        for (ModelIndexOutbox change : changes) {
+            coalesced.merge(change.getModelId(), change.getChangeType(), ModelIndexChangeType::merge);
+        }
+        return coalesced;
+    }
+
+    private void updateLag() {
+        lagSeconds.set(outboxRepository.findFirstByDeadLetteredAtIsNullOrderByIdAsc()
+                .map(oldest -> Math.max(0, Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toSeconds()))
+                .orElse(0L));
+    }
+}
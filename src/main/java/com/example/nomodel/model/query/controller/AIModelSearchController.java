@@ -2,10 +2,12 @@ package com.example.nomodel.model.query.controller;
 
 import com.example.nomodel._core.security.CustomUserDetails;
 import com.example.nomodel._core.utils.ApiUtils;
+import com.example.nomodel.model.command.application.dto.CursorPageResponse;
 import com.example.nomodel.model.command.application.dto.PageResponse;
-import com.example.nomodel.model.command.application.dto.response.AIModelSearchResponse;
+import com.example.nomodel.model.command.application.dto.response.AIModelSummaryResponse;
 import com.example.nomodel.model.query.service.AIModelSearchService;
 import com.example.nomodel.model.query.service.CachedModelSearchService;
+import com.example.nomodel.model.query.service.ModelSearchCriteria;
 import com.example.nomodel.model.command.domain.model.document.AIModelDocument;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -46,7 +48,7 @@ public class AIModelSearchController {
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
 
-        PageResponse<AIModelSearchResponse> result = cachedSearchService.search(keyword, isFree, page, size);
+        PageResponse<AIModelSummaryResponse> result = cachedSearchService.search(keyword, isFree, page, size);
         return ResponseEntity.ok(ApiUtils.success(result));
     }
 
@@ -58,7 +60,7 @@ public class AIModelSearchController {
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
 
-        PageResponse<AIModelSearchResponse> result = cachedSearchService.getAdminModels(keyword, isFree, page, size);
+        PageResponse<AIModelSummaryResponse> result = cachedSearchService.getAdminModels(keyword, isFree, page, size);
         return ResponseEntity.ok(ApiUtils.success(result));
     }
 
@@ -77,6 +79,47 @@ public class AIModelSearchController {
     }
 
 
+    @Operation(summary = "AI 모델 통합 검색 (커서)", description = "무한 스크롤용 커서 기반 검색. 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 전달")
+    @GetMapping("/cursor")
+    public ResponseEntity<?> searchModelsWithCursor(
+            @Parameter(description = "검색 키워드 (선택적)") @RequestParam(required = false) String keyword,
+            @Parameter(description = "가격 필터링 (true: 무료만, false: 유료만, null: 전체)") @RequestParam(required = false) Boolean isFree,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
+
+        CursorPageResponse<AIModelSummaryResponse> result = cachedSearchService.searchWithCursor(keyword, isFree, cursor, size);
+        return ResponseEntity.ok(ApiUtils.success(result));
+    }
+
+    @Operation(summary = "관리자 모델 목록 조회/검색 (커서)", description = "공개된 관리자 모델 커서 기반 조회. 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 전달")
+    @GetMapping("/admin/cursor")
+    public ResponseEntity<?> getAdminModelsWithCursor(
+            @Parameter(description = "검색 키워드 (선택적)") @RequestParam(required = false) String keyword,
+            @Parameter(description = "가격 필터링 (true: 무료만, false: 유료만, null: 전체)") @RequestParam(required = false) Boolean isFree,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
+
+        CursorPageResponse<AIModelSummaryResponse> result = cachedSearchService.getAdminModelsWithCursor(keyword, isFree, cursor, size);
+        return ResponseEntity.ok(ApiUtils.success(result));
+    }
+
+    @Operation(summary = "내 모델 목록 조회/검색 (커서)", description = "로그인한 사용자가 생성한 모델 커서 기반 조회. 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 전달")
+    @GetMapping("/my-models/cursor")
+    public ResponseEntity<?> getMyModelsWithCursor(
+            @Parameter(description = "검색 키워드 (선택적)") @RequestParam(required = false) String keyword,
+            @Parameter(description = "가격 필터링 (true: 무료만, false: 유료만, null: 전체)") @RequestParam(required = false) Boolean isFree,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        Long userId = userDetails.getMemberId();
+        CursorPageResponse<AIModelDocument> result = searchService.searchWithCursor(
+                ModelSearchCriteria.ownerModels(userId, keyword, isFree, 0, size)
+                        .withSourceIncludes(AIModelSearchService.OWNER_SOURCE_FIELDS), cursor);
+        return ResponseEntity.ok(ApiUtils.success(result));
+    }
+
+
     @Operation(summary = "소유자별 검색", description = "특정 소유자의 모델 검색")
     @GetMapping("/owner/{ownerId}")
     public ResponseEntity<?> searchByOwner(
@@ -106,7 +149,7 @@ public class AIModelSearchController {
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "3") int size) {
 
         // 추천 로직 구현 - 예시로 일반 검색 결과 반환
-        PageResponse<AIModelSearchResponse> result = cachedSearchService.search(null, null, page, size);
+        PageResponse<AIModelSummaryResponse> result = cachedSearchService.search(null, null, page, size);
         return ResponseEntity.ok(ApiUtils.success(result));
     }
 
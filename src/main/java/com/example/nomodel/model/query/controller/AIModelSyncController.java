@@ -23,14 +23,11 @@ public class AIModelSyncController {
     private final ElasticsearchIndexService indexService;
 
     @Operation(summary = "AI 모델 인덱스 재생성 및 동기화", 
-               description = "Elasticsearch 인덱스를 한글 분석기(Nori) 설정으로 재생성하고 데이터를 동기화")
+               description = "한글 분석기(Nori) 설정으로 새 버전 인덱스를 만들어 데이터를 동기화한 뒤 ai-models 별칭을 무중단 전환")
     @PostMapping("/recreate-index")
     public ResponseEntity<?> recreateIndexAndSync() {
         try {
-            // 1. 인덱스 재생성 (한글 분석기 설정 적용)
-            indexService.recreateAIModelsIndex();
-            
-            // 2. 데이터 동기화
+            // 새 버전 인덱스 생성 → 데이터 동기화 → 별칭 전환 (재구축 중에도 기존 인덱스로 검색 유지)
             long syncedCount = indexService.syncAllModelsToElasticsearch();
             
             return ResponseEntity.ok(ApiUtils.success(
@@ -1,5 +1,6 @@
 package com.example.nomodel.model.query.service;
 
+import com.example.nomodel.model.command.application.cache.service.CacheAccessStatisticsService;
 import com.example.nomodel.model.command.application.dto.AIModelDetailResponse;
 import com.example.nomodel.model.command.application.dto.response.AIModelDynamicStats;
 import com.example.nomodel.model.command.application.dto.response.AIModelStaticDetail;
@@ -19,8 +20,12 @@ public class AIModelDetailFacadeService {
     private final CachedModelDetailService cachedModelDetailService;
     private final ModelStatisticsService statisticsService;
     private final ReviewRepository reviewRepository;
+    private final CacheAccessStatisticsService accessStatistics;
 
     public AIModelDetailResponse getModelDetail(Long modelId, Long memberId) {
+        // 캐시 워밍 대상 선정을 위한 조회 통계
+        accessStatistics.recordModelDetail(modelId);
+
         // 정적 데이터 (캐시 적용)
         AIModelStaticDetail staticDetail = cachedModelDetailService.getModelStaticDetail(modelId);
         // 동적 데이터 (실시간 조회)
@@ -1,13 +1,24 @@
 package com.example.nomodel.model.query.service;
 
+import com.example.nomodel._core.exception.ApplicationException;
+import com.example.nomodel._core.exception.ErrorCode;
+import com.example.nomodel.model.command.application.dto.CursorPageResponse;
+import com.example.nomodel.model.command.application.dto.response.AIModelSummaryResponse;
 import com.example.nomodel.model.command.domain.model.document.AIModelDocument;
 import com.example.nomodel.model.command.domain.repository.AIModelSearchRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
@@ -15,6 +26,7 @@ import co.elastic.clients.elasticsearch.core.search.Suggester;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,113 +42,171 @@ public class AIModelSearchService {
 
     private final AIModelSearchRepository searchRepository;
     private final ElasticsearchClient elasticsearchClient;
+    private final ElasticsearchTemplate elasticsearchTemplate;
+    private final ModelSearchQueryBuilder queryBuilder;
+
+    private static final IndexCoordinates INDEX = IndexCoordinates.of("ai-models");
 
     /**
-     * 통합 검색 - 모델명, 설명, 태그에서 키워드 검색
+     * 내 모델 목록 조회 시 가져올 _source 필드 (자동완성용 suggest 제외)
      */
-    public Page<AIModelDocument> search(String keyword, Boolean isFree, int page, int size) {
+    public static final List<String> OWNER_SOURCE_FIELDS = List.of(
+            "modelId", "modelName", "prompt", "tags", "ownType", "ownerId", "ownerName", "price", "isPublic",
+            "usageCount", "viewCount", "rating", "reviewCount", "createdAt", "updatedAt", "primaryImageUrl");
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("_score").descending());
+    @Value("${app.search.cursor.track-total-hits-up-to:1000}")
+    private int cursorTrackTotalHitsUpTo;
 
-        // 가격 필터링만 있는 경우
-        if ((keyword == null || keyword.trim().isEmpty()) && isFree != null) {
-            pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-            if (isFree) {
-                return searchRepository.findFreeModels(pageable);
-            } else {
-                return searchRepository.findPaidModels(pageable);
-            }
-        }
+    @Value("${app.search.cursor.max-size:100}")
+    private int cursorMaxSize;
 
-        // 키워드와 가격 필터링 조합
-        if (keyword != null && !keyword.trim().isEmpty() && isFree != null) {
-            if (isFree) {
-                return searchRepository.searchFreeModelsWithKeyword(keyword, pageable);
-            } else {
-                return searchRepository.searchPaidModelsWithKeyword(keyword, pageable);
-            }
-        }
+    @Value("${app.search.cursor.point-in-time.enabled:false}")
+    private boolean pointInTimeEnabled;
 
-        // 키워드만 있는 경우
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            return searchRepository.searchByModelNameAndPrompt(keyword, pageable);
-        }
+    @Value("${app.search.cursor.point-in-time.keep-alive:1m}")
+    private Duration pointInTimeKeepAlive;
 
-        // 둘 다 없는 경우 - 전체 공개 모델 반환
-        pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return searchRepository.findByIsPublic(true, pageable);
+    /**
+     * 통합 검색 - 모델명, 설명, 태그에서 키워드 검색 (공개 모델)
+     */
+    public Page<AIModelDocument> search(String keyword, Boolean isFree, int page, int size) {
+        return search(ModelSearchCriteria.publicModels(keyword, isFree, page, size)
+                .withSourceIncludes(AIModelSummaryResponse.SOURCE_FIELDS));
     }
 
     /**
      * 관리자 모델 목록 조회/검색 (공개된 ADMIN 타입 모델들)
      */
     public Page<AIModelDocument> getAdminModels(String keyword, Boolean isFree, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        return search(ModelSearchCriteria.adminModels(keyword, isFree, page, size)
+                .withSourceIncludes(AIModelSummaryResponse.SOURCE_FIELDS));
+    }
+
+    /**
+     * 사용자 본인 모델 목록 조회/검색 (공개/비공개 모두)
+     */
+    public Page<AIModelDocument> getUserModels(String keyword, Boolean isFree, Long userId, int page, int size) {
+        return search(ModelSearchCriteria.ownerModels(userId, keyword, isFree, page, size)
+                .withSourceIncludes(OWNER_SOURCE_FIELDS));
+    }
+
+    /**
+     * 검색 조건으로 쿼리를 만들어 실행
+     * 키워드가 있으면 관련도순, 없으면 최신순
+     */
+    public Page<AIModelDocument> search(ModelSearchCriteria criteria) {
+        SearchHits<AIModelDocument> hits = elasticsearchTemplate.search(
+                queryBuilder.build(criteria), AIModelDocument.class);
+        List<AIModelDocument> content = hits.getSearchHits().stream()
+                .map(SearchHit::getContent)
+                .toList();
+        return new PageImpl<>(content, PageRequest.of(criteria.page(), criteria.size()), hits.getTotalHits());
+    }
 
-        // 가격 필터링만 있는 경우
-        if ((keyword == null || keyword.trim().isEmpty()) && isFree != null) {
-            if (isFree) {
-                return searchRepository.searchFreeAdminModels(pageable);
-            } else {
-                return searchRepository.searchPaidAdminModels(pageable);
-            }
-        }
 
-        // 키워드와 가격 필터링 조합
-        if (keyword != null && !keyword.trim().isEmpty() && isFree != null) {
-            pageable = PageRequest.of(page, size, Sort.by("_score").descending());
-            if (isFree) {
-                return searchRepository.searchFreeAdminModelsWithKeyword(keyword, pageable);
-            } else {
-                return searchRepository.searchPaidAdminModelsWithKeyword(keyword, pageable);
+    /**
+     * 커서 기반 검색 (search_after)
+     * 앞 페이지를 건너뛰지 않고 이전 페이지 마지막 문서의 정렬 값부터 읽으므로 깊은 페이지도 요청당 비용이 일정하고,
+     * max_result_window(10,000건) 제한을 받지 않음
+     *
+     * - 전체 개수는 track-total-hits-up-to까지만 계산
+     * - size + 1건을 읽어 다음 페이지 존재 여부를 판단 (size는 max-size로 제한)
+     * - point-in-time 사용 시 스크롤 동안 같은 인덱스 시점을 보고, 마지막 페이지에서 PIT를 닫음
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @throws ApplicationException 형식이 잘못되었거나 다른 정렬 조건에서 만든 커서 (INVALID_SEARCH_CURSOR)
+     */
+    public CursorPageResponse<AIModelDocument> searchWithCursor(ModelSearchCriteria criteria, String cursor) {
+        int sortArity = queryBuilder.sort(criteria).size();
+        ModelSearchCursor previous = cursor == null || cursor.isBlank() ? null : decodeCursor(cursor, sortArity);
+        int size = Math.min(Math.max(1, criteria.size()), cursorMaxSize);
+        ModelSearchCriteria pageCriteria = criteria
+                .withSize(size + 1)
+                .withSearchAfter(previous != null ? previous.sortValues() : null)
+                .withTrackTotalHitsUpTo(cursorTrackTotalHitsUpTo);
+
+        String pitId = previous != null ? previous.pitId() : openPointInTime();
+        SearchHits<AIModelDocument> hits;
+        try {
+            hits = elasticsearchTemplate.search(queryBuilder.build(pageCriteria.withPointInTime(pointInTime(pitId))),
+                    AIModelDocument.class);
+        } catch (RuntimeException e) {
+            if (pitId == null) {
+                throw e;
             }
+            // PIT 만료 등: modelId 정렬로 순서가 고정되어 있으므로 PIT 없이 같은 위치부터 이어서 조회
+            // PIT 검색의 정렬 값에는 암묵적 _shard_doc 값이 붙어 있으므로 떼고 전달
+            log.warn("PIT 검색 실패, PIT 없이 재시도: {}", e.getMessage());
+            pitId = null;
+            if (previous != null) {
+                pageCriteria = pageCriteria.withSearchAfter(previous.sortValues().subList(0, sortArity));
+            }
+            hits = elasticsearchTemplate.search(queryBuilder.build(pageCriteria), AIModelDocument.class);
         }
-
-        // 키워드만 있는 경우
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            pageable = PageRequest.of(page, size, Sort.by("_score").descending());
-            return searchRepository.searchInAdminModels(keyword, pageable);
+        if (hits.getPointInTimeId() != null) {
+            pitId = hits.getPointInTimeId();
         }
 
-        // 둘 다 없는 경우 - 전체 관리자 모델 조회
-        return searchRepository.findByOwnTypeAndIsPublic("ADMIN", true, pageable);
+        List<SearchHit<AIModelDocument>> searchHits = hits.getSearchHits();
+        boolean hasNext = searchHits.size() > size;
+        List<SearchHit<AIModelDocument>> pageHits = hasNext ? searchHits.subList(0, size) : searchHits;
+
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = new ModelSearchCursor(pageHits.get(size - 1).getSortValues(), pitId).encode();
+        } else {
+            closePointInTime(pitId);
+        }
+        return new CursorPageResponse<>(
+                pageHits.stream().map(SearchHit::getContent).toList(),
+                size,
+                nextCursor,
+                hasNext,
+                hits.getTotalHits(),
+                hits.getTotalHitsRelation() == TotalHitsRelation.EQUAL_TO);
     }
 
     /**
-     * 사용자 본인 모델 목록 조회/검색 (공개/비공개 모두)
+     * 커서 해석 + 정렬 값 개수 검증
+     * 키워드 유무에 따라 정렬(_score 포함 여부)이 달라지므로 다른 조건에서 만든 커서는 거절
+     * PIT 검색에서 만든 커서는 Elasticsearch가 붙이는 _shard_doc 값이 하나 더 있음
      */
-    public Page<AIModelDocument> getUserModels(String keyword, Boolean isFree, Long userId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-
-        // 가격 필터링만 있는 경우
-        if ((keyword == null || keyword.trim().isEmpty()) && isFree != null) {
-            if (isFree) {
-                return searchRepository.searchFreeUserModels(userId, pageable);
-            } else {
-                return searchRepository.searchPaidUserModels(userId, pageable);
-            }
+    private ModelSearchCursor decodeCursor(String cursor, int sortArity) {
+        ModelSearchCursor decoded = ModelSearchCursor.decode(cursor);
+        int expected = sortArity + (decoded.pitId() != null ? 1 : 0);
+        if (decoded.sortValues().size() != expected) {
+            throw new ApplicationException(ErrorCode.INVALID_SEARCH_CURSOR);
         }
+        return decoded;
+    }
 
-        // 키워드와 가격 필터링 조합
-        if (keyword != null && !keyword.trim().isEmpty() && isFree != null) {
-            pageable = PageRequest.of(page, size, Sort.by("_score").descending());
-            if (isFree) {
-                return searchRepository.searchFreeUserModelsWithKeyword(keyword, userId, pageable);
-            } else {
-                return searchRepository.searchPaidUserModelsWithKeyword(keyword, userId, pageable);
-            }
+    private String openPointInTime() {
+        if (!pointInTimeEnabled) {
+            return null;
         }
-
-        // 키워드만 있는 경우
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            pageable = PageRequest.of(page, size, Sort.by("_score").descending());
-            return searchRepository.searchInUserModels(keyword, userId, pageable);
+        try {
+            return elasticsearchTemplate.openPointInTime(INDEX, pointInTimeKeepAlive);
+        } catch (Exception e) {
+            log.warn("PIT 생성 실패, PIT 없이 조회: {}", e.getMessage());
+            return null;
         }
+    }
 
-        // 둘 다 없는 경우 - 전체 사용자 모델 조회
-        return searchRepository.findByOwnerId(userId, pageable);
+    private void closePointInTime(String pitId) {
+        if (pitId == null) {
+            return;
+        }
+        try {
+            elasticsearchTemplate.closePointInTime(pitId);
+        } catch (Exception e) {
+            // 닫지 못한 PIT는 keep-alive가 지나면 자동으로 정리됨
+            log.debug("PIT 종료 실패: {}", e.getMessage());
+        }
     }
 
+    private ModelSearchCriteria.PointInTime pointInTime(String pitId) {
+        return pitId != null ? new ModelSearchCriteria.PointInTime(pitId, pointInTimeKeepAlive) : null;
+    }
 
     /**
      * 소유자별 검색
@@ -4,14 +4,17 @@ import com.example.nomodel._core.exception.ApplicationException;
 import com.example.nomodel._core.exception.ErrorCode;
 import com.example.nomodel.model.command.application.dto.response.AdminAIModelResponseDto;
 import com.example.nomodel.model.command.domain.model.AIModel;
+import com.example.nomodel.model.command.domain.model.ModelIndexChangeType;
 import com.example.nomodel.model.command.domain.model.OwnType;
 import com.example.nomodel.model.command.domain.repository.AIModelJpaRepository;
+import com.example.nomodel.model.command.domain.service.ModelIndexOutboxService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -21,6 +24,7 @@ import java.util.List;
 public class AdminAIModelService {
   
   private final AIModelJpaRepository aiModelJpaRepository;
+  private final ModelIndexOutboxService indexOutbox;
   
   public Page<List<AdminAIModelResponseDto>> getAdminModels(int page, int size, String keyword) {
     Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
@@ -29,6 +33,7 @@ public class AdminAIModelService {
   
   }
   
+  @Transactional
   public AIModel changePrice(String modelId, BigDecimal price) {
     AIModel aiModel = aiModelJpaRepository.findById(Long.parseLong(modelId))
             .orElseThrow(() -> {
@@ -36,9 +41,11 @@ public class AdminAIModelService {
             });
     
     aiModel.setPrice(price);
+    indexOutbox.record(aiModel.getId(), ModelIndexChangeType.MODEL);
     return aiModelJpaRepository.save(aiModel);
   }
   
+  @Transactional
   public AIModel changeIsPublic(String modelId, boolean isPublic) {
     AIModel aiModel = aiModelJpaRepository.findById(Long.parseLong(modelId))
             .orElseThrow(() -> {
@@ -46,6 +53,7 @@ public class AdminAIModelService {
             });
     
     aiModel.setPublic(isPublic);
+    indexOutbox.record(aiModel.getId(), ModelIndexChangeType.MODEL);
     return aiModelJpaRepository.save(aiModel);
   }
 }
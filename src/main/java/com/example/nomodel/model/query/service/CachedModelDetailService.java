@@ -34,7 +34,11 @@ public class CachedModelDetailService {
         return self.getModelStaticDetail(modelId);
     }
 
-    @Cacheable(value = "modelDetail", key = "#modelId", unless = "#result == null")
+    /**
+     * 모델 정적 상세 조회
+     * sync 조회로 캐시 만료 직후 동시 요청은 한 번만 DB를 조회하고 나머지는 그 결과를 공유
+     */
+    @Cacheable(value = "modelDetail", key = "#modelId", sync = true)
     @Transactional(readOnly = true)
     public AIModelStaticDetail getModelStaticDetail(Long modelId) {
         log.debug("캐시 미스 - 모델 정적 상세 조회 실행: modelId={}", modelId);
@@ -1,11 +1,15 @@
 package com.example.nomodel.model.query.service;
 
-import com.example.nomodel.file.application.service.FileService;
-import com.example.nomodel.model.command.application.dto.response.AIModelSearchResponse;
+import com.example.nomodel.model.command.application.cache.service.SearchCacheAdmissionService;
+import com.example.nomodel.model.command.application.cache.service.SearchCacheTagService;
+import com.example.nomodel.model.command.application.dto.response.AIModelSummaryResponse;
+import com.example.nomodel.model.command.application.dto.CursorPageResponse;
 import com.example.nomodel.model.command.application.dto.PageResponse;
+import com.example.nomodel.model.command.application.dto.response.cache.ModelSearchCacheKey;
 import com.example.nomodel.model.command.domain.model.document.AIModelDocument;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -13,11 +17,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * 캐시가 적용된 AI 모델 검색 서비스
  * 자주 조회되는 검색 결과를 Redis에 캐싱하여 성능 향상
+ * 캐싱 대상 판단은 SearchCacheAdmissionService의 빈도 기반 admission 정책을 따름
+ * 캐시되는 페이지는 포함 모델/검색 조건을 태그로 기록하여 모델 변경 시 해당 페이지만 무효화
+ * sync 조회로 같은 키의 동시 미스는 노드당 한 번만 검색 (TwoLevelCache single-flight)
+ * 목록 응답은 검색 문서의 필요한 _source 필드와 저장된 대표 이미지 URL만으로 구성 (MySQL 파일 조회 없음)
  */
 @Service
 @RequiredArgsConstructor
@@ -26,41 +33,101 @@ import java.util.Map;
 public class CachedModelSearchService {
 
     private final AIModelSearchService searchService;
-    private final FileService fileService;
+    private final SearchCacheAdmissionService admissionService;
+    private final SearchCacheTagService tagService;
 
     /**
-     * 통합 검색 (키워드 없는 기본 검색만 캐싱)
-     * 키워드가 있는 검색은 인기 검색어 통계 구현 후 적용 예정
+     * 통합 검색
+     * 기본 검색은 항상, 키워드 검색은 인기 검색 조건(빈도 임계값 이상)만 캐싱
      */
     @Cacheable(
             value = "modelSearch",
             key = "T(com.example.nomodel.model.command.application.dto.response.cache.ModelSearchCacheKey).generate(#keyword, #isFree, #page, #size)",
-            condition = "#keyword == null && #page <= 2 && #size <= 20",  // 키워드 없는 기본 검색만 캐싱
-            unless = "#result == null || #result.empty()"
+            condition = "@searchCacheAdmissionService.shouldCache('modelSearch', #keyword, #isFree, #page, #size)",
+            sync = true
     )
-    public PageResponse<AIModelSearchResponse> search(String keyword, Boolean isFree, int page, int size) {
+    public PageResponse<AIModelSummaryResponse> search(String keyword, Boolean isFree, int page, int size) {
         log.debug("[CACHE MISS] modelSearch -> keyword:{}, isFree:{}, page:{}, size:{}", keyword, isFree, page, size);
         // 1. 모델 검색
         Page<AIModelDocument> models = searchService.search(keyword, isFree, page, size);
 
-        // 2. 파일 정보 조합
-        return toPageResponse(models);
+        // 2. 목록 응답으로 변환
+        PageResponse<AIModelSummaryResponse> response = toPageResponse(models);
+
+        // 3. 캐시될 페이지의 태그 기록
+        recordCacheTagsIfAdmitted("modelSearch", keyword, isFree, page, size, models);
+        return response;
     }
 
 
     /**
-     * 관리자 모델 검색 (키워드 없는 기본 검색만 캐싱)
+     * 관리자 모델 검색 (기본 검색 + 인기 키워드 검색 캐싱)
      */
     @Cacheable(
             value = "adminModels",
             key = "T(com.example.nomodel.model.command.application.dto.response.cache.ModelSearchCacheKey).generate(#keyword, #isFree, #page, #size)",
-            condition = "#keyword == null && #page <= 2 && #size <= 20",  // 키워드 없는 기본 검색만 캐싱
-            unless = "#result == null || #result.empty()"
+            condition = "@searchCacheAdmissionService.shouldCache('adminModels', #keyword, #isFree, #page, #size)",
+            sync = true
     )
-    public PageResponse<AIModelSearchResponse> getAdminModels(String keyword, Boolean isFree, int page, int size) {
+    public PageResponse<AIModelSummaryResponse> getAdminModels(String keyword, Boolean isFree, int page, int size) {
         log.debug("[CACHE MISS] adminModels -> keyword:{}, isFree:{}, page:{}, size:{}", keyword, isFree, page, size);
         Page<AIModelDocument> models = searchService.getAdminModels(keyword, isFree, page, size);
-        return toPageResponse(models);
+        PageResponse<AIModelSummaryResponse> response = toPageResponse(models);
+
+        recordCacheTagsIfAdmitted("adminModels", keyword, isFree, page, size, models);
+        return response;
+    }
+
+    /**
+     * 통합 검색 캐시 갱신 (캐시 워밍용)
+     * 기존 항목을 지우지 않고 새 결과로 덮어씀
+     */
+    @CachePut(
+            value = "modelSearch",
+            key = "T(com.example.nomodel.model.command.application.dto.response.cache.ModelSearchCacheKey).generate(#keyword, #isFree, #page, #size)"
+    )
+    public PageResponse<AIModelSummaryResponse> refreshSearch(String keyword, Boolean isFree, int page, int size) {
+        Page<AIModelDocument> models = searchService.search(keyword, isFree, page, size);
+        PageResponse<AIModelSummaryResponse> response = toPageResponse(models);
+        recordCacheTags("modelSearch", ModelSearchCacheKey.generate(keyword, isFree, page, size), models);
+        return response;
+    }
+
+    /**
+     * 관리자 모델 검색 캐시 갱신 (캐시 워밍용)
+     */
+    @CachePut(
+            value = "adminModels",
+            key = "T(com.example.nomodel.model.command.application.dto.response.cache.ModelSearchCacheKey).generate(#keyword, #isFree, #page, #size)"
+    )
+    public PageResponse<AIModelSummaryResponse> refreshAdminModels(String keyword, Boolean isFree, int page, int size) {
+        Page<AIModelDocument> models = searchService.getAdminModels(keyword, isFree, page, size);
+        PageResponse<AIModelSummaryResponse> response = toPageResponse(models);
+        recordCacheTags("adminModels", ModelSearchCacheKey.generate(keyword, isFree, page, size), models);
+        return response;
+    }
+
+    /**
+     * 통합 검색 - 커서 기반 (무한 스크롤용, 캐싱 미적용)
+     * 커서 값마다 키가 달라 재사용되지 않으므로 캐시하지 않음
+     */
+    public CursorPageResponse<AIModelSummaryResponse> searchWithCursor(String keyword, Boolean isFree,
+                                                                      String cursor, int size) {
+        CursorPageResponse<AIModelDocument> models =
+                searchService.searchWithCursor(ModelSearchCriteria.publicModels(keyword, isFree, 0, size)
+                        .withSourceIncludes(AIModelSummaryResponse.SOURCE_FIELDS), cursor);
+        return models.map(this::toSearchResponses);
+    }
+
+    /**
+     * 관리자 모델 검색 - 커서 기반 (무한 스크롤용, 캐싱 미적용)
+     */
+    public CursorPageResponse<AIModelSummaryResponse> getAdminModelsWithCursor(String keyword, Boolean isFree,
+                                                                              String cursor, int size) {
+        CursorPageResponse<AIModelDocument> models =
+                searchService.searchWithCursor(ModelSearchCriteria.adminModels(keyword, isFree, 0, size)
+                        .withSourceIncludes(AIModelSummaryResponse.SOURCE_FIELDS), cursor);
+        return models.map(this::toSearchResponses);
     }
 
     /**
@@ -71,30 +138,44 @@ public class CachedModelSearchService {
     }
 
     /**
-     * AIModelDocument 페이지와 파일 정보를 조합하여 AIModelSearchResponse 페이지로 변환
+     * 캐시에 저장될 페이지라면 포함된 모델 ID와 검색 조건을 태그 인덱스에 기록
+     * 빈 결과도 검색 조건 태그로 기록되어, 매칭되는 모델이 생기면 무효화됨
      */
-    private PageResponse<AIModelSearchResponse> toPageResponse(Page<AIModelDocument> models) {
-        if (models.isEmpty()) {
-            return PageResponse.empty(models.getNumber(), models.getSize());
+    private void recordCacheTagsIfAdmitted(String cacheName, String keyword, Boolean isFree, int page, int size,
+                                           Page<AIModelDocument> models) {
+        if (admissionService.isAdmitted(cacheName, keyword, isFree, page, size)) {
+            recordCacheTags(cacheName, ModelSearchCacheKey.generate(keyword, isFree, page, size), models);
         }
+    }
 
-        // 1. 모든 모델 ID 추출
+    private void recordCacheTags(String cacheName, String cacheKey, Page<AIModelDocument> models) {
         List<Long> modelIds = models.getContent().stream()
                 .map(AIModelDocument::getModelId)
                 .toList();
+        tagService.recordPage(cacheName, cacheKey, modelIds);
+    }
 
-        // 2. 배치로 파일 URL 조회 (N+1 쿼리 방지)
-        Map<Long, List<String>> imageUrlsMap = fileService.getImageUrlsMap(modelIds);
+    /**
+     * AIModelDocument 페이지를 AIModelSummaryResponse 페이지로 변환
+     */
+    private PageResponse<AIModelSummaryResponse> toPageResponse(Page<AIModelDocument> models) {
+        if (models.isEmpty()) {
+            return PageResponse.empty(models.getNumber(), models.getSize());
+        }
 
-        // 3. AIModelDocument + 파일 정보 조합
-        List<AIModelSearchResponse> responses = models.getContent().stream()
-                .map(document -> {
-                    List<String> imageUrls = imageUrlsMap.getOrDefault(document.getModelId(), List.of());
-                    return AIModelSearchResponse.from(document, imageUrls);
-                })
-                .toList();
+        List<AIModelSummaryResponse> responses = toSearchResponses(models.getContent());
 
-        Page<AIModelSearchResponse> responsePage = new PageImpl<>(responses, models.getPageable(), models.getTotalElements());
+        Page<AIModelSummaryResponse> responsePage = new PageImpl<>(responses, models.getPageable(), models.getTotalElements());
         return PageResponse.from(responsePage);
     }
+
+    /**
+     * AIModelDocument 목록을 AIModelSummaryResponse 목록으로 변환
+     * 대표 이미지는 문서에 저장된 값을 사용하므로 파일 조회 없이 변환
+     */
+    private List<AIModelSummaryResponse> toSearchResponses(List<AIModelDocument> documents) {
+        return documents.stream()
+                .map(AIModelSummaryResponse::from)
+                .toList();
+    }
 }
@@ -0,0 +1,89 @@
+package com.example.nomodel.model.query.service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 모델 검색 조건
+ * 검색 범위(공개/관리자/본인) x 키워드 x 무료/유료 조합을 하나의 타입으로 표현하고, ModelSearchQueryBuilder가 쿼리로 변환
+ *
+ * @param scope              검색 범위
+ * @param ownerId            OWNER 범위일 때 소유자 ID
+ * @param keyword            검색어 (비어 있으면 최신순 목록)
+ * @param isFree             true: 무료, false: 유료, null: 전체
+ * @param page               페이지 번호 (searchAfter가 있으면 무시)
+ * @param size               페이지 크기
+ * @param searchAfter        이전 페이지 마지막 문서의 정렬 값 (null이면 page 기준 조회)
+ * @param trackTotalHitsUpTo 전체 개수를 이 값까지만 정확히 계산 (null이면 끝까지 계산)
+ * @param sourceIncludes     응답에 포함할 _source 필드 (null이면 전체)
+ * @param pointInTime        커서 조회 시 고정할 인덱스 시점 (null이면 매 요청 최신 상태 조회)
+ */
+public record ModelSearchCriteria(Scope scope,
+                                  Long ownerId,
+                                  String keyword,
+                                  Boolean isFree,
+                                  int page,
+                                  int size,
+                                  List<Object> searchAfter,
+                                  Integer trackTotalHitsUpTo,
+                                  List<String> sourceIncludes,
+                                  PointInTime pointInTime) {
+
+    public enum Scope {
+        PUBLIC,  // 공개 모델 전체
+        ADMIN,   // 공개된 관리자(ADMIN) 모델
+        OWNER    // 특정 사용자 소유 모델 (공개/비공개 모두)
+    }
+
+    public record PointInTime(String id, Duration keepAlive) {
+    }
+
+    public static ModelSearchCriteria publicModels(String keyword, Boolean isFree, int page, int size) {
+        return new ModelSearchCriteria(Scope.PUBLIC, null, keyword, isFree, page, size, null, null, null, null);
+    }
+
+    public static ModelSearchCriteria adminModels(String keyword, Boolean isFree, int page, int size) {
+        return new ModelSearchCriteria(Scope.ADMIN, null, keyword, isFree, page, size, null, null, null, null);
+    }
+
+    public static ModelSearchCriteria ownerModels(Long ownerId, String keyword, Boolean isFree, int page, int size) {
+        return new ModelSearchCriteria(Scope.OWNER, ownerId, keyword, isFree, page, size, null, null, null, null);
+    }
+
+    public ModelSearchCriteria withSize(int size) {
+        return new ModelSearchCriteria(scope, ownerId, keyword, isFree, page, size,
+                searchAfter, trackTotalHitsUpTo, sourceIncludes, pointInTime);
+    }
+
+    public ModelSearchCriteria withSearchAfter(List<Object> searchAfter) {
+        return new ModelSearchCriteria(scope, ownerId, keyword, isFree, page, size,
+                searchAfter, trackTotalHitsUpTo, sourceIncludes, pointInTime);
+    }
+
+    public ModelSearchCriteria withTrackTotalHitsUpTo(Integer trackTotalHitsUpTo) {
+        return new ModelSearchCriteria(scope, ownerId, keyword, isFree, page, size,
+                searchAfter, trackTotalHitsUpTo, sourceIncludes, pointInTime);
+    }
+
+    public ModelSearchCriteria withSourceIncludes(List<String> sourceIncludes) {
+        return new ModelSearchCriteria(scope, ownerId, keyword, isFree, page, size,
+                searchAfter, trackTotalHitsUpTo, sourceIncludes, pointInTime);
+    }
+
+    public ModelSearchCriteria withPointInTime(PointInTime pointInTime) {
+        return new ModelSearchCriteria(scope, ownerId, keyword, isFree, page, size,
+                searchAfter, trackTotalHitsUpTo, sourceIncludes, pointInTime);
+    }
+
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isBlank();
+    }
+
+    public String trimmedKeyword() {
+        return hasKeyword() ? keyword.trim() : null;
+    }
+
+    public boolean hasSearchAfter() {
+        return searchAfter != null && !searchAfter.isEmpty();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.nomodel.model.query.service;
+
+import com.example.nomodel._core.exception.ApplicationException;
+import com.example.nomodel._core.exception.ErrorCode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 모델 검색 커서 (다음 페이지 요청에 그대로 돌려받는 불투명 문자열)
+ * 마지막 문서의 정렬 값과, 사용 중이면 point-in-time ID를 URL-safe Base64 JSON으로 인코딩
+ *
+ * @param sortValues 이전 페이지 마지막 문서의 정렬 값 (search_after)
+ * @param pitId      point-in-time ID (사용하지 않으면 null)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ModelSearchCursor(List<Object> sortValues, String pitId) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(this));
+        } catch (Exception e) {
+            throw new IllegalStateException("검색 커서 인코딩 실패", e);
+        }
+    }
+
+    /**
+     * @throws ApplicationException 형식이 잘못된 커서 (INVALID_SEARCH_CURSOR)
+     */
+    public static ModelSearchCursor decode(String cursor) {
+        try {
+            ModelSearchCursor decoded = MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), ModelSearchCursor.class);
+            if (decoded.sortValues() == null || decoded.sortValues().isEmpty()) {
+                throw new ApplicationException(ErrorCode.INVALID_SEARCH_CURSOR);
+            }
+            return decoded;
+        } catch (ApplicationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ApplicationException(ErrorCode.INVALID_SEARCH_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.nomodel.model.query.service;
+
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ModelSearchCriteria를 Elasticsearch 쿼리로 변환
+ *
+ * - 범위/공개 여부/가격 조건은 모두 filter 절에 두어 점수 계산 없이 노드 쿼리 캐시를 재사용
+ * - 키워드는 must 절의 점수 계산용 should 묶음으로만 추가 (모델명 > 태그 > 프롬프트 순 가중치)
+ * - 정렬 마지막에 modelId를 두어 같은 점수/생성일 문서의 순서를 고정 (search_after 커서 안정화)
+ */
+@Component
+public class ModelSearchQueryBuilder {
+
+    static final String MODEL_ID_FIELD = "modelId";
+    static final String CREATED_AT_FIELD = "createdAt";
+
+    public NativeQuery build(ModelSearchCriteria criteria) {
+        NativeQueryBuilder builder = NativeQuery.builder()
+                .withQuery(query(criteria))
+                .withSort(sort(criteria));
+
+        if (criteria.hasSearchAfter()) {
+            builder.withPageable(PageRequest.of(0, criteria.size()))
+                    .withSearchAfter(criteria.searchAfter());
+        } else {
+            builder.withPageable(PageRequest.of(criteria.page(), criteria.size()));
+        }
+
+        if (criteria.trackTotalHitsUpTo() != null) {
+            builder.withTrackTotalHitsUpTo(criteria.trackTotalHitsUpTo());
+        } else {
+            builder.withTrackTotalHits(true);
+        }
+
+        if (criteria.pointInTime() != null) {
+            // PIT 검색은 요청에 인덱스를 지정하지 않고 PIT가 가리키는 시점의 인덱스를 조회
+            builder.withPointInTime(new org.springframework.data.elasticsearch.core.query.Query.PointInTime(
+                    criteria.pointInTime().id(), criteria.pointInTime().keepAlive()));
+        }
+
+        if (criteria.sourceIncludes() != null) {
+            builder.withSourceFilter(new FetchSourceFilterBuilder()
+                    .withIncludes(criteria.sourceIncludes().toArray(String[]::new))
+                    .build());
+        }
+        return builder.build();
+    }
+
+    Query query(ModelSearchCriteria criteria) {
+        BoolQuery.Builder bool = new BoolQuery.Builder();
+        scopeFilters(criteria).forEach(bool::filter);
+        priceFilter(criteria.isFree()).forEach(bool::filter);
+        if (criteria.hasKeyword()) {
+            bool.must(keywordQuery(criteria.trimmedKeyword()));
+        }
+        return Query.of(q -> q.bool(bool.build()));
+    }
+
+    List<SortOptions> sort(ModelSearchCriteria criteria) {
+        List<SortOptions> sort = new ArrayList<>(3);
+        if (criteria.hasKeyword()) {
+            sort.add(SortOptions.of(s -> s.score(sc -> sc.order(SortOrder.Desc))));
+        }
+        sort.add(SortOptions.of(s -> s.field(f -> f.field(CREATED_AT_FIELD).order(SortOrder.Desc))));
+        sort.add(SortOptions.of(s -> s.field(f -> f.field(MODEL_ID_FIELD).order(SortOrder.Asc))));
+        return sort;
+    }
+
+    private List<Query> scopeFilters(ModelSearchCriteria criteria) {
+        return switch (criteria.scope()) {
+            case PUBLIC -> List.of(isPublic());
+            case ADMIN -> List.of(term("ownType", "ADMIN"), isPublic());
+            case OWNER -> List.of(Query.of(q -> q.term(t -> t.field("ownerId").value(criteria.ownerId()))));
+        };
+    }
+
+    /**
+     * 무료: 가격이 없거나 0, 유료: 가격이 0보다 큼
+     */
+    private List<Query> priceFilter(Boolean isFree) {
+        if (isFree == null) {
+            return List.of();
+        }
+        if (isFree) {
+            return List.of(Query.of(q -> q.bool(b -> b
+                    .should(s -> s.bool(nb -> nb.mustNot(mn -> mn.exists(e -> e.field("price")))))
+                    .should(s -> s.term(t -> t.field("price").value(0)))
+                    .minimumShouldMatch("1"))));
+        }
+        return List.of(Query.of(q -> q.range(r -> r.number(n -> n.field("price").gt(0.0)))));
+    }
+
+    private Query keywordQuery(String keyword) {
+        return Query.of(q -> q.bool(b -> b
+                .should(s -> s.matchPhrase(m -> m.field("modelName").query(keyword).boost(10f)))
+                .should(s -> s.match(m -> m.field("modelName").query(keyword).fuzziness("AUTO").boost(5f)))
+                .should(s -> s.prefix(p -> p.field("modelName.keyword").value(keyword).boost(4f)))
+                .should(s -> s.term(t -> t.field("tags").value(keyword).boost(3f)))
+                .should(s -> s.match(m -> m.field("prompt").query(keyword).fuzziness("AUTO").boost(2f)))
+                .minimumShouldMatch("1")));
+    }
+
+    private Query isPublic() {
+        return Query.of(q -> q.term(t -> t.field("isPublic").value(true)));
+    }
+
+    private Query term(String field, String value) {
+        return Query.of(q -> q.term(t -> t.field(field).value(value)));
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.nomodel.point.application.service;
 
+import com.example.nomodel._core.concurrency.ExternalCallLimiter;
+import com.example.nomodel._core.concurrency.ExternalProvider;
 import com.example.nomodel._core.exception.ApplicationException;
 import com.example.nomodel._core.exception.ErrorCode;
 import com.example.nomodel.point.application.dto.response.PortOneTokenResponse;
@@ -30,6 +32,7 @@ public class PointPaymentService {
 
     private final PointDomainService pointDomainService;
     private final PointTransactionRepository transactionRepository;
+    private final ExternalCallLimiter externalCallLimiter;
 
     @Value("${portone.imp-key}")
     private String apiKey;
@@ -71,10 +74,12 @@ public class PointPaymentService {
             System.out.println("Content-Type을 form-urlencoded로 변경");
             System.out.println("요청 URL: " + IAMPORT_API_BASE_URL + "/users/getToken");
 
-            ResponseEntity<Map> response = restTemplate.postForEntity(
-                    IAMPORT_API_BASE_URL + "/users/getToken",
-                    entity,
-                    Map.class
+            ResponseEntity<Map> response = externalCallLimiter.call(ExternalProvider.PORTONE, () ->
+                    restTemplate.postForEntity(
+                            IAMPORT_API_BASE_URL + "/users/getToken",
+                            entity,
+                            Map.class
+                    )
             );
 
             // 나머지 로직은 동일...
@@ -126,11 +131,13 @@ public class PointPaymentService {
             String apiUrl = IAMPORT_API_BASE_URL + "/payments/" + impUid;
             System.out.println("API 호출 URL: " + apiUrl);
 
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    apiUrl,
-                    HttpMethod.GET,
-                    entity,
-                    Map.class
+            ResponseEntity<Map> response = externalCallLimiter.call(ExternalProvider.PORTONE, () ->
+                    restTemplate.exchange(
+                            apiUrl,
+                            HttpMethod.GET,
+                            entity,
+                            Map.class
+                    )
             );
 
             System.out.println("응답 상태 코드: " + response.getStatusCode());
@@ -0,0 +1,42 @@
+package com.example.nomodel.removebg.application.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 배경 제거 파이프라인 설정 (원본 로드 → remove.bg 호출 → 결과 업로드)
+ * 단계별 수용량(동시 처리 수 + 대기열)은 generation-job REMOVE_BG 레인 동시 실행 수보다 작게 맞춤
+ * (레인이 단계보다 작으면 대기열이 가득 찰 일이 없어 역압/거절 경로가 동작하지 않음)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.remove-bg.pipeline")
+@Getter
+@Setter
+public class RemoveBgPipelineProperties {
+
+    private int loadParallelism = 8;
+    private int callParallelism = 8;
+    private int uploadParallelism = 8;
+    private int queueCapacity = 4;                               // 단계별 대기열 크기 (레인 동시 실행 수에 맞춰 줄어듦)
+    private Duration admissionTimeout = Duration.ofSeconds(60);  // 대기열이 가득 찼을 때 최대 대기 시간
+    private long maxPendingJobs = 200;                           // 대기 잡이 이만큼 쌓이면 enqueue를 429로 거절
+    private Duration retryAfter = Duration.ofSeconds(30);        // 429 응답의 Retry-After
+
+    /**
+     * 레인 동시 실행 수 기준 단계 동시 처리 수 (레인보다 작게, 최소 1)
+     */
+    public int parallelismFor(int parallelism, int laneConcurrency) {
+        return Math.max(1, Math.min(parallelism, laneConcurrency - 1));
+    }
+
+    /**
+     * 레인 동시 실행 수 기준 단계 대기열 크기 (동시 처리 수 + 대기열이 레인보다 작게)
+     */
+    public int queueCapacityFor(int parallelism, int laneConcurrency) {
+        return Math.max(0, Math.min(queueCapacity, laneConcurrency - parallelism - 1));
+    }
+}
@@ -1,39 +1,60 @@
 package com.example.nomodel.removebg.application.service;
 
+import com.example.nomodel._core.concurrency.BoundedStage;
+import com.example.nomodel._core.concurrency.ExternalCallLimiter;
+import com.example.nomodel._core.concurrency.ExternalProvider;
+import com.example.nomodel._core.exception.ApplicationException;
+import com.example.nomodel._core.exception.ErrorCode;
+import com.example.nomodel.generationjob.application.service.GenerationJobHandler;
+import com.example.nomodel.generationjob.application.service.GenerationJobQueueService;
 import com.example.nomodel.generationjob.application.service.GenerationJobService;
+import com.example.nomodel.generationjob.application.worker.GenerationJobProperties;
+import com.example.nomodel.generationjob.domain.model.GenerationJob;
+import com.example.nomodel.generationjob.domain.model.JobType;
 import com.example.nomodel.file.application.service.FileService;
 import com.example.nomodel.file.domain.model.FileType;
 import com.example.nomodel.file.domain.model.RelationType;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 import java.time.Duration;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
-public class RemoveBgService {
+public class RemoveBgService implements GenerationJobHandler {
+
+    private static final String PIPELINE = "remove_bg";
 
     private final GenerationJobService jobs;
     private final FileService fileService;
     private final ObjectMapper om;
-    private final ApplicationEventPublisher eventPublisher;
     private final WebClient removeBgWebClient;
+    private final ExternalCallLimiter externalCallLimiter;
+    private final GenerationJobQueueService jobQueue;
+    private final RemoveBgPipelineProperties pipeline;
+    private final BoundedStage loadStage;
+    private final BoundedStage callStage;
+    private final BoundedStage uploadStage;
+    private final Counter admissionRejected;
     
     @Value("${BG_PROVIDER:dummy}")
     private String bgProvider;
@@ -41,17 +62,54 @@ public class RemoveBgService {
     public RemoveBgService(GenerationJobService jobs,
                           FileService fileService,
                           ObjectMapper om,
-                          ApplicationEventPublisher eventPublisher,
+                          ExternalCallLimiter externalCallLimiter,
+                          GenerationJobQueueService jobQueue,
+                          RemoveBgPipelineProperties pipeline,
+                          GenerationJobProperties jobProperties,
+                          MeterRegistry meterRegistry,
                           @Autowired(required = false) @Qualifier("removeBgWebClient") WebClient removeBgWebClient) {
         this.jobs = jobs;
         this.fileService = fileService;
         this.om = om;
-        this.eventPublisher = eventPublisher;
         this.removeBgWebClient = removeBgWebClient; // null일 수 있음
+        this.externalCallLimiter = externalCallLimiter;
+        this.jobQueue = jobQueue;
+        this.pipeline = pipeline;
+        int laneConcurrency = jobProperties.concurrencyFor(JobType.REMOVE_BG);
+        this.loadStage = stage("load", pipeline.getLoadParallelism(), laneConcurrency, meterRegistry);
+        this.callStage = stage("call", pipeline.getCallParallelism(), laneConcurrency, meterRegistry);
+        this.uploadStage = stage("upload", pipeline.getUploadParallelism(), laneConcurrency, meterRegistry);
+        this.admissionRejected = meterRegistry.counter("remove.bg.enqueue.rejected");
     }
 
+    /**
+     * 단계 수용량을 REMOVE_BG 레인 동시 실행 수보다 작게 맞춰 생성
+     * 한 단계에 잡이 몰리면 대기열이 차서 admission-timeout 이후 EXTERNAL_SERVICE_BUSY로 잡이 지연 처리됨
+     */
+    private BoundedStage stage(String name, int configuredParallelism, int laneConcurrency, MeterRegistry meterRegistry) {
+        int parallelism = pipeline.parallelismFor(configuredParallelism, laneConcurrency);
+        int queueCapacity = pipeline.queueCapacityFor(parallelism, laneConcurrency);
+        if (parallelism != configuredParallelism || queueCapacity != pipeline.getQueueCapacity()) {
+            log.info("[RemoveBgService] Stage {} sized to lane concurrency {}: parallelism={}, queueCapacity={}",
+                    name, laneConcurrency, parallelism, queueCapacity);
+        }
+        return new BoundedStage(PIPELINE, name, parallelism, queueCapacity,
+                pipeline.getAdmissionTimeout(), meterRegistry);
+    }
+
+    /**
+     * 배경 제거 잡 등록
+     * 처리하지 못한 잡이 maxPendingJobs 이상 쌓여 있으면 받지 않고 429 + Retry-After로 거절 (무한정 대기열에 쌓지 않음)
+     */
     @Transactional
     public UUID enqueue(Long ownerId, Long fileId) {
+        long pending = jobQueue.countPending(JobType.REMOVE_BG);
+        if (pending >= pipeline.getMaxPendingJobs()) {
+            admissionRejected.increment();
+            log.warn("[RemoveBgService] Rejecting enqueue: {} pending jobs (max {})", pending, pipeline.getMaxPendingJobs());
+            throw new ApplicationException(ErrorCode.GENERATION_QUEUE_FULL, pipeline.getRetryAfter());
+        }
+
         Map<String, Object> params = Map.of("retry", 2);
         String paramsJson = write(params);
 
@@ -59,59 +117,60 @@ public class RemoveBgService {
         
         log.info("[RemoveBgService] Job enqueued: {}, provider: {}", job.getId(), bgProvider);
 
-        eventPublisher.publishEvent(new RemoveBgJobEvent(job.getId(), params));
-
         return job.getId();
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void handleRemoveBgJobEvent(RemoveBgJobEvent event) {
-        log.info("[RemoveBgService] Handling job event for: {}", event.jobId());
-        try {
-            executeRemoveBgAsync(event.jobId(), event.params());
-        } catch (Exception e) {
-            log.error("[RemoveBgService] Failed to start async job execution for: {}", event.jobId(), e);
-        }
+    @Override
+    public JobType type() {
+        return JobType.REMOVE_BG;
     }
 
-    @Async("taskExecutor")
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void executeRemoveBgAsync(UUID jobId, Map<String, Object> params) {
-        log.info("[RemoveBgService] Starting async execution for job: {}", jobId);
-        
-        jobs.runRemoveBg(jobId, (fileId, opts) -> {
-            try {
-                return removeBackground(fileId, opts);
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
-        }, params);
+    /**
+     * 워커가 큐에서 가져온 remove-bg 잡 실행
+     */
+    @Override
+    public Long handle(GenerationJob job) throws Exception {
+        log.info("[RemoveBgService] Starting execution for job: {}", job.getId());
+        return removeBackground(job.getInputFileId(), read(job.getParameters()));
     }
 
     /**
-     * 배경 제거 실행 - provider에 따라 다른 방식 사용
+     * 배경 제거 실행 - 원본 로드 → 배경 제거(provider에 따라 다른 방식) → 결과 업로드 단계를 차례로 통과
+     * 단계마다 동시 처리 수가 따로 제한되어, 느린 단계의 대기열이 차면 앞 단계와 워커 레인까지 역압이 전달됨
      */
     private Long removeBackground(Long originalFileId, Map<String, Object> opts) throws Exception {
         log.info("[RemoveBgService] Processing fileId: {} with provider: {}", originalFileId, bgProvider);
         
-        return switch (bgProvider) {
-            case "removebg" -> removeBackgroundWithApi(originalFileId, opts);
-            default -> removeBackgroundDummy(originalFileId, opts);
-        };
+        byte[] original = loadStage.execute(() -> fileService.loadAsBytes(originalFileId));
+        log.info("[RemoveBgService] Loaded original file, size: {} bytes", original.length);
+
+        byte[] result = callStage.execute(() -> switch (bgProvider) {
+            case "removebg" -> removeBackgroundWithApi(originalFileId, original, opts);
+            default -> removeBackgroundDummy(originalFileId, original);
+        });
+
+        Long resultFileId = uploadStage.execute(() -> fileService.saveBytes(
+                result,
+                "image/png",
+                RelationType.AD,
+                originalFileId,
+                FileType.PREVIEW
+        ));
+
+        log.info("[RemoveBgService] Done: originalFileId={} -> resultFileId={}", originalFileId, resultFileId);
+        return resultFileId;
     }
 
     /**
      * remove.bg API를 사용한 배경 제거
      */
-    private Long removeBackgroundWithApi(Long originalFileId, Map<String, Object> opts) throws Exception {
+    private byte[] removeBackgroundWithApi(Long originalFileId, byte[] original, Map<String, Object> opts) {
         if (removeBgWebClient == null) {
             log.warn("[RemoveBgService] RemoveBg API configured but WebClient not available, falling back to dummy mode");
-            return removeBackgroundDummy(originalFileId, opts);
+            return removeBackgroundDummy(originalFileId, original);
         }
 
         log.info("[RemoveBgService] Using remove.bg API for fileId: {}", originalFileId);
-        
-        byte[] original = fileService.loadAsBytes(originalFileId);
 
         MultipartBodyBuilder mb = new MultipartBodyBuilder();
         mb.part("image_file", original)
@@ -128,54 +187,76 @@ public class RemoveBgService {
 
         log.info("[remove.bg] API call: fileId={}, size={}, format={}", originalFileId, size, format);
 
-        byte[] result = removeBgWebClient.post()
-                .uri(uriBuilder -> uriBuilder.path("/v1.0/removebg").build())
-                .contentType(MediaType.MULTIPART_FORM_DATA)
-                .bodyValue(mb.build())
-                .retrieve()
-                .onStatus(s -> !s.is2xxSuccessful(), r -> r.bodyToMono(String.class)
-                        .flatMap(body -> Mono.error(new RuntimeException("remove.bg error: " + body))))
-                .bodyToMono(byte[].class)
-                .timeout(Duration.ofSeconds(timeoutSec))
-                .retry(retry)
+        // 재시도는 시도마다 서킷/슬롯을 다시 확인하도록 limiter 바깥에서 수행 (타임아웃은 재시도하지 않음)
+        Mono<byte[]> attempt = Mono.fromCallable(() -> externalCallLimiter.call(ExternalProvider.REMOVE_BG,
+                () -> removeBgWebClient.post()
+                        .uri(uriBuilder -> uriBuilder.path("/v1.0/removebg").build())
+                        .contentType(MediaType.MULTIPART_FORM_DATA)
+                        .bodyValue(mb.build())
+                        .retrieve()
+                        .onStatus(RemoveBgService::isClientError, r -> r.bodyToMono(String.class)
+                                .defaultIfEmpty("")
+                                .flatMap(body -> {
+                                    log.warn("[remove.bg] Request rejected: status={}, body={}", r.statusCode(), body);
+                                    return Mono.error(new ApplicationException(ErrorCode.EXTERNAL_SERVICE_REJECTED));
+                                }))
+                        .onStatus(s -> !s.is2xxSuccessful(), r -> r.bodyToMono(String.class)
+                                .defaultIfEmpty("")
+                                .flatMap(body -> Mono.error(new RuntimeException("remove.bg error: " + body))))
+                        .bodyToMono(byte[].class)
+                        .timeout(Duration.ofSeconds(timeoutSec))
+                        .block()));
+        byte[] result = attempt
+                .retryWhen(Retry.max(retry).filter(RemoveBgService::isRetryable))
+                .onErrorMap(Exceptions::isRetryExhausted, Throwable::getCause)
                 .block();
 
         if (result == null || result.length == 0) {
             throw new RuntimeException("remove.bg API returned empty response");
         }
+        log.info("[remove.bg] Success: originalFileId={}, result size: {} bytes", originalFileId, result.length);
+        return result;
+    }
 
-        Long resultFileId = fileService.saveBytes(
-                result, 
-                "image/png", 
-                RelationType.AD, 
-                originalFileId, 
-                FileType.PREVIEW
-        );
-        
-        log.info("[remove.bg] Success: originalFileId={} -> resultFileId={}", originalFileId, resultFileId);
-        return resultFileId;
+    /**
+     * 요청 자체가 잘못된 4xx (이미지 형식/크기 오류, 인증 실패, 크레딧 부족 등) - 재시도해도 같은 결과
+     * 408/429는 일시적인 거절이므로 제외
+     */
+    private static boolean isClientError(HttpStatusCode status) {
+        return status.is4xxClientError()
+                && status.value() != HttpStatus.REQUEST_TIMEOUT.value()
+                && status.value() != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    /**
+     * 재시도 대상 여부 - 서킷 열림/슬롯 부족/요청 거절(4xx)과 타임아웃은 재시도해도 부하만 늘어나므로 제외
+     */
+    private static boolean isRetryable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApplicationException || cause instanceof TimeoutException) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * 더미 배경 제거 (원본 파일 그대로 복사)
+     * 더미 배경 제거 (원본 파일 그대로 사용)
      */
-    private Long removeBackgroundDummy(Long originalFileId, Map<String, Object> opts) throws Exception {
+    private byte[] removeBackgroundDummy(Long originalFileId, byte[] original) {
         log.info("[RemoveBgService] Using dummy mode for fileId: {}", originalFileId);
-        
-        byte[] original = fileService.loadAsBytes(originalFileId);
-        log.info("[RemoveBgService] Loaded original file, size: {} bytes", original.length);
-        
-        Long resultFileId = fileService.saveBytes(
-                original,
-                "image/png",
-                RelationType.AD,
-                originalFileId,
-                FileType.PREVIEW
-        );
-        
-        log.info("[RemoveBgService] Dummy processing complete: originalFileId={} -> resultFileId={}", 
-                originalFileId, resultFileId);
-        return resultFileId;
+        return original;
+    }
+
+    private Map<String, Object> read(String json) {
+        if (json == null || json.isBlank()) {
+            return Map.of();
+        }
+        try {
+            return om.readValue(json, new TypeReference<Map<String, Object>>() {});
+        } catch (Exception e) {
+            return Map.of();
+        }
     }
 
     private String write(Map<String, Object> m) {
@@ -185,6 +266,4 @@ public class RemoveBgService {
             return "{}"; 
         }
     }
-
-    public static record RemoveBgJobEvent(UUID jobId, Map<String, Object> params) {}
 }
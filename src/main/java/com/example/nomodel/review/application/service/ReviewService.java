@@ -2,6 +2,8 @@ package com.example.nomodel.review.application.service;
 
 import com.example.nomodel._core.exception.ApplicationException;
 import com.example.nomodel._core.exception.ErrorCode;
+import com.example.nomodel.model.command.domain.model.ModelIndexChangeType;
+import com.example.nomodel.model.command.domain.service.ModelIndexOutboxService;
 import com.example.nomodel.point.application.service.PointService;
 import com.example.nomodel.point.domain.repository.MemberPointBalanceRepository;
 import com.example.nomodel.point.domain.repository.PointTransactionRepository;
@@ -28,6 +30,7 @@ public class ReviewService {
 
     private final MemberPointBalanceRepository pointBalanceRepository;
     private final PointTransactionRepository transactionRepository;
+    private final ModelIndexOutboxService indexOutbox;
 
     //리뷰 등록(중복 방지 후 저장, DTO 변환하여 반환)
     @Transactional
@@ -45,6 +48,7 @@ public class ReviewService {
                 request.getContent()
         );
         reviewRepository.save(review);
+        indexOutbox.record(modelId, ModelIndexChangeType.REVIEW);
 
         // 2. 포인트 적립 로직 추가 PointService로 위임
         pointService.rewardForReview(reviewerId, review.getId());
@@ -66,6 +70,7 @@ public class ReviewService {
     }
 
     //리뷰 수정 (본인만 가능)
+    @Transactional
     public ReviewResponse updateReview(Long reviewerId, Long reviewId, ReviewRequest request) {
         // 1. 리뷰 존재 여부 확인
         ModelReview review = reviewRepository.findById(reviewId)
@@ -88,6 +93,7 @@ public class ReviewService {
         );
 
         // 5. 저장 후 DTO 변환
+        indexOutbox.record(review.getModelId(), ModelIndexChangeType.REVIEW);
         return ReviewResponse.from(reviewRepository.save(review));
     }
 
@@ -103,6 +109,7 @@ public class ReviewService {
 
         review.deactivate(ReviewStatus.DELETED);
         ModelReview deleted = reviewRepository.save(review);
+        indexOutbox.record(review.getModelId(), ModelIndexChangeType.REVIEW);
 
         return ReviewResponse.from(deleted);
     }
@@ -156,6 +163,7 @@ public class ReviewService {
                 request.getContent()
         );
 
+        indexOutbox.record(review.getModelId(), ModelIndexChangeType.REVIEW);
         return ReviewResponse.from(reviewRepository.save(review));
     }
 
@@ -168,6 +176,7 @@ public class ReviewService {
 
         review.deactivate(ReviewStatus.DELETED);
         reviewRepository.save(review);
+        indexOutbox.record(review.getModelId(), ModelIndexChangeType.REVIEW);
     }
 
 
@@ -196,6 +205,7 @@ public class ReviewService {
                 request.getContent()
         );
 
+        indexOutbox.record(review.getModelId(), ModelIndexChangeType.REVIEW);
         return ReviewResponse.from(reviewRepository.save(review));
     }
 
@@ -209,6 +219,7 @@ public class ReviewService {
 
         review.deactivate(ReviewStatus.DELETED);
         reviewRepository.save(review);
+        indexOutbox.record(review.getModelId(), ModelIndexChangeType.REVIEW);
     }
 }
 
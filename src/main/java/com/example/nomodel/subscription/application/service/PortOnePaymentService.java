@@ -1,5 +1,7 @@
 package com.example.nomodel.subscription.application.service;
 
+import com.example.nomodel._core.concurrency.ExternalCallLimiter;
+import com.example.nomodel._core.concurrency.ExternalProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
@@ -15,6 +17,7 @@ import java.util.Map;
 public class PortOnePaymentService {
 
     private final RestTemplate restTemplate = new RestTemplate();
+    private final ExternalCallLimiter externalCallLimiter;
 
     @Value("${portone.imp-key}")
     private String apiKey;
@@ -38,8 +41,8 @@ public class PortOnePaymentService {
 
         HttpEntity<Map<String, String>> entity = new HttpEntity<>(body, headers);
 
-        ResponseEntity<Map> response = restTemplate.postForEntity(
-                "https://api.iamport.kr/users/getToken", entity, Map.class
+        ResponseEntity<Map> response = externalCallLimiter.call(ExternalProvider.PORTONE, () ->
+                restTemplate.postForEntity("https://api.iamport.kr/users/getToken", entity, Map.class)
         );
 
         return (String) ((Map) response.getBody().get("response")).get("access_token");
@@ -65,10 +68,12 @@ public class PortOnePaymentService {
 
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
 
-        ResponseEntity<Map> response = restTemplate.postForEntity(
-                "https://api.iamport.kr/subscribe/payments/again",
-                entity,
-                Map.class
+        ResponseEntity<Map> response = externalCallLimiter.call(ExternalProvider.PORTONE, () ->
+                restTemplate.postForEntity(
+                        "https://api.iamport.kr/subscribe/payments/again",
+                        entity,
+                        Map.class
+                )
         );
 
         Map<String, Object> result = (Map<String, Object>) response.getBody().get("response");
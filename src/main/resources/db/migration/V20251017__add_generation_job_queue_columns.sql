@@ -0,0 +1,10 @@
+-- 생성 잡 큐: 실행 가능 시각/임대 만료 시각 추가, 이미지 생성 잡은 입력 파일이 없으므로 NULL 허용
+ALTER TABLE generation_job
+    MODIFY COLUMN type ENUM('REMOVE_BG','COMPOSE','IMAGE_GENERATION','IMAGE_COMPOSITION') NOT NULL,
+    MODIFY COLUMN input_file_id BIGINT NULL,
+    ADD COLUMN available_at DATETIME(6) NULL,
+    ADD COLUMN lease_expires_at DATETIME(6) NULL;
+
+UPDATE generation_job SET available_at = created_at WHERE available_at IS NULL;
+
+CREATE INDEX ix_job_claim ON generation_job (status, type, available_at);
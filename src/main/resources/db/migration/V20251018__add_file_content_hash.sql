@@ -0,0 +1,5 @@
+-- 내용 주소(SHA-256) 기반 중복 업로드 제거
+-- 같은 해시의 파일은 스토리지 객체(file_name/file_url)를 공유
+ALTER TABLE file_tb
+    ADD COLUMN content_hash VARCHAR(64) NULL,
+    ADD INDEX ix_file_content_hash (content_hash);
@@ -0,0 +1,8 @@
+-- 검색 색인 아웃박스: 모델/통계/리뷰 변경 트랜잭션에서 함께 기록, 릴레이가 PK 순으로 읽어 색인 후 삭제
+CREATE TABLE model_index_outbox (
+    outbox_id   BIGINT      NOT NULL AUTO_INCREMENT,
+    model_id    BIGINT      NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (outbox_id)
+);
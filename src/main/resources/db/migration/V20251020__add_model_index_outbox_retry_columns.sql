@@ -0,0 +1,7 @@
+-- 검색 색인 아웃박스 재시도: 실패한 행은 백오프 후 재시도하고, 최대 횟수를 넘기면 dead-letter로 남겨 릴레이 대상에서 제외
+ALTER TABLE model_index_outbox
+    ADD COLUMN attempts          INT         NOT NULL DEFAULT 0,
+    ADD COLUMN next_attempt_at   DATETIME(6) NULL,
+    ADD COLUMN dead_lettered_at  DATETIME(6) NULL;
+
+CREATE INDEX idx_model_index_outbox_relayable ON model_index_outbox (dead_lettered_at, next_attempt_at);
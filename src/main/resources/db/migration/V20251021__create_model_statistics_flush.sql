@@ -0,0 +1,7 @@
+-- 통계 증가분 flush 기록: 스냅샷별 flush_id를 증가분 UPDATE와 같은 트랜잭션에서 저장해 같은 스냅샷의 중복 반영을 막음
+CREATE TABLE model_statistics_flush (
+    flush_id   VARCHAR(36) NOT NULL,
+    applied_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (flush_id),
+    INDEX idx_model_statistics_flush_applied_at (applied_at)
+);
@@ -0,0 +1,240 @@
+package com.example.nomodel._core.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TwoLevelCache 단위 테스트")
+class TwoLevelCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrentMapCache remoteCache;
+    private List<String> publishedKeys;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        remoteCache = new ConcurrentMapCache("modelDetail");
+        publishedKeys = new ArrayList<>();
+        cache = new TwoLevelCache(
+                "modelDetail",
+                Caffeine.newBuilder().maximumSize(100).build(),
+                remoteCache,
+                (cacheName, key) -> publishedKeys.add(key == null ? "ALL" : key),
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("L2 적중 시 L1에 채워지고 이후 조회는 L1에서 처리")
+    void get_PromotesRemoteHitToLocal() {
+        // given
+        remoteCache.put(1L, "detail-1");
+
+        // when
+        Object first = cache.get(1L).get();
+        Object second = cache.get(1L).get();
+
+        // then
+        assertThat(first).isEqualTo("detail-1");
+        assertThat(second).isEqualTo("detail-1");
+        assertThat(levelCount("l1", "hit")).isEqualTo(1.0);
+        assertThat(levelCount("l1", "miss")).isEqualTo(1.0);
+        assertThat(levelCount("l2", "hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("무효화 시 L1/L2 모두 제거하고 다른 노드에 무효화 메시지 발행")
+    void evict_RemovesBothLevelsAndPublishes() {
+        // given
+        cache.put(1L, "detail-1");
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(remoteCache.get(1L)).isNull();
+        assertThat(publishedKeys).containsExactly("1", "1");
+    }
+
+    @Test
+    @DisplayName("원격 무효화 수신 시 L1만 제거")
+    void evictLocal_KeepsRemote() {
+        // given
+        cache.put(1L, "detail-1");
+
+        // when - 다른 노드가 L2를 갱신한 상황
+        remoteCache.put(1L, "detail-1-updated");
+        cache.evictLocal("1");
+
+        // then
+        assertThat(cache.get(1L).get()).isEqualTo("detail-1-updated");
+    }
+
+    @Test
+    @DisplayName("전체 삭제 시 전체 무효화 메시지 발행")
+    void clear_PublishesClear() {
+        cache.put(1L, "detail-1");
+        cache.put(2L, "detail-2");
+
+        cache.clear();
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isNull();
+        assertThat(publishedKeys).endsWith("ALL");
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 로더를 한 번만 실행하고 결과를 공유")
+    void getWithLoader_CoalescesConcurrentMisses() throws Exception {
+        // given
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> cache.get(1L, () -> {
+                loads.incrementAndGet();
+                release.await(1, TimeUnit.SECONDS);
+                return "detail-1";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(2, TimeUnit.SECONDS)).isEqualTo("detail-1");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(remoteCache.get(1L).get()).isEqualTo("detail-1");
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("만료가 임박한 항목은 기존 값을 반환하면서 로더 대신 refresher로 백그라운드 재적재")
+    void getWithLoader_RefreshesEarlyNearExpiry() {
+        // given - TTL이 즉시 만료되는 것으로 간주되는 캐시
+        AtomicReference<TwoLevelCache> holder = new AtomicReference<>();
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger refreshes = new AtomicInteger();
+        TwoLevelCache refreshingCache = new TwoLevelCache(
+                "modelDetail",
+                Caffeine.newBuilder().maximumSize(100).build(),
+                remoteCache,
+                (cacheName, key) -> { },
+                meterRegistry,
+                (key, value) -> Duration.ofNanos(1),
+                key -> {
+                    holder.get().put(key, "detail-refreshed" + refreshes.incrementAndGet());
+                    return true;
+                },
+                Runnable::run,
+                1.0);
+        holder.set(refreshingCache);
+
+        // when
+        String first = refreshingCache.get(1L, () -> "detail-v" + loads.incrementAndGet());
+        String second = refreshingCache.get(1L, () -> "detail-v" + loads.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo("detail-v1");
+        assertThat(second).isEqualTo("detail-v1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(refreshes.get()).isEqualTo(1);
+        assertThat(remoteCache.get(1L).get()).isEqualTo("detail-refreshed1");
+    }
+
+    @Test
+    @DisplayName("refresher가 처리할 수 없는 키는 이후 조기 갱신을 시도하지 않음")
+    void getWithLoader_StopsRefreshingUnsupportedKey() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        TwoLevelCache refreshingCache = new TwoLevelCache(
+                "modelDetail",
+                Caffeine.newBuilder().maximumSize(100).build(),
+                remoteCache,
+                (cacheName, key) -> { },
+                meterRegistry,
+                (key, value) -> Duration.ofNanos(1),
+                key -> {
+                    attempts.incrementAndGet();
+                    return false;
+                },
+                Runnable::run,
+                1.0);
+
+        // when
+        refreshingCache.get(1L, () -> "detail-v1");
+        refreshingCache.get(1L, () -> "detail-v2");
+        String third = refreshingCache.get(1L, () -> "detail-v3");
+
+        // then
+        assertThat(third).isEqualTo("detail-v1");
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("갱신 executor가 포화되어 거절하면 조기 갱신을 생략하고 기존 값을 반환")
+    void getWithLoader_DropsRefreshWhenExecutorRejects() {
+        // given
+        TwoLevelCache refreshingCache = new TwoLevelCache(
+                "modelDetail",
+                Caffeine.newBuilder().maximumSize(100).build(),
+                remoteCache,
+                (cacheName, key) -> { },
+                meterRegistry,
+                (key, value) -> Duration.ofNanos(1),
+                key -> true,
+                task -> { throw new RejectedExecutionException("queue full"); },
+                1.0);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        refreshingCache.get(1L, () -> "detail-v" + loads.incrementAndGet());
+        String second = refreshingCache.get(1L, () -> "detail-v" + loads.incrementAndGet());
+
+        // then
+        assertThat(second).isEqualTo("detail-v1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("cache.loads",
+                "cache", "modelDetail", "type", "early_refresh_dropped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("로더 결과가 null이면 저장하지 않음")
+    void getWithLoader_DoesNotStoreNull() {
+        // when
+        Object value = cache.get(1L, () -> null);
+
+        // then
+        assertThat(value).isNull();
+        assertThat(remoteCache.get(1L)).isNull();
+    }
+
+    private double levelCount(String level, String result) {
+        return meterRegistry.counter("cache.level.gets",
+                "cache", "modelDetail", "level", level, "result", result).count();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.nomodel._core.concurrency;
+
+import com.example.nomodel._core.exception.ApplicationException;
+import com.example.nomodel._core.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedStage 단위 테스트")
+class BoundedStageTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedStage stage;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stage = new BoundedStage("remove_bg", "call", 1, 1, Duration.ofMillis(50), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("자리가 있으면 작업 결과를 그대로 반환하고 처리 시간을 기록")
+    void execute_ReturnsResult() throws Exception {
+        // when
+        String result = stage.execute(() -> "ok");
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(meterRegistry.get("pipeline.stage.process").tag("stage", "call").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중 + 대기열이 가득 차면 대기 후 EXTERNAL_SERVICE_BUSY로 거절")
+    void execute_RejectsWhenQueueFull() throws Exception {
+        // given - 1건 처리 중, 1건 대기 중
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> holders = new ArrayList<>();
+        holders.add(Thread.ofVirtual().start(() -> run(() -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        })));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        holders.add(Thread.ofVirtual().start(() -> run(() -> null)));
+        awaitQueued(1);
+
+        // when & then
+        assertThat(stage.running()).isEqualTo(1);
+        assertThatThrownBy(() -> stage.execute(() -> "rejected"))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EXTERNAL_SERVICE_BUSY);
+        assertThat(meterRegistry.counter("pipeline.stage.rejected", "pipeline", "remove_bg", "stage", "call").count())
+                .isEqualTo(1.0);
+
+        release.countDown();
+        for (Thread holder : holders) {
+            holder.join();
+        }
+        assertThat(stage.queued()).isZero();
+        assertThat(stage.execute(() -> "ok")).isEqualTo("ok");
+    }
+
+    private void run(Callable<Object> work) {
+        try {
+            stage.execute(work);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (stage.queued() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(stage.queued()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.nomodel._core.concurrency;
+
+import com.example.nomodel._core.exception.ApplicationException;
+import com.example.nomodel._core.exception.ErrorCode;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ExternalCallLimiter 단위 테스트")
+class ExternalCallLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExternalCallLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        ExternalCallProperties properties = new ExternalCallProperties();
+        properties.getMaxConcurrent().put(ExternalProvider.STABLE_DIFFUSION, 1);
+        properties.setAcquireTimeout(Duration.ofMillis(50));
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new ExternalCallLimiter(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("슬롯이 비어 있으면 호출 결과를 그대로 반환")
+    void call_ReturnsResult() {
+        // when
+        String result = limiter.call(ExternalProvider.STABLE_DIFFUSION, () -> "image");
+
+        // then
+        assertThat(result).isEqualTo("image");
+    }
+
+    @Test
+    @DisplayName("슬롯이 모두 사용 중이면 대기 시간 후 EXTERNAL_SERVICE_BUSY로 실패")
+    void call_RejectsWhenSaturated() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> limiter.run(ExternalProvider.STABLE_DIFFUSION, () -> {
+            started.countDown();
+            await(release);
+        }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> limiter.call(ExternalProvider.STABLE_DIFFUSION, () -> "image"))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EXTERNAL_SERVICE_BUSY);
+        assertThat(meterRegistry.counter("external.call.rejected", "provider", "STABLE_DIFFUSION").count())
+                .isEqualTo(1.0);
+
+        // 다른 서비스는 영향 없음
+        assertThat(limiter.call(ExternalProvider.FIREBASE_STORAGE, () -> "ok")).isEqualTo("ok");
+
+        release.countDown();
+        holder.join();
+        assertThat(limiter.call(ExternalProvider.STABLE_DIFFUSION, () -> "image")).isEqualTo("image");
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 서킷이 열려 호출하지 않고 EXTERNAL_SERVICE_UNAVAILABLE로 바로 실패")
+    void call_ShortCircuitsWhenFailureRateExceeded() {
+        // given
+        AtomicLong now = new AtomicLong();
+        ExternalCallLimiter breakerLimiter = new ExternalCallLimiter(breakerProperties(), meterRegistry, now::get);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> breakerLimiter.call(ExternalProvider.REMOVE_BG, () -> {
+                throw new IllegalStateException("remove.bg error: 502");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+        AtomicInteger invoked = new AtomicInteger();
+
+        // when & then
+        assertThat(breakerLimiter.circuitState(ExternalProvider.REMOVE_BG)).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breakerLimiter.call(ExternalProvider.REMOVE_BG, invoked::incrementAndGet))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE);
+        assertThat(invoked).hasValue(0);
+        assertThat(meterRegistry.counter("external.call.short_circuited", "provider", "REMOVE_BG").count())
+                .isEqualTo(1.0);
+
+        // 열림 시간이 지나면 시험 호출이 성공한 뒤 다시 닫힘
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertThat(breakerLimiter.call(ExternalProvider.REMOVE_BG, () -> "ok")).isEqualTo("ok");
+        assertThat(breakerLimiter.circuitState(ExternalProvider.REMOVE_BG)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 서비스 장애로 보지 않아 서킷을 열지 않음")
+    void call_IgnoresClientErrors() {
+        // given
+        AtomicLong now = new AtomicLong();
+        ExternalCallLimiter breakerLimiter = new ExternalCallLimiter(breakerProperties(), meterRegistry, now::get);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> breakerLimiter.call(ExternalProvider.REMOVE_BG, () -> {
+                throw WebClientResponseException.create(400, "Bad Request", null, null, null);
+            })).isInstanceOf(WebClientResponseException.class);
+        }
+
+        // then
+        assertThat(breakerLimiter.circuitState(ExternalProvider.REMOVE_BG)).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breakerLimiter.currentLimit(ExternalProvider.REMOVE_BG)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("RestTemplate 4xx 응답도 서비스 장애로 보지 않고, 408/429/5xx는 장애로 봄")
+    void isProviderFailure_ClassifiesRestClientResponses() {
+        assertThat(ExternalCallLimiter.isProviderFailure(
+                HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, new byte[0], null))).isFalse();
+        assertThat(ExternalCallLimiter.isProviderFailure(
+                HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", HttpHeaders.EMPTY, new byte[0], null))).isTrue();
+        assertThat(ExternalCallLimiter.isProviderFailure(
+                HttpClientErrorException.create(HttpStatus.REQUEST_TIMEOUT, "Request Timeout", HttpHeaders.EMPTY, new byte[0], null))).isTrue();
+        assertThat(ExternalCallLimiter.isProviderFailure(
+                HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "Bad Gateway", HttpHeaders.EMPTY, new byte[0], null))).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시에 진행 중이던 느린 호출이 한꺼번에 끝나도 limit은 한 번만 줄임")
+    void adaptiveLimit_DecreasesOncePerOverloadSignal() throws Exception {
+        // given - limit 8에서 4개 호출이 동시에 진행 중
+        AtomicLong now = new AtomicLong();
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 8, Duration.ofMillis(100), 0.5, now::get);
+        for (int i = 0; i < 4; i++) {
+            assertThat(limit.tryAcquire(Duration.ZERO)).isTrue();
+        }
+        long slow = Duration.ofMillis(200).toNanos();
+        now.addAndGet(slow);
+
+        // when - 같은 시점에 시작한 느린 호출 4개 종료
+        for (int i = 0; i < 4; i++) {
+            limit.release(slow, false);
+        }
+
+        // then - 8 → 4 (0.5^4가 아님)
+        assertThat(limit.currentLimit()).isEqualTo(4);
+
+        // when - 감소 이후 시작한 호출도 느리면 다시 감소
+        assertThat(limit.tryAcquire(Duration.ZERO)).isTrue();
+        now.addAndGet(slow);
+        limit.release(slow, false);
+
+        // then
+        assertThat(limit.currentLimit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("응답 지연이 기준을 넘으면 동시 호출 수를 줄이고, 빨라지면 상한까지 다시 늘림")
+    void call_AdaptsLimitToObservedLatency() throws Exception {
+        // given - 지연 시간을 바꿀 수 있는 스텁 서버
+        AtomicLong delayMs = new AtomicLong(200);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/v1.0/removebg", exchange -> {
+            sleep(delayMs.get());
+            exchange.sendResponseHeaders(200, 2);
+            exchange.getResponseBody().write(new byte[]{1, 2});
+            exchange.close();
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+
+        ExternalCallProperties properties = breakerProperties();
+        properties.getCircuitBreaker().setEnabled(false);
+        properties.getLatencyThreshold().put(ExternalProvider.REMOVE_BG, Duration.ofMillis(100));
+        properties.setBackoffRatio(0.5);
+        ExternalCallLimiter adaptive = new ExternalCallLimiter(properties, meterRegistry);
+
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/v1.0/removebg")).build();
+        Runnable callStub = () -> adaptive.call(ExternalProvider.REMOVE_BG, () -> send(client, request));
+
+        try {
+            // when - 느린 응답 2회
+            callStub.run();
+            callStub.run();
+
+            // then
+            assertThat(adaptive.currentLimit(ExternalProvider.REMOVE_BG)).isEqualTo(1);
+            assertThat(meterRegistry.get("external.call.limit").tag("provider", "REMOVE_BG").gauge().value())
+                    .isEqualTo(1.0);
+
+            // when - 응답이 빨라짐 (슬롯이 가득 찬 상태의 빠른 성공마다 1 / limit씩 증가)
+            delayMs.set(0);
+            for (int i = 0; i < 20; i++) {
+                callStub.run();
+            }
+
+            // then
+            assertThat(adaptive.currentLimit(ExternalProvider.REMOVE_BG)).isGreaterThan(1);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static ExternalCallProperties breakerProperties() {
+        ExternalCallProperties properties = new ExternalCallProperties();
+        properties.getMaxConcurrent().put(ExternalProvider.REMOVE_BG, 4);
+        properties.setAcquireTimeout(Duration.ofMillis(50));
+        ExternalCallProperties.Breaker breaker = properties.getCircuitBreaker();
+        breaker.setWindowSize(4);
+        breaker.setMinimumCalls(4);
+        breaker.setFailureRateThreshold(0.5);
+        breaker.setOpenDuration(Duration.ofSeconds(30));
+        breaker.setHalfOpenCalls(1);
+        return properties;
+    }
+
+    private static byte[] send(HttpClient client, HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofByteArray()).body();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.nomodel.compose.application.worker;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ComposeWorker 프로토콜 테스트")
+class ComposeWorkerTest {
+
+    @Test
+    @DisplayName("합성 요청은 op + 길이 접두 프레임 3개(제품, 모델, 프롬프트)로 기록")
+    void writeComposeRequest_WritesLengthPrefixedFrames() throws IOException {
+        // given
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        // when
+        ComposeWorker.writeComposeRequest(new DataOutputStream(buffer), new byte[]{1, 2}, new byte[]{3}, "광고");
+
+        // then
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(buffer.toByteArray()));
+        assertThat(in.readUnsignedByte()).isEqualTo(ComposeWorker.OP_COMPOSE);
+        assertThat(readFrame(in)).containsExactly(1, 2);
+        assertThat(readFrame(in)).containsExactly(3);
+        assertThat(new String(readFrame(in), StandardCharsets.UTF_8)).isEqualTo("광고");
+        assertThat(in.available()).isZero();
+    }
+
+    @Test
+    @DisplayName("프롬프트가 없으면 빈 프레임으로 전달")
+    void writeComposeRequest_NullPromptAsEmptyFrame() throws IOException {
+        // given
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        // when
+        ComposeWorker.writeComposeRequest(new DataOutputStream(buffer), new byte[0], new byte[0], null);
+
+        // then
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(buffer.toByteArray()));
+        in.readUnsignedByte();
+        readFrame(in);
+        readFrame(in);
+        assertThat(readFrame(in)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("OK 응답은 payload를 그대로 반환")
+    void readResponse_ReturnsPayloadOnOk() throws Exception {
+        byte[] payload = ComposeWorker.readResponse(response(ComposeWorker.STATUS_OK, new byte[]{9, 8, 7}));
+
+        assertThat(payload).containsExactly(9, 8, 7);
+    }
+
+    @Test
+    @DisplayName("ERROR 응답은 워커 메시지를 담은 CompositionException")
+    void readResponse_ThrowsCompositionExceptionOnError() {
+        DataInputStream in = response(ComposeWorker.STATUS_ERROR, "No image data".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> ComposeWorker.readResponse(in))
+                .isInstanceOf(ComposeWorker.CompositionException.class)
+                .hasMessage("No image data");
+    }
+
+    @Test
+    @DisplayName("잘린 응답은 IOException (워커 폐기 대상)")
+    void readResponse_ThrowsIOExceptionOnTruncatedFrame() {
+        byte[] truncated = {ComposeWorker.STATUS_OK, 0, 0, 0, 10, 1, 2};
+
+        assertThatThrownBy(() -> ComposeWorker.readResponse(new DataInputStream(new ByteArrayInputStream(truncated))))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static byte[] readFrame(DataInputStream in) throws IOException {
+        byte[] frame = new byte[in.readInt()];
+        in.readFully(frame);
+        return frame;
+    }
+
+    private static DataInputStream response(int status, byte[] payload) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(status);
+            out.writeInt(payload.length);
+            out.write(payload);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return new DataInputStream(new ByteArrayInputStream(buffer.toByteArray()));
+    }
+}
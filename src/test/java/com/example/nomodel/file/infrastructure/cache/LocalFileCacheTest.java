@@ -0,0 +1,92 @@
+package com.example.nomodel.file.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalFileCache 단위 테스트")
+class LocalFileCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private LocalFileCacheProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LocalFileCacheProperties();
+        properties.setDirectory(directory.toString());
+        properties.setMaxSize(DataSize.ofBytes(10));
+    }
+
+    @Test
+    @DisplayName("저장한 내용을 그대로 다시 읽음")
+    void get_ReturnsStoredBytes() {
+        // given
+        LocalFileCache cache = newCache();
+        cache.put("model/1/preview/a.png", new byte[]{1, 2, 3});
+
+        // when & then
+        assertThat(cache.get("model/1/preview/a.png")).hasValueSatisfying(
+                data -> assertThat(data).containsExactly(1, 2, 3));
+        assertThat(cache.get("model/1/preview/b.png")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 사용하지 않은 항목부터 삭제")
+    void put_EvictsLeastRecentlyUsed() {
+        // given
+        LocalFileCache cache = newCache();
+        cache.put("a", new byte[4]);
+        cache.put("b", new byte[4]);
+        cache.get("a"); // a를 최근 사용으로
+
+        // when
+        cache.put("c", new byte[4]);
+
+        // then
+        assertThat(cache.get("a")).isPresent();
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("c")).isPresent();
+    }
+
+    @Test
+    @DisplayName("재시작 후에도 디스크에 남은 항목을 그대로 사용")
+    void init_RestoresEntriesFromDisk() {
+        // given
+        newCache().put("a", new byte[]{7});
+
+        // when
+        LocalFileCache restarted = newCache();
+
+        // then
+        assertThat(restarted.get("a")).hasValueSatisfying(data -> assertThat(data).containsExactly(7));
+    }
+
+    @Test
+    @DisplayName("비활성화 시 저장/조회하지 않음")
+    void disabled_DoesNothing() {
+        // given
+        properties.setEnabled(false);
+        LocalFileCache cache = newCache();
+
+        // when
+        cache.put("a", new byte[]{1});
+
+        // then
+        assertThat(cache.get("a")).isEmpty();
+    }
+
+    private LocalFileCache newCache() {
+        LocalFileCache cache = new LocalFileCache(properties, new SimpleMeterRegistry());
+        cache.init();
+        return cache;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.nomodel.generate.application.service;
+
+import com.example.nomodel.generate.application.dto.StableDiffusionRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GenerationResultCache 단위 테스트")
+class GenerationResultCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GenerationResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new GenerationResultCache(redisTemplate, meterRegistry, true, Duration.ofDays(30));
+    }
+
+    @Test
+    @DisplayName("고정 시드 요청만 캐시 대상이며 우회 옵션이 있으면 제외")
+    void isCacheable_OnlyFixedSeedWithoutBypass() {
+        assertThat(cache.isCacheable(request("a cat", 7.0, 42), false)).isTrue();
+        assertThat(cache.isCacheable(request("a cat", 7.0, -1), false)).isFalse();
+        assertThat(cache.isCacheable(request("a cat", 7.0, 42), true)).isFalse();
+    }
+
+    @Test
+    @DisplayName("프롬프트 공백과 숫자 표기 차이는 같은 키, 시드가 다르면 다른 키")
+    void key_NormalizesEquivalentRequests() {
+        String key = GenerationResultCache.key(request("a  cat ", 7.0, 42));
+
+        assertThat(GenerationResultCache.key(request("a cat", 7, 42))).isEqualTo(key);
+        assertThat(GenerationResultCache.key(request("a cat", 7.0, 43))).isNotEqualTo(key);
+        assertThat(GenerationResultCache.key(request("a dog", 7.0, 42))).isNotEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("저장된 결과 파일 ID를 반환하고 적중 메트릭을 기록")
+    void find_ReturnsCachedFileId() {
+        // given
+        StableDiffusionRequest request = request("a cat", 7.0, 42);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(GenerationResultCache.key(request))).willReturn("123");
+
+        // when & then
+        assertThat(cache.find(request)).contains(123L);
+        assertThat(meterRegistry.counter("stable.diffusion.result.cache", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("비활성화 시 캐시 대상 없음")
+    void isCacheable_FalseWhenDisabled() {
+        GenerationResultCache disabled = new GenerationResultCache(redisTemplate, meterRegistry, false, Duration.ofDays(30));
+
+        assertThat(disabled.isCacheable(request("a cat", 7.0, 42), false)).isFalse();
+    }
+
+    private static StableDiffusionRequest request(String prompt, double cfgScale, long seed) {
+        return StableDiffusionRequest.builder()
+                .prompt(prompt)
+                .negativePrompt("blurry")
+                .width(512)
+                .height(512)
+                .steps(25)
+                .cfgScale(cfgScale)
+                .samplerIndex("Euler a")
+                .seed(seed)
+                .build();
+    }
+}
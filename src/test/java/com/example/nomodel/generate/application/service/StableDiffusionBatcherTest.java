@@ -0,0 +1,151 @@
+package com.example.nomodel.generate.application.service;
+
+import com.example.nomodel.generate.application.dto.StableDiffusionRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StableDiffusionBatcher 단위 테스트")
+class StableDiffusionBatcherTest {
+
+    @Mock
+    private StableDiffusionClient client;
+
+    private StableDiffusionBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        // 윈도우를 길게 두어 묶인 요청은 maxBatchSize 도달로만 전송되도록 함
+        batcher = new StableDiffusionBatcher(client, new SimpleMeterRegistry(), true, 5_000, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 설정의 호출이 진행 중일 때 들어온 요청은 한 번의 txt2img 호출로 묶이고 요청마다 다른 이미지를 받음")
+    void generate_CoalescesCompatibleRequests() throws Exception {
+        // given - 첫 요청(단건 호출)이 진행 중인 동안 같은 설정의 요청 3건이 들어옴
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        given(client.txt2img(any())).willAnswer(invocation -> {
+            StableDiffusionRequest request = invocation.getArgument(0);
+            if (request.getBatchSize() == 1) {
+                firstStarted.countDown();
+                releaseFirst.await(5, TimeUnit.SECONDS);
+                return response("img-0");
+            }
+            return response("grid", "img-1", "img-2", "img-3");
+        });
+
+        // when
+        List<Path> results = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Path> first = callers.submit(() -> batcher.generate(request(-1)));
+            assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<Path>> futures = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                futures.add(callers.submit(() -> batcher.generate(request(-1))));
+            }
+            for (Future<Path> future : futures) {
+                results.add(future.get(5, TimeUnit.SECONDS));
+            }
+            releaseFirst.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(Path.of("img-0"));
+        }
+
+        // then
+        ArgumentCaptor<StableDiffusionRequest> captor = ArgumentCaptor.forClass(StableDiffusionRequest.class);
+        verify(client, times(2)).txt2img(captor.capture());
+        assertThat(captor.getAllValues()).extracting(StableDiffusionRequest::getBatchSize).containsExactly(1, 3);
+        assertThat(results).containsExactlyInAnyOrder(Path.of("img-1"), Path.of("img-2"), Path.of("img-3"));
+    }
+
+    @Test
+    @DisplayName("겹치는 요청이 없으면 윈도우를 기다리지 않고 바로 단건 호출")
+    void generate_LoneRequestSkipsWindow() throws Exception {
+        // given
+        given(client.txt2img(any())).willReturn(response("img"));
+
+        // when - 윈도우(5초)보다 훨씬 짧은 시간 안에 완료되어야 함
+        Path image;
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            image = callers.submit(() -> batcher.generate(request(-1))).get(1, TimeUnit.SECONDS);
+        }
+
+        // then
+        ArgumentCaptor<StableDiffusionRequest> captor = ArgumentCaptor.forClass(StableDiffusionRequest.class);
+        verify(client).txt2img(captor.capture());
+        assertThat(captor.getValue().getBatchSize()).isEqualTo(1);
+        assertThat(image).isEqualTo(Path.of("img"));
+    }
+
+    @Test
+    @DisplayName("시드가 고정된 요청은 묶지 않고 바로 호출")
+    void generate_FixedSeedBypassesBatching() throws Exception {
+        // given
+        given(client.txt2img(any())).willReturn(response("img"));
+
+        // when
+        Path image = batcher.generate(request(42));
+
+        // then
+        ArgumentCaptor<StableDiffusionRequest> captor = ArgumentCaptor.forClass(StableDiffusionRequest.class);
+        verify(client).txt2img(captor.capture());
+        assertThat(captor.getValue().getBatchSize()).isEqualTo(1);
+        assertThat(image).isEqualTo(Path.of("img"));
+    }
+
+    @Test
+    @DisplayName("응답 앞쪽의 그리드 이미지를 제외하고 요청 수만큼의 이미지를 추출")
+    void selectImages_SkipsLeadingGrid() {
+        List<Path> images = StableDiffusionBatcher.selectImages(response("grid", "a", "b"), 2);
+
+        assertThat(images).containsExactly(Path.of("a"), Path.of("b"));
+    }
+
+    private static StableDiffusionRequest request(long seed) {
+        return StableDiffusionRequest.builder()
+                .prompt("portrait of a model")
+                .negativePrompt("blurry")
+                .width(512)
+                .height(512)
+                .steps(20)
+                .cfgScale(7.0)
+                .samplerIndex("Euler a")
+                .nIter(1)
+                .batchSize(1)
+                .seed(seed)
+                .build();
+    }
+
+    private static List<Path> response(String... images) {
+        return new ArrayList<>(Arrays.stream(images).map(Path::of).toList());
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.nomodel.generate.application.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StableDiffusionClient 응답 디코딩 테스트")
+class StableDiffusionClientTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final List<Path> created = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        created.forEach(StableDiffusionClient::deleteQuietly);
+    }
+
+    @Test
+    @DisplayName("images 배열의 Base64 문자열을 이미지별 파일로 디코딩하고 다른 필드는 건너뜀")
+    void decodeImages_WritesEachImageToFile() throws IOException {
+        // given
+        byte[] first = {(byte) 0x89, 'P', 'N', 'G', 1, 2, 3};
+        byte[] second = new byte[64 * 1024];
+        for (int i = 0; i < second.length; i++) {
+            second[i] = (byte) i;
+        }
+        String json = "{\"parameters\":{\"prompt\":\"a\",\"steps\":20},"
+                + "\"images\":[\"" + encode(first) + "\",\"" + encode(second) + "\"],"
+                + "\"info\":\"{}\"}";
+
+        // when
+        List<Path> images = decode(json);
+
+        // then
+        assertThat(images).hasSize(2);
+        assertThat(Files.readAllBytes(images.get(0))).isEqualTo(first);
+        assertThat(Files.readAllBytes(images.get(1))).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("JSON 객체가 아닌 응답은 예외")
+    void decodeImages_RejectsUnexpectedResponse() {
+        assertThatThrownBy(() -> decode("[\"abc\"]"))
+                .isInstanceOf(IOException.class);
+    }
+
+    private List<Path> decode(String json) throws IOException {
+        List<Path> images = StableDiffusionClient.decodeImages(jsonFactory,
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        created.addAll(images);
+        return images;
+    }
+
+    private static String encode(byte[] data) {
+        return Base64.getEncoder().encodeToString(data);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.nomodel.generationjob.application.notify;
+
+import com.example.nomodel.generationjob.application.dto.JobStatusUpdate;
+import com.example.nomodel.generationjob.application.service.GenerationJobStatusChangedEvent;
+import com.example.nomodel.generationjob.domain.model.JobStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobStatusNotifier 단위 테스트")
+class JobStatusNotifierTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private JobStatusNotifier notifier;
+
+    @BeforeEach
+    void setUp() {
+        notifier = new JobStatusNotifier(redisTemplate, objectMapper, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("상태 변경은 해당 잡 구독자에게만 전달되고 다른 노드로 발행됨")
+    void onStatusChanged_DeliversToSubscribersOfJob() {
+        // given
+        UUID jobId = UUID.randomUUID();
+        List<JobStatusUpdate> received = new ArrayList<>();
+        List<JobStatusUpdate> other = new ArrayList<>();
+        notifier.subscribe(jobId, received::add);
+        notifier.subscribe(UUID.randomUUID(), other::add);
+
+        // when
+        notifier.onStatusChanged(new GenerationJobStatusChangedEvent(jobId, JobStatus.SUCCEEDED, 10L, null));
+
+        // then
+        assertThat(received).extracting(JobStatusUpdate::status).containsExactly(JobStatus.SUCCEEDED);
+        assertThat(other).isEmpty();
+        then(redisTemplate).should().convertAndSend(eq(JobStatusNotifier.CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("구독 해제 후에는 전달되지 않음")
+    void subscribe_UnsubscribeStopsDelivery() {
+        // given
+        UUID jobId = UUID.randomUUID();
+        List<JobStatusUpdate> received = new ArrayList<>();
+        Runnable unsubscribe = notifier.subscribe(jobId, received::add);
+
+        // when
+        unsubscribe.run();
+        notifier.onStatusChanged(new GenerationJobStatusChangedEvent(jobId, JobStatus.RUNNING, null, null));
+
+        // then
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발행한 상태 변경도 구독자에게 전달")
+    void onMessage_DeliversRemoteUpdates() throws Exception {
+        // given
+        UUID jobId = UUID.randomUUID();
+        List<JobStatusUpdate> received = new ArrayList<>();
+        notifier.subscribe(jobId, received::add);
+        JobStatusUpdate update = new JobStatusUpdate(jobId, JobStatus.FAILED, null, null, "timeout");
+        byte[] body = objectMapper.writeValueAsString(new JobStatusNotifier.StatusMessage("other-node", update))
+                .getBytes(StandardCharsets.UTF_8);
+
+        // when
+        notifier.onMessage(new DefaultMessage(JobStatusNotifier.CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+
+        // then
+        assertThat(received).containsExactly(update);
+    }
+}
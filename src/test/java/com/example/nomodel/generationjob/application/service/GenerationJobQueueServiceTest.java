@@ -0,0 +1,182 @@
+package com.example.nomodel.generationjob.application.service;
+
+import com.example.nomodel.generationjob.application.worker.GenerationJobProperties;
+import com.example.nomodel.generationjob.domain.model.GenerationJob;
+import com.example.nomodel.generationjob.domain.model.JobStatus;
+import com.example.nomodel.generationjob.domain.model.JobType;
+import com.example.nomodel.generationjob.domain.repository.GenerationJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GenerationJobQueueService 단위 테스트")
+class GenerationJobQueueServiceTest {
+
+    @Mock
+    private GenerationJobRepository repo;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private GenerationJobProperties properties;
+    private GenerationJobQueueService queueService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GenerationJobProperties();
+        properties.setMaxRetries(2);
+        queueService = new GenerationJobQueueService(repo, properties, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("가져간 잡은 RUNNING으로 전환되고 임대 만료 시각이 기록됨")
+    void claim_MarksRunningWithLease() {
+        // given
+        GenerationJob job = pendingJob(0);
+        given(repo.findClaimable(eq("COMPOSE"), any(LocalDateTime.class), eq(2))).willReturn(List.of(job));
+
+        // when
+        List<GenerationJob> claimed = queueService.claim(JobType.COMPOSE, 2);
+
+        // then
+        assertThat(claimed).containsExactly(job);
+        assertThat(job.getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(job.getLeaseExpiresAt()).isAfter(LocalDateTime.now().plusMinutes(4));
+        then(eventPublisher).should().publishEvent(
+                new GenerationJobStatusChangedEvent(job.getId(), JobStatus.RUNNING, null, null));
+    }
+
+    @Test
+    @DisplayName("재시도 횟수가 남아 있으면 백오프 후 PENDING으로 되돌림")
+    void failOrRetry_SchedulesRetry() {
+        // given
+        GenerationJob job = runningJob(0);
+        given(repo.findByIdForUpdate(job.getId())).willReturn(Optional.of(job));
+
+        // when
+        boolean retried = queueService.failOrRetry(job.getId(), 0, "timeout");
+
+        // then
+        assertThat(retried).isTrue();
+        assertThat(job.getStatus()).isEqualTo(JobStatus.PENDING);
+        assertThat(job.getRetryCount()).isEqualTo(1);
+        assertThat(job.getAvailableAt()).isAfter(LocalDateTime.now());
+        assertThat(job.getLeaseExpiresAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 모두 쓰면 FAILED로 종료")
+    void failOrRetry_FailsWhenRetriesExhausted() {
+        // given
+        GenerationJob job = runningJob(2);
+        given(repo.findByIdForUpdate(job.getId())).willReturn(Optional.of(job));
+
+        // when
+        boolean retried = queueService.failOrRetry(job.getId(), 2, "timeout");
+
+        // then
+        assertThat(retried).isFalse();
+        assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.getErrorMessage()).isEqualTo("timeout");
+    }
+
+    @Test
+    @DisplayName("외부 서비스 사용 불가로 미룬 잡은 재시도 횟수를 쓰지 않고 PENDING으로 되돌림")
+    void defer_RequeuesWithoutConsumingRetry() {
+        // given
+        GenerationJob job = runningJob(2);
+        given(repo.findByIdForUpdate(job.getId())).willReturn(Optional.of(job));
+
+        // when
+        queueService.defer(job.getId(), 2, "External service is temporarily unavailable, please retry later");
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.PENDING);
+        assertThat(job.getRetryCount()).isEqualTo(2);
+        assertThat(job.getAvailableAt()).isAfter(LocalDateTime.now());
+        assertThat(job.getLeaseExpiresAt()).isNull();
+        then(eventPublisher).should().publishEvent(any(GenerationJobStatusChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("임대 만료 후 다시 실행된 잡에 대한 늦은 완료 보고는 무시")
+    void complete_IgnoresStaleAttempt() {
+        // given
+        GenerationJob job = runningJob(1);
+        given(repo.findByIdForUpdate(job.getId())).willReturn(Optional.of(job));
+
+        // when
+        queueService.complete(job.getId(), 0, 99L);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(job.getResultFileId()).isNull();
+    }
+
+    @Test
+    @DisplayName("실행 중인 잡의 임대는 가져갈 당시의 시도 기준으로 연장하고, 이미 회수된 잡은 제외")
+    void renewLeases_ExtendsLeaseOfCurrentAttempts() {
+        // given
+        UUID running = UUID.randomUUID();
+        UUID reclaimed = UUID.randomUUID();
+        given(repo.renewLease(eq(running), eq(0), eq(JobStatus.RUNNING), any(LocalDateTime.class))).willReturn(1);
+        given(repo.renewLease(eq(reclaimed), eq(1), eq(JobStatus.RUNNING), any(LocalDateTime.class))).willReturn(0);
+
+        // when
+        int renewed = queueService.renewLeases(Map.of(running, 0, reclaimed, 1));
+
+        // then
+        assertThat(renewed).isEqualTo(1);
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("백오프는 재시도마다 2배씩 늘고 최대값을 넘지 않음")
+    void backoffDelay_GrowsExponentiallyWithCap() {
+        Duration base = Duration.ofSeconds(10);
+        Duration max = Duration.ofMinutes(5);
+
+        assertThat(GenerationJobQueueService.backoffDelay(0, base, max))
+                .isBetween(Duration.ofSeconds(5), Duration.ofSeconds(10));
+        assertThat(GenerationJobQueueService.backoffDelay(2, base, max))
+                .isBetween(Duration.ofSeconds(20), Duration.ofSeconds(40));
+        assertThat(GenerationJobQueueService.backoffDelay(30, base, max))
+                .isBetween(Duration.ofMinutes(2).plusSeconds(30), max);
+    }
+
+    private static GenerationJob pendingJob(int retryCount) {
+        return GenerationJob.builder()
+                .id(UUID.randomUUID())
+                .ownerId(1L)
+                .type(JobType.COMPOSE)
+                .inputFileId(10L)
+                .status(JobStatus.PENDING)
+                .retryCount(retryCount)
+                .availableAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static GenerationJob runningJob(int retryCount) {
+        GenerationJob job = pendingJob(retryCount);
+        job.claim(LocalDateTime.now().plusMinutes(5));
+        return job;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.nomodel.model.command.application.cache.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SearchCacheAdmissionService 단위 테스트")
+class SearchCacheAdmissionServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchCacheAdmissionService admissionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        admissionService = new SearchCacheAdmissionService(meterRegistry, new CacheAccessStatisticsService(128, 60), 3, 1024);
+    }
+
+    @Test
+    @DisplayName("키워드 없는 기본 검색은 항상 캐싱")
+    void shouldCache_DefaultSearch() {
+        assertThat(admissionService.shouldCache("modelSearch", null, null, 0, 10)).isTrue();
+        assertThat(admissionService.shouldCache("modelSearch", "  ", true, 1, 10)).isTrue();
+    }
+
+    @Test
+    @DisplayName("키워드 검색은 빈도가 임계값에 도달한 이후부터 캐싱")
+    void shouldCache_KeywordAdmittedAfterThreshold() {
+        // when
+        boolean first = admissionService.shouldCache("modelSearch", "Anime", null, 0, 10);
+        boolean second = admissionService.shouldCache("modelSearch", "anime ", null, 1, 10);
+        boolean third = admissionService.shouldCache("modelSearch", " ANIME", null, 0, 10);
+
+        // then - 대소문자/공백/페이지가 달라도 같은 검색 조건으로 집계
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        assertThat(third).isTrue();
+        assertThat(meterRegistry.counter("model.search.cache.admission",
+                "cache", "modelSearch", "decision", "admitted").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("model.search.cache.admission",
+                "cache", "modelSearch", "decision", "rejected").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("필터와 캐시 이름이 다르면 별도로 집계")
+    void shouldCache_SeparateFilterAndCache() {
+        admissionService.shouldCache("modelSearch", "portrait", true, 0, 10);
+        admissionService.shouldCache("modelSearch", "portrait", true, 0, 10);
+
+        assertThat(admissionService.estimateFrequency("modelSearch", "portrait", true)).isEqualTo(2);
+        assertThat(admissionService.estimateFrequency("modelSearch", "portrait", false)).isZero();
+        assertThat(admissionService.estimateFrequency("adminModels", "portrait", true)).isZero();
+    }
+
+    @Test
+    @DisplayName("페이지/사이즈 범위를 벗어나면 캐싱하지 않음")
+    void shouldCache_OutOfRange() {
+        assertThat(admissionService.shouldCache("modelSearch", null, null, 3, 10)).isFalse();
+        assertThat(admissionService.shouldCache("modelSearch", null, null, 0, 50)).isFalse();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.nomodel.model.command.application.cache.service;
+
+import com.example.nomodel.model.command.application.dto.response.cache.ModelSearchCacheKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("SearchCacheTagService 단위 테스트")
+class SearchCacheTagServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    private ConcurrentMapCache modelSearchCache;
+    private SearchCacheTagService tagService;
+
+    @BeforeEach
+    void setUp() {
+        modelSearchCache = new ConcurrentMapCache("modelSearch");
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(cacheManager.getCache("modelSearch")).willReturn(modelSearchCache);
+        tagService = new SearchCacheTagService(redisTemplate, cacheManager, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("캐시 키에서 페이지 정보를 제외한 검색 조건 키 추출")
+    void filterKeyOf_StripsPageAndSize() {
+        assertThat(ModelSearchCacheKey.filterKeyOf(ModelSearchCacheKey.generate("anime girl", true, 1, 20)))
+                .isEqualTo(ModelSearchCacheKey.generateFilterKey("anime girl", true));
+        assertThat(ModelSearchCacheKey.filterKeyOf("ALL_ANY_0_10")).isEqualTo("ALL_ANY");
+    }
+
+    @Test
+    @DisplayName("기본 목록은 가격 조건만, 키워드 검색은 토큰 포함 여부로 매칭")
+    void matchesFilter() {
+        String text = "cyberpunk city portrait, neon light";
+
+        assertThat(SearchCacheTagService.matchesFilter("ALL_ANY", text, true)).isTrue();
+        assertThat(SearchCacheTagService.matchesFilter("ALL_PAID", text, true)).isFalse();
+        assertThat(SearchCacheTagService.matchesFilter("neon-sign_FREE", text, true)).isTrue();
+        assertThat(SearchCacheTagService.matchesFilter("forest_ANY", text, true)).isFalse();
+        assertThat(SearchCacheTagService.matchesFilter("portrait_PAID", text, null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("검색 쿼리의 fuzziness AUTO처럼 오타 키워드도 편집 거리 안이면 매칭")
+    void matchesFilter_FuzzyKeyword() {
+        String text = "cyberpunk city portrait, neon light";
+
+        assertThat(SearchCacheTagService.matchesFilter("portriat_ANY", text, null)).isTrue();  // 6자 이상: 2
+        assertThat(SearchCacheTagService.matchesFilter("nein_ANY", text, null)).isTrue();      // 3~5자: 1
+        assertThat(SearchCacheTagService.matchesFilter("ct_ANY", text, null)).isFalse();       // 1~2자: 일치만
+        assertThat(SearchCacheTagService.matchesFilter("forest_ANY", text, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("매칭되는 검색 조건의 페이지만 무효화하고 다른 페이지는 유지")
+    void evictFiltersMatching_EvictsOnlyMatchedPages() {
+        // given
+        modelSearchCache.put("ALL_ANY_0_10", "default");
+        modelSearchCache.put("neon_ANY_0_10", "neon");
+        modelSearchCache.put("forest_ANY_0_10", "forest");
+        given(setOperations.members("cache:tags:modelSearch:filters"))
+                .willReturn(Set.of("ALL_ANY", "neon_ANY", "forest_ANY"));
+        given(setOperations.members("cache:tags:modelSearch:filter:ALL_ANY")).willReturn(Set.of("ALL_ANY_0_10"));
+        given(setOperations.members("cache:tags:modelSearch:filter:neon_ANY")).willReturn(Set.of("neon_ANY_0_10"));
+
+        // when
+        int evicted = tagService.evictFiltersMatching("modelSearch", "Neon City", false);
+
+        // then
+        assertThat(evicted).isEqualTo(2);
+        assertThat(modelSearchCache.get("ALL_ANY_0_10")).isNull();
+        assertThat(modelSearchCache.get("neon_ANY_0_10")).isNull();
+        assertThat(modelSearchCache.get("forest_ANY_0_10")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("모델이 포함된 페이지만 무효화")
+    void evictPagesContaining() {
+        // given
+        modelSearchCache.put("ALL_ANY_0_10", "page0");
+        modelSearchCache.put("ALL_ANY_1_10", "page1");
+        given(setOperations.members("cache:tags:modelSearch:model:42")).willReturn(Set.of("ALL_ANY_1_10"));
+
+        // when
+        int evicted = tagService.evictPagesContaining("modelSearch", 42L);
+
+        // then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(modelSearchCache.get("ALL_ANY_0_10")).isNotNull();
+        assertThat(modelSearchCache.get("ALL_ANY_1_10")).isNull();
+    }
+}
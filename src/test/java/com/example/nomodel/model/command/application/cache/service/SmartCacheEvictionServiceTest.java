@@ -0,0 +1,77 @@
+package com.example.nomodel.model.command.application.cache.service;
+
+import com.example.nomodel.model.command.domain.event.ModelIndexedEvent;
+import com.example.nomodel.model.command.domain.model.AIModel;
+import com.example.nomodel.model.command.domain.model.ModelIndexChangeType;
+import com.example.nomodel.model.command.domain.repository.AIModelJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SmartCacheEvictionService 단위 테스트")
+class SmartCacheEvictionServiceTest {
+
+    @Mock
+    private ModelCacheEvictionService cacheEvictionService;
+
+    @Mock
+    private ModelCacheService modelCacheService;
+
+    @Mock
+    private LazyInvalidationService lazyInvalidationService;
+
+    @Mock
+    private SearchCacheTagService tagService;
+
+    @Mock
+    private AIModelJpaRepository modelRepository;
+
+    @InjectMocks
+    private SmartCacheEvictionService smartCacheEvictionService;
+
+    @Test
+    @DisplayName("캐시된 페이지에 포함된 모델이 유료→무료로 바뀌면 포함된 조건과 함께 무료 조건도 무효화")
+    void onModelIndexed_EvictsNewlyMatchingFiltersForCachedModel() {
+        // given
+        AIModel model = mock(AIModel.class);
+        given(model.isPublic()).willReturn(true);
+        given(model.getModelName()).willReturn("anime portrait");
+        given(model.isPaidModel()).willReturn(false);
+        given(modelRepository.findById(1L)).willReturn(Optional.of(model));
+        given(tagService.evictFiltersContaining("modelSearch", 1L)).willReturn(3);
+
+        // when
+        smartCacheEvictionService.onModelIndexed(new ModelIndexedEvent(Map.of(1L, ModelIndexChangeType.MODEL)));
+
+        // then
+        then(tagService).should().evictFiltersContaining("modelSearch", 1L);
+        then(tagService).should().evictFiltersMatching(eq("modelSearch"), startsWith("anime portrait"), eq(true));
+    }
+
+    @Test
+    @DisplayName("캐시된 페이지에 없던 공개 모델(생성/공개 전환)은 매칭되는 검색 조건을 무효화")
+    void onModelIndexed_ScansFiltersForNewlyVisibleModel() {
+        // given
+        AIModel model = mock(AIModel.class);
+        given(model.isPublic()).willReturn(true);
+        given(model.getModelName()).willReturn("anime portrait");
+        given(model.isPaidModel()).willReturn(false);
+        given(modelRepository.findById(1L)).willReturn(Optional.of(model));
+
+        // when
+        smartCacheEvictionService.onModelIndexed(new ModelIndexedEvent(Map.of(1L, ModelIndexChangeType.MODEL)));
+
+        // then
+        then(tagService).should().evictFiltersMatching(eq("modelSearch"), startsWith("anime portrait"), eq(true));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.nomodel.model.command.application.cache.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HeavyHitters 단위 테스트")
+class HeavyHittersTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(60);
+
+    @Test
+    @DisplayName("가장 자주 기록된 키를 빈도 내림차순으로 반환")
+    void topK_ReturnsMostFrequentKeys() {
+        // given
+        HeavyHitters<String> heavyHitters = new HeavyHitters<>(16, WINDOW, () -> 0L);
+        record(heavyHitters, "anime", 10);
+        record(heavyHitters, "portrait", 5);
+        record(heavyHitters, "forest", 1);
+
+        // when & then
+        assertThat(heavyHitters.topK(2))
+                .extracting(HeavyHitters.Entry::key)
+                .containsExactly("anime", "portrait");
+        assertThat(heavyHitters.totalCount()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("카운터가 가득 차도 빈번한 키는 상위에 유지")
+    void record_KeepsHeavyHittersWhenFull() {
+        // given
+        HeavyHitters<String> heavyHitters = new HeavyHitters<>(4, WINDOW, () -> 0L);
+        record(heavyHitters, "hot", 50);
+        for (int i = 0; i < 100; i++) {
+            heavyHitters.record("cold-" + i);
+        }
+
+        // when & then
+        assertThat(heavyHitters.topK(1).get(0).key()).isEqualTo("hot");
+    }
+
+    @Test
+    @DisplayName("전체 기록 중 목표 비율을 덮는 만큼만 상위 키를 반환")
+    void topCovering_ReturnsKeysUntilCoverageReached() {
+        // given
+        HeavyHitters<String> heavyHitters = new HeavyHitters<>(16, WINDOW, () -> 0L);
+        record(heavyHitters, "anime", 70);
+        record(heavyHitters, "portrait", 20);
+        record(heavyHitters, "forest", 10);
+
+        // when & then
+        assertThat(heavyHitters.topCovering(0.5, 10)).extracting(HeavyHitters.Entry::key)
+                .containsExactly("anime");
+        assertThat(heavyHitters.topCovering(0.8, 10)).extracting(HeavyHitters.Entry::key)
+                .containsExactly("anime", "portrait");
+        assertThat(heavyHitters.topCovering(1.0, 2)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("두 윈도우가 지나면 오래된 통계는 제외")
+    void topK_ForgetsExpiredWindows() {
+        // given
+        AtomicLong clock = new AtomicLong();
+        HeavyHitters<String> heavyHitters = new HeavyHitters<>(16, WINDOW, clock::get);
+        record(heavyHitters, "old", 10);
+
+        // when
+        clock.addAndGet(WINDOW.toNanos());
+        record(heavyHitters, "recent", 3);
+
+        // then
+        assertThat(heavyHitters.topK(2)).extracting(HeavyHitters.Entry::key).containsExactly("old", "recent");
+
+        clock.addAndGet(WINDOW.toNanos() * 2);
+        assertThat(heavyHitters.topK(2)).isEmpty();
+        assertThat(heavyHitters.totalCount()).isZero();
+    }
+
+    private static void record(HeavyHitters<String> heavyHitters, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            heavyHitters.record(key);
+        }
+    }
+}
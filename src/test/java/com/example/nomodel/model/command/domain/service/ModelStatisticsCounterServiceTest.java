@@ -0,0 +1,158 @@
+package com.example.nomodel.model.command.domain.service;
+
+import com.example.nomodel.model.command.domain.model.ModelCounterDelta;
+import com.example.nomodel.model.command.domain.repository.ModelStatisticsCounterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ModelStatisticsCounterService 단위 테스트")
+class ModelStatisticsCounterServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ModelStatisticsCounterRepository counterRepository;
+
+    private ModelStatisticsCounterService counterService;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        counterService = new ModelStatisticsCounterService(redisTemplate, counterRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("필드별 증가분을 모델 단위로 합산")
+    void aggregate_GroupsByModel() {
+        // given
+        Map<String, Long> fieldValues = Map.of(
+                "1:view", 3L,
+                "1:usage", 2L,
+                "2:view", 5L,
+                "invalid", 9L);
+
+        // when
+        Map<Long, ModelCounterDelta> deltas = ModelStatisticsCounterService.aggregate(fieldValues);
+
+        // then
+        assertThat(deltas).hasSize(2);
+        assertThat(deltas.get(1L)).isEqualTo(new ModelCounterDelta(3L, 2L));
+        assertThat(deltas.get(2L)).isEqualTo(new ModelCounterDelta(5L, 0L));
+    }
+
+    @Test
+    @DisplayName("flush 시 누적 해시를 스냅샷으로 전환한 뒤 한 번에 반영하고 삭제")
+    void flush_AppliesRedisSnapshot() {
+        // given
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+        given(redisTemplate.hasKey("model:stats:delta:flushing")).willReturn(false);
+        given(redisTemplate.hasKey("model:stats:delta")).willReturn(true);
+        given(hashOperations.entries("model:stats:delta:flushing"))
+                .willReturn(Map.of("10:view", "4", "10:usage", "1"));
+        given(counterRepository.applyDeltasOnce(anyString(), any())).willReturn(1);
+
+        // when
+        counterService.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, ModelCounterDelta>> captor = ArgumentCaptor.forClass(Map.class);
+        then(redisTemplate).should().rename("model:stats:delta", "model:stats:delta:flushing");
+        then(valueOperations).should().set(eq("model:stats:delta:flushing:id"), anyString());
+        then(counterRepository).should().applyDeltasOnce(anyString(), captor.capture());
+        then(redisTemplate).should().delete(List.of("model:stats:delta:flushing", "model:stats:delta:flushing:id"));
+        assertThat(captor.getValue()).containsEntry(10L, new ModelCounterDelta(4L, 1L));
+    }
+
+    @Test
+    @DisplayName("중단된 스냅샷은 이전에 부여한 flush ID로 다시 반영 (이미 커밋된 스냅샷은 저장소가 건너뜀)")
+    void flush_ReusesFlushIdOfInterruptedSnapshot() {
+        // given
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(1L);
+        given(redisTemplate.hasKey("model:stats:delta:flushing")).willReturn(true);
+        given(redisTemplate.hasKey("model:stats:delta")).willReturn(false);
+        given(valueOperations.get("model:stats:delta:flushing:id")).willReturn("flush-1");
+        given(hashOperations.entries("model:stats:delta:flushing")).willReturn(Map.of("10:view", "4"));
+
+        // when
+        counterService.flush();
+
+        // then
+        then(counterRepository).should().applyDeltasOnce("flush-1", Map.of(10L, new ModelCounterDelta(4L, 0L)));
+        then(valueOperations).should(never()).set(anyString(), anyString());
+        then(redisTemplate).should().delete(List.of("model:stats:delta:flushing", "model:stats:delta:flushing:id"));
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 스냅샷을 삭제하지 않아 다음 주기에 재시도")
+    void flush_KeepsSnapshotOnFailure() {
+        // given
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+        given(redisTemplate.hasKey("model:stats:delta:flushing")).willReturn(true);
+        given(hashOperations.entries("model:stats:delta:flushing")).willReturn(Map.of("10:view", "4"));
+        given(counterRepository.applyDeltasOnce(anyString(), any())).willThrow(new IllegalStateException("DB down"));
+
+        // when
+        counterService.flush();
+
+        // then
+        then(redisTemplate).should(never()).delete(anyList());
+        then(redisTemplate).should(never()).rename(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 로컬 버퍼에 누적하고 flush 시 DB에 반영")
+    void increment_FallsBackToLocalBuffer() {
+        // given
+        given(hashOperations.increment(eq("model:stats:delta"), any(), anyLong()))
+                .willThrow(new RedisConnectionFailureException("down"));
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+
+        // when
+        counterService.incrementViewCount(7L);
+        counterService.incrementViewCount(7L);
+        counterService.incrementUsageCount(7L);
+        counterService.flush();
+
+        // then
+        then(counterRepository).should().applyDeltas(Map.of(7L, new ModelCounterDelta(2L, 1L)));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.nomodel.model.command.domain.service;
+
+import com.example.nomodel.model.command.domain.service.ViewCountThrottleService.ViewKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ViewCountThrottleService 단위 테스트")
+class ViewCountThrottleServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ViewCountThrottleService throttleService;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        throttleService = new ViewCountThrottleService(redisTemplate, new SimpleMeterRegistry(), true, 1000, 0.001);
+    }
+
+    @Test
+    @DisplayName("SET NX 성공 시 허용하고 확인과 기록을 한 번의 호출로 처리")
+    void canIncrement_AllowsOnSetIfAbsent() {
+        // given
+        given(valueOperations.setIfAbsent(eq("view_throttle:1:10"), eq("1"), any(Duration.class))).willReturn(true);
+
+        // when
+        boolean allowed = throttleService.canIncrementViewCount(1L, 10L);
+
+        // then
+        assertThat(allowed).isTrue();
+        then(redisTemplate).should(never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 이미 기록한 조회는 차단")
+    void canIncrement_ThrottlesWhenKeyExists() {
+        // given
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+
+        // when
+        boolean allowed = throttleService.canIncrementViewCount(1L, 10L);
+
+        // then
+        assertThat(allowed).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 노드의 반복 조회는 로컬 필터로 Redis 호출 없이 차단")
+    void canIncrement_LocalFilterSkipsRedis() {
+        // given
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+
+        // when
+        boolean first = throttleService.canIncrementViewCount(1L, 10L);
+        boolean second = throttleService.canIncrementViewCount(1L, 10L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        then(valueOperations).should(times(1)).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 조회수 증가 허용")
+    void canIncrement_AllowsOnRedisError() {
+        // given
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        boolean allowed = throttleService.canIncrementViewCount(1L, 10L);
+
+        // then
+        assertThat(allowed).isTrue();
+    }
+
+    @Test
+    @DisplayName("일괄 확인은 파이프라인 결과에 따라 조회별 허용 여부를 반환")
+    @SuppressWarnings("unchecked")
+    void canIncrementBatch_UsesPipelineReplies() {
+        // given
+        given(redisTemplate.executePipelined(any(SessionCallback.class))).willReturn(List.of(true, false));
+        ViewKey first = new ViewKey(1L, 10L);
+        ViewKey second = new ViewKey(2L, 10L);
+
+        // when
+        Map<ViewKey, Boolean> results = throttleService.canIncrementViewCounts(List.of(first, second, first));
+
+        // then
+        assertThat(results).containsExactly(Map.entry(first, true), Map.entry(second, false));
+        then(redisTemplate).should(times(1)).executePipelined(any(SessionCallback.class));
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.nomodel.model.command.infrastructure.service;
+
+import com.example.nomodel.file.application.service.FileService;
+import com.example.nomodel.model.command.application.dto.ModelWithStatisticsProjection;
+import com.example.nomodel.model.command.domain.model.AIModel;
+import com.example.nomodel.model.command.domain.model.ModelStatistics;
+import com.example.nomodel.model.command.domain.model.OwnType;
+import com.example.nomodel.model.command.domain.model.document.AIModelDocument;
+import com.example.nomodel.model.command.domain.repository.AIModelJpaRepository;
+import com.example.nomodel.model.command.domain.repository.AIModelSearchRepository;
+import com.example.nomodel.model.command.domain.repository.ModelStatisticsJpaRepository;
+import com.example.nomodel.review.domain.model.ReviewStatus;
+import com.example.nomodel.review.domain.repository.ReviewRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ElasticsearchIndexService 아웃박스 반영 단위 테스트")
+class ElasticsearchIndexServiceTest {
+
+    @Mock
+    private ElasticsearchTemplate elasticsearchTemplate;
+
+    @Mock
+    private AIModelJpaRepository aiModelJpaRepository;
+
+    @Mock
+    private AIModelSearchRepository aiModelSearchRepository;
+
+    @Mock
+    private ModelStatisticsJpaRepository modelStatisticsRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private FileService fileService;
+
+    @InjectMocks
+    private ElasticsearchIndexService indexService;
+
+    @Test
+    @DisplayName("카운터 필드만 담은 update 요청을 한 번의 bulk로 전송")
+    void updateCounters_SendsOnlyCounterFields() {
+        // given
+        ModelStatistics stats = statistics(1L, 7L, 42L);
+        given(modelStatisticsRepository.findAllByModelIdIn(List.of(1L, 2L))).willReturn(List.of(stats));
+        given(reviewRepository.getReviewStatisticsByModelIds(List.of(1L, 2L), ReviewStatus.ACTIVE))
+                .willReturn(List.<Object[]>of(new Object[]{1L, 3L, 4.5}));
+
+        // when
+        Set<Long> failed = indexService.updateCounters(List.of(1L, 2L));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UpdateQuery>> captor = ArgumentCaptor.forClass(List.class);
+        then(elasticsearchTemplate).should().bulkUpdate(captor.capture(), any(IndexCoordinates.class));
+        List<UpdateQuery> queries = captor.getValue();
+
+        assertThat(failed).isEmpty();
+        assertThat(queries).extracting(UpdateQuery::getId).containsExactly("1", "2");
+        assertThat(queries.get(0).getDocument())
+                .containsOnlyKeys("usageCount", "viewCount", "rating", "reviewCount")
+                .containsEntry("usageCount", 7L)
+                .containsEntry("viewCount", 42L)
+                .containsEntry("rating", 4.5)
+                .containsEntry("reviewCount", 3L);
+        assertThat(queries.get(1).getDocument())
+                .containsEntry("usageCount", 0L)
+                .containsEntry("reviewCount", 0L);
+        then(aiModelJpaRepository).should(never()).findModelsWithStatisticsAndOwnerByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("부분 갱신에 실패한 문서는 전체 재색인으로 재시도")
+    void updateCounters_FallsBackToReindexForFailedDocuments() {
+        // given
+        given(modelStatisticsRepository.findAllByModelIdIn(anyList())).willReturn(List.of());
+        given(reviewRepository.getReviewStatisticsByModelIds(anyList(), any())).willReturn(List.of());
+        willThrow(new BulkFailureException("document missing",
+                Map.of("2", new BulkFailureException.FailureDetails(404, "document_missing_exception"))))
+                .given(elasticsearchTemplate).bulkUpdate(anyList(), any(IndexCoordinates.class));
+        given(aiModelJpaRepository.findModelsWithStatisticsAndOwnerByIdIn(any())).willReturn(List.of());
+
+        // when
+        Set<Long> failed = indexService.updateCounters(List.of(1L, 2L));
+
+        // then - DB에도 없는 모델이면 인덱스에서 제거하고 실패로 남기지 않음
+        then(aiModelJpaRepository).should().findModelsWithStatisticsAndOwnerByIdIn(Set.of(2L));
+        then(aiModelSearchRepository).should().deleteAllById(List.of("2"));
+        assertThat(failed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재색인 문서에 대표 이미지 URL을 함께 저장")
+    void reindexModels_StoresPrimaryImageUrl() {
+        // given
+        AIModel model = mock(AIModel.class);
+        given(model.getId()).willReturn(1L);
+        given(model.getModelName()).willReturn("Test Model");
+        given(model.getOwnType()).willReturn(OwnType.ADMIN);
+        ModelWithStatisticsProjection projection = mock(ModelWithStatisticsProjection.class);
+        given(projection.getModel()).willReturn(model);
+        given(aiModelJpaRepository.findModelsWithStatisticsAndOwnerByIdIn(List.of(1L))).willReturn(List.of(projection));
+        given(reviewRepository.getReviewStatisticsByModelIds(anyList(), any())).willReturn(List.of());
+        given(fileService.getPrimaryImageUrlMap(List.of(1L))).willReturn(Map.of(1L, "https://cdn.example.com/1.png"));
+
+        // when
+        Set<Long> failed = indexService.reindexModels(List.of(1L));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<IndexQuery>> captor = ArgumentCaptor.forClass(List.class);
+        then(elasticsearchTemplate).should().bulkIndex(captor.capture(), any(IndexCoordinates.class));
+        AIModelDocument document = (AIModelDocument) captor.getValue().get(0).getObject();
+
+        assertThat(failed).isEmpty();
+        assertThat(document.getPrimaryImageUrl()).isEqualTo("https://cdn.example.com/1.png");
+    }
+
+    private ModelStatistics statistics(Long modelId, Long usageCount, Long viewCount) {
+        AIModel model = mock(AIModel.class);
+        given(model.getId()).willReturn(modelId);
+        ModelStatistics stats = mock(ModelStatistics.class);
+        given(stats.getModel()).willReturn(model);
+        given(stats.getUsageCount()).willReturn(usageCount);
+        given(stats.getViewCount()).willReturn(viewCount);
+        return stats;
+    }
+}
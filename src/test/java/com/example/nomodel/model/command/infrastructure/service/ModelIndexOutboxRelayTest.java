@@ -0,0 +1,184 @@
+package com.example.nomodel.model.command.infrastructure.service;
+
+import com.example.nomodel.model.command.domain.event.ModelIndexedEvent;
+import com.example.nomodel.model.command.domain.model.ModelIndexChangeType;
+import com.example.nomodel.model.command.domain.model.ModelIndexOutbox;
+import com.example.nomodel.model.command.domain.repository.ModelIndexOutboxJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ModelIndexOutboxRelay 단위 테스트")
+class ModelIndexOutboxRelayTest {
+
+    @Mock
+    private ModelIndexOutboxJpaRepository outboxRepository;
+
+    @Mock
+    private ElasticsearchIndexService indexService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ModelIndexOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+        given(outboxRepository.findFirstByDeadLetteredAtIsNullOrderByIdAsc()).willReturn(Optional.empty());
+        relay = new ModelIndexOutboxRelay(outboxRepository, indexService, redisTemplate, eventPublisher,
+                new SimpleMeterRegistry(), true, 10, 3, Duration.ofSeconds(1), Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("같은 모델의 변경은 하나로 합치고, 마지막 변경이 삭제면 삭제")
+    void coalesce_MergesPerModel() {
+        // given
+        List<ModelIndexOutbox> changes = List.of(
+                change(1L, 10L, ModelIndexChangeType.COUNTERS),
+                change(2L, 10L, ModelIndexChangeType.COUNTERS),
+                change(3L, 20L, ModelIndexChangeType.COUNTERS),
+                change(4L, 20L, ModelIndexChangeType.MODEL),
+                change(5L, 30L, ModelIndexChangeType.MODEL),
+                change(6L, 30L, ModelIndexChangeType.DELETE),
+                change(7L, 40L, ModelIndexChangeType.COUNTERS),
+                change(8L, 40L, ModelIndexChangeType.REVIEW));
+
+        // when
+        Map<Long, ModelIndexChangeType> coalesced = ModelIndexOutboxRelay.coalesce(changes);
+
+        // then
+        assertThat(coalesced).containsExactly(
+                entry(10L, ModelIndexChangeType.COUNTERS),
+                entry(20L, ModelIndexChangeType.MODEL),
+                entry(30L, ModelIndexChangeType.DELETE),
+                entry(40L, ModelIndexChangeType.REVIEW));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("색인에 실패한 모델의 행은 남기고 반영된 행만 삭제")
+    void relay_DeletesOnlyAppliedRows() {
+        // given
+        given(outboxRepository.findRelayable(any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of(
+                change(1L, 10L, ModelIndexChangeType.MODEL),
+                change(2L, 20L, ModelIndexChangeType.COUNTERS),
+                change(3L, 10L, ModelIndexChangeType.COUNTERS),
+                change(4L, 30L, ModelIndexChangeType.DELETE)));
+        given(indexService.reindexModels(List.of(10L))).willReturn(Set.of());
+        given(indexService.updateCounters(List.of(20L))).willReturn(Set.of(20L));
+        given(indexService.deleteModels(List.of(30L))).willReturn(Set.of());
+
+        // when
+        relay.relay();
+
+        // then - 카운터만 바뀐 모델(20)은 부분 갱신 경로로 전달, 실패한 행은 재시도 시각을 미뤄 저장
+        //        검색 캐시 무효화 이벤트는 반영에 성공한 모델만
+        then(indexService).should().updateCounters(List.of(20L));
+        then(outboxRepository).should().deleteAllByIdInBatch(List.of(1L, 3L, 4L));
+        ArgumentCaptor<ModelIndexedEvent> indexed = ArgumentCaptor.forClass(ModelIndexedEvent.class);
+        then(eventPublisher).should().publishEvent(indexed.capture());
+        assertThat(indexed.getValue().getChanges()).containsOnly(
+                entry(10L, ModelIndexChangeType.MODEL),
+                entry(30L, ModelIndexChangeType.DELETE));
+        ArgumentCaptor<List<ModelIndexOutbox>> retries = ArgumentCaptor.forClass(List.class);
+        then(outboxRepository).should().saveAll(retries.capture());
+        assertThat(retries.getValue()).singleElement().satisfies(retry -> {
+            assertThat(retry.getModelId()).isEqualTo(20L);
+            assertThat(retry.getAttempts()).isEqualTo(1);
+            assertThat(retry.getNextAttemptAt()).isNotNull();
+        });
+        then(valueOperations).should().setIfAbsent(eq("model:index:outbox:lock"), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 가지고 있으면 실행하지 않음")
+    void relay_SkipsWithoutLock() {
+        // given
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+
+        // when
+        relay.relay();
+
+        // then
+        then(outboxRepository).should(never()).findRelayable(any(LocalDateTime.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("인덱스 재구축 중에는 변경을 반영하지 않고 아웃박스에 남겨 둠")
+    void relay_PausesWhileRebuilding() {
+        // given
+        given(indexService.isRebuilding()).willReturn(true);
+
+        // when
+        relay.relay();
+
+        // then
+        then(outboxRepository).should(never()).findRelayable(any(LocalDateTime.class), any(Pageable.class));
+        then(outboxRepository).should(never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("재시도 한도에 도달한 행은 dead-letter로 표시하고 더 이상 재시도하지 않음")
+    void recordFailure_DeadLettersAfterMaxAttempts() {
+        // given
+        ModelIndexOutbox change = change(1L, 10L, ModelIndexChangeType.MODEL);
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        change.recordFailure(now, Duration.ofSeconds(1), Duration.ofMinutes(5), 3);
+        LocalDateTime firstRetry = change.getNextAttemptAt();
+        change.recordFailure(now, Duration.ofSeconds(1), Duration.ofMinutes(5), 3);
+        LocalDateTime secondRetry = change.getNextAttemptAt();
+        change.recordFailure(now, Duration.ofSeconds(1), Duration.ofMinutes(5), 3);
+
+        // then - 1초, 2초 백오프 후 세 번째 실패에서 dead-letter
+        assertThat(firstRetry).isEqualTo(now.plusSeconds(1));
+        assertThat(secondRetry).isEqualTo(now.plusSeconds(2));
+        assertThat(change.isDeadLettered()).isTrue();
+        assertThat(change.getNextAttemptAt()).isNull();
+    }
+
+    private ModelIndexOutbox change(Long id, Long modelId, ModelIndexChangeType type) {
+        ModelIndexOutbox change = ModelIndexOutbox.of(modelId, type);
+        ReflectionTestUtils.setField(change, "id", id);
+        return change;
+    }
+}
@@ -1,20 +1,34 @@
 package com.example.nomodel.model.query.service;
 
+import com.example.nomodel._core.exception.ApplicationException;
+import com.example.nomodel._core.exception.ErrorCode;
+import com.example.nomodel.model.command.application.dto.CursorPageResponse;
+import com.example.nomodel.model.command.application.dto.response.AIModelSummaryResponse;
 import com.example.nomodel.model.command.domain.model.document.AIModelDocument;
 import com.example.nomodel.model.command.domain.repository.AIModelSearchRepository;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Arrays;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -31,9 +45,21 @@ class AIModelSearchServiceTest {
     @Mock
     private ElasticsearchClient elasticsearchClient;
 
+    @Mock
+    private ElasticsearchTemplate elasticsearchTemplate;
+
+    @Spy
+    private ModelSearchQueryBuilder queryBuilder = new ModelSearchQueryBuilder();
+
     @InjectMocks
     private AIModelSearchService searchService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(searchService, "cursorMaxSize", 100);
+        ReflectionTestUtils.setField(searchService, "pointInTimeKeepAlive", Duration.ofMinutes(1));
+    }
+
     @Test
     @DisplayName("통합 검색 성공")
     void search_Success() {
@@ -44,23 +70,171 @@ class AIModelSearchServiceTest {
         
         AIModelDocument document1 = createMockDocument("1", "GPT-4", "Advanced language model");
         AIModelDocument document2 = createMockDocument("2", "GPT-3.5", "Chat completion model");
-        
-        Page<AIModelDocument> expectedPage = new PageImpl<>(Arrays.asList(document1, document2));
-        
-        given(searchRepository.searchByModelNameAndPrompt(eq(keyword), any(Pageable.class)))
-                .willReturn(expectedPage);
+        SearchHits<AIModelDocument> hits = createSearchHits(List.of(document1, document2));
+
+        given(elasticsearchTemplate.search(any(NativeQuery.class), eq(AIModelDocument.class)))
+                .willReturn(hits);
 
         // when
-Page<AIModelDocument> result = searchService.search(keyword, null, page, size);
+        Page<AIModelDocument> result = searchService.search(keyword, null, page, size);
 
         // then
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getContent().get(0).getModelName()).isEqualTo("GPT-4");
+        assertThat(result.getTotalElements()).isEqualTo(2);
         
-        then(searchRepository).should().searchByModelNameAndPrompt(eq(keyword), any(Pageable.class));
+        then(queryBuilder).should().build(argThat(criteria ->
+                criteria.scope() == ModelSearchCriteria.Scope.PUBLIC && keyword.equals(criteria.keyword())));
+    }
+
+    @Test
+    @DisplayName("목록 검색은 요약 응답에 필요한 _source 필드만 조회")
+    void getAdminModels_FetchesSummarySourceFieldsOnly() {
+        // given
+        SearchHits<AIModelDocument> hits = createSearchHits(List.of());
+        given(elasticsearchTemplate.search(any(NativeQuery.class), eq(AIModelDocument.class)))
+                .willReturn(hits);
+
+        // when
+        searchService.getAdminModels(null, null, 0, 10);
+
+        // then
+        ArgumentCaptor<NativeQuery> captor = ArgumentCaptor.forClass(NativeQuery.class);
+        then(elasticsearchTemplate).should().search(captor.capture(), eq(AIModelDocument.class));
+        assertThat(captor.getValue().getSourceFilter().getIncludes())
+                .containsExactlyElementsOf(AIModelSummaryResponse.SOURCE_FIELDS)
+                .doesNotContain("prompt", "suggest");
     }
 
+    @Test
+    @DisplayName("본인 모델 검색은 OWNER 범위 조건으로 단일 쿼리 실행")
+    void getUserModels_UsesOwnerScope() {
+        // given
+        SearchHits<AIModelDocument> hits = createSearchHits(List.of());
+        given(elasticsearchTemplate.search(any(NativeQuery.class), eq(AIModelDocument.class)))
+                .willReturn(hits);
+
+        // when
+        Page<AIModelDocument> result = searchService.getUserModels("GPT", true, 7L, 1, 20);
+
+        // then
+        assertThat(result.getNumber()).isEqualTo(1);
+        assertThat(result.getSize()).isEqualTo(20);
+        then(queryBuilder).should().build(argThat(criteria ->
+                criteria.scope() == ModelSearchCriteria.Scope.OWNER
+                        && criteria.ownerId() == 7L
+                        && Boolean.TRUE.equals(criteria.isFree())));
+    }
+
+
+    @Test
+    @DisplayName("커서 검색 - size + 1건으로 다음 페이지를 판단하고 마지막 문서 정렬 값으로 커서 생성")
+    void searchWithCursor_ReturnsNextCursor() {
+        // given
+        List<AIModelDocument> documents = List.of(
+                createMockDocument("1", "A", "a"),
+                createMockDocument("2", "B", "b"),
+                createMockDocument("3", "C", "c"));
+        SearchHits<AIModelDocument> hits = createSearchHits(documents);
+        given(elasticsearchTemplate.search(any(NativeQuery.class), eq(AIModelDocument.class)))
+                .willReturn(hits);
+        ModelSearchCriteria criteria = ModelSearchCriteria.publicModels(null, null, 0, 2);
+
+        // when
+        CursorPageResponse<AIModelDocument> result = searchService.searchWithCursor(criteria, null);
+
+        // then
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(ModelSearchCursor.decode(result.nextCursor()).sortValues()).containsExactly(2, 2);
+        then(queryBuilder).should().build(argThat(c -> c.size() == 3 && !c.hasSearchAfter()));
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 전달받은 커서의 정렬 값으로 search_after, 마지막 페이지면 커서 없음")
+    void searchWithCursor_LastPage() {
+        // given
+        SearchHits<AIModelDocument> hits = createSearchHits(List.of(createMockDocument("3", "C", "c")));
+        given(elasticsearchTemplate.search(any(NativeQuery.class), eq(AIModelDocument.class)))
+                .willReturn(hits);
+        String cursor = new ModelSearchCursor(List.of(1700000000000L, 2), null).encode();
+
+        // when
+        CursorPageResponse<AIModelDocument> result =
+                searchService.searchWithCursor(ModelSearchCriteria.publicModels(null, null, 0, 2), cursor);
+
+        // then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        then(queryBuilder).should().build(argThat(c ->
+                c.hasSearchAfter() && c.searchAfter().get(0).equals(1700000000000L)));
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 형식이 잘못된 커서는 INVALID_SEARCH_CURSOR")
+    void searchWithCursor_InvalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> searchService.searchWithCursor(
+                ModelSearchCriteria.publicModels(null, null, 0, 10), "not-a-cursor"))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_SEARCH_CURSOR);
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 정렬 값 개수가 현재 정렬과 맞지 않는 커서는 INVALID_SEARCH_CURSOR")
+    void searchWithCursor_SortArityMismatch() {
+        // given: 키워드 없는 정렬(createdAt, modelId)에서 만든 커서를 키워드 검색(_score 추가)에 사용
+        String cursor = new ModelSearchCursor(List.of(1700000000000L, 2), null).encode();
+
+        // when & then
+        assertThatThrownBy(() -> searchService.searchWithCursor(
+                ModelSearchCriteria.publicModels("keyword", null, 0, 10), cursor))
+                .isInstanceOf(ApplicationException.class)
+                .extracting(e -> ((ApplicationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_SEARCH_CURSOR);
+        then(elasticsearchTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("커서 검색 - PIT 검색 실패 시 _shard_doc 정렬 값을 떼고 PIT 없이 재시도")
+    void searchWithCursor_PitFailure_RetriesWithoutTiebreaker() {
+        // given: PIT 검색에서 만든 커서 (createdAt, modelId, _shard_doc)
+        SearchHits<AIModelDocument> hits = createSearchHits(List.of(createMockDocument("3", "C", "c")));
+        given(elasticsearchTemplate.search(any(NativeQuery.class), eq(AIModelDocument.class)))
+                .willThrow(new RuntimeException("No search context found"))
+                .willReturn(hits);
+        String cursor = new ModelSearchCursor(List.of(1700000000000L, 2, 7L), "pit-1").encode();
+
+        // when
+        CursorPageResponse<AIModelDocument> result =
+                searchService.searchWithCursor(ModelSearchCriteria.publicModels(null, null, 0, 2), cursor);
+
+        // then
+        assertThat(result.content()).hasSize(1);
+        then(queryBuilder).should().build(argThat(c -> c.pointInTime() != null && c.searchAfter().size() == 3));
+        then(queryBuilder).should().build(argThat(c -> c.pointInTime() == null
+                && c.searchAfter().equals(List.of(1700000000000L, 2))));
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 요청 size는 최대값으로 제한")
+    void searchWithCursor_ClampsSize() {
+        // given
+        SearchHits<AIModelDocument> hits = createSearchHits(List.of());
+        given(elasticsearchTemplate.search(any(NativeQuery.class), eq(AIModelDocument.class)))
+                .willReturn(hits);
+
+        // when
+        CursorPageResponse<AIModelDocument> result =
+                searchService.searchWithCursor(ModelSearchCriteria.publicModels(null, null, 0, 100_000), null);
+
+        // then
+        assertThat(result.size()).isEqualTo(100);
+        then(queryBuilder).should().build(argThat(c -> c.size() == 101));
+    }
 
     @Test
     @DisplayName("소유자별 검색 성공")
@@ -135,4 +309,20 @@ Page<AIModelDocument> result = searchService.search(keyword, null, page, size);
         lenient().when(document.getPrompt()).thenReturn(prompt);
         return document;
     }
+
+    @SuppressWarnings("unchecked")
+    private SearchHits<AIModelDocument> createSearchHits(List<AIModelDocument> documents) {
+        List<SearchHit<AIModelDocument>> searchHits = new ArrayList<>();
+        for (int i = 0; i < documents.size(); i++) {
+            SearchHit<AIModelDocument> hit = mock(SearchHit.class);
+            lenient().when(hit.getContent()).thenReturn(documents.get(i));
+            lenient().when(hit.getSortValues()).thenReturn(List.<Object>of(i + 1, i + 1));  // [createdAt, modelId] 대용
+            searchHits.add(hit);
+        }
+        SearchHits<AIModelDocument> hits = mock(SearchHits.class);
+        lenient().when(hits.getSearchHits()).thenReturn(searchHits);
+        lenient().when(hits.getTotalHits()).thenReturn((long) documents.size());
+        lenient().when(hits.getTotalHitsRelation()).thenReturn(TotalHitsRelation.EQUAL_TO);
+        return hits;
+    }
 }
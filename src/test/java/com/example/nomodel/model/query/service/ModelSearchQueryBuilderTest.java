@@ -0,0 +1,92 @@
+package com.example.nomodel.model.query.service;
+
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ModelSearchQueryBuilder 단위 테스트")
+class ModelSearchQueryBuilderTest {
+
+    private final ModelSearchQueryBuilder queryBuilder = new ModelSearchQueryBuilder();
+
+    @Test
+    @DisplayName("범위/가격 조건은 filter 절에만, 키워드는 must 절에 추가")
+    void query_PutsConditionsInFilterContext() {
+        // given
+        ModelSearchCriteria criteria = ModelSearchCriteria.adminModels("  사진  ", true, 0, 20);
+
+        // when
+        BoolQuery bool = queryBuilder.query(criteria).bool();
+
+        // then
+        assertThat(bool.filter()).hasSize(3);
+        assertThat(bool.filter().get(0).term().field()).isEqualTo("ownType");
+        assertThat(bool.filter().get(1).term().field()).isEqualTo("isPublic");
+        assertThat(bool.filter().get(2).bool().should()).hasSize(2);  // 가격 없음 or 0
+
+        assertThat(bool.must()).hasSize(1);
+        Query keyword = bool.must().get(0);
+        assertThat(keyword.bool().should().get(0).matchPhrase().query()).isEqualTo("사진");
+    }
+
+    @Test
+    @DisplayName("키워드와 가격 조건이 없으면 범위 filter만 두고 최신순 + modelId 정렬")
+    void build_WithoutKeyword_SortsByCreatedAt() {
+        // given
+        ModelSearchCriteria criteria = ModelSearchCriteria.ownerModels(7L, null, null, 2, 10);
+
+        // when
+        BoolQuery bool = queryBuilder.query(criteria).bool();
+        List<SortOptions> sort = queryBuilder.sort(criteria);
+
+        // then
+        assertThat(bool.must()).isEmpty();
+        assertThat(bool.filter()).hasSize(1);
+        assertThat(bool.filter().get(0).term().value().longValue()).isEqualTo(7L);
+        assertThat(sort).extracting(s -> s.field().field()).containsExactly("createdAt", "modelId");
+    }
+
+    @Test
+    @DisplayName("유료 조건은 가격 range filter, 키워드 검색은 점수 우선 정렬")
+    void query_PaidWithKeyword() {
+        // given
+        ModelSearchCriteria criteria = ModelSearchCriteria.publicModels("cat", false, 0, 20);
+
+        // when
+        BoolQuery bool = queryBuilder.query(criteria).bool();
+        List<SortOptions> sort = queryBuilder.sort(criteria);
+
+        // then
+        assertThat(bool.filter()).hasSize(2);
+        assertThat(bool.filter().get(1).isRange()).isTrue();
+        assertThat(sort).hasSize(3);
+        assertThat(sort.get(0).isScore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("search_after, track_total_hits 제한, _source 필터를 요청 옵션으로 반영")
+    void build_AppliesRequestOptions() {
+        // given
+        ModelSearchCriteria criteria = ModelSearchCriteria.publicModels(null, null, 5, 20)
+                .withSearchAfter(List.of(1700000000000L, 42L))
+                .withTrackTotalHitsUpTo(1000)
+                .withSourceIncludes(List.of("modelId", "modelName"));
+
+        // when
+        NativeQuery query = queryBuilder.build(criteria);
+
+        // then - 커서가 있으면 from은 항상 0
+        assertThat(query.getPageable().getPageNumber()).isZero();
+        assertThat(query.getPageable().getPageSize()).isEqualTo(20);
+        assertThat(query.getSearchAfter()).containsExactly(1700000000000L, 42L);
+        assertThat(query.getTrackTotalHitsUpTo()).isEqualTo(1000);
+        assertThat(query.getSourceFilter().getIncludes()).containsExactly("modelId", "modelName");
+    }
+}